@@ -0,0 +1,39 @@
+package dev.kandv.kango.config;
+
+import dev.kandv.kango.services.utils.AuditContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+@Component
+public class AuditActorFilter extends OncePerRequestFilter {
+
+    public static final String ACTOR_HEADER = "X-Kango-Actor";
+
+    private static final int MAX_ACTOR_LENGTH = 255;
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        String actor = request.getHeader(ACTOR_HEADER);
+
+        if (actor != null && !actor.isBlank()) {
+            actor = actor.trim();
+            AuditContext.setCurrentActor(actor.length() > MAX_ACTOR_LENGTH ? actor.substring(0, MAX_ACTOR_LENGTH) : actor);
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            AuditContext.clear();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package dev.kandv.kango.config;
+
+import dev.kandv.kango.dtos.BackupManifestDTO;
+import dev.kandv.kango.dtos.RestoreResultDTO;
+import dev.kandv.kango.services.BackupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BackupCommandLineRunner implements ApplicationRunner {
+
+    public static final String BACKUP_OPTION = "backup";
+    public static final String RESTORE_OPTION = "restore";
+
+    private final BackupService backupService;
+    private final ApplicationContext applicationContext;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (args.containsOption(BACKUP_OPTION)) {
+            this.backup(Path.of(args.getOptionValues(BACKUP_OPTION).getFirst()));
+        } else if (args.containsOption(RESTORE_OPTION)) {
+            this.restore(Path.of(args.getOptionValues(RESTORE_OPTION).getFirst()));
+        } else {
+            return;
+        }
+
+        System.exit(SpringApplication.exit(this.applicationContext, () -> 0));
+    }
+
+    private void backup(Path target) throws IOException {
+        Path absoluteTarget = target.toAbsolutePath();
+        Path partialFile = absoluteTarget.resolveSibling(absoluteTarget.getFileName() + ".part");
+
+        try (OutputStream outputStream = Files.newOutputStream(partialFile)) {
+            BackupManifestDTO manifest = this.backupService.backup(outputStream);
+            log.info("Backup written to {} with {} entries", absoluteTarget, manifest.getEntries().size());
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(partialFile);
+            throw e;
+        }
+
+        Files.move(partialFile, absoluteTarget, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void restore(Path source) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(source)) {
+            RestoreResultDTO result = this.backupService.restore(inputStream);
+            log.info("Restored {} dashboards, {} tables and {} cards from {}",
+                    result.getRestoredDashboards(), result.getRestoredTables(), result.getRestoredCards(), source);
+        }
+    }
+}
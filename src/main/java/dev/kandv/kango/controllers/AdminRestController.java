@@ -0,0 +1,55 @@
+package dev.kandv.kango.controllers;
+
+import dev.kandv.kango.dtos.RestoreResultDTO;
+import dev.kandv.kango.services.BackupService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.zip.ZipException;
+
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+public class AdminRestController {
+
+    public static final String ZIP_CONTENT_TYPE = "application/zip";
+
+    private static final DateTimeFormatter BACKUP_NAME_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final int BACKUP_BUFFER_SIZE = 64 * 1024;
+
+    private final BackupService backupService;
+
+    @GetMapping("/backup")
+    public void backup(HttpServletResponse response) throws IOException {
+        String fileName = "kango-backup-" + LocalDateTime.now().format(BACKUP_NAME_FORMATTER) + ".zip";
+
+        response.setContentType(ZIP_CONTENT_TYPE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString());
+
+        this.backupService.backup(response.getOutputStream());
+    }
+
+    @PostMapping(value = "/restore", consumes = {ZIP_CONTENT_TYPE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<RestoreResultDTO> restore(HttpServletRequest request) throws IOException {
+        try (InputStream inputStream = new BufferedInputStream(request.getInputStream(), BACKUP_BUFFER_SIZE)) {
+            RestoreResultDTO restoreResult = this.backupService.restore(inputStream);
+
+            return ResponseEntity.status(201).body(restoreResult);
+        } catch (IllegalArgumentException | ZipException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package dev.kandv.kango.controllers;
+
+import dev.kandv.kango.dtos.ArchiveJobDTO;
+import dev.kandv.kango.dtos.TemplateCardDTO;
+import dev.kandv.kango.models.ArchivedCard;
+import dev.kandv.kango.models.Card;
+import dev.kandv.kango.services.CardArchiveService;
+import dev.kandv.kango.services.CardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class ArchiveRestController {
+
+    private final CardArchiveService cardArchiveService;
+    private final CardService cardService;
+
+    @PostMapping("/cards/{id}/archive")
+    public ResponseEntity<ArchivedCard> archiveCard(@PathVariable Long id) {
+        try {
+            this.cardArchiveService.archiveCard(id);
+            ArchivedCard archivedCard = this.cardArchiveService.getArchivedCardById(id);
+
+            return ResponseEntity.status(200).body(archivedCard);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (NoSuchElementException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+        }
+    }
+
+    @PostMapping("/tables/{id}/archive")
+    public ResponseEntity<ArchiveJobDTO> archiveTableCards(@PathVariable Long id, @RequestParam Duration olderThan) {
+        try {
+            ArchiveJobDTO archiveJob = this.cardArchiveService.archiveTableCards(id, olderThan);
+
+            return ResponseEntity.status(202).body(archiveJob);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (NoSuchElementException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+        }
+    }
+
+    @GetMapping("/archive/jobs")
+    public ResponseEntity<List<ArchiveJobDTO>> getArchiveJobs() {
+        List<ArchiveJobDTO> archiveJobs = this.cardArchiveService.getArchiveJobs();
+
+        return ResponseEntity.status(200).body(archiveJobs);
+    }
+
+    @GetMapping("/archive/cards")
+    public ResponseEntity<List<ArchivedCard>> searchArchivedCards(
+            @RequestParam(required = false) String query,
+            @RequestParam(required = false) Long tableId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            List<ArchivedCard> archivedCards = this.cardArchiveService.searchArchivedCards(query, tableId, page, size);
+
+            return ResponseEntity.status(200).body(archivedCards);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    @GetMapping("/archive/cards/{id}")
+    public ResponseEntity<ArchivedCard> getArchivedCard(@PathVariable Long id) {
+        try {
+            ArchivedCard archivedCard = this.cardArchiveService.getArchivedCardById(id);
+
+            return ResponseEntity.status(200).body(archivedCard);
+        } catch (NoSuchElementException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+        }
+    }
+
+    @PostMapping("/archive/cards/{id}/restore")
+    public ResponseEntity<TemplateCardDTO> unarchiveCard(@PathVariable Long id, @RequestParam Long tableId) {
+        try {
+            Long restoredId = this.cardArchiveService.unarchiveCard(id, tableId);
+            Card restoredCard = this.cardService.getSpecificCardById(restoredId);
+
+            return ResponseEntity.status(201).body(CardRestController.mapToTemplateCardDTO(restoredCard));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (NoSuchElementException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+        }
+    }
+}
@@ -1,19 +1,36 @@
 package dev.kandv.kango.controllers;
 
+import dev.kandv.kango.dtos.AuditEntryDTO;
+import dev.kandv.kango.dtos.CardBulkResultDTO;
+import dev.kandv.kango.dtos.CardBulkUpdateDTO;
 import dev.kandv.kango.dtos.CardDTO;
+import dev.kandv.kango.dtos.CardPageDTO;
+import dev.kandv.kango.dtos.CardQueryDTO;
+import dev.kandv.kango.dtos.MultiGetEntryDTO;
+import dev.kandv.kango.dtos.OverdueCountDTO;
 import dev.kandv.kango.dtos.TemplateCardDTO;
+import dev.kandv.kango.dtos.TemplateCopiesDTO;
 import dev.kandv.kango.models.Card;
 import dev.kandv.kango.models.Tag;
+import dev.kandv.kango.models.enums.CardBulkOperation;
 import dev.kandv.kango.models.enums.CardType;
 import dev.kandv.kango.models.enums.Color;
 import dev.kandv.kango.models.utils.AttachedFile;
 import dev.kandv.kango.models.utils.Check;
+import dev.kandv.kango.services.AuditLogService;
+import dev.kandv.kango.services.CardQueryService;
 import dev.kandv.kango.services.CardService;
+import dev.kandv.kango.services.FileStorageService;
 import dev.kandv.kango.services.TagService;
+import dev.kandv.kango.services.ThumbnailService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.Date;
@@ -34,7 +51,11 @@ public class CardRestController {
     public static final String INVALID_DEAD_LINE = "ERROR: Invalid Card Color. Value: ";
 
     private final CardService cardService;
+    private final CardQueryService cardQueryService;
+    private final AuditLogService auditLogService;
     private final TagService tagService;
+    private final FileStorageService fileStorageService;
+    private final ThumbnailService thumbnailService;
 
     private void checkCardTitle(String title) {
         if (title == null || title.isEmpty()) {
@@ -102,6 +123,68 @@ public class CardRestController {
         }
     }
 
+    @PostMapping(value = "/cards/{id}/copy", params = "count")
+    public ResponseEntity<TemplateCopiesDTO> createCardsUsingATemplate(
+            @PathVariable Long id,
+            @RequestParam int count,
+            @RequestParam(required = false) Long tableId) {
+        try{
+            List<Long> cardIds = this.cardService.createCardsUsingATemplate(id, count, tableId);
+            TemplateCopiesDTO templateCopiesDTO = new TemplateCopiesDTO(id, tableId, cardIds);
+
+            return ResponseEntity.status(201).body(templateCopiesDTO);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (NoSuchElementException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+        }
+    }
+
+    @GetMapping("/cards")
+    public ResponseEntity<CardPageDTO> getCards(@ModelAttribute CardQueryDTO cardQueryDTO) {
+        try {
+            Slice<Card> cards = this.cardQueryService.findCards(cardQueryDTO);
+
+            List<TemplateCardDTO> cardDTOs = cards.stream()
+                    .map(CardRestController::mapToTemplateCardDTO)
+                    .toList();
+            String nextCursor = this.cardQueryService.nextCursor(cardQueryDTO, cards);
+
+            return ResponseEntity.status(200).body(new CardPageDTO(cardDTOs, nextCursor));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    @GetMapping(value = "/cards", params = "ids")
+    public ResponseEntity<List<MultiGetEntryDTO<Card>>> getCardsByIds(@RequestParam List<Long> ids) {
+        try {
+            List<Card> cards = this.cardService.getCardsByIds(ids);
+
+            return ResponseEntity.status(200).body(mapToMultiGetEntries(ids, cards, Card::getId));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    @PatchMapping("/cards/bulk")
+    public ResponseEntity<CardBulkResultDTO> updateCards(@RequestBody CardBulkUpdateDTO cardBulkUpdateDTO) {
+        CardBulkOperation operation = cardBulkUpdateDTO.getOperation();
+        Long tagId = cardBulkUpdateDTO.getTagId();
+
+        if ((operation == CardBulkOperation.ADD_TAG || operation == CardBulkOperation.REMOVE_TAG) && tagId != null) {
+            checkTag(tagId, this.tagService.getSpecificTagById(tagId));
+        }
+
+        try {
+            int affectedCards = this.cardService.updateCards(cardBulkUpdateDTO);
+
+            return ResponseEntity.status(200).body(new CardBulkResultDTO(affectedCards));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
     @GetMapping("/cards/{id}")
     public ResponseEntity<Card> getCard(@PathVariable Long id) {
         Card currentCard = this.cardService.getSpecificCardById(id);
@@ -111,21 +194,39 @@ public class CardRestController {
         return ResponseEntity.status(200).body(currentCard);
     }
 
+    @GetMapping("/cards/{id}/history")
+    public ResponseEntity<List<AuditEntryDTO>> getCardHistory(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            List<AuditEntryDTO> history = this.auditLogService.getCardHistory(id, page, size);
+
+            return ResponseEntity.status(200).body(history);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
     @DeleteMapping("/cards/{id}")
     public ResponseEntity<CardDTO> deleteCard(@PathVariable Long id) {
-        Card currentCard = this.cardService.getSpecificCardById(id);
-
-        checkCard(id, currentCard);
+        try {
+            CardDTO cardDTO = this.cardService.deleteCardById(id);
+            return new ResponseEntity<>(cardDTO, HttpStatus.OK);
+        } catch (NoSuchElementException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, CARD_NOT_FOUND + id);
+        }
+    }
 
-        this.cardService.removeCardById(id);
-        Card nullCard = this.cardService.getSpecificCardById(id);
+    @DeleteMapping(value = "/cards", params = "ids")
+    public ResponseEntity<CardBulkResultDTO> deleteCards(@RequestParam List<Long> ids) {
+        try {
+            int removedCards = this.cardService.removeCardsByIds(ids);
 
-        if (nullCard != null) {
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, INTERNAL_SERVER_ERROR);
+            return ResponseEntity.status(200).body(new CardBulkResultDTO(removedCards));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
         }
-
-        CardDTO cardDTO = new CardDTO(currentCard.getTitle(), currentCard.getCardType());
-        return new ResponseEntity<>(cardDTO, HttpStatus.OK);
     }
 
     @GetMapping("/global-template-cards")
@@ -139,6 +240,32 @@ public class CardRestController {
         return ResponseEntity.status(200).body(templateCardDTOs);
     }
 
+    @GetMapping("/deadlines")
+    public ResponseEntity<List<TemplateCardDTO>> getCardsByDeadLineRange(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date to,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            List<Card> cards = this.cardService.getCardsByDeadLineRange(from, to, page, size);
+
+            List<TemplateCardDTO> cardDTOs = cards.stream()
+                    .map(CardRestController::mapToTemplateCardDTO)
+                    .toList();
+
+            return ResponseEntity.status(200).body(cardDTOs);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    @GetMapping("/deadlines/overdue-counts")
+    public ResponseEntity<List<OverdueCountDTO>> getOverdueCardCountsByDashboard() {
+        List<OverdueCountDTO> overdueCounts = this.cardService.getOverdueCardCountsByDashboard();
+
+        return ResponseEntity.status(200).body(overdueCounts);
+    }
+
     @PutMapping("/cards/{id}/title")
     public ResponseEntity<Card> updateCardTitle(@PathVariable Long id, @RequestBody CardDTO cardDTO) {
         String title = cardDTO.getTitle();
@@ -208,6 +335,22 @@ public class CardRestController {
         }
     }
 
+    @PostMapping(value = "/cards/{id}/attached-files/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<AttachedFile> uploadFileToCard(@PathVariable Long id, @RequestParam("file") MultipartFile file) {
+        Card currentCard = this.cardService.getSpecificCardById(id);
+        checkCard(id, currentCard);
+
+        AttachedFile attachedFile = storeFile(file, this.fileStorageService, this.thumbnailService);
+
+        try{
+            this.cardService.attachFileToCard(id, attachedFile);
+
+            return ResponseEntity.status(201).body(attachedFile);
+        } catch (NoSuchElementException e){
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, CARD_NOT_FOUND + id);
+        }
+    }
+
     @DeleteMapping("/cards/{id}/attached-files")
     public ResponseEntity<Card> detachFileFromCard(@PathVariable Long id, @RequestBody AttachedFile attachedFile) {
         checkAttachedFile(attachedFile);
@@ -1,24 +1,51 @@
 package dev.kandv.kango.controllers;
 
+import dev.kandv.kango.dtos.AuditEntryDTO;
 import dev.kandv.kango.dtos.CardDTO;
+import dev.kandv.kango.dtos.CloneResultDTO;
 import dev.kandv.kango.dtos.DashboardDTO;
+import dev.kandv.kango.dtos.DashboardPreviewDTO;
+import dev.kandv.kango.dtos.ImportProgressDTO;
+import dev.kandv.kango.dtos.ImportResultDTO;
 import dev.kandv.kango.dtos.TableDTO;
+import dev.kandv.kango.dtos.TablePreviewDTO;
 import dev.kandv.kango.dtos.TagDTO;
+import dev.kandv.kango.dtos.TemplateCardDTO;
 import dev.kandv.kango.models.Card;
 import dev.kandv.kango.models.Dashboard;
 import dev.kandv.kango.models.Table;
 import dev.kandv.kango.models.Tag;
 import dev.kandv.kango.models.utils.AttachedFile;
+import dev.kandv.kango.services.AuditLogService;
+import dev.kandv.kango.services.CloneService;
+import dev.kandv.kango.services.DashboardExportService;
+import dev.kandv.kango.services.DashboardImportService;
 import dev.kandv.kango.services.DashboardService;
+import dev.kandv.kango.services.ExternalImportService;
+import dev.kandv.kango.services.FileStorageService;
 import dev.kandv.kango.services.TagService;
+import dev.kandv.kango.services.ThumbnailService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.io.*;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
 
 import static dev.kandv.kango.controllers.ErrorMessagesRestControllers.*;
 import static dev.kandv.kango.controllers.RestControllerUtils.*;
@@ -28,9 +55,23 @@ import static dev.kandv.kango.controllers.RestControllerUtils.*;
 @RequiredArgsConstructor
 public class DashboardRestController {
     public static final String INVALID_DASHBOARD_NAME = "ERROR: Invalid Dashboard Name. Value: ";
+    public static final String INVALID_COMPRESSION = "ERROR: Invalid Compression. Supported: none, gzip. Value: ";
+    public static final String NDJSON_CONTENT_TYPE = "application/x-ndjson";
+    public static final String CSV_CONTENT_TYPE = "text/csv";
+
+    private static final String NO_COMPRESSION = "none";
+    private static final String GZIP_COMPRESSION = "gzip";
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
 
     private final DashboardService dashboardService;
+    private final DashboardExportService dashboardExportService;
+    private final DashboardImportService dashboardImportService;
+    private final ExternalImportService externalImportService;
+    private final CloneService cloneService;
+    private final AuditLogService auditLogService;
     private final TagService tagService;
+    private final FileStorageService fileStorageService;
+    private final ThumbnailService thumbnailService;
 
     private void checkDashboardName(String name) {
         if (name == null || name.isEmpty()) {
@@ -58,21 +99,169 @@ public class DashboardRestController {
         return ResponseEntity.status(200).body(currentDashboard);
     }
 
-    @DeleteMapping("/dashboards/{id}")
-    public ResponseEntity<DashboardDTO> deleteDashboard(@PathVariable Long id) {
+    @GetMapping(value = "/dashboards/{id}", params = "cardsPerTable")
+    public ResponseEntity<DashboardPreviewDTO> getDashboardPreview(@PathVariable Long id, @RequestParam int cardsPerTable) {
+        Dashboard currentDashboard = this.dashboardService.getSpecificDashboardById(id);
+
+        checkDashboard(id, currentDashboard);
+
+        try {
+            Map<Long, Page<Card>> tableCards = this.dashboardService.getTableCardPreviews(id, cardsPerTable);
+
+            List<TablePreviewDTO> tablePreviews = currentDashboard.getTableList().stream()
+                    .sorted(Comparator.comparingInt(Table::getPosition).thenComparing(Table::getId))
+                    .map(table -> mapToTablePreviewDTO(table, tableCards.getOrDefault(table.getId(), Page.empty())))
+                    .toList();
+            List<TemplateCardDTO> templateCards = currentDashboard.getTemplateCardList().stream()
+                    .map(CardRestController::mapToTemplateCardDTO)
+                    .toList();
+
+            DashboardPreviewDTO dashboardPreview = new DashboardPreviewDTO(
+                    currentDashboard.getId(), currentDashboard.getName(), currentDashboard.getAttachedFiles(),
+                    tablePreviews, templateCards, currentDashboard.getTagList()
+            );
+
+            return ResponseEntity.status(200).body(dashboardPreview);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    @GetMapping("/dashboards/{id}/history")
+    public ResponseEntity<List<AuditEntryDTO>> getDashboardHistory(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            List<AuditEntryDTO> history = this.auditLogService.getDashboardHistory(id, page, size);
+
+            return ResponseEntity.status(200).body(history);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    @PostMapping("/dashboards/{id}/clone")
+    public ResponseEntity<CloneResultDTO> cloneDashboard(@PathVariable Long id, @RequestParam(required = false) String name) {
+        if (name != null) {
+            this.checkDashboardName(name);
+        }
+
+        try {
+            CloneResultDTO cloneResult = this.cloneService.cloneDashboard(id, name);
+
+            return ResponseEntity.status(201).body(cloneResult);
+        } catch (NoSuchElementException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, DASHBOARD_NOT_FOUND + id);
+        }
+    }
+
+    @GetMapping("/dashboards/{id}/export")
+    public void exportDashboard(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = NO_COMPRESSION) String compression,
+            HttpServletResponse response) throws IOException {
         Dashboard currentDashboard = this.dashboardService.getSpecificDashboardById(id);
 
         checkDashboard(id, currentDashboard);
 
-        this.dashboardService.removeDashboardById(id);
-        Dashboard nullDashboard = this.dashboardService.getSpecificDashboardById(id);
+        boolean gzip = switch (compression) {
+            case NO_COMPRESSION -> false;
+            case GZIP_COMPRESSION -> true;
+            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, INVALID_COMPRESSION + compression);
+        };
+
+        String fileName = "dashboard-" + id + ".ndjson" + (gzip ? ".gz" : "");
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(NDJSON_CONTENT_TYPE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(fileName).build().toString());
+
+        OutputStream outputStream = response.getOutputStream();
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP_COMPRESSION);
+            outputStream = new GZIPOutputStream(outputStream, EXPORT_BUFFER_SIZE);
+        }
+
+        try (OutputStream exportStream = new BufferedOutputStream(outputStream, EXPORT_BUFFER_SIZE)) {
+            this.dashboardExportService.exportDashboard(id, exportStream);
+        } catch (NoSuchElementException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, DASHBOARD_NOT_FOUND + id);
+        }
+    }
+
+    @PostMapping(value = "/import", consumes = {NDJSON_CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<ImportResultDTO> importDashboard(
+            @RequestParam(defaultValue = NO_COMPRESSION) String compression,
+            HttpServletRequest request) throws IOException {
+        try (InputStream importStream = this.openImportStream(compression, request)) {
+            ImportResultDTO importResult = this.dashboardImportService.importDashboard(importStream);
 
-        if (nullDashboard != null) {
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, INTERNAL_SERVER_ERROR);
+            return ResponseEntity.status(201).body(importResult);
+        } catch (IllegalArgumentException | ZipException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
         }
+    }
+
+    @PostMapping(value = "/import/trello", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<ImportResultDTO> importTrelloBoard(
+            @RequestParam(defaultValue = NO_COMPRESSION) String compression,
+            HttpServletRequest request) throws IOException {
+        try (InputStream importStream = this.openImportStream(compression, request)) {
+            ImportResultDTO importResult = this.externalImportService.importTrelloBoard(importStream);
 
-        DashboardDTO dashboardDTO = mapToDashboardDTO(currentDashboard);
-        return new ResponseEntity<>(dashboardDTO, HttpStatus.OK);
+            return ResponseEntity.status(201).body(importResult);
+        } catch (IllegalArgumentException | UncheckedIOException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    @PostMapping(value = "/import/csv", consumes = {CSV_CONTENT_TYPE, MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<ImportResultDTO> importCsv(
+            @RequestParam String name,
+            @RequestParam(defaultValue = NO_COMPRESSION) String compression,
+            HttpServletRequest request) throws IOException {
+        this.checkDashboardName(name);
+
+        try (InputStream importStream = this.openImportStream(compression, request)) {
+            ImportResultDTO importResult = this.externalImportService.importCsv(name, importStream);
+
+            return ResponseEntity.status(201).body(importResult);
+        } catch (IllegalArgumentException | UncheckedIOException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    @GetMapping("/import/progress")
+    public ResponseEntity<List<ImportProgressDTO>> getRunningImports() {
+        List<ImportProgressDTO> runningImports = this.externalImportService.getRunningImports();
+        return ResponseEntity.ok(runningImports);
+    }
+
+    private InputStream openImportStream(String compression, HttpServletRequest request) throws IOException {
+        boolean gzip = switch (compression) {
+            case NO_COMPRESSION -> false;
+            case GZIP_COMPRESSION -> true;
+            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, INVALID_COMPRESSION + compression);
+        };
+
+        InputStream inputStream = new BufferedInputStream(request.getInputStream(), EXPORT_BUFFER_SIZE);
+
+        try {
+            return gzip ? new GZIPInputStream(inputStream, EXPORT_BUFFER_SIZE) : inputStream;
+        } catch (ZipException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    @DeleteMapping("/dashboards/{id}")
+    public ResponseEntity<DashboardDTO> deleteDashboard(@PathVariable Long id) {
+        try {
+            DashboardDTO dashboardDTO = this.dashboardService.removeDashboardById(id);
+            return new ResponseEntity<>(dashboardDTO, HttpStatus.OK);
+        } catch (NoSuchElementException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, DASHBOARD_NOT_FOUND + id);
+        }
     }
 
     @PutMapping("/dashboards/{id}/name")
@@ -102,6 +291,22 @@ public class DashboardRestController {
         }
     }
 
+    @PostMapping(value = "/dashboards/{id}/attached-files/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<AttachedFile> uploadFileToDashboard(@PathVariable Long id, @RequestParam("file") MultipartFile file) {
+        Dashboard currentDashboard = this.dashboardService.getSpecificDashboardById(id);
+        checkDashboard(id, currentDashboard);
+
+        AttachedFile attachedFile = storeFile(file, this.fileStorageService, this.thumbnailService);
+
+        try{
+            this.dashboardService.attachFileToDashboard(id, attachedFile);
+
+            return ResponseEntity.status(201).body(attachedFile);
+        } catch (NoSuchElementException e){
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, DASHBOARD_NOT_FOUND + id);
+        }
+    }
+
     @DeleteMapping("/dashboards/{id}/attached-files")
     public ResponseEntity<Dashboard> detachFileFromDashboard(@PathVariable Long id, @RequestBody AttachedFile attachedFile) {
         checkAttachedFile(attachedFile);
@@ -216,6 +421,14 @@ public class DashboardRestController {
         }
     }
 
+    static TablePreviewDTO mapToTablePreviewDTO(Table currentTable, Page<Card> cards) {
+        List<TemplateCardDTO> cardDTOList = cards.stream().map(CardRestController::mapToTemplateCardDTO).toList();
+
+        return new TablePreviewDTO(
+                currentTable.getId(), currentTable.getName(), currentTable.getPosition(), cards.getTotalElements(), cardDTOList
+        );
+    }
+
     static DashboardDTO mapToDashboardDTO(Dashboard currentDashboard) {
         List<Table> tableList = currentDashboard.getTableList();
         List<TableDTO> tableDTOList = tableList.stream().map((TableRestController::mapToTableDTO)).toList();
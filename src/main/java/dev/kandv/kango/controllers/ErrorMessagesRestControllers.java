@@ -7,6 +7,7 @@ public class ErrorMessagesRestControllers {
     public static final String INVALID_ATTACHED_FILE = "ERROR: Some or all attributes from Attached File are invalid";
     public static final String NULL_CHECK = "ERROR: Check is null";
     public static final String INVALID_CHECK = "ERROR: Some or all attributes from Check are invalid";
+    public static final String INVALID_REMOVE_ALL_CARDS = "ERROR: Removing every Card requires all=true. Value: ";
 
     public static final String CARD_NOT_FOUND = "ERROR: Card Not Found with that ID. ID: ";
     public static final String DASHBOARD_NOT_FOUND = "ERROR: Dashboard Not Found with that ID. ID: ";
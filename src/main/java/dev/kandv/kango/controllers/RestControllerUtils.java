@@ -1,13 +1,24 @@
 package dev.kandv.kango.controllers;
 
+import dev.kandv.kango.dtos.MultiGetEntryDTO;
 import dev.kandv.kango.models.Card;
 import dev.kandv.kango.models.Dashboard;
 import dev.kandv.kango.models.Table;
 import dev.kandv.kango.models.Tag;
 import dev.kandv.kango.models.utils.AttachedFile;
+import dev.kandv.kango.services.FileStorageService;
+import dev.kandv.kango.services.ThumbnailService;
 import org.springframework.http.HttpStatus;
+import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
 import static dev.kandv.kango.controllers.ErrorMessagesRestControllers.*;
 import static dev.kandv.kango.controllers.ErrorMessagesRestControllers.TAG_NOT_FOUND;
 
@@ -17,6 +28,15 @@ public class RestControllerUtils {
         throw new IllegalStateException("Utility class");
     }
 
+    public static <T> List<MultiGetEntryDTO<T>> mapToMultiGetEntries(List<Long> ids, Collection<T> elements, Function<T, Long> idOf) {
+        Map<Long, T> elementsById = new HashMap<>();
+        elements.forEach(element -> elementsById.put(idOf.apply(element), element));
+
+        return ids.stream()
+                .map(id -> new MultiGetEntryDTO<>(id, !elementsById.containsKey(id), elementsById.get(id)))
+                .toList();
+    }
+
     public static void checkAttachedFile(AttachedFile attachedFile) {
         if (attachedFile == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, NULL_ATTACHED_FILE);
@@ -30,6 +50,19 @@ public class RestControllerUtils {
         }
     }
 
+    public static AttachedFile storeFile(MultipartFile file, FileStorageService fileStorageService, ThumbnailService thumbnailService) {
+        try {
+            AttachedFile attachedFile = fileStorageService.store(file);
+            thumbnailService.requestThumbnail(attachedFile);
+
+            return attachedFile;
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (UncheckedIOException e) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, INTERNAL_SERVER_ERROR);
+        }
+    }
+
     public static void checkCard(Long id, Card currentCard) {
         if (currentCard == null) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, CARD_NOT_FOUND + id);
@@ -1,13 +1,21 @@
 package dev.kandv.kango.controllers;
 
+import dev.kandv.kango.dtos.CardBulkResultDTO;
 import dev.kandv.kango.dtos.CardDTO;
+import dev.kandv.kango.dtos.CardPageDTO;
+import dev.kandv.kango.dtos.CloneResultDTO;
+import dev.kandv.kango.dtos.MultiGetEntryDTO;
 import dev.kandv.kango.dtos.TableDTO;
+import dev.kandv.kango.dtos.TemplateCardDTO;
 import dev.kandv.kango.models.Card;
 import dev.kandv.kango.models.Table;
 import dev.kandv.kango.models.enums.CardListSort;
+import dev.kandv.kango.services.CardPositionBuffer;
 import dev.kandv.kango.services.CardService;
+import dev.kandv.kango.services.CloneService;
 import dev.kandv.kango.services.TableService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -16,9 +24,10 @@ import org.springframework.web.server.ResponseStatusException;
 import java.util.List;
 import java.util.NoSuchElementException;
 
-import static dev.kandv.kango.controllers.ErrorMessagesRestControllers.INTERNAL_SERVER_ERROR;
+import static dev.kandv.kango.controllers.ErrorMessagesRestControllers.INVALID_REMOVE_ALL_CARDS;
 import static dev.kandv.kango.controllers.ErrorMessagesRestControllers.TABLE_NOT_FOUND;
 import static dev.kandv.kango.controllers.RestControllerUtils.checkTable;
+import static dev.kandv.kango.controllers.RestControllerUtils.mapToMultiGetEntries;
 
 @RestController
 @RequestMapping("/api")
@@ -32,6 +41,8 @@ public class TableRestController {
 
     private final TableService tableService;
     private final CardService cardService;
+    private final CloneService cloneService;
+    private final CardPositionBuffer cardPositionBuffer;
 
     private void checkTableName(String name) {
         if (name == null || name.isEmpty()) {
@@ -87,6 +98,38 @@ public class TableRestController {
         return ResponseEntity.status(200).body(currentTable);
     }
 
+    @GetMapping(value = "/tables", params = "ids")
+    public ResponseEntity<List<MultiGetEntryDTO<Table>>> getTables(@RequestParam List<Long> ids) {
+        try {
+            List<Table> tables = this.tableService.getTablesByIds(ids);
+
+            return ResponseEntity.status(200).body(mapToMultiGetEntries(ids, tables, Table::getId));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    @GetMapping("/tables/{id}/cards")
+    public ResponseEntity<CardPageDTO> getTableCards(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "-1") int after,
+            @RequestParam(defaultValue = "20") int limit) {
+        try {
+            Slice<Card> cards = this.tableService.getCardPageFromTable(id, after, limit);
+
+            List<TemplateCardDTO> cardDTOs = cards.stream()
+                    .map(CardRestController::mapToTemplateCardDTO)
+                    .toList();
+            String nextCursor = cards.hasNext() ? String.valueOf(cards.getContent().getLast().getPosition()) : null;
+
+            return ResponseEntity.status(200).body(new CardPageDTO(cardDTOs, nextCursor));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (NoSuchElementException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+        }
+    }
+
     @PutMapping("/tables/{id}/name")
     public ResponseEntity<Table> updateTableName(@PathVariable Long id, @RequestBody TableDTO tableDTO) {
         String name = tableDTO.getName();
@@ -104,19 +147,12 @@ public class TableRestController {
 
     @DeleteMapping("/tables/{id}")
     public ResponseEntity<TableDTO> deleteTable(@PathVariable Long id) {
-        Table currentTable = this.tableService.getSpecificTableById(id);
-
-        checkTable(id, currentTable);
-
-        this.tableService.removeTableById(id);
-        Table nullCard = this.tableService.getSpecificTableById(id);
-
-        if (nullCard != null) {
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, INTERNAL_SERVER_ERROR);
+        try {
+            TableDTO tableDTO = this.tableService.removeTableById(id);
+            return new ResponseEntity<>(tableDTO, HttpStatus.OK);
+        } catch (NoSuchElementException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, TABLE_NOT_FOUND + id);
         }
-
-        TableDTO tableDTO = mapToTableDTO(currentTable);
-        return new ResponseEntity<>(tableDTO, HttpStatus.OK);
     }
 
     @PostMapping("/tables/{tableId}/cards")
@@ -145,6 +181,21 @@ public class TableRestController {
         }
     }
 
+    @DeleteMapping(value = "/tables/{id}/cards", params = "all")
+    public ResponseEntity<CardBulkResultDTO> removeAllCardsFromTable(@PathVariable Long id, @RequestParam boolean all) {
+        if (!all) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, INVALID_REMOVE_ALL_CARDS + false);
+        }
+
+        try {
+            int removedCards = this.tableService.removeAllCardsFromTable(id);
+
+            return ResponseEntity.status(200).body(new CardBulkResultDTO(removedCards));
+        } catch (NoSuchElementException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, TABLE_NOT_FOUND + id);
+        }
+    }
+
     @PutMapping("/tables/{id}/sort")
     public ResponseEntity<Table> sortCardListFromTable(@PathVariable Long id, @RequestParam CardListSort sort) {
         this.checkCardListSort(sort);
@@ -162,7 +213,7 @@ public class TableRestController {
     @PutMapping("/tables/{tableId}/cards/{cardId}/position")
     public ResponseEntity<TableDTO> updateCardPositionFromTable(@PathVariable Long tableId, @PathVariable Long cardId, @RequestParam int position) {
         try{
-            this.tableService.updateCardPositionFromTable(tableId, cardId, position);
+            this.cardPositionBuffer.moveCard(tableId, cardId, position);
             Table updatedTable = this.tableService.getSpecificTableById(tableId);
 
             TableDTO tableDTO = mapToTableDTO(updatedTable);
@@ -172,6 +223,21 @@ public class TableRestController {
         }
     }
 
+    @PutMapping("/tables/{id}/order")
+    public ResponseEntity<TableDTO> updateCardOrderFromTable(@PathVariable Long id, @RequestBody List<Long> cardIds) {
+        try{
+            this.tableService.updateCardOrderFromTable(id, cardIds);
+            Table updatedTable = this.tableService.getSpecificTableById(id);
+
+            TableDTO tableDTO = mapToTableDTO(updatedTable);
+            return ResponseEntity.status(200).body(tableDTO);
+        } catch (IllegalArgumentException e){
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (NoSuchElementException e){
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+        }
+    }
+
     @PutMapping("/tables/{tableId}/cards/{cardId}")
     public ResponseEntity<Void> moveCardFromTableToAnotherTable(
             @PathVariable Long tableId,
@@ -210,6 +276,17 @@ public class TableRestController {
         }
     }
 
+    @PostMapping("/tables/{id}/clone")
+    public ResponseEntity<CloneResultDTO> cloneTable(@PathVariable Long id, @RequestParam(required = false) Long dashboardId) {
+        try {
+            CloneResultDTO cloneResult = this.cloneService.cloneTable(id, dashboardId);
+
+            return ResponseEntity.status(201).body(cloneResult);
+        } catch (NoSuchElementException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+        }
+    }
+
     static TableDTO mapToTableDTO(Table currentTable)  {
         List<Card> cardList = currentTable.getCardList();
 
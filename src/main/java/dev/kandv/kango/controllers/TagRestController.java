@@ -1,5 +1,6 @@
 package dev.kandv.kango.controllers;
 
+import dev.kandv.kango.dtos.MultiGetEntryDTO;
 import dev.kandv.kango.dtos.TagDTO;
 import dev.kandv.kango.models.Tag;
 import dev.kandv.kango.services.TagService;
@@ -10,9 +11,11 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
+import java.util.NoSuchElementException;
 
-import static dev.kandv.kango.controllers.ErrorMessagesRestControllers.INTERNAL_SERVER_ERROR;
+import static dev.kandv.kango.controllers.ErrorMessagesRestControllers.TAG_NOT_FOUND;
 import static dev.kandv.kango.controllers.RestControllerUtils.checkTag;
+import static dev.kandv.kango.controllers.RestControllerUtils.mapToMultiGetEntries;
 
 @RestController
 @RequestMapping("/api")
@@ -43,6 +46,17 @@ public class TagRestController {
         return ResponseEntity.status(200).body(currentTag);
     }
 
+    @GetMapping(value = "/tags", params = "ids")
+    public ResponseEntity<List<MultiGetEntryDTO<Tag>>> getTags(@RequestParam List<Long> ids) {
+        try {
+            List<Tag> tags = this.tagService.getTagsByIds(ids);
+
+            return ResponseEntity.status(200).body(mapToMultiGetEntries(ids, tags, Tag::getId));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
     @GetMapping("/global-tags")
     public ResponseEntity<List<Tag>> getGlobalTags() {
         List<Tag> allGlobalTemplateCards = this.tagService.getAllGlobalTags();
@@ -52,19 +66,12 @@ public class TagRestController {
 
     @DeleteMapping("/tags/{id}")
     public ResponseEntity<TagDTO> deleteTag(@PathVariable Long id) {
-        Tag currentTag = this.tagService.getSpecificTagById(id);
-
-        checkTag(id, currentTag);
-
-        this.tagService.removeTagById(id);
-        Tag nullTag = this.tagService.getSpecificTagById(id);
-
-        if (nullTag != null) {
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, INTERNAL_SERVER_ERROR);
+        try {
+            TagDTO tagDTO = this.tagService.removeTagById(id);
+            return new ResponseEntity<>(tagDTO, HttpStatus.OK);
+        } catch (NoSuchElementException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, TAG_NOT_FOUND + id);
         }
-
-        TagDTO tagDTO = new TagDTO(currentTag.getLabel(), currentTag.getColor(), currentTag.getVisibility());
-        return new ResponseEntity<>(tagDTO, HttpStatus.OK);
     }
 
     @PutMapping("/tags/{id}")
@@ -0,0 +1,21 @@
+package dev.kandv.kango.dtos;
+
+import dev.kandv.kango.models.enums.ArchiveJobState;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Date;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ArchiveJobDTO {
+    private String id;
+    private Long tableId;
+    private Date createdBefore;
+    private ArchiveJobState state;
+    private long archivedCards;
+}
@@ -0,0 +1,34 @@
+package dev.kandv.kango.dtos;
+
+import dev.kandv.kango.models.enums.CardType;
+import dev.kandv.kango.models.enums.Color;
+import dev.kandv.kango.models.utils.AttachedFile;
+import dev.kandv.kango.models.utils.Check;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ArchivedCardExportDTO implements ExportRecordDTO {
+    private Long id;
+    private Long tableId;
+    private String title;
+    private String description;
+    private CardType cardType;
+    private Color color;
+    private Date deadLine;
+    private int position;
+    private Date createdAt;
+    private Date archivedAt;
+    private List<AttachedFile> attachedFiles = new ArrayList<>();
+    private List<Check> checks = new ArrayList<>();
+    private List<Long> tagIds = new ArrayList<>();
+}
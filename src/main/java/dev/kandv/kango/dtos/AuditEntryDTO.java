@@ -0,0 +1,25 @@
+package dev.kandv.kango.dtos;
+
+import dev.kandv.kango.models.enums.AuditAction;
+import dev.kandv.kango.models.enums.AuditEntityType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Date;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class AuditEntryDTO {
+    private Long id;
+    private Date createdAt;
+    private String actor;
+    private AuditEntityType entityType;
+    private Long entityId;
+    private Long dashboardId;
+    private AuditAction action;
+    private String detail;
+}
@@ -0,0 +1,17 @@
+package dev.kandv.kango.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class BackupEntryDTO {
+    private String name;
+    private Long dashboardId;
+    private long size;
+    private String sha256;
+}
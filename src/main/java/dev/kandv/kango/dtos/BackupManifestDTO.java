@@ -0,0 +1,21 @@
+package dev.kandv.kango.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class BackupManifestDTO {
+    private String format;
+    private int version;
+    private Date createdAt;
+    private List<BackupEntryDTO> entries = new ArrayList<>();
+}
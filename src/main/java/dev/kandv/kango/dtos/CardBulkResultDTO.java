@@ -0,0 +1,14 @@
+package dev.kandv.kango.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class CardBulkResultDTO {
+    private int affectedCards;
+}
@@ -0,0 +1,24 @@
+package dev.kandv.kango.dtos;
+
+import dev.kandv.kango.models.enums.CardBulkOperation;
+import dev.kandv.kango.models.enums.Color;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Date;
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class CardBulkUpdateDTO {
+    private List<Long> ids;
+    private CardQueryDTO filter;
+    private CardBulkOperation operation;
+    private Color color;
+    private Date deadLine;
+    private Long tagId;
+}
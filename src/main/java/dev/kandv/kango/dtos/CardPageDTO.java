@@ -0,0 +1,17 @@
+package dev.kandv.kango.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class CardPageDTO {
+    private List<TemplateCardDTO> cards;
+    private String nextCursor;
+}
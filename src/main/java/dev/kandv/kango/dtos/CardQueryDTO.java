@@ -0,0 +1,34 @@
+package dev.kandv.kango.dtos;
+
+import dev.kandv.kango.models.enums.CardQuerySort;
+import dev.kandv.kango.models.enums.CardType;
+import dev.kandv.kango.models.enums.Color;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.util.Date;
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class CardQueryDTO {
+    private Long dashboardId;
+    private Long tableId;
+    private List<Long> tagIds;
+    private Color color;
+    private CardType cardType;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private Date deadLineFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private Date deadLineTo;
+    private Boolean hasUncheckedChecks;
+    private String text;
+    private CardQuerySort sort = CardQuerySort.NEWEST;
+    private String after;
+    private int limit = 20;
+}
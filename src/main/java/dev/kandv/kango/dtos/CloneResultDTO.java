@@ -0,0 +1,18 @@
+package dev.kandv.kango.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class CloneResultDTO {
+    private Long dashboardId;
+    private Long tableId;
+    private int clonedTags;
+    private int clonedTables;
+    private int clonedCards;
+}
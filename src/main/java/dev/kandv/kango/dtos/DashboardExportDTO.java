@@ -0,0 +1,20 @@
+package dev.kandv.kango.dtos;
+
+import dev.kandv.kango.models.utils.AttachedFile;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class DashboardExportDTO implements ExportRecordDTO {
+    private Long id;
+    private String name;
+    private List<AttachedFile> attachedFiles = new ArrayList<>();
+}
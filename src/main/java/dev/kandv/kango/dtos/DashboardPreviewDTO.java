@@ -0,0 +1,23 @@
+package dev.kandv.kango.dtos;
+
+import dev.kandv.kango.models.Tag;
+import dev.kandv.kango.models.utils.AttachedFile;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class DashboardPreviewDTO {
+    private Long id;
+    private String name;
+    private List<AttachedFile> attachedFiles;
+    private List<TablePreviewDTO> tableList;
+    private List<TemplateCardDTO> templateCardList;
+    private List<Tag> tagList;
+}
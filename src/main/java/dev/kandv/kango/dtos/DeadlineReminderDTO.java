@@ -0,0 +1,26 @@
+package dev.kandv.kango.dtos;
+
+import dev.kandv.kango.models.enums.ReminderType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Date;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class DeadlineReminderDTO {
+    private Long cardId;
+    private String title;
+    private Date deadLine;
+    private ReminderType reminderType;
+
+    public DeadlineReminderDTO(Long cardId, String title, Date deadLine) {
+        this.cardId = cardId;
+        this.title = title;
+        this.deadLine = deadLine;
+    }
+}
@@ -0,0 +1,16 @@
+package dev.kandv.kango.dtos;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+@JsonSubTypes({
+        @JsonSubTypes.Type(value = DashboardExportDTO.class, name = "dashboard"),
+        @JsonSubTypes.Type(value = TagExportDTO.class, name = "tag"),
+        @JsonSubTypes.Type(value = TableExportDTO.class, name = "table"),
+        @JsonSubTypes.Type(value = CardExportDTO.class, name = "card"),
+        @JsonSubTypes.Type(value = ArchivedCardExportDTO.class, name = "archived-card")
+})
+public interface ExportRecordDTO {
+    Long getId();
+}
@@ -0,0 +1,20 @@
+package dev.kandv.kango.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImportProgressDTO {
+    private String id;
+    private String format;
+    private long parsedRecords;
+    private long mappedRecords;
+    private long importedRecords;
+    private long elapsedMillis;
+    private double recordsPerSecond;
+}
@@ -0,0 +1,17 @@
+package dev.kandv.kango.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImportResultDTO {
+    private Long dashboardId;
+    private int importedTags;
+    private int importedTables;
+    private int importedCards;
+}
@@ -0,0 +1,16 @@
+package dev.kandv.kango.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class MultiGetEntryDTO<T> {
+    private Long id;
+    private boolean missing;
+    private T value;
+}
@@ -0,0 +1,19 @@
+package dev.kandv.kango.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class RestoreResultDTO {
+    private int restoredDashboards;
+    private int restoredTags;
+    private int restoredTables;
+    private int restoredCards;
+    private int restoredArchivedCards;
+    private int restoredFiles;
+}
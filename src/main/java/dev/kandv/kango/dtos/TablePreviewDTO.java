@@ -0,0 +1,20 @@
+package dev.kandv.kango.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class TablePreviewDTO {
+    private Long id;
+    private String name;
+    private int position;
+    private long cardCount;
+    private List<TemplateCardDTO> cardList;
+}
@@ -0,0 +1,20 @@
+package dev.kandv.kango.dtos;
+
+import dev.kandv.kango.models.enums.Color;
+import dev.kandv.kango.models.enums.Visibility;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class TagExportDTO implements ExportRecordDTO {
+    private Long id;
+    private String label;
+    private Color color;
+    private Visibility visibility;
+    private boolean dashboardTag;
+}
@@ -0,0 +1,18 @@
+package dev.kandv.kango.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class TemplateCopiesDTO {
+    private Long templateId;
+    private Long tableId;
+    private List<Long> cardIds;
+}
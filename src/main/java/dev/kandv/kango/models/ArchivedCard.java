@@ -0,0 +1,67 @@
+package dev.kandv.kango.models;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import dev.kandv.kango.models.enums.CardType;
+import dev.kandv.kango.models.enums.Color;
+import dev.kandv.kango.models.utils.AttachedFile;
+import dev.kandv.kango.models.utils.Check;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Date;
+import java.util.LinkedList;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@jakarta.persistence.Table(name = "archived_card", indexes = {
+        @Index(name = "idx_archived_card_table_id", columnList = "table_id"),
+        @Index(name = "idx_archived_card_archived_at", columnList = "archived_at")
+})
+public class ArchivedCard {
+
+    @Id
+    private Long id;
+    private String title;
+    @JsonIgnore
+    @Column(name = "title_sort_key")
+    private byte[] titleSortKey;
+    private String description;
+    private CardType cardType;
+    private Color color;
+    @ElementCollection
+    @CollectionTable(
+            name = "archived_card_attached_file",
+            joinColumns = @JoinColumn(name = "card_id"),
+            indexes = @Index(name = "idx_archived_card_attached_file_card_id", columnList = "card_id")
+    )
+    private List<AttachedFile> attachedFiles = new LinkedList<>();
+    @Column(name = "dead_line")
+    private Date deadLine;
+    @ElementCollection
+    @CollectionTable(
+            name = "archived_card_check",
+            joinColumns = @JoinColumn(name = "card_id"),
+            indexes = @Index(name = "idx_archived_card_check_card_id", columnList = "card_id")
+    )
+    private List<Check> checks = new LinkedList<>();
+    private int position;
+    @ElementCollection
+    @CollectionTable(
+            name = "archived_card_tags",
+            joinColumns = @JoinColumn(name = "card_id"),
+            indexes = @Index(name = "idx_archived_card_tags_card_id", columnList = "card_id")
+    )
+    @Column(name = "tag_id")
+    private List<Long> tagIds = new LinkedList<>();
+    @Column(name = "table_id")
+    private Long tableId;
+    @Column(name = "created_at")
+    private Date createdAt;
+    @Column(name = "archived_at")
+    private Date archivedAt;
+}
@@ -1,17 +1,21 @@
 package dev.kandv.kango.models;
 
 import com.fasterxml.jackson.annotation.JsonIdentityInfo;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.ObjectIdGenerators;
 import dev.kandv.kango.models.enums.CardType;
 import dev.kandv.kango.models.enums.Color;
 import dev.kandv.kango.models.utils.AttachedFile;
 import dev.kandv.kango.models.utils.Check;
+import dev.kandv.kango.models.utils.TitleCollator;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
 
+import java.util.Collections;
 import java.util.Date;
 import java.util.LinkedList;
 import java.util.List;
@@ -26,6 +30,19 @@ import java.util.NoSuchElementException;
         property = "id"
 )
 @Entity
+@jakarta.persistence.Table(indexes = {
+        @Index(name = "idx_card_dead_line", columnList = "dead_line"),
+        @Index(name = "idx_card_created_at", columnList = "created_at"),
+        @Index(name = "idx_card_color", columnList = "color"),
+        @Index(name = "idx_card_card_type", columnList = "card_type"),
+        @Index(name = "idx_card_table_id_position", columnList = "table_id, position"),
+        @Index(name = "idx_card_table_id_title_sort_key", columnList = "table_id, title_sort_key"),
+        @Index(name = "idx_card_table_id_dead_line", columnList = "table_id, dead_line"),
+        @Index(name = "idx_card_table_id_color", columnList = "table_id, color"),
+        @Index(name = "idx_card_table_id_created_at", columnList = "table_id, created_at"),
+        @Index(name = "idx_card_dashboard_id", columnList = "dashboard_id"),
+        @Index(name = "idx_card_template_source_id", columnList = "template_source_id")
+})
 public class Card {
 
     public static final String NOT_FOUND_CHECK_ERROR = "ERROR: There is no such Check in this Card. Card: ";
@@ -34,22 +51,38 @@ public class Card {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     private String title;
+    @JsonIgnore
+    @Column(name = "title_sort_key")
+    private byte[] titleSortKey;
     private String description;
     private CardType cardType = CardType.NORMAL;
     private Color color;
     @ElementCollection
-    @CollectionTable(name = "card_attached_file", joinColumns = @JoinColumn(name = "card_id"))
+    @CollectionTable(
+            name = "card_attached_file",
+            joinColumns = @JoinColumn(name = "card_id"),
+            indexes = @Index(name = "idx_card_attached_file_card_id", columnList = "card_id")
+    )
     private List<AttachedFile> attachedFiles = new LinkedList<>();
+    @Column(name = "dead_line")
     private Date deadLine;
     @ElementCollection
-    @CollectionTable(name = "card_check", joinColumns = @JoinColumn(name = "card_id"))
+    @CollectionTable(
+            name = "card_check",
+            joinColumns = @JoinColumn(name = "card_id"),
+            indexes = @Index(name = "idx_card_check_card_id", columnList = "card_id")
+    )
     private List<Check> checks = new LinkedList<>();
     private int position = -1;
     @ManyToMany
     @JoinTable(
             name = "card_tags",
             joinColumns = @JoinColumn(name = "card_id"),
-            inverseJoinColumns = @JoinColumn(name = "tag_id")
+            inverseJoinColumns = @JoinColumn(name = "tag_id"),
+            indexes = {
+                    @Index(name = "idx_card_tags_card_id", columnList = "card_id"),
+                    @Index(name = "idx_card_tags_tag_id", columnList = "tag_id")
+            }
     )
     private List<Tag> tagList = new LinkedList<>();
     @ManyToOne(fetch = FetchType.LAZY)
@@ -58,6 +91,13 @@ public class Card {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "dashboard_id")
     private Dashboard dashboard;
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false, columnDefinition = "timestamp(6) default now()")
+    private Date createdAt;
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "template_source_id")
+    private Card templateSource;
 
     public Card(String title){
         this.title = title;
@@ -76,46 +116,119 @@ public class Card {
     }
 
     public Card(Card other) {
+        this(other, false);
+    }
+
+    private Card(Card other, boolean shareTemplateContent) {
         this.id = null;
         this.title = other.title;
         this.description = other.description;
         this.cardType = other.cardType;
         this.color = other.color;
+        this.deadLine = other.deadLine != null ? new Date(other.deadLine.getTime()) : null;
+        this.position = other.position;
+        this.tagList.addAll(other.tagList);
+        this.table = null;
+        this.dashboard = null;
 
-        this.attachedFiles = new LinkedList<>();
-        for (AttachedFile file : other.attachedFiles) {
-            this.attachedFiles.add(new AttachedFile(file));
+        if (shareTemplateContent) {
+            this.templateSource = other.templateSource != null ? other.templateSource : other;
+            return;
         }
 
-        this.deadLine = other.deadLine != null ? new Date(other.deadLine.getTime()) : null;
+        for (AttachedFile file : other.getAttachedFiles()) {
+            this.attachedFiles.add(new AttachedFile(file));
+        }
 
-        this.checks = new LinkedList<>();
-        for (Check check : other.checks) {
+        for (Check check : other.getChecks()) {
             this.checks.add(new Check(check));
         }
+    }
 
-        this.position = other.position;
-        this.tagList.addAll(other.tagList);
-        this.table = null;
-        this.dashboard = null;
+    public Card createTemplateInstance() {
+        Card instance = new Card(this, true);
+        instance.cardType = CardType.NORMAL;
+        return instance;
+    }
+
+    public List<AttachedFile> getAttachedFiles() {
+        if (this.templateSource != null) {
+            return Collections.unmodifiableList(this.templateSource.getAttachedFiles());
+        }
+
+        return this.attachedFiles;
     }
 
+    public void setAttachedFiles(List<AttachedFile> attachedFiles) {
+        this.materializeTemplateContent();
+        this.attachedFiles = attachedFiles;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+        this.titleSortKey = TitleCollator.sortKey(title);
+    }
 
+    public byte[] getTitleSortKey() {
+        if (this.titleSortKey == null) {
+            this.titleSortKey = TitleCollator.sortKey(this.title);
+        }
+
+        return this.titleSortKey;
+    }
+
+    @PrePersist
+    private void updateTitleSortKey() {
+        this.titleSortKey = TitleCollator.sortKey(this.title);
+    }
+
+    public List<Check> getChecks() {
+        if (this.templateSource != null) {
+            return Collections.unmodifiableList(this.templateSource.getChecks());
+        }
+
+        return this.checks;
+    }
+
+    public void setChecks(List<Check> checks) {
+        this.materializeTemplateContent();
+        this.checks = checks;
+    }
+
+    public void materializeTemplateContent() {
+        if (this.templateSource == null) {
+            return;
+        }
+
+        for (AttachedFile file : this.templateSource.getAttachedFiles()) {
+            this.attachedFiles.add(new AttachedFile(file));
+        }
+
+        for (Check check : this.templateSource.getChecks()) {
+            this.checks.add(new Check(check));
+        }
+
+        this.templateSource = null;
+    }
 
     public void attachFile(AttachedFile attachedFile){
+        this.materializeTemplateContent();
         this.attachedFiles.add(attachedFile);
     }
 
     public boolean detachFile(AttachedFile attachedFile){
+        this.materializeTemplateContent();
         return this.attachedFiles.remove(attachedFile);
     }
 
     public void addCheckToCheckList(Check check){
+        this.materializeTemplateContent();
         check.setPosition(this.checks.size());
         this.checks.add(check);
     }
 
     public boolean removeCheckFromCheckList(Check check) {
+        this.materializeTemplateContent();
         boolean result = this.checks.remove(check);
 
         if (!result){
@@ -130,6 +243,7 @@ public class Card {
     }
 
     public void updateCheckFromCheckList(Check check) {
+        this.materializeTemplateContent();
         try {
             this.checks.set(check.getPosition(), check);
         } catch (IndexOutOfBoundsException e) {
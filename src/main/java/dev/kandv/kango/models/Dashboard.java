@@ -30,7 +30,11 @@ public class Dashboard {
     @OneToMany(mappedBy = "dashboard", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Table> tableList;
     @ElementCollection
-    @CollectionTable(name = "dashboard_attached_file", joinColumns = @JoinColumn(name = "dashboard_id"))
+    @CollectionTable(
+            name = "dashboard_attached_file",
+            joinColumns = @JoinColumn(name = "dashboard_id"),
+            indexes = @Index(name = "idx_dashboard_attached_file_dashboard_id", columnList = "dashboard_id")
+    )
     private List<AttachedFile> attachedFiles = new LinkedList<>();
     @OneToMany(mappedBy = "dashboard", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Card> templateCardList = new LinkedList<>();
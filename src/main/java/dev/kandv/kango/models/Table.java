@@ -6,8 +6,7 @@ import dev.kandv.kango.models.enums.CardListSort;
 import jakarta.persistence.*;
 import lombok.*;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
 @Getter
 @Setter
@@ -18,7 +17,9 @@ import java.util.List;
         property = "id"
 )
 @Entity
-@jakarta.persistence.Table(name = "tables")
+@jakarta.persistence.Table(name = "tables", indexes = {
+        @Index(name = "idx_tables_dashboard_id", columnList = "dashboard_id")
+})
 public class Table {
 
     @Id
@@ -28,6 +29,7 @@ public class Table {
     private String name;
     private int position;
     @OneToMany(mappedBy = "table", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("position")
     private List<Card> cardList = new ArrayList<>();
     @ManyToOne
     @JoinColumn(name = "dashboard_id")
@@ -51,6 +53,21 @@ public class Table {
         }
     }
 
+    public void applyCardOrder(List<Long> cardIds) {
+        Map<Long, Integer> orderByCardId = new HashMap<>();
+
+        for (int i = 0; i < cardIds.size(); i++) {
+            orderByCardId.put(cardIds.get(i), i);
+        }
+
+        this.cardList.sort(Comparator.comparingInt((Card card) -> orderByCardId.getOrDefault(card.getId(), cardIds.size()))
+                .thenComparingInt(Card::getPosition));
+
+        for (int i = 0; i < this.cardList.size(); i++) {
+            this.cardList.get(i).setPosition(i);
+        }
+    }
+
     public void cleanCardList() {
         this.cardList.clear();
     }
@@ -11,7 +11,9 @@ import lombok.*;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "tags")
+@Table(name = "tags", indexes = {
+        @Index(name = "idx_tags_dashboard_id", columnList = "dashboard_id")
+})
 public class Tag {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,5 @@
+package dev.kandv.kango.models.enums;
+
+public enum ArchiveJobState {
+    RUNNING, FINISHED, FAILED
+}
@@ -0,0 +1,12 @@
+package dev.kandv.kango.models.enums;
+
+public enum AuditAction {
+    CREATE, DELETE, UPDATE, UPDATE_NAME,
+    UPDATE_TITLE, UPDATE_DESCRIPTION, UPDATE_COLOR, UPDATE_DEAD_LINE,
+    ATTACH_FILE, DETACH_FILE,
+    ADD_CHECK, REMOVE_CHECK, UPDATE_CHECK,
+    ADD_TAG, REMOVE_TAG,
+    ADD_CARD, REMOVE_CARD, MOVE_CARD, SORT_CARDS, REORDER_CARDS, MOVE_CARDS, COPY_CARDS,
+    ADD_TEMPLATE_CARD, REMOVE_TEMPLATE_CARD,
+    ADD_TABLE, REMOVE_TABLE, MOVE_TABLE
+}
@@ -0,0 +1,5 @@
+package dev.kandv.kango.models.enums;
+
+public enum CardBulkOperation {
+    SET_COLOR, SET_DEAD_LINE, ADD_TAG, REMOVE_TAG
+}
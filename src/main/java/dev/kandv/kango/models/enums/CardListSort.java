@@ -1,20 +1,46 @@
 package dev.kandv.kango.models.enums;
 
 import dev.kandv.kango.models.Card;
+import dev.kandv.kango.models.utils.Check;
 import lombok.Getter;
 
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
+
+import static java.util.Comparator.*;
 
 @Getter
 public enum CardListSort {
-    BY_ID(Comparator.comparing(Card::getId)),
-    BY_ID_REVERSE(Comparator.comparing(Card::getId).reversed()),
-    BY_TITLE(Comparator.comparing(Card::getTitle)),
-    BY_TITLE_REVERSE(Comparator.comparing(Card::getTitle).reversed());
+    BY_ID(comparing(Card::getId)),
+    BY_ID_REVERSE(comparing(Card::getId).reversed()),
+    BY_TITLE(comparing(Card::getTitleSortKey, nullsLast(Arrays::compareUnsigned))),
+    BY_TITLE_REVERSE(comparing(Card::getTitleSortKey, nullsLast(CardListSort::compareUnsignedReversed))),
+    BY_DEAD_LINE(comparing(Card::getDeadLine, nullsLast(naturalOrder()))),
+    BY_DEAD_LINE_REVERSE(comparing(Card::getDeadLine, nullsLast(reverseOrder()))),
+    BY_COLOR(comparing(Card::getColor, nullsLast(naturalOrder()))),
+    BY_CREATED_AT(comparing(Card::getCreatedAt, nullsLast(naturalOrder()))),
+    BY_CREATED_AT_REVERSE(comparing(Card::getCreatedAt, nullsLast(reverseOrder()))),
+    BY_CHECKLIST_PROGRESS(comparing(CardListSort::checklistProgress, nullsLast(naturalOrder()))),
+    BY_CHECKLIST_PROGRESS_REVERSE(comparing(CardListSort::checklistProgress, nullsLast(reverseOrder())));
 
     private final Comparator<Card> comparator;
 
     CardListSort(Comparator<Card> comparator) {
         this.comparator = comparator;
     }
-}
\ No newline at end of file
+
+    private static int compareUnsignedReversed(byte[] first, byte[] second) {
+        return Arrays.compareUnsigned(second, first);
+    }
+
+    private static Double checklistProgress(Card card) {
+        List<Check> checks = card.getChecks();
+
+        if (checks.isEmpty()) {
+            return null;
+        }
+
+        return checks.stream().filter(Check::isChecked).count() / (double) checks.size();
+    }
+}
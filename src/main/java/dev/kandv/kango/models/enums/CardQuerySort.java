@@ -0,0 +1,24 @@
+package dev.kandv.kango.models.enums;
+
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+
+@Getter
+public enum CardQuerySort {
+    NEWEST("createdAt", Sort.Direction.DESC),
+    OLDEST("createdAt", Sort.Direction.ASC),
+    DEAD_LINE("deadLine", Sort.Direction.ASC),
+    TITLE("titleSortKey", Sort.Direction.ASC);
+
+    private final String attribute;
+    private final Sort.Direction direction;
+
+    CardQuerySort(String attribute, Sort.Direction direction) {
+        this.attribute = attribute;
+        this.direction = direction;
+    }
+
+    public Sort toSort() {
+        return Sort.by(new Sort.Order(this.direction, this.attribute), new Sort.Order(this.direction, "id"));
+    }
+}
@@ -6,17 +6,19 @@ import lombok.*;
 @Getter
 @Setter
 @NoArgsConstructor
-@AllArgsConstructor
+@RequiredArgsConstructor
 @Embeddable
 public class AttachedFile {
     @NonNull
     private String fileName;
     @NonNull
     private String fileUrl;
+    private String thumbnailUrl;
 
     public AttachedFile(AttachedFile other) {
         this.fileName = other.fileName;
         this.fileUrl = other.fileUrl;
+        this.thumbnailUrl = other.thumbnailUrl;
     }
 
     @Override
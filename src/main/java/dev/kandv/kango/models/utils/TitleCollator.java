@@ -0,0 +1,26 @@
+package dev.kandv.kango.models.utils;
+
+import java.text.Collator;
+import java.util.Locale;
+
+public class TitleCollator {
+
+    private static final ThreadLocal<Collator> COLLATOR = ThreadLocal.withInitial(() -> {
+        Collator collator = Collator.getInstance(Locale.ROOT);
+        collator.setStrength(Collator.TERTIARY);
+        collator.setDecomposition(Collator.CANONICAL_DECOMPOSITION);
+        return collator;
+    });
+
+    private TitleCollator() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static byte[] sortKey(String title) {
+        if (title == null) {
+            return null;
+        }
+
+        return COLLATOR.get().getCollationKey(title).toByteArray();
+    }
+}
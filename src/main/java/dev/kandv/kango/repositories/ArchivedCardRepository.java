@@ -0,0 +1,22 @@
+package dev.kandv.kango.repositories;
+
+import dev.kandv.kango.models.ArchivedCard;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ArchivedCardRepository extends JpaRepository<ArchivedCard, Long> {
+
+    @Query("SELECT a FROM ArchivedCard a " +
+            "WHERE (:tableId IS NULL OR a.tableId = :tableId) " +
+            "AND (LOWER(a.title) LIKE LOWER(CONCAT('%', :text, '%')) " +
+            "OR LOWER(a.description) LIKE LOWER(CONCAT('%', :text, '%'))) " +
+            "ORDER BY a.archivedAt DESC, a.id DESC")
+    List<ArchivedCard> search(@Param("text") String text, @Param("tableId") @Nullable Long tableId, Pageable pageable);
+}
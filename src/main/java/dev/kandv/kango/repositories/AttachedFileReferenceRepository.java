@@ -0,0 +1,38 @@
+package dev.kandv.kango.repositories;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class AttachedFileReferenceRepository {
+
+    private static final String COUNT_REFERENCES_QUERY = """
+            SELECT refs.file_url, COUNT(*)
+            FROM (
+                SELECT file_url FROM card_attached_file
+                UNION ALL
+                SELECT file_url FROM dashboard_attached_file
+                UNION ALL
+                SELECT file_url FROM archived_card_attached_file
+            ) refs
+            WHERE refs.file_url LIKE ?
+            GROUP BY refs.file_url
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Map<String, Long> countReferencesByFileUrl(String fileUrlPrefix) {
+        Map<String, Long> referenceCounts = new HashMap<>();
+
+        this.jdbcTemplate.query(COUNT_REFERENCES_QUERY, resultSet -> {
+            referenceCounts.put(resultSet.getString(1), resultSet.getLong(2));
+        }, fileUrlPrefix + "%");
+
+        return referenceCounts;
+    }
+}
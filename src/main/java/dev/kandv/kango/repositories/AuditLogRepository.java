@@ -0,0 +1,144 @@
+package dev.kandv.kango.repositories;
+
+import dev.kandv.kango.dtos.AuditEntryDTO;
+import dev.kandv.kango.models.enums.AuditAction;
+import dev.kandv.kango.models.enums.AuditEntityType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class AuditLogRepository {
+
+    private static final List<String> CREATE_AUDIT_LOG_QUERIES = List.of(
+            """
+            CREATE TABLE IF NOT EXISTS audit_log (
+                id bigserial NOT NULL,
+                created_at timestamp(6) NOT NULL,
+                actor varchar(255),
+                entity_type varchar(16) NOT NULL,
+                entity_id bigint NOT NULL,
+                dashboard_id bigint,
+                action varchar(32) NOT NULL,
+                detail text
+            ) PARTITION BY RANGE (created_at)
+            """,
+            "CREATE INDEX IF NOT EXISTS idx_audit_log_entity ON audit_log (entity_type, entity_id, created_at DESC, id DESC)",
+            "CREATE INDEX IF NOT EXISTS idx_audit_log_dashboard ON audit_log (dashboard_id, created_at DESC, id DESC)"
+    );
+
+    private static final String CREATE_PARTITION_QUERY = """
+            CREATE TABLE IF NOT EXISTS audit_log_%s PARTITION OF audit_log
+            FOR VALUES FROM ('%s') TO ('%s')
+            """;
+
+    private static final String INSERT_ENTRY_QUERY = """
+            INSERT INTO audit_log (created_at, actor, entity_type, entity_id, dashboard_id, action, detail)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String TABLE_DASHBOARD_IDS_QUERY = "SELECT id, dashboard_id FROM tables WHERE id = ANY(?)";
+    private static final String TAG_DASHBOARD_IDS_QUERY = "SELECT id, dashboard_id FROM tags WHERE id = ANY(?)";
+    private static final String CARD_DASHBOARD_IDS_QUERY = """
+            SELECT card.id, COALESCE(card.dashboard_id, tables.dashboard_id) AS dashboard_id
+            FROM card
+            LEFT JOIN tables ON tables.id = card.table_id
+            WHERE card.id = ANY(?)
+            """;
+
+    private static final String FIND_ENTITY_HISTORY_QUERY = """
+            SELECT id, created_at, actor, entity_type, entity_id, dashboard_id, action, detail
+            FROM audit_log
+            WHERE entity_type = ? AND entity_id = ?
+            ORDER BY created_at DESC, id DESC
+            LIMIT ? OFFSET ?
+            """;
+
+    private static final String FIND_DASHBOARD_HISTORY_QUERY = """
+            SELECT id, created_at, actor, entity_type, entity_id, dashboard_id, action, detail
+            FROM audit_log
+            WHERE dashboard_id = ?
+            ORDER BY created_at DESC, id DESC
+            LIMIT ? OFFSET ?
+            """;
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private static final RowMapper<AuditEntryDTO> AUDIT_ENTRY_MAPPER = (resultSet, rowNumber) -> new AuditEntryDTO(
+            resultSet.getLong("id"),
+            resultSet.getTimestamp("created_at"),
+            resultSet.getString("actor"),
+            AuditEntityType.valueOf(resultSet.getString("entity_type")),
+            resultSet.getLong("entity_id"),
+            resultSet.getObject("dashboard_id", Long.class),
+            AuditAction.valueOf(resultSet.getString("action")),
+            resultSet.getString("detail")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void createAuditLog() {
+        for (String query : CREATE_AUDIT_LOG_QUERIES) {
+            this.jdbcTemplate.execute(query);
+        }
+    }
+
+    public void createPartition(YearMonth month) {
+        this.jdbcTemplate.execute(CREATE_PARTITION_QUERY.formatted(
+                month.format(PARTITION_SUFFIX), month.atDay(1), month.plusMonths(1).atDay(1)
+        ));
+    }
+
+    public void insertEntries(List<AuditEntryDTO> entries) {
+        this.jdbcTemplate.batchUpdate(INSERT_ENTRY_QUERY, entries, entries.size(), (statement, entry) -> {
+            statement.setTimestamp(1, new Timestamp(entry.getCreatedAt().getTime()));
+            statement.setString(2, entry.getActor());
+            statement.setString(3, entry.getEntityType().name());
+            statement.setLong(4, entry.getEntityId());
+            statement.setObject(5, entry.getDashboardId(), Types.BIGINT);
+            statement.setString(6, entry.getAction().name());
+            statement.setString(7, entry.getDetail());
+        });
+    }
+
+    public Map<Long, Long> findDashboardIds(AuditEntityType entityType, Collection<Long> entityIds) {
+        Map<Long, Long> dashboardIds = new HashMap<>();
+
+        String query = switch (entityType) {
+            case DASHBOARD -> null;
+            case TABLE -> TABLE_DASHBOARD_IDS_QUERY;
+            case TAG -> TAG_DASHBOARD_IDS_QUERY;
+            case CARD -> CARD_DASHBOARD_IDS_QUERY;
+        };
+
+        if (query == null) {
+            entityIds.forEach(entityId -> dashboardIds.put(entityId, entityId));
+            return dashboardIds;
+        }
+
+        this.jdbcTemplate.query(query, resultSet -> {
+            dashboardIds.put(resultSet.getLong("id"), resultSet.getObject("dashboard_id", Long.class));
+        }, (Object) entityIds.toArray(Long[]::new));
+
+        return dashboardIds;
+    }
+
+    public List<AuditEntryDTO> findEntityHistory(AuditEntityType entityType, Long entityId, int limit, long offset) {
+        return this.jdbcTemplate.query(FIND_ENTITY_HISTORY_QUERY, AUDIT_ENTRY_MAPPER, entityType.name(), entityId, limit, offset);
+    }
+
+    public List<AuditEntryDTO> findDashboardHistory(Long dashboardId, int limit, long offset) {
+        return this.jdbcTemplate.query(FIND_DASHBOARD_HISTORY_QUERY, AUDIT_ENTRY_MAPPER, dashboardId, limit, offset);
+    }
+}
@@ -0,0 +1,49 @@
+package dev.kandv.kango.repositories;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+@Repository
+@RequiredArgsConstructor
+public class BackupRepository {
+
+    public static final String INVALID_SNAPSHOT_ERROR = "ERROR: Invalid database snapshot. Value: ";
+
+    private static final String EXPORT_SNAPSHOT_QUERY = "SELECT pg_export_snapshot()";
+    private static final String SET_SNAPSHOT_QUERY = "SET TRANSACTION SNAPSHOT '%s'";
+    private static final String DASHBOARD_IDS_QUERY = "SELECT id FROM dashboard ORDER BY id";
+    private static final String ATTACHED_FILE_URLS_QUERY = """
+            SELECT file_url FROM dashboard_attached_file
+            UNION
+            SELECT file_url FROM card_attached_file
+            UNION
+            SELECT file_url FROM archived_card_attached_file
+            """;
+    private static final Pattern SNAPSHOT_PATTERN = Pattern.compile("[0-9A-F]+(-[0-9A-F]+)+");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public String exportSnapshot() {
+        return this.jdbcTemplate.queryForObject(EXPORT_SNAPSHOT_QUERY, String.class);
+    }
+
+    public void importSnapshot(String snapshotId) {
+        if (snapshotId == null || !SNAPSHOT_PATTERN.matcher(snapshotId).matches()) {
+            throw new IllegalArgumentException(INVALID_SNAPSHOT_ERROR + snapshotId);
+        }
+
+        this.jdbcTemplate.execute(SET_SNAPSHOT_QUERY.formatted(snapshotId));
+    }
+
+    public List<Long> findDashboardIds() {
+        return this.jdbcTemplate.queryForList(DASHBOARD_IDS_QUERY, Long.class);
+    }
+
+    public List<String> findAttachedFileUrls() {
+        return this.jdbcTemplate.queryForList(ATTACHED_FILE_URLS_QUERY, String.class);
+    }
+}
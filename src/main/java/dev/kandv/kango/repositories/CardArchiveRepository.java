@@ -0,0 +1,193 @@
+package dev.kandv.kango.repositories;
+
+import dev.kandv.kango.dtos.DeadlineReminderDTO;
+import dev.kandv.kango.models.enums.CardType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class CardArchiveRepository {
+
+    private static final String LOCK_ARCHIVABLE_CARDS_QUERY = """
+            SELECT id
+            FROM card
+            WHERE table_id = ? AND card_type = ? AND created_at < ?
+            ORDER BY id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final String LOCK_ARCHIVABLE_CARD_QUERY = """
+            SELECT id
+            FROM card
+            WHERE id = ? AND table_id IS NOT NULL AND card_type = ?
+            FOR UPDATE
+            """;
+
+    private static final String INSERT_ARCHIVED_CARDS_QUERY = """
+            INSERT INTO archived_card (id, title, title_sort_key, description, card_type, color, dead_line, position,
+                                       table_id, created_at, archived_at)
+            SELECT id, title, title_sort_key, description, card_type, color, dead_line, position, table_id, created_at,
+                   now()
+            FROM card
+            WHERE id = ANY(?)
+            """;
+
+    private static final String INSERT_ARCHIVED_CHECKS_QUERY = """
+            INSERT INTO archived_card_check (card_id, label, checked, position)
+            SELECT card.id, card_check.label, card_check.checked, card_check.position
+            FROM card
+            JOIN card_check ON card_check.card_id = COALESCE(card.template_source_id, card.id)
+            WHERE card.id = ANY(?)
+            ORDER BY card.id, card_check.position
+            """;
+
+    private static final String INSERT_ARCHIVED_ATTACHED_FILES_QUERY = """
+            INSERT INTO archived_card_attached_file (card_id, file_name, file_url, thumbnail_url)
+            SELECT card.id, card_attached_file.file_name, card_attached_file.file_url, card_attached_file.thumbnail_url
+            FROM card
+            JOIN card_attached_file ON card_attached_file.card_id = COALESCE(card.template_source_id, card.id)
+            WHERE card.id = ANY(?)
+            ORDER BY card.id, card_attached_file.ctid
+            """;
+
+    private static final String MOVE_CARD_TAGS_TO_ARCHIVE_QUERY = """
+            WITH moved AS (
+                DELETE FROM card_tags
+                WHERE card_id = ANY(?)
+                RETURNING ctid, card_id, tag_id
+            )
+            INSERT INTO archived_card_tags (card_id, tag_id)
+            SELECT card_id, tag_id FROM moved ORDER BY card_id, ctid
+            """;
+
+    private static final String DELETE_ARCHIVED_CHECKS_QUERY = "DELETE FROM card_check WHERE card_id = ANY(?)";
+    private static final String DELETE_ARCHIVED_ATTACHED_FILES_QUERY = "DELETE FROM card_attached_file WHERE card_id = ANY(?)";
+    private static final String DELETE_ARCHIVED_CARDS_QUERY = """
+            DELETE FROM card
+            WHERE id = ANY(?)
+            RETURNING table_id
+            """;
+
+    private static final String RENUMBER_TABLE_POSITIONS_QUERY = """
+            UPDATE card
+            SET position = ordered.new_position
+            FROM (
+                SELECT id, CAST(row_number() OVER (ORDER BY position, id) - 1 AS integer) AS new_position
+                FROM card
+                WHERE table_id = ?
+            ) ordered
+            WHERE card.id = ordered.id AND card.position <> ordered.new_position
+            """;
+
+    private static final String RESTORE_CARD_QUERY = """
+            INSERT INTO card (id, title, title_sort_key, description, card_type, color, dead_line, position, table_id,
+                              created_at)
+            SELECT id, title, title_sort_key, description, card_type, color, dead_line, ?, ?, created_at
+            FROM archived_card
+            WHERE id = ?
+            RETURNING id
+            """;
+
+    private static final String RESTORE_CHECKS_QUERY = """
+            WITH restored AS (
+                DELETE FROM archived_card_check WHERE card_id = ?
+                RETURNING card_id, label, checked, position
+            )
+            INSERT INTO card_check (card_id, label, checked, position)
+            SELECT card_id, label, checked, position FROM restored ORDER BY position
+            """;
+
+    private static final String RESTORE_ATTACHED_FILES_QUERY = """
+            WITH restored AS (
+                DELETE FROM archived_card_attached_file WHERE card_id = ?
+                RETURNING ctid, card_id, file_name, file_url, thumbnail_url
+            )
+            INSERT INTO card_attached_file (card_id, file_name, file_url, thumbnail_url)
+            SELECT card_id, file_name, file_url, thumbnail_url FROM restored ORDER BY ctid
+            """;
+
+    private static final String RESTORE_CARD_TAGS_QUERY = """
+            WITH restored AS (
+                DELETE FROM archived_card_tags WHERE card_id = ?
+                RETURNING ctid, card_id, tag_id
+            )
+            INSERT INTO card_tags (card_id, tag_id)
+            SELECT restored.card_id, restored.tag_id
+            FROM restored
+            JOIN tags ON tags.id = restored.tag_id
+            ORDER BY restored.ctid
+            """;
+
+    private static final String DELETE_RESTORED_CARD_QUERY = "DELETE FROM archived_card WHERE id = ?";
+
+    private static final String FIND_CARD_REMINDER_QUERY = """
+            SELECT id, title, dead_line
+            FROM card
+            WHERE id = ? AND dead_line > now()
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<Long> lockArchivableCards(Long tableId, Date createdBefore, int limit) {
+        return this.jdbcTemplate.queryForList(LOCK_ARCHIVABLE_CARDS_QUERY, Long.class,
+                tableId, CardType.NORMAL.ordinal(), new Timestamp(createdBefore.getTime()), limit);
+    }
+
+    public Optional<Long> lockArchivableCard(Long cardId) {
+        return this.jdbcTemplate.queryForList(LOCK_ARCHIVABLE_CARD_QUERY, Long.class, cardId, CardType.NORMAL.ordinal())
+                .stream()
+                .findFirst();
+    }
+
+    public List<Long> archiveCards(List<Long> cardIds) {
+        if (cardIds.isEmpty()) {
+            return List.of();
+        }
+
+        Long[] ids = cardIds.toArray(Long[]::new);
+
+        this.jdbcTemplate.update(INSERT_ARCHIVED_CARDS_QUERY, (Object) ids);
+        this.jdbcTemplate.update(INSERT_ARCHIVED_CHECKS_QUERY, (Object) ids);
+        this.jdbcTemplate.update(INSERT_ARCHIVED_ATTACHED_FILES_QUERY, (Object) ids);
+        this.jdbcTemplate.update(MOVE_CARD_TAGS_TO_ARCHIVE_QUERY, (Object) ids);
+        this.jdbcTemplate.update(DELETE_ARCHIVED_CHECKS_QUERY, (Object) ids);
+        this.jdbcTemplate.update(DELETE_ARCHIVED_ATTACHED_FILES_QUERY, (Object) ids);
+
+        return this.jdbcTemplate.queryForList(DELETE_ARCHIVED_CARDS_QUERY, Long.class, (Object) ids);
+    }
+
+    public int renumberTablePositions(Long tableId) {
+        return this.jdbcTemplate.update(RENUMBER_TABLE_POSITIONS_QUERY, tableId);
+    }
+
+    public Optional<Long> restoreCard(Long cardId, Long tableId, int position) {
+        Optional<Long> restoredId = this.jdbcTemplate.queryForList(RESTORE_CARD_QUERY, Long.class, position, tableId, cardId)
+                .stream()
+                .findFirst();
+
+        if (restoredId.isPresent()) {
+            this.jdbcTemplate.update(RESTORE_CHECKS_QUERY, cardId);
+            this.jdbcTemplate.update(RESTORE_ATTACHED_FILES_QUERY, cardId);
+            this.jdbcTemplate.update(RESTORE_CARD_TAGS_QUERY, cardId);
+            this.jdbcTemplate.update(DELETE_RESTORED_CARD_QUERY, cardId);
+        }
+
+        return restoredId;
+    }
+
+    public Optional<DeadlineReminderDTO> findCardReminder(Long cardId) {
+        return this.jdbcTemplate.query(FIND_CARD_REMINDER_QUERY, (resultSet, rowNumber) -> new DeadlineReminderDTO(
+                resultSet.getLong("id"),
+                resultSet.getString("title"),
+                resultSet.getTimestamp("dead_line")
+        ), cardId).stream().findFirst();
+    }
+}
@@ -0,0 +1,458 @@
+package dev.kandv.kango.repositories;
+
+import dev.kandv.kango.dtos.ArchivedCardExportDTO;
+import dev.kandv.kango.dtos.CardExportDTO;
+import dev.kandv.kango.dtos.DeadlineReminderDTO;
+import dev.kandv.kango.models.enums.CardType;
+import dev.kandv.kango.models.enums.Color;
+import dev.kandv.kango.models.utils.AttachedFile;
+import dev.kandv.kango.models.utils.Check;
+import dev.kandv.kango.models.utils.TitleCollator;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.*;
+
+@Repository
+@RequiredArgsConstructor
+public class CardBulkRepository {
+
+    private static final String ALLOCATE_CARD_IDS_QUERY =
+            "SELECT nextval(pg_get_serial_sequence('card', 'id')) FROM generate_series(1, ?)";
+
+    private static final String COPY_CARDS_SQL = """
+            COPY card (id, title, title_sort_key, description, card_type, color, dead_line, position, table_id,
+                       dashboard_id)
+            FROM STDIN
+            """;
+    private static final String COPY_CHECKS_SQL = "COPY card_check (card_id, label, checked, position) FROM STDIN";
+    private static final String COPY_ATTACHED_FILES_SQL =
+            "COPY card_attached_file (card_id, file_name, file_url, thumbnail_url) FROM STDIN";
+    private static final String COPY_CARD_TAGS_SQL = "COPY card_tags (card_id, tag_id) FROM STDIN";
+
+    private static final String COPY_ARCHIVED_CARDS_SQL = """
+            COPY archived_card (id, title, title_sort_key, description, card_type, color, dead_line, position,
+                                table_id, created_at, archived_at)
+            FROM STDIN
+            """;
+    private static final String COPY_ARCHIVED_CHECKS_SQL =
+            "COPY archived_card_check (card_id, label, checked, position) FROM STDIN";
+    private static final String COPY_ARCHIVED_ATTACHED_FILES_SQL =
+            "COPY archived_card_attached_file (card_id, file_name, file_url, thumbnail_url) FROM STDIN";
+    private static final String COPY_ARCHIVED_CARD_TAGS_SQL = "COPY archived_card_tags (card_id, tag_id) FROM STDIN";
+
+    private static final String LOCK_TABLE_FOR_APPEND_QUERY = """
+            SELECT (SELECT count(*) FROM card WHERE card.table_id = tables.id)
+            FROM tables
+            WHERE tables.id = ?
+            FOR UPDATE
+            """;
+
+    private static final String INSERT_TEMPLATE_INSTANCES_QUERY = """
+            INSERT INTO card (id, title, title_sort_key, description, card_type, color, dead_line, position, table_id,
+                              dashboard_id, template_source_id)
+            SELECT instance.id, template.title, template.title_sort_key, template.description, ?, template.color,
+                   template.dead_line, COALESCE(CAST(? AS integer) + instance.ordinality - 1, template.position),
+                   CAST(? AS bigint), NULL,
+                   COALESCE(template.template_source_id, template.id)
+            FROM card template
+            CROSS JOIN unnest(?::bigint[]) WITH ORDINALITY AS instance(id, ordinality)
+            WHERE template.id = ?
+            """;
+
+    private static final String MATERIALIZE_INSTANCE_CHECKS_QUERY = """
+            INSERT INTO card_check (card_id, label, checked, position)
+            SELECT instance.id, card_check.label, card_check.checked, card_check.position
+            FROM card instance
+            JOIN card_check ON card_check.card_id = instance.template_source_id
+            WHERE instance.template_source_id = ANY(?)
+            ORDER BY instance.id, card_check.position
+            """;
+
+    private static final String MATERIALIZE_INSTANCE_ATTACHED_FILES_QUERY = """
+            INSERT INTO card_attached_file (card_id, file_name, file_url, thumbnail_url)
+            SELECT instance.id, card_attached_file.file_name, card_attached_file.file_url, card_attached_file.thumbnail_url
+            FROM card instance
+            JOIN card_attached_file ON card_attached_file.card_id = instance.template_source_id
+            WHERE instance.template_source_id = ANY(?)
+            ORDER BY instance.id, card_attached_file.ctid
+            """;
+
+    private static final String DETACH_TEMPLATE_INSTANCES_QUERY = """
+            UPDATE card SET template_source_id = NULL
+            WHERE template_source_id = ANY(?)
+            """;
+
+    private static final String FIND_DASHBOARD_TEMPLATE_IDS_QUERY = "SELECT id FROM card WHERE dashboard_id = ?";
+    private static final String FIND_ALL_DASHBOARD_TEMPLATE_IDS_QUERY = "SELECT id FROM card WHERE dashboard_id IS NOT NULL";
+
+    private static final String INSERT_INSTANCE_TAGS_QUERY = """
+            INSERT INTO card_tags (card_id, tag_id)
+            SELECT instance.id, card_tags.tag_id
+            FROM card_tags
+            CROSS JOIN unnest(?::bigint[]) AS instance(id)
+            WHERE card_tags.card_id = ?
+            ORDER BY instance.id, card_tags.ctid
+            """;
+
+    private static final String UPDATE_CARD_COLORS_QUERY = """
+            UPDATE card SET color = ?
+            WHERE id = ANY(?) AND color IS DISTINCT FROM ?
+            RETURNING id
+            """;
+
+    private static final String UPDATE_CARD_DEAD_LINES_QUERY = """
+            UPDATE card SET dead_line = ?
+            WHERE id = ANY(?) AND dead_line IS DISTINCT FROM ?
+            RETURNING id, title, dead_line
+            """;
+
+    private static final String ADD_TAG_TO_CARDS_QUERY = """
+            INSERT INTO card_tags (card_id, tag_id)
+            SELECT card.id, ?
+            FROM card
+            WHERE card.id = ANY(?)
+              AND NOT EXISTS (SELECT 1 FROM card_tags WHERE card_tags.card_id = card.id AND card_tags.tag_id = ?)
+            RETURNING card_id
+            """;
+
+    private static final String REMOVE_TAG_FROM_CARDS_QUERY = """
+            WITH removed AS (
+                DELETE FROM card_tags
+                WHERE tag_id = ? AND card_id = ANY(?)
+                RETURNING card_id
+            )
+            SELECT DISTINCT card_id FROM removed
+            """;
+
+    private static final String FIND_CARD_TABLE_IDS_QUERY = """
+            SELECT DISTINCT table_id
+            FROM card
+            WHERE id = ANY(?) AND table_id IS NOT NULL
+            """;
+
+    private static final String DELETE_CARDS_QUERY = """
+            WITH deleted_checks AS (
+                DELETE FROM card_check WHERE card_id = ANY(?)
+            ), deleted_attached_files AS (
+                DELETE FROM card_attached_file WHERE card_id = ANY(?)
+            ), deleted_tags AS (
+                DELETE FROM card_tags WHERE card_id = ANY(?)
+            ), deleted_cards AS (
+                DELETE FROM card
+                WHERE id = ANY(?)
+                RETURNING id, table_id, dashboard_id
+            )
+            SELECT deleted_cards.id, deleted_cards.table_id,
+                   COALESCE(deleted_cards.dashboard_id, tables.dashboard_id) AS dashboard_id
+            FROM deleted_cards
+            LEFT JOIN tables ON tables.id = deleted_cards.table_id
+            """;
+
+    private static final String COMPACT_TABLE_POSITIONS_QUERY = """
+            UPDATE card
+            SET position = compacted.position
+            FROM (
+                SELECT card.id, row_number() OVER (PARTITION BY card.table_id ORDER BY card.position, card.id) - 1 AS position
+                FROM card
+                WHERE card.table_id = ANY(?)
+            ) compacted
+            WHERE card.id = compacted.id AND card.position <> compacted.position
+            """;
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+    private static final String NULL_VALUE = "\\N";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    public List<Long> allocateCardIds(int amount) {
+        return this.jdbcTemplate.queryForList(ALLOCATE_CARD_IDS_QUERY, Long.class, amount);
+    }
+
+    public Optional<Integer> lockTableForAppend(Long tableId) {
+        return this.jdbcTemplate.queryForList(LOCK_TABLE_FOR_APPEND_QUERY, Integer.class, tableId).stream().findFirst();
+    }
+
+    public int insertTemplateInstances(Long templateId, List<Long> cardIds, Long tableId, Integer firstPosition) {
+        Long[] instanceIds = cardIds.toArray(Long[]::new);
+
+        int insertedCards = this.jdbcTemplate.update(INSERT_TEMPLATE_INSTANCES_QUERY,
+                CardType.NORMAL.ordinal(), firstPosition, tableId, instanceIds, templateId);
+
+        if (insertedCards > 0) {
+            this.jdbcTemplate.update(INSERT_INSTANCE_TAGS_QUERY, instanceIds, templateId);
+        }
+
+        return insertedCards;
+    }
+
+    public int materializeTemplateInstances(List<Long> templateIds) {
+        if (templateIds.isEmpty()) {
+            return 0;
+        }
+
+        Long[] sourceIds = templateIds.toArray(Long[]::new);
+
+        this.jdbcTemplate.update(MATERIALIZE_INSTANCE_CHECKS_QUERY, (Object) sourceIds);
+        this.jdbcTemplate.update(MATERIALIZE_INSTANCE_ATTACHED_FILES_QUERY, (Object) sourceIds);
+        return this.jdbcTemplate.update(DETACH_TEMPLATE_INSTANCES_QUERY, (Object) sourceIds);
+    }
+
+    public List<Long> updateCardColors(Collection<Long> cardIds, Color color) {
+        return this.bulkUpdate(UPDATE_CARD_COLORS_QUERY, (resultSet, row) -> resultSet.getLong("id"),
+                color.ordinal(), cardIds.toArray(Long[]::new), color.ordinal());
+    }
+
+    public List<DeadlineReminderDTO> updateCardDeadLines(Collection<Long> cardIds, Date deadLine) {
+        Timestamp newDeadLine = new Timestamp(deadLine.getTime());
+
+        return this.bulkUpdate(UPDATE_CARD_DEAD_LINES_QUERY, (resultSet, row) -> new DeadlineReminderDTO(
+                resultSet.getLong("id"), resultSet.getString("title"), resultSet.getTimestamp("dead_line")
+        ), newDeadLine, cardIds.toArray(Long[]::new), newDeadLine);
+    }
+
+    public List<Long> addTagToCards(Collection<Long> cardIds, Long tagId) {
+        return this.bulkUpdate(ADD_TAG_TO_CARDS_QUERY, (resultSet, row) -> resultSet.getLong("card_id"),
+                tagId, cardIds.toArray(Long[]::new), tagId);
+    }
+
+    public List<Long> removeTagFromCards(Collection<Long> cardIds, Long tagId) {
+        return this.bulkUpdate(REMOVE_TAG_FROM_CARDS_QUERY, (resultSet, row) -> resultSet.getLong("card_id"),
+                tagId, cardIds.toArray(Long[]::new));
+    }
+
+    public List<Long> findCardTableIds(Collection<Long> cardIds) {
+        return this.jdbcTemplate.queryForList(FIND_CARD_TABLE_IDS_QUERY, Long.class, (Object) cardIds.toArray(Long[]::new));
+    }
+
+    public Map<Long, Long> deleteCards(Collection<Long> cardIds) {
+        Long[] ids = cardIds.toArray(Long[]::new);
+        Map<Long, Long> deletedDashboardIds = new LinkedHashMap<>();
+        Set<Long> tableIds = new HashSet<>();
+
+        this.entityManager.flush();
+        this.jdbcTemplate.query(DELETE_CARDS_QUERY, resultSet -> {
+            deletedDashboardIds.put(resultSet.getLong("id"), resultSet.getObject("dashboard_id", Long.class));
+            long tableId = resultSet.getLong("table_id");
+
+            if (!resultSet.wasNull()) {
+                tableIds.add(tableId);
+            }
+        }, ids, ids, ids, ids);
+
+        if (!tableIds.isEmpty()) {
+            this.jdbcTemplate.update(COMPACT_TABLE_POSITIONS_QUERY, (Object) tableIds.toArray(Long[]::new));
+        }
+
+        this.entityManager.clear();
+
+        return deletedDashboardIds;
+    }
+
+    private <T> List<T> bulkUpdate(String sql, RowMapper<T> rowMapper, Object... args) {
+        this.entityManager.flush();
+        List<T> updatedRows = this.jdbcTemplate.query(sql, rowMapper, args);
+        this.entityManager.clear();
+
+        return updatedRows;
+    }
+
+    public List<Long> findAllDashboardTemplateIds() {
+        return this.jdbcTemplate.queryForList(FIND_ALL_DASHBOARD_TEMPLATE_IDS_QUERY, Long.class);
+    }
+
+    public List<Long> findDashboardTemplateIds(Long dashboardId) {
+        return this.jdbcTemplate.queryForList(FIND_DASHBOARD_TEMPLATE_IDS_QUERY, Long.class, dashboardId);
+    }
+
+    public void copyCards(List<CardExportDTO> cards, Long templateDashboardId) {
+        this.copy(COPY_CARDS_SQL, writer -> {
+            for (CardExportDTO card : cards) {
+                writeRow(writer,
+                        card.getId(),
+                        card.getTitle(),
+                        TitleCollator.sortKey(card.getTitle()),
+                        card.getDescription(),
+                        card.getCardType() != null ? card.getCardType().ordinal() : null,
+                        card.getColor() != null ? card.getColor().ordinal() : null,
+                        card.getDeadLine(),
+                        card.getPosition(),
+                        card.getTableId(),
+                        card.getTableId() == null ? templateDashboardId : null
+                );
+            }
+        });
+
+        this.copy(COPY_CHECKS_SQL, writer -> {
+            for (CardExportDTO card : cards) {
+                for (Check check : card.getChecks()) {
+                    writeRow(writer, card.getId(), check.getLabel(), check.isChecked(), check.getPosition());
+                }
+            }
+        });
+
+        this.copy(COPY_ATTACHED_FILES_SQL, writer -> {
+            for (CardExportDTO card : cards) {
+                for (AttachedFile attachedFile : card.getAttachedFiles()) {
+                    writeRow(writer, card.getId(), attachedFile.getFileName(), attachedFile.getFileUrl(), attachedFile.getThumbnailUrl());
+                }
+            }
+        });
+
+        this.copy(COPY_CARD_TAGS_SQL, writer -> {
+            for (CardExportDTO card : cards) {
+                for (Long tagId : card.getTagIds()) {
+                    writeRow(writer, card.getId(), tagId);
+                }
+            }
+        });
+    }
+
+    public void copyArchivedCards(List<ArchivedCardExportDTO> cards) {
+        this.copy(COPY_ARCHIVED_CARDS_SQL, writer -> {
+            for (ArchivedCardExportDTO card : cards) {
+                writeRow(writer,
+                        card.getId(),
+                        card.getTitle(),
+                        TitleCollator.sortKey(card.getTitle()),
+                        card.getDescription(),
+                        card.getCardType() != null ? card.getCardType().ordinal() : null,
+                        card.getColor() != null ? card.getColor().ordinal() : null,
+                        card.getDeadLine(),
+                        card.getPosition(),
+                        card.getTableId(),
+                        card.getCreatedAt(),
+                        card.getArchivedAt()
+                );
+            }
+        });
+
+        this.copy(COPY_ARCHIVED_CHECKS_SQL, writer -> {
+            for (ArchivedCardExportDTO card : cards) {
+                for (Check check : card.getChecks()) {
+                    writeRow(writer, card.getId(), check.getLabel(), check.isChecked(), check.getPosition());
+                }
+            }
+        });
+
+        this.copy(COPY_ARCHIVED_ATTACHED_FILES_SQL, writer -> {
+            for (ArchivedCardExportDTO card : cards) {
+                for (AttachedFile attachedFile : card.getAttachedFiles()) {
+                    writeRow(writer, card.getId(), attachedFile.getFileName(), attachedFile.getFileUrl(), attachedFile.getThumbnailUrl());
+                }
+            }
+        });
+
+        this.copy(COPY_ARCHIVED_CARD_TAGS_SQL, writer -> {
+            for (ArchivedCardExportDTO card : cards) {
+                for (Long tagId : card.getTagIds()) {
+                    writeRow(writer, card.getId(), tagId);
+                }
+            }
+        });
+    }
+
+    private void copy(String sql, CopyWriter copyWriter) {
+        Connection connection = DataSourceUtils.getConnection(this.dataSource);
+
+        try {
+            PGConnection pgConnection = connection.unwrap(PGConnection.class);
+
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                    new PGCopyOutputStream(pgConnection, sql, COPY_BUFFER_SIZE), StandardCharsets.UTF_8), COPY_BUFFER_SIZE)) {
+                copyWriter.write(writer);
+            }
+        } catch (SQLException e) {
+            throw this.translate(sql, e);
+        } catch (IOException e) {
+            if (e.getCause() instanceof SQLException sqlException) {
+                throw this.translate(sql, sqlException);
+            }
+
+            throw new UncheckedIOException(e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, this.dataSource);
+        }
+    }
+
+    private DataAccessException translate(String sql, SQLException e) {
+        DataAccessException exception = this.jdbcTemplate.getExceptionTranslator().translate("COPY", sql, e);
+        return exception != null ? exception : new UncategorizedSQLException("COPY", sql, e);
+    }
+
+    private static void writeRow(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write('\t');
+            }
+
+            writeValue(writer, values[i]);
+        }
+
+        writer.write('\n');
+    }
+
+    private static void writeValue(Writer writer, Object value) throws IOException {
+        if (value == null) {
+            writer.write(NULL_VALUE);
+            return;
+        }
+
+        if (value instanceof byte[] bytes) {
+            writer.write("\\\\x");
+            writer.write(HexFormat.of().formatHex(bytes));
+            return;
+        }
+
+        if (value instanceof Date date) {
+            writer.write(new Timestamp(date.getTime()).toString());
+            return;
+        }
+
+        if (!(value instanceof String text)) {
+            writer.write(value.toString());
+            return;
+        }
+
+        int start = 0;
+
+        for (int i = 0; i < text.length(); i++) {
+            String escaped = switch (text.charAt(i)) {
+                case '\\' -> "\\\\";
+                case '\n' -> "\\n";
+                case '\r' -> "\\r";
+                case '\t' -> "\\t";
+                default -> null;
+            };
+
+            if (escaped != null) {
+                writer.write(text, start, i - start);
+                writer.write(escaped);
+                start = i + 1;
+            }
+        }
+
+        writer.write(text, start, text.length() - start);
+    }
+
+    @FunctionalInterface
+    private interface CopyWriter {
+        void write(Writer writer) throws IOException;
+    }
+}
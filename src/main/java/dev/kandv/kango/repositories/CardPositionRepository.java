@@ -0,0 +1,161 @@
+package dev.kandv.kango.repositories;
+
+import dev.kandv.kango.models.Card;
+import dev.kandv.kango.models.Table;
+import dev.kandv.kango.models.enums.CardListSort;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class CardPositionRepository {
+
+    private static final String FIND_TABLE_CARD_IDS_QUERY = """
+            SELECT id
+            FROM card
+            WHERE table_id = ?
+            ORDER BY position, id
+            """;
+
+    private static final String FIND_DASHBOARD_TABLE_IDS_QUERY = "SELECT id FROM tables WHERE dashboard_id = ?";
+
+    private static final String FIND_TABLE_CARD_PREVIEWS_QUERY = """
+            SELECT tables.id AS table_id, card_count.total, first_cards.id AS card_id
+            FROM tables
+            CROSS JOIN LATERAL (
+                SELECT count(*) AS total
+                FROM card
+                WHERE card.table_id = tables.id
+            ) card_count
+            LEFT JOIN LATERAL (
+                SELECT card.id, card.position
+                FROM card
+                WHERE card.table_id = tables.id
+                ORDER BY card.position, card.id
+                LIMIT ?
+            ) first_cards ON true
+            WHERE tables.dashboard_id = ?
+            ORDER BY tables.position, tables.id, first_cards.position, first_cards.id
+            """;
+
+    private static final String UPDATE_CARD_POSITIONS_QUERY = """
+            UPDATE card
+            SET position = card_order.ordinality - 1
+            FROM unnest(?::bigint[]) WITH ORDINALITY AS card_order(id, ordinality)
+            WHERE card.id = card_order.id AND card.table_id = ? AND card.position <> card_order.ordinality - 1
+            """;
+
+    private static final String SORT_TABLE_CARDS_QUERY = """
+            UPDATE card
+            SET position = sorted.position
+            FROM (
+                SELECT card.id, row_number() OVER (ORDER BY %s) - 1 AS position
+                FROM card
+                %s
+                WHERE card.table_id = ?
+            ) sorted
+            WHERE card.id = sorted.id AND card.position <> sorted.position
+            """;
+
+    private static final String CHECKLIST_PROGRESS_JOIN = """
+            LEFT JOIN LATERAL (
+                SELECT avg(CASE WHEN card_check.checked THEN 1.0 ELSE 0.0 END) AS progress
+                FROM card_check
+                WHERE card_check.card_id = COALESCE(card.template_source_id, card.id)
+            ) check_progress ON true
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    public List<Long> findTableCardIds(Long tableId) {
+        return this.jdbcTemplate.queryForList(FIND_TABLE_CARD_IDS_QUERY, Long.class, tableId);
+    }
+
+    public List<Long> findDashboardTableIds(Long dashboardId) {
+        return this.jdbcTemplate.queryForList(FIND_DASHBOARD_TABLE_IDS_QUERY, Long.class, dashboardId);
+    }
+
+    public List<TableCardPreview> findTableCardPreviews(Long dashboardId, int cardsPerTable) {
+        Map<Long, TableCardPreview> previews = new LinkedHashMap<>();
+
+        this.jdbcTemplate.query(FIND_TABLE_CARD_PREVIEWS_QUERY, resultSet -> {
+            long tableId = resultSet.getLong("table_id");
+            long totalCards = resultSet.getLong("total");
+            TableCardPreview preview = previews.computeIfAbsent(tableId,
+                    id -> new TableCardPreview(id, totalCards, new ArrayList<>()));
+            long cardId = resultSet.getLong("card_id");
+
+            if (!resultSet.wasNull()) {
+                preview.cardIds().add(cardId);
+            }
+        }, cardsPerTable, dashboardId);
+
+        return new ArrayList<>(previews.values());
+    }
+
+    public void detachTable(Table table) {
+        this.entityManager.detach(table);
+    }
+
+    public void markCardsReadOnly(Table table) {
+        if (!this.entityManager.contains(table)) {
+            return;
+        }
+
+        Session session = this.entityManager.unwrap(Session.class);
+
+        for (Card card : table.getCardList()) {
+            session.setReadOnly(card, true);
+        }
+    }
+
+    public int updateCardPositions(Long tableId, List<Long> cardIds) {
+        this.entityManager.flush();
+        int updatedCards = this.jdbcTemplate.update(UPDATE_CARD_POSITIONS_QUERY, cardIds.toArray(Long[]::new), tableId);
+        this.entityManager.clear();
+
+        return updatedCards;
+    }
+
+    public int sortTableCards(Long tableId, CardListSort cardListSort) {
+        String join = switch (cardListSort) {
+            case BY_CHECKLIST_PROGRESS, BY_CHECKLIST_PROGRESS_REVERSE -> CHECKLIST_PROGRESS_JOIN;
+            default -> "";
+        };
+        String query = SORT_TABLE_CARDS_QUERY.formatted(orderBy(cardListSort), join);
+
+        this.entityManager.flush();
+        int updatedCards = this.jdbcTemplate.update(query, tableId);
+        this.entityManager.clear();
+
+        return updatedCards;
+    }
+
+    private static String orderBy(CardListSort cardListSort) {
+        return switch (cardListSort) {
+            case BY_ID -> "card.id";
+            case BY_ID_REVERSE -> "card.id DESC";
+            case BY_TITLE -> "card.title_sort_key NULLS LAST, card.id";
+            case BY_TITLE_REVERSE -> "card.title_sort_key DESC NULLS LAST, card.id";
+            case BY_DEAD_LINE -> "card.dead_line NULLS LAST, card.id";
+            case BY_DEAD_LINE_REVERSE -> "card.dead_line DESC NULLS LAST, card.id";
+            case BY_COLOR -> "card.color NULLS LAST, card.id";
+            case BY_CREATED_AT -> "card.created_at NULLS LAST, card.id";
+            case BY_CREATED_AT_REVERSE -> "card.created_at DESC NULLS LAST, card.id";
+            case BY_CHECKLIST_PROGRESS -> "check_progress.progress NULLS LAST, card.id";
+            case BY_CHECKLIST_PROGRESS_REVERSE -> "check_progress.progress DESC NULLS LAST, card.id";
+        };
+    }
+
+    public record TableCardPreview(Long tableId, long totalCards, List<Long> cardIds) {
+    }
+}
@@ -1,17 +1,48 @@
 package dev.kandv.kango.repositories;
 
+import dev.kandv.kango.dtos.DeadlineReminderDTO;
+import dev.kandv.kango.dtos.OverdueCountDTO;
 import dev.kandv.kango.models.Card;
 import dev.kandv.kango.models.enums.CardType;
 import lombok.NonNull;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface CardRepository extends JpaRepository<Card, Long> {
+public interface CardRepository extends JpaRepository<Card, Long>, JpaSpecificationExecutor<Card> {
 
     Optional<Card> findById(@NonNull Long id);
     List<Card> findAllByCardTypeEquals(@NonNull CardType cardType);
+    List<Card> findAllByDeadLineBetweenOrderByDeadLineAscIdAsc(@NonNull Date from, @NonNull Date to, @NonNull Pageable pageable);
+    List<Card> findAllByTableIdAndPositionGreaterThanOrderByPositionAscIdAsc(@NonNull Long tableId, int position, @NonNull Limit limit);
+
+    @EntityGraph(attributePaths = "tagList")
+    List<Card> findAllWithTagsByIdIn(@NonNull Collection<Long> ids);
+
+    @EntityGraph(attributePaths = "checks")
+    List<Card> findAllWithChecksByIdIn(@NonNull Collection<Long> ids);
+
+    @EntityGraph(attributePaths = "attachedFiles")
+    List<Card> findAllWithAttachedFilesByIdIn(@NonNull Collection<Long> ids);
+
+    @Query("SELECT new dev.kandv.kango.dtos.OverdueCountDTO(t.dashboard.id, COUNT(c)) " +
+            "FROM Card c JOIN c.table t " +
+            "WHERE c.deadLine < :now AND t.dashboard IS NOT NULL " +
+            "GROUP BY t.dashboard.id")
+    List<OverdueCountDTO> countOverdueCardsByDashboard(@Param("now") @NonNull Date now);
+
+    @Query("SELECT new dev.kandv.kango.dtos.DeadlineReminderDTO(c.id, c.title, c.deadLine) " +
+            "FROM Card c WHERE c.deadLine > :now")
+    List<DeadlineReminderDTO> findAllDeadLineRemindersAfter(@Param("now") @NonNull Date now);
 }
@@ -0,0 +1,42 @@
+package dev.kandv.kango.repositories;
+
+import dev.kandv.kango.models.Card;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class CardSearchRepository {
+
+    private static final List<String> CREATE_SEARCH_INDEXES_QUERIES = List.of(
+            "CREATE EXTENSION IF NOT EXISTS pg_trgm",
+            "CREATE INDEX IF NOT EXISTS idx_card_title_trgm ON card USING gin (lower(title) gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_card_description_trgm ON card USING gin (lower(description) gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_card_check_unchecked ON card_check (card_id) WHERE NOT checked"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    public void createSearchIndexes() {
+        CREATE_SEARCH_INDEXES_QUERIES.forEach(this.jdbcTemplate::execute);
+    }
+
+    public List<Long> findCardIds(Specification<Card> specification) {
+        CriteriaBuilder builder = this.entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = builder.createQuery(Long.class);
+        Root<Card> card = query.from(Card.class);
+
+        query.select(card.get("id")).where(specification.toPredicate(card, query, builder));
+
+        return this.entityManager.createQuery(query).getResultList();
+    }
+}
@@ -0,0 +1,44 @@
+package dev.kandv.kango.repositories;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class CardSortKeyRepository {
+
+    private static final String FIND_TITLES_WITHOUT_SORT_KEY_QUERY = """
+            SELECT id, title
+            FROM card
+            WHERE title_sort_key IS NULL AND title IS NOT NULL
+            ORDER BY id
+            LIMIT ?
+            """;
+
+    private static final String UPDATE_TITLE_SORT_KEY_QUERY = "UPDATE card SET title_sort_key = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Map<Long, String> findTitlesWithoutSortKey(int limit) {
+        Map<Long, String> titles = new LinkedHashMap<>();
+
+        this.jdbcTemplate.query(FIND_TITLES_WITHOUT_SORT_KEY_QUERY, resultSet -> {
+            titles.put(resultSet.getLong("id"), resultSet.getString("title"));
+        }, limit);
+
+        return titles;
+    }
+
+    public void updateTitleSortKeys(Map<Long, byte[]> sortKeys) {
+        List<Object[]> arguments = sortKeys.entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList();
+
+        this.jdbcTemplate.batchUpdate(UPDATE_TITLE_SORT_KEY_QUERY, arguments);
+    }
+}
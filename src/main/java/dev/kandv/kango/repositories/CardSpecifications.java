@@ -0,0 +1,120 @@
+package dev.kandv.kango.repositories;
+
+import dev.kandv.kango.models.Card;
+import dev.kandv.kango.models.Tag;
+import dev.kandv.kango.models.enums.CardQuerySort;
+import dev.kandv.kango.models.enums.CardType;
+import dev.kandv.kango.models.enums.Color;
+import dev.kandv.kango.models.utils.Check;
+import jakarta.persistence.criteria.*;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.lang.Nullable;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.Locale;
+
+public class CardSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private CardSpecifications() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static Specification<Card> inDashboard(Long dashboardId) {
+        return (root, query, builder) -> builder.equal(root.get("table").get("dashboard").get("id"), dashboardId);
+    }
+
+    public static Specification<Card> inTable(Long tableId) {
+        return (root, query, builder) -> builder.equal(root.get("table").get("id"), tableId);
+    }
+
+    public static Specification<Card> withAnyTag(Collection<Long> tagIds) {
+        return (root, query, builder) -> {
+            Subquery<Integer> tagged = query.subquery(Integer.class);
+            Join<Card, Tag> tag = tagged.correlate(root).join("tagList");
+
+            return builder.exists(tagged.select(builder.literal(1)).where(tag.get("id").in(tagIds)));
+        };
+    }
+
+    public static Specification<Card> withColor(Color color) {
+        return (root, query, builder) -> builder.equal(root.get("color"), color);
+    }
+
+    public static Specification<Card> withCardType(CardType cardType) {
+        return (root, query, builder) -> builder.equal(root.get("cardType"), cardType);
+    }
+
+    public static Specification<Card> withDeadLineFrom(Date from) {
+        return (root, query, builder) -> builder.greaterThanOrEqualTo(root.get("deadLine"), from);
+    }
+
+    public static Specification<Card> withDeadLineTo(Date to) {
+        return (root, query, builder) -> builder.lessThanOrEqualTo(root.get("deadLine"), to);
+    }
+
+    public static Specification<Card> withUncheckedChecks(boolean hasUncheckedChecks) {
+        return (root, query, builder) -> {
+            Subquery<Integer> unchecked = query.subquery(Integer.class);
+            Root<Card> owner = unchecked.from(Card.class);
+            Join<Card, Check> check = owner.join("checks");
+            Expression<Long> checksOwnerId = builder.coalesce(
+                    root.get("templateSource").<Long>get("id"), root.<Long>get("id")
+            );
+
+            Predicate exists = builder.exists(unchecked.select(builder.literal(1)).where(
+                    builder.equal(owner.get("id"), checksOwnerId),
+                    builder.isFalse(check.get("checked"))
+            ));
+
+            return hasUncheckedChecks ? exists : builder.not(exists);
+        };
+    }
+
+    public static Specification<Card> containingText(String text) {
+        String pattern = "%" + escapeLike(text.toLowerCase(Locale.ROOT)) + "%";
+
+        return (root, query, builder) -> builder.or(
+                builder.like(builder.lower(root.get("title")), pattern, LIKE_ESCAPE),
+                builder.like(builder.lower(root.get("description")), pattern, LIKE_ESCAPE)
+        );
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static Specification<Card> after(CardQuerySort sort, @Nullable Object lastValue, Long lastId) {
+        return (root, query, builder) -> {
+            Expression key = root.get(sort.getAttribute());
+            Expression<Long> id = root.get("id");
+            boolean ascending = sort.getDirection() == Sort.Direction.ASC;
+
+            if (lastValue == null) {
+                return ascending
+                        ? builder.and(builder.isNull(key), builder.greaterThan(id, lastId))
+                        : builder.or(builder.isNotNull(key), builder.lessThan(id, lastId));
+            }
+
+            Expression lastKey = builder.literal(lastValue);
+            Predicate sameKey = builder.equal(key, lastKey);
+
+            if (ascending) {
+                return builder.or(
+                        builder.greaterThan(key, lastKey),
+                        builder.and(sameKey, builder.greaterThan(id, lastId)),
+                        builder.isNull(key)
+                );
+            }
+
+            return builder.or(
+                    builder.lessThan(key, lastKey),
+                    builder.and(sameKey, builder.lessThan(id, lastId))
+            );
+        };
+    }
+
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
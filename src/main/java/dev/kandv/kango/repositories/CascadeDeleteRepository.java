@@ -0,0 +1,281 @@
+package dev.kandv.kango.repositories;
+
+import dev.kandv.kango.dtos.CardDTO;
+import dev.kandv.kango.dtos.DashboardDTO;
+import dev.kandv.kango.dtos.TableDTO;
+import dev.kandv.kango.dtos.TagDTO;
+import dev.kandv.kango.models.enums.CardType;
+import dev.kandv.kango.models.enums.Color;
+import dev.kandv.kango.models.enums.Visibility;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class CascadeDeleteRepository implements SmartInitializingSingleton {
+
+    private static final List<ForeignKeyRule> FOREIGN_KEY_RULES = List.of(
+            new ForeignKeyRule("card_check", "card_id", "card", OnDelete.CASCADE),
+            new ForeignKeyRule("card_attached_file", "card_id", "card", OnDelete.CASCADE),
+            new ForeignKeyRule("card_tags", "card_id", "card", OnDelete.CASCADE),
+            new ForeignKeyRule("card_tags", "tag_id", "tags", OnDelete.CASCADE),
+            new ForeignKeyRule("card", "table_id", "tables", OnDelete.CASCADE),
+            new ForeignKeyRule("card", "dashboard_id", "dashboard", OnDelete.CASCADE),
+            new ForeignKeyRule("card", "template_source_id", "card", OnDelete.SET_NULL),
+            new ForeignKeyRule("tables", "dashboard_id", "dashboard", OnDelete.CASCADE),
+            new ForeignKeyRule("tags", "dashboard_id", "dashboard", OnDelete.CASCADE),
+            new ForeignKeyRule("dashboard_attached_file", "dashboard_id", "dashboard", OnDelete.CASCADE)
+    );
+
+    private static final String FIND_FOREIGN_KEYS_QUERY = """
+            SELECT con.conname, con.conrelid::regclass::text AS table_name, att.attname, con.confdeltype
+            FROM pg_constraint con
+            JOIN pg_attribute att ON att.attrelid = con.conrelid AND att.attnum = con.conkey[1]
+            WHERE con.contype = 'f' AND cardinality(con.conkey) = 1
+            """;
+
+    private static final String REPLACE_FOREIGN_KEY_SQL = """
+            ALTER TABLE %1$s
+            DROP CONSTRAINT %2$s,
+            ADD CONSTRAINT %2$s FOREIGN KEY (%3$s) REFERENCES %4$s (id) ON DELETE %5$s
+            """;
+
+    private static final String MATERIALIZE_DELETED_TEMPLATES_CTE = """
+            materialized_checks AS (
+                INSERT INTO card_check (card_id, label, checked, position)
+                SELECT instance.id, card_check.label, card_check.checked, card_check.position
+                FROM card instance
+                JOIN card_check ON card_check.card_id = instance.template_source_id
+                WHERE instance.template_source_id IN (SELECT id FROM deleted_cards)
+                  AND instance.id NOT IN (SELECT id FROM deleted_cards)
+                ORDER BY instance.id, card_check.position
+            ), materialized_attached_files AS (
+                INSERT INTO card_attached_file (card_id, file_name, file_url, thumbnail_url)
+                SELECT instance.id, card_attached_file.file_name, card_attached_file.file_url,
+                       card_attached_file.thumbnail_url
+                FROM card instance
+                JOIN card_attached_file ON card_attached_file.card_id = instance.template_source_id
+                WHERE instance.template_source_id IN (SELECT id FROM deleted_cards)
+                  AND instance.id NOT IN (SELECT id FROM deleted_cards)
+                ORDER BY instance.id, card_attached_file.ctid
+            )
+            """;
+
+    private static final String DELETE_CARD_QUERY = """
+            WITH deleted_cards AS (
+                DELETE FROM card WHERE id = ?
+                RETURNING id, title, card_type, table_id, dashboard_id
+            ), %s
+            SELECT deleted_cards.title, deleted_cards.card_type,
+                   COALESCE(deleted_cards.dashboard_id, tables.dashboard_id) AS dashboard_id
+            FROM deleted_cards
+            LEFT JOIN tables ON tables.id = deleted_cards.table_id
+            """.formatted(MATERIALIZE_DELETED_TEMPLATES_CTE);
+
+    private static final String DELETE_TABLE_QUERY = """
+            WITH deleted AS (
+                DELETE FROM tables WHERE id = ?
+                RETURNING id, name, dashboard_id
+            ), deleted_cards AS (
+                SELECT card.id, card.title, card.description, card.card_type, card.color, card.dead_line,
+                       card.position
+                FROM card
+                JOIN deleted ON card.table_id = deleted.id
+            ), %s
+            SELECT deleted.name, deleted.dashboard_id, deleted_cards.id, deleted_cards.title, deleted_cards.description,
+                   deleted_cards.card_type, deleted_cards.color, deleted_cards.dead_line
+            FROM deleted
+            LEFT JOIN deleted_cards ON true
+            ORDER BY deleted_cards.position, deleted_cards.id
+            """.formatted(MATERIALIZE_DELETED_TEMPLATES_CTE);
+
+    private static final String DELETE_DASHBOARD_QUERY = """
+            WITH deleted AS (
+                DELETE FROM dashboard WHERE id = ?
+                RETURNING id, name
+            ), deleted_tables AS (
+                SELECT tables.id, tables.name, tables.position
+                FROM tables
+                JOIN deleted ON tables.dashboard_id = deleted.id
+            ), deleted_cards AS (
+                SELECT card.id, card.table_id, card.title, card.description, card.card_type, card.color,
+                       card.dead_line, card.position
+                FROM card
+                WHERE card.table_id IN (SELECT id FROM deleted_tables)
+                   OR card.dashboard_id IN (SELECT id FROM deleted)
+            ), %s
+            SELECT 0 AS kind, id, NULL::bigint AS table_id, name, NULL AS description, NULL::smallint AS card_type,
+                   NULL::smallint AS color, NULL::timestamp AS dead_line, NULL::smallint AS visibility, 0 AS position
+            FROM deleted
+            UNION ALL
+            SELECT 1, id, id, name, NULL, NULL, NULL, NULL, NULL, position
+            FROM deleted_tables
+            UNION ALL
+            SELECT CASE WHEN table_id IS NULL THEN 3 ELSE 2 END, id, table_id, title, description, card_type, color,
+                   dead_line, NULL, CASE WHEN table_id IS NULL THEN 0 ELSE position END
+            FROM deleted_cards
+            UNION ALL
+            SELECT 4, tags.id, NULL, tags.label, NULL, NULL, tags.color, NULL, tags.visibility, 0
+            FROM tags
+            JOIN deleted ON tags.dashboard_id = deleted.id
+            ORDER BY kind, position, id
+            """.formatted(MATERIALIZE_DELETED_TEMPLATES_CTE);
+
+    private static final String DELETE_TAG_QUERY = """
+            DELETE FROM tags WHERE id = ?
+            RETURNING label, color, visibility, dashboard_id
+            """;
+
+    private static final int DASHBOARD_ROW = 0;
+    private static final int TABLE_ROW = 1;
+    private static final int TABLE_CARD_ROW = 2;
+    private static final int TEMPLATE_CARD_ROW = 3;
+    private static final int TAG_ROW = 4;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        int rewrittenConstraints = this.enableCascadeDeletes();
+
+        if (rewrittenConstraints > 0) {
+            log.info("Rewrote {} foreign keys with their ON DELETE rule", rewrittenConstraints);
+        }
+    }
+
+    public int enableCascadeDeletes() {
+        Map<String, ForeignKeyRule> rules = new HashMap<>();
+        FOREIGN_KEY_RULES.forEach(rule -> rules.put(rule.table() + "." + rule.column(), rule));
+
+        List<String> statements = this.jdbcTemplate.query(FIND_FOREIGN_KEYS_QUERY, (resultSet, row) -> {
+            ForeignKeyRule rule = rules.get(resultSet.getString("table_name") + "." + resultSet.getString("attname"));
+
+            if (rule == null || rule.onDelete().code == resultSet.getString("confdeltype").charAt(0)) {
+                return null;
+            }
+
+            return REPLACE_FOREIGN_KEY_SQL.formatted(rule.table(), resultSet.getString("conname"), rule.column(),
+                    rule.referencedTable(), rule.onDelete().sql);
+        }).stream().filter(Objects::nonNull).toList();
+
+        statements.forEach(this.jdbcTemplate::execute);
+        return statements.size();
+    }
+
+    public Optional<Deleted<CardDTO>> deleteCard(Long cardId) {
+        return this.delete(DELETE_CARD_QUERY, resultSet -> resultSet.next()
+                ? Optional.of(new Deleted<>(
+                        new CardDTO(resultSet.getString("title"), enumOf(CardType.class, resultSet, "card_type")),
+                        resultSet.getObject("dashboard_id", Long.class)))
+                : Optional.empty(), cardId);
+    }
+
+    public Optional<Deleted<TableDTO>> deleteTable(Long tableId) {
+        return this.delete(DELETE_TABLE_QUERY, resultSet -> {
+            Deleted<TableDTO> table = null;
+
+            while (resultSet.next()) {
+                if (table == null) {
+                    table = new Deleted<>(new TableDTO(resultSet.getString("name"), new ArrayList<>()),
+                            resultSet.getObject("dashboard_id", Long.class));
+                }
+
+                resultSet.getLong("id");
+                if (!resultSet.wasNull()) {
+                    table.element().getCardList().add(mapToCardDTO(resultSet, "title"));
+                }
+            }
+
+            return Optional.ofNullable(table);
+        }, tableId);
+    }
+
+    public Optional<DashboardDTO> deleteDashboard(Long dashboardId) {
+        return this.delete(DELETE_DASHBOARD_QUERY, resultSet -> {
+            DashboardDTO dashboard = null;
+            Map<Long, TableDTO> tables = new HashMap<>();
+
+            while (resultSet.next()) {
+                switch (resultSet.getInt("kind")) {
+                    case DASHBOARD_ROW -> dashboard = new DashboardDTO(resultSet.getString("name"));
+                    case TABLE_ROW -> {
+                        TableDTO table = new TableDTO(resultSet.getString("name"), new ArrayList<>());
+                        tables.put(resultSet.getLong("id"), table);
+                        dashboard.getTableList().add(table);
+                    }
+                    case TABLE_CARD_ROW -> tables.get(resultSet.getLong("table_id")).getCardList()
+                            .add(mapToCardDTO(resultSet, "name"));
+                    case TEMPLATE_CARD_ROW -> dashboard.getTemplateCardList().add(mapToCardDTO(resultSet, "name"));
+                    case TAG_ROW -> dashboard.getTagList().add(new TagDTO(resultSet.getString("name"),
+                            enumOf(Color.class, resultSet, "color"), enumOf(Visibility.class, resultSet, "visibility")));
+                    default -> throw new IllegalStateException("Unexpected row kind: " + resultSet.getInt("kind"));
+                }
+            }
+
+            return Optional.ofNullable(dashboard);
+        }, dashboardId);
+    }
+
+    public Optional<Deleted<TagDTO>> deleteTag(Long tagId) {
+        return this.delete(DELETE_TAG_QUERY, resultSet -> resultSet.next()
+                ? Optional.of(new Deleted<>(
+                        new TagDTO(resultSet.getString("label"), enumOf(Color.class, resultSet, "color"),
+                                enumOf(Visibility.class, resultSet, "visibility")),
+                        resultSet.getObject("dashboard_id", Long.class)))
+                : Optional.empty(), tagId);
+    }
+
+    private <T> Optional<T> delete(String sql, ResultSetExtractor<Optional<T>> extractor, Long id) {
+        this.entityManager.flush();
+        Optional<T> deleted = this.jdbcTemplate.query(sql, extractor, id);
+        this.entityManager.clear();
+
+        return Objects.requireNonNull(deleted);
+    }
+
+    private static CardDTO mapToCardDTO(ResultSet resultSet, String titleColumn) throws SQLException {
+        return new CardDTO(
+                resultSet.getString(titleColumn),
+                resultSet.getString("description"),
+                enumOf(CardType.class, resultSet, "card_type"),
+                enumOf(Color.class, resultSet, "color"),
+                resultSet.getTimestamp("dead_line")
+        );
+    }
+
+    private static <E extends Enum<E>> E enumOf(Class<E> type, ResultSet resultSet, String column) throws SQLException {
+        int ordinal = resultSet.getInt(column);
+
+        return resultSet.wasNull() ? null : type.getEnumConstants()[ordinal];
+    }
+
+    private enum OnDelete {
+        CASCADE('c', "CASCADE"),
+        SET_NULL('n', "SET NULL");
+
+        private final char code;
+        private final String sql;
+
+        OnDelete(char code, String sql) {
+            this.code = code;
+            this.sql = sql;
+        }
+    }
+
+    public record Deleted<T>(T element, Long dashboardId) {
+    }
+
+    private record ForeignKeyRule(String table, String column, String referencedTable, OnDelete onDelete) {
+    }
+}
@@ -0,0 +1,212 @@
+package dev.kandv.kango.repositories;
+
+import dev.kandv.kango.dtos.DeadlineReminderDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class CloneRepository {
+
+    private static final List<String> CREATE_MAPPING_TABLES_QUERIES = List.of(
+            "CREATE TEMPORARY TABLE IF NOT EXISTS clone_tag_map (old_id bigint PRIMARY KEY, new_id bigint NOT NULL) ON COMMIT DROP",
+            "CREATE TEMPORARY TABLE IF NOT EXISTS clone_table_map (old_id bigint PRIMARY KEY, new_id bigint NOT NULL) ON COMMIT DROP",
+            "CREATE TEMPORARY TABLE IF NOT EXISTS clone_card_map (old_id bigint PRIMARY KEY, new_id bigint NOT NULL) ON COMMIT DROP",
+            "TRUNCATE clone_tag_map, clone_table_map, clone_card_map"
+    );
+
+    private static final String INSERT_DASHBOARD_COPY_QUERY = """
+            INSERT INTO dashboard (name)
+            SELECT COALESCE(?, name) FROM dashboard WHERE id = ?
+            RETURNING id
+            """;
+
+    private static final String INSERT_DASHBOARD_ATTACHED_FILE_COPIES_QUERY = """
+            INSERT INTO dashboard_attached_file (dashboard_id, file_name, file_url, thumbnail_url)
+            SELECT ?, file_name, file_url, thumbnail_url
+            FROM dashboard_attached_file
+            WHERE dashboard_id = ?
+            ORDER BY ctid
+            """;
+
+    private static final String MAP_DASHBOARD_TAGS_QUERY = """
+            INSERT INTO clone_tag_map (old_id, new_id)
+            SELECT id, nextval(pg_get_serial_sequence('tags', 'id'))
+            FROM tags
+            WHERE dashboard_id = ?
+            ORDER BY id
+            """;
+
+    private static final String MAP_DASHBOARD_TABLES_QUERY = """
+            INSERT INTO clone_table_map (old_id, new_id)
+            SELECT id, nextval(pg_get_serial_sequence('tables', 'id'))
+            FROM tables
+            WHERE dashboard_id = ?
+            ORDER BY id
+            """;
+
+    private static final String MAP_DASHBOARD_CARDS_QUERY = """
+            INSERT INTO clone_card_map (old_id, new_id)
+            SELECT card.id, nextval(pg_get_serial_sequence('card', 'id'))
+            FROM card
+            LEFT JOIN tables ON tables.id = card.table_id
+            WHERE card.dashboard_id = ? OR tables.dashboard_id = ?
+            ORDER BY card.id
+            """;
+
+    private static final String MAP_TABLE_QUERY = """
+            INSERT INTO clone_table_map (old_id, new_id)
+            SELECT id, nextval(pg_get_serial_sequence('tables', 'id'))
+            FROM tables
+            WHERE id = ?
+            RETURNING new_id
+            """;
+
+    private static final String MAP_TABLE_CARDS_QUERY = """
+            INSERT INTO clone_card_map (old_id, new_id)
+            SELECT id, nextval(pg_get_serial_sequence('card', 'id'))
+            FROM card
+            WHERE table_id = ?
+            ORDER BY position, id
+            """;
+
+    private static final String LOCK_DASHBOARD_FOR_APPEND_QUERY = """
+            SELECT (SELECT count(*) FROM tables WHERE tables.dashboard_id = dashboard.id)
+            FROM dashboard
+            WHERE dashboard.id = ?
+            FOR UPDATE
+            """;
+
+    private static final String INSERT_MAPPED_TAGS_QUERY = """
+            INSERT INTO tags (id, label, color, visibility, dashboard_id)
+            SELECT clone_tag_map.new_id, tags.label, tags.color, tags.visibility, ?
+            FROM tags
+            JOIN clone_tag_map ON clone_tag_map.old_id = tags.id
+            """;
+
+    private static final String INSERT_MAPPED_TABLES_QUERY = """
+            INSERT INTO tables (id, name, position, dashboard_id)
+            SELECT clone_table_map.new_id, tables.name, COALESCE(CAST(? AS integer), tables.position),
+                   CAST(? AS bigint)
+            FROM tables
+            JOIN clone_table_map ON clone_table_map.old_id = tables.id
+            """;
+
+    private static final String INSERT_MAPPED_CARDS_QUERY = """
+            INSERT INTO card (id, title, title_sort_key, description, card_type, color, dead_line, position, table_id,
+                              dashboard_id, template_source_id)
+            SELECT clone_card_map.new_id, card.title, card.title_sort_key, card.description, card.card_type, card.color,
+                   card.dead_line, card.position, COALESCE(clone_table_map.new_id, card.table_id),
+                   CASE WHEN card.dashboard_id IS NOT NULL THEN CAST(? AS bigint) END,
+                   COALESCE(template_map.new_id, card.template_source_id)
+            FROM card
+            JOIN clone_card_map ON clone_card_map.old_id = card.id
+            LEFT JOIN clone_table_map ON clone_table_map.old_id = card.table_id
+            LEFT JOIN clone_card_map template_map ON template_map.old_id = card.template_source_id
+            """;
+
+    private static final String INSERT_MAPPED_CHECKS_QUERY = """
+            INSERT INTO card_check (card_id, label, checked, position)
+            SELECT clone_card_map.new_id, card_check.label, card_check.checked, card_check.position
+            FROM card_check
+            JOIN clone_card_map ON clone_card_map.old_id = card_check.card_id
+            ORDER BY clone_card_map.new_id, card_check.position
+            """;
+
+    private static final String INSERT_MAPPED_ATTACHED_FILES_QUERY = """
+            INSERT INTO card_attached_file (card_id, file_name, file_url, thumbnail_url)
+            SELECT clone_card_map.new_id, card_attached_file.file_name, card_attached_file.file_url,
+                   card_attached_file.thumbnail_url
+            FROM card_attached_file
+            JOIN clone_card_map ON clone_card_map.old_id = card_attached_file.card_id
+            ORDER BY clone_card_map.new_id, card_attached_file.ctid
+            """;
+
+    private static final String INSERT_MAPPED_CARD_TAGS_QUERY = """
+            INSERT INTO card_tags (card_id, tag_id)
+            SELECT clone_card_map.new_id, COALESCE(clone_tag_map.new_id, card_tags.tag_id)
+            FROM card_tags
+            JOIN clone_card_map ON clone_card_map.old_id = card_tags.card_id
+            LEFT JOIN clone_tag_map ON clone_tag_map.old_id = card_tags.tag_id
+            ORDER BY clone_card_map.new_id, card_tags.ctid
+            """;
+
+    private static final String FIND_MAPPED_CARD_REMINDERS_QUERY = """
+            SELECT card.id, card.title, card.dead_line
+            FROM card
+            JOIN clone_card_map ON clone_card_map.new_id = card.id
+            WHERE card.dead_line > now()
+            """;
+
+    private static final String ANALYZE_MAPPING_TABLES_QUERY = "ANALYZE clone_tag_map, clone_table_map, clone_card_map";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void prepareMappingTables() {
+        for (String query : CREATE_MAPPING_TABLES_QUERIES) {
+            this.jdbcTemplate.execute(query);
+        }
+    }
+
+    public Optional<Long> insertDashboardCopy(Long dashboardId, String name) {
+        return this.jdbcTemplate.queryForList(INSERT_DASHBOARD_COPY_QUERY, Long.class, name, dashboardId)
+                .stream()
+                .findFirst();
+    }
+
+    public int insertDashboardAttachedFileCopies(Long sourceDashboardId, Long targetDashboardId) {
+        return this.jdbcTemplate.update(INSERT_DASHBOARD_ATTACHED_FILE_COPIES_QUERY, targetDashboardId, sourceDashboardId);
+    }
+
+    public void mapDashboard(Long dashboardId) {
+        this.jdbcTemplate.update(MAP_DASHBOARD_TAGS_QUERY, dashboardId);
+        this.jdbcTemplate.update(MAP_DASHBOARD_TABLES_QUERY, dashboardId);
+        this.jdbcTemplate.update(MAP_DASHBOARD_CARDS_QUERY, dashboardId, dashboardId);
+        this.jdbcTemplate.execute(ANALYZE_MAPPING_TABLES_QUERY);
+    }
+
+    public Optional<Long> mapTable(Long tableId) {
+        Optional<Long> newTableId = this.jdbcTemplate.queryForList(MAP_TABLE_QUERY, Long.class, tableId).stream().findFirst();
+
+        if (newTableId.isPresent()) {
+            this.jdbcTemplate.update(MAP_TABLE_CARDS_QUERY, tableId);
+            this.jdbcTemplate.execute(ANALYZE_MAPPING_TABLES_QUERY);
+        }
+
+        return newTableId;
+    }
+
+    public Optional<Integer> lockDashboardForAppend(Long dashboardId) {
+        return this.jdbcTemplate.queryForList(LOCK_DASHBOARD_FOR_APPEND_QUERY, Integer.class, dashboardId).stream().findFirst();
+    }
+
+    public int insertMappedTags(Long dashboardId) {
+        return this.jdbcTemplate.update(INSERT_MAPPED_TAGS_QUERY, dashboardId);
+    }
+
+    public int insertMappedTables(Long dashboardId, Integer position) {
+        return this.jdbcTemplate.update(INSERT_MAPPED_TABLES_QUERY, position, dashboardId);
+    }
+
+    public int insertMappedCards(Long dashboardId) {
+        int insertedCards = this.jdbcTemplate.update(INSERT_MAPPED_CARDS_QUERY, dashboardId);
+
+        this.jdbcTemplate.update(INSERT_MAPPED_CHECKS_QUERY);
+        this.jdbcTemplate.update(INSERT_MAPPED_ATTACHED_FILES_QUERY);
+        this.jdbcTemplate.update(INSERT_MAPPED_CARD_TAGS_QUERY);
+
+        return insertedCards;
+    }
+
+    public List<DeadlineReminderDTO> findMappedCardReminders() {
+        return this.jdbcTemplate.query(FIND_MAPPED_CARD_REMINDERS_QUERY, (resultSet, rowNumber) -> new DeadlineReminderDTO(
+                resultSet.getLong("id"),
+                resultSet.getString("title"),
+                resultSet.getTimestamp("dead_line")
+        ));
+    }
+}
@@ -0,0 +1,310 @@
+package dev.kandv.kango.repositories;
+
+import dev.kandv.kango.dtos.ArchivedCardExportDTO;
+import dev.kandv.kango.dtos.CardExportDTO;
+import dev.kandv.kango.dtos.DashboardExportDTO;
+import dev.kandv.kango.dtos.TableExportDTO;
+import dev.kandv.kango.dtos.TagExportDTO;
+import dev.kandv.kango.models.enums.CardType;
+import dev.kandv.kango.models.enums.Color;
+import dev.kandv.kango.models.enums.Visibility;
+import dev.kandv.kango.models.utils.AttachedFile;
+import dev.kandv.kango.models.utils.Check;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.stream.Stream;
+
+@Repository
+public class DashboardExportRepository {
+
+    public static final int FETCH_SIZE = 500;
+
+    private static final String DASHBOARD_QUERY = "SELECT id, name FROM dashboard WHERE id = ?";
+
+    private static final String DASHBOARD_ATTACHED_FILES_QUERY = """
+            SELECT file_name, file_url, thumbnail_url
+            FROM dashboard_attached_file
+            WHERE dashboard_id = ?
+            """;
+
+    private static final String TAGS_QUERY = """
+            SELECT t.id, t.label, t.color, t.visibility, t.dashboard_id = ? AS dashboard_tag
+            FROM tags t
+            WHERE t.dashboard_id = ?
+               OR t.id IN (
+                   SELECT ct.tag_id
+                   FROM card_tags ct
+                   WHERE ct.card_id IN (
+                       SELECT card.id FROM card WHERE card.dashboard_id = ?
+                       UNION ALL
+                       SELECT card.id FROM card JOIN tables tb ON tb.id = card.table_id WHERE tb.dashboard_id = ?
+                   )
+               )
+            ORDER BY t.id
+            """;
+
+    private static final String GLOBAL_TAGS_QUERY = """
+            SELECT id, label, color, visibility, false AS dashboard_tag
+            FROM tags
+            WHERE dashboard_id IS NULL
+            ORDER BY id
+            """;
+
+    private static final String TABLES_QUERY = """
+            SELECT id, name, position
+            FROM tables
+            WHERE dashboard_id = ?
+            ORDER BY position, id
+            """;
+
+    private static final String GLOBAL_TABLES_QUERY = """
+            SELECT id, name, position
+            FROM tables
+            WHERE dashboard_id IS NULL
+            ORDER BY position, id
+            """;
+
+    private static final String CARDS_QUERY = """
+            SELECT c.id, c.table_id, c.title, c.description, c.card_type, c.color, c.dead_line, c.position
+            FROM (
+                SELECT card.*, -1 AS table_position
+                FROM card
+                WHERE card.dashboard_id = ?
+                UNION ALL
+                SELECT card.*, tb.position AS table_position
+                FROM card
+                JOIN tables tb ON tb.id = card.table_id
+                WHERE tb.dashboard_id = ?
+            ) c
+            ORDER BY c.table_position, c.table_id NULLS FIRST, c.position, c.id
+            """;
+
+    private static final String GLOBAL_CARDS_QUERY = """
+            SELECT c.id, c.table_id, c.title, c.description, c.card_type, c.color, c.dead_line, c.position
+            FROM card c
+            LEFT JOIN tables tb ON tb.id = c.table_id
+            WHERE c.dashboard_id IS NULL AND tb.dashboard_id IS NULL
+            ORDER BY tb.position NULLS FIRST, c.table_id NULLS FIRST, c.position, c.id
+            """;
+
+    private static final String CARD_ATTACHED_FILES_QUERY = """
+            SELECT card.id AS card_id, file_name, file_url, thumbnail_url
+            FROM card
+            JOIN card_attached_file ON card_attached_file.card_id = COALESCE(card.template_source_id, card.id)
+            WHERE card.id = ANY(?)
+            """;
+
+    private static final String CARD_CHECKS_QUERY = """
+            SELECT card.id AS card_id, card_check.label, card_check.checked, card_check.position
+            FROM card
+            JOIN card_check ON card_check.card_id = COALESCE(card.template_source_id, card.id)
+            WHERE card.id = ANY(?)
+            ORDER BY card.id, card_check.position
+            """;
+
+    private static final String CARD_TAGS_QUERY = """
+            SELECT card_id, tag_id
+            FROM card_tags
+            WHERE card_id = ANY(?)
+            ORDER BY card_id, tag_id
+            """;
+
+    private static final String ARCHIVED_CARDS_QUERY = """
+            SELECT id, table_id, title, description, card_type, color, dead_line, position, created_at, archived_at
+            FROM archived_card
+            ORDER BY id
+            """;
+
+    private static final String ARCHIVED_CARD_ATTACHED_FILES_QUERY = """
+            SELECT card_id, file_name, file_url, thumbnail_url
+            FROM archived_card_attached_file
+            WHERE card_id = ANY(?)
+            ORDER BY card_id, ctid
+            """;
+
+    private static final String ARCHIVED_CARD_CHECKS_QUERY = """
+            SELECT card_id, label, checked, position
+            FROM archived_card_check
+            WHERE card_id = ANY(?)
+            ORDER BY card_id, position
+            """;
+
+    private static final String ARCHIVED_CARD_TAGS_QUERY = """
+            SELECT card_id, tag_id
+            FROM archived_card_tags
+            WHERE card_id = ANY(?)
+            ORDER BY card_id, ctid
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DashboardExportRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+    }
+
+    public Optional<DashboardExportDTO> findDashboard(Long dashboardId) {
+        List<DashboardExportDTO> result = this.jdbcTemplate.query(DASHBOARD_QUERY, (resultSet, rowNum) ->
+                new DashboardExportDTO(resultSet.getLong("id"), resultSet.getString("name"), new ArrayList<>()),
+                dashboardId
+        );
+
+        if (result.isEmpty()) {
+            return Optional.empty();
+        }
+
+        DashboardExportDTO dashboard = result.getFirst();
+        this.jdbcTemplate.query(DASHBOARD_ATTACHED_FILES_QUERY, resultSet -> {
+            dashboard.getAttachedFiles().add(mapAttachedFile(resultSet));
+        }, dashboardId);
+
+        return Optional.of(dashboard);
+    }
+
+    public List<TagExportDTO> findTags(Long dashboardId) {
+        return this.jdbcTemplate.query(TAGS_QUERY, (resultSet, rowNum) -> mapTag(resultSet),
+                dashboardId, dashboardId, dashboardId, dashboardId);
+    }
+
+    public List<TagExportDTO> findGlobalTags() {
+        return this.jdbcTemplate.query(GLOBAL_TAGS_QUERY, (resultSet, rowNum) -> mapTag(resultSet));
+    }
+
+    public Stream<TableExportDTO> streamTables(Long dashboardId) {
+        return this.jdbcTemplate.queryForStream(TABLES_QUERY, (resultSet, rowNum) -> mapTable(resultSet), dashboardId);
+    }
+
+    public Stream<TableExportDTO> streamGlobalTables() {
+        return this.jdbcTemplate.queryForStream(GLOBAL_TABLES_QUERY, (resultSet, rowNum) -> mapTable(resultSet));
+    }
+
+    public Stream<CardExportDTO> streamCards(Long dashboardId) {
+        return this.jdbcTemplate.queryForStream(CARDS_QUERY, (resultSet, rowNum) -> mapCard(resultSet),
+                dashboardId, dashboardId);
+    }
+
+    public Stream<CardExportDTO> streamGlobalCards() {
+        return this.jdbcTemplate.queryForStream(GLOBAL_CARDS_QUERY, (resultSet, rowNum) -> mapCard(resultSet));
+    }
+
+    public void fillCardDetails(List<CardExportDTO> cards) {
+        if (cards.isEmpty()) {
+            return;
+        }
+
+        Map<Long, CardExportDTO> cardsById = new HashMap<>();
+        cards.forEach(card -> cardsById.put(card.getId(), card));
+        Long[] cardIds = cardsById.keySet().toArray(Long[]::new);
+
+        this.jdbcTemplate.query(CARD_ATTACHED_FILES_QUERY, resultSet -> {
+            cardsById.get(resultSet.getLong("card_id")).getAttachedFiles().add(mapAttachedFile(resultSet));
+        }, (Object) cardIds);
+
+        this.jdbcTemplate.query(CARD_CHECKS_QUERY, resultSet -> {
+            Check check = new Check(
+                    resultSet.getString("label"), resultSet.getBoolean("checked"), resultSet.getInt("position")
+            );
+            cardsById.get(resultSet.getLong("card_id")).getChecks().add(check);
+        }, (Object) cardIds);
+
+        this.jdbcTemplate.query(CARD_TAGS_QUERY, resultSet -> {
+            cardsById.get(resultSet.getLong("card_id")).getTagIds().add(resultSet.getLong("tag_id"));
+        }, (Object) cardIds);
+    }
+
+    public Stream<ArchivedCardExportDTO> streamArchivedCards() {
+        return this.jdbcTemplate.queryForStream(ARCHIVED_CARDS_QUERY, (resultSet, rowNum) -> {
+            ArchivedCardExportDTO card = new ArchivedCardExportDTO();
+            card.setId(resultSet.getLong("id"));
+            card.setTableId(resultSet.getObject("table_id", Long.class));
+            card.setTitle(resultSet.getString("title"));
+            card.setDescription(resultSet.getString("description"));
+            card.setCardType(enumOf(CardType.class, resultSet.getObject("card_type")));
+            card.setColor(enumOf(Color.class, resultSet.getObject("color")));
+            card.setDeadLine(resultSet.getTimestamp("dead_line"));
+            card.setPosition(resultSet.getInt("position"));
+            card.setCreatedAt(resultSet.getTimestamp("created_at"));
+            card.setArchivedAt(resultSet.getTimestamp("archived_at"));
+            return card;
+        });
+    }
+
+    public void fillArchivedCardDetails(List<ArchivedCardExportDTO> cards) {
+        if (cards.isEmpty()) {
+            return;
+        }
+
+        Map<Long, ArchivedCardExportDTO> cardsById = new HashMap<>();
+        cards.forEach(card -> cardsById.put(card.getId(), card));
+        Long[] cardIds = cardsById.keySet().toArray(Long[]::new);
+
+        this.jdbcTemplate.query(ARCHIVED_CARD_ATTACHED_FILES_QUERY, resultSet -> {
+            cardsById.get(resultSet.getLong("card_id")).getAttachedFiles().add(mapAttachedFile(resultSet));
+        }, (Object) cardIds);
+
+        this.jdbcTemplate.query(ARCHIVED_CARD_CHECKS_QUERY, resultSet -> {
+            Check check = new Check(
+                    resultSet.getString("label"), resultSet.getBoolean("checked"), resultSet.getInt("position")
+            );
+            cardsById.get(resultSet.getLong("card_id")).getChecks().add(check);
+        }, (Object) cardIds);
+
+        this.jdbcTemplate.query(ARCHIVED_CARD_TAGS_QUERY, resultSet -> {
+            cardsById.get(resultSet.getLong("card_id")).getTagIds().add(resultSet.getLong("tag_id"));
+        }, (Object) cardIds);
+    }
+
+    private static TagExportDTO mapTag(ResultSet resultSet) throws SQLException {
+        return new TagExportDTO(
+                resultSet.getLong("id"),
+                resultSet.getString("label"),
+                enumOf(Color.class, resultSet.getObject("color")),
+                enumOf(Visibility.class, resultSet.getObject("visibility")),
+                resultSet.getBoolean("dashboard_tag")
+        );
+    }
+
+    private static TableExportDTO mapTable(ResultSet resultSet) throws SQLException {
+        return new TableExportDTO(
+                resultSet.getLong("id"),
+                resultSet.getString("name"),
+                resultSet.getInt("position")
+        );
+    }
+
+    private static CardExportDTO mapCard(ResultSet resultSet) throws SQLException {
+        CardExportDTO card = new CardExportDTO();
+        card.setId(resultSet.getLong("id"));
+        card.setTableId(resultSet.getObject("table_id", Long.class));
+        card.setTitle(resultSet.getString("title"));
+        card.setDescription(resultSet.getString("description"));
+        card.setCardType(enumOf(CardType.class, resultSet.getObject("card_type")));
+        card.setColor(enumOf(Color.class, resultSet.getObject("color")));
+        card.setDeadLine(resultSet.getTimestamp("dead_line"));
+        card.setPosition(resultSet.getInt("position"));
+        return card;
+    }
+
+    private static AttachedFile mapAttachedFile(ResultSet resultSet) throws SQLException {
+        AttachedFile attachedFile = new AttachedFile(resultSet.getString("file_name"), resultSet.getString("file_url"));
+        attachedFile.setThumbnailUrl(resultSet.getString("thumbnail_url"));
+        return attachedFile;
+    }
+
+    static <E extends Enum<E>> E enumOf(Class<E> enumType, Object value) {
+        if (value == null) {
+            return null;
+        }
+
+        if (value instanceof Number ordinal) {
+            return enumType.getEnumConstants()[ordinal.intValue()];
+        }
+
+        return Enum.valueOf(enumType, value.toString());
+    }
+}
@@ -0,0 +1,84 @@
+package dev.kandv.kango.repositories;
+
+import dev.kandv.kango.dtos.TableExportDTO;
+import dev.kandv.kango.dtos.TagExportDTO;
+import dev.kandv.kango.models.utils.AttachedFile;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class DashboardImportRepository {
+
+    private static final String INSERT_DASHBOARD_QUERY = "INSERT INTO dashboard (name) VALUES (?) RETURNING id";
+
+    private static final String INSERT_DASHBOARD_ATTACHED_FILE_QUERY = """
+            INSERT INTO dashboard_attached_file (dashboard_id, file_name, file_url, thumbnail_url)
+            VALUES (?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_TAG_QUERY = """
+            INSERT INTO tags (label, color, visibility, dashboard_id)
+            VALUES (?, ?, ?, ?)
+            RETURNING id
+            """;
+
+    private static final String FIND_GLOBAL_TAG_QUERY = """
+            SELECT id
+            FROM tags
+            WHERE dashboard_id IS NULL AND label = ? AND color = ? AND visibility = ?
+            ORDER BY id
+            LIMIT 1
+            """;
+
+    private static final String INSERT_TABLE_QUERY = """
+            INSERT INTO tables (name, position, dashboard_id)
+            VALUES (?, ?, ?)
+            RETURNING id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Long insertDashboard(String name, List<AttachedFile> attachedFiles) {
+        Long dashboardId = this.jdbcTemplate.queryForObject(INSERT_DASHBOARD_QUERY, Long.class, name);
+
+        this.jdbcTemplate.batchUpdate(INSERT_DASHBOARD_ATTACHED_FILE_QUERY, attachedFiles, attachedFiles.size(),
+                (statement, attachedFile) -> {
+                    statement.setLong(1, dashboardId);
+                    statement.setString(2, attachedFile.getFileName());
+                    statement.setString(3, attachedFile.getFileUrl());
+                    statement.setString(4, attachedFile.getThumbnailUrl());
+                });
+
+        return dashboardId;
+    }
+
+    public Optional<Long> findGlobalTag(TagExportDTO tag) {
+        return this.jdbcTemplate.queryForList(FIND_GLOBAL_TAG_QUERY, Long.class,
+                tag.getLabel(),
+                tag.getColor().ordinal(),
+                tag.getVisibility().ordinal()
+        ).stream().findFirst();
+    }
+
+    public Long insertTag(TagExportDTO tag, Long dashboardId) {
+        return this.jdbcTemplate.queryForObject(INSERT_TAG_QUERY, Long.class,
+                tag.getLabel(),
+                tag.getColor().ordinal(),
+                tag.getVisibility().ordinal(),
+                dashboardId
+        );
+    }
+
+    public Long insertTable(TableExportDTO table, Long dashboardId) {
+        return this.jdbcTemplate.queryForObject(INSERT_TABLE_QUERY, Long.class,
+                table.getName(),
+                table.getPosition(),
+                dashboardId
+        );
+    }
+}
@@ -1,10 +1,17 @@
 package dev.kandv.kango.repositories;
 
 import dev.kandv.kango.models.Table;
+import lombok.NonNull;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface TableRepository extends JpaRepository<Table, Long> {
 
+    @EntityGraph(attributePaths = {"cardList", "dashboard"})
+    List<Table> findAllWithCardsByIdIn(@NonNull Collection<Long> ids);
 }
@@ -3,9 +3,11 @@ package dev.kandv.kango.repositories;
 import dev.kandv.kango.models.Tag;
 import dev.kandv.kango.models.enums.Visibility;
 import lombok.NonNull;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,4 +17,7 @@ public interface TagRepository extends JpaRepository<Tag, Long> {
     Optional<Tag> findById(@NonNull Long id);
 
     List<Tag> findAllByVisibilityEquals(Visibility visibility);
+
+    @EntityGraph(attributePaths = "dashboard")
+    List<Tag> findAllWithDashboardByIdIn(@NonNull Collection<Long> ids);
 }
@@ -0,0 +1,198 @@
+package dev.kandv.kango.services;
+
+import dev.kandv.kango.dtos.AuditEntryDTO;
+import dev.kandv.kango.models.enums.AuditAction;
+import dev.kandv.kango.models.enums.AuditEntityType;
+import dev.kandv.kango.repositories.AuditLogRepository;
+import dev.kandv.kango.services.utils.AuditContext;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static dev.kandv.kango.services.CardService.MAX_PAGE_SIZE;
+import static dev.kandv.kango.services.ErrorMessagesServices.INVALID_ID_ERROR;
+import static dev.kandv.kango.services.ErrorMessagesServices.INVALID_PAGE_ERROR;
+
+@Slf4j
+@Service
+public class AuditLogService {
+
+    private final AuditLogRepository auditLogRepository;
+    private final BlockingQueue<AuditEntryDTO> pendingEntries;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final Set<YearMonth> partitions = new HashSet<>();
+    private final AtomicLong droppedEntries = new AtomicLong();
+    private Thread writer;
+
+    public AuditLogService(
+            AuditLogRepository auditLogRepository,
+            @Value("${kango.audit.batch-size:200}") int batchSize,
+            @Value("${kango.audit.queue-capacity:10000}") int queueCapacity,
+            @Value("${kango.audit.flush-interval:500ms}") Duration flushInterval) {
+        this.auditLogRepository = auditLogRepository;
+        this.pendingEntries = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushInterval.toMillis();
+    }
+
+    @PostConstruct
+    public void start() {
+        this.auditLogRepository.createAuditLog();
+
+        this.writer = new Thread(this::writeLoop, "kango-audit-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (this.writer != null) {
+            this.writer.interrupt();
+        }
+
+        this.flush();
+    }
+
+    public void record(AuditEntityType entityType, Long entityId, AuditAction action, Object detail) {
+        if (entityId == null) {
+            return;
+        }
+
+        this.record(entityType, entityId, this.findDashboardId(entityType, entityId), action, detail);
+    }
+
+    public void recordAll(AuditEntityType entityType, Collection<Long> entityIds, AuditAction action, Object detail) {
+        if (entityIds.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Long> dashboardIds = this.auditLogRepository.findDashboardIds(entityType, entityIds);
+        entityIds.forEach(entityId -> this.record(entityType, entityId, dashboardIds.get(entityId), action, detail));
+    }
+
+    // Resolved when the change is made, the writer runs after commit and could no longer see deleted or moved elements.
+    public Long findDashboardId(AuditEntityType entityType, Long entityId) {
+        return this.auditLogRepository.findDashboardIds(entityType, List.of(entityId)).get(entityId);
+    }
+
+    public void record(AuditEntityType entityType, Long entityId, Long dashboardId, AuditAction action, Object detail) {
+        if (entityId == null) {
+            return;
+        }
+
+        AuditEntryDTO entry = new AuditEntryDTO(
+                null, new Date(), AuditContext.currentActor(), entityType, entityId, dashboardId, action,
+                detail != null ? String.valueOf(detail) : null
+        );
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    AuditLogService.this.enqueue(entry);
+                }
+            });
+        } else {
+            this.enqueue(entry);
+        }
+    }
+
+    public List<AuditEntryDTO> getCardHistory(Long cardId, int page, int size) {
+        this.checkId(cardId);
+        this.checkPage(page, size);
+
+        return this.auditLogRepository.findEntityHistory(AuditEntityType.CARD, cardId, size, (long) page * size);
+    }
+
+    public List<AuditEntryDTO> getDashboardHistory(Long dashboardId, int page, int size) {
+        this.checkId(dashboardId);
+        this.checkPage(page, size);
+
+        return this.auditLogRepository.findDashboardHistory(dashboardId, size, (long) page * size);
+    }
+
+    public synchronized void flush() {
+        List<AuditEntryDTO> batch = new ArrayList<>(this.batchSize);
+
+        while (this.pendingEntries.drainTo(batch, this.batchSize) > 0) {
+            this.write(batch);
+            batch.clear();
+        }
+    }
+
+    public long getDroppedEntryCount() {
+        return this.droppedEntries.get();
+    }
+
+    private void enqueue(AuditEntryDTO entry) {
+        if (!this.pendingEntries.offer(entry) && this.droppedEntries.getAndIncrement() % this.batchSize == 0) {
+            log.warn("Audit log queue is full, {} entries dropped so far", this.droppedEntries.get());
+        }
+    }
+
+    private void writeLoop() {
+        List<AuditEntryDTO> batch = new ArrayList<>(this.batchSize);
+
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                AuditEntryDTO first = this.pendingEntries.poll(this.flushIntervalMillis, TimeUnit.MILLISECONDS);
+
+                if (first == null) {
+                    continue;
+                }
+
+                batch.add(first);
+                this.pendingEntries.drainTo(batch, this.batchSize - 1);
+
+                synchronized (this) {
+                    this.write(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                log.error("Unable to write {} audit log entries", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<AuditEntryDTO> batch) {
+        for (AuditEntryDTO entry : batch) {
+            YearMonth month = YearMonth.from(entry.getCreatedAt().toInstant().atZone(ZoneId.systemDefault()));
+
+            if (!this.partitions.contains(month)) {
+                this.auditLogRepository.createPartition(month);
+                this.partitions.add(month);
+            }
+        }
+
+        this.auditLogRepository.insertEntries(batch);
+    }
+
+    private void checkId(Long id) {
+        if (id == null) {
+            throw new IllegalArgumentException(INVALID_ID_ERROR + null);
+        }
+    }
+
+    private void checkPage(int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException(INVALID_PAGE_ERROR + page + " Size: " + size);
+        }
+    }
+}
@@ -0,0 +1,380 @@
+package dev.kandv.kango.services;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import dev.kandv.kango.dtos.BackupEntryDTO;
+import dev.kandv.kango.dtos.BackupManifestDTO;
+import dev.kandv.kango.dtos.ImportResultDTO;
+import dev.kandv.kango.dtos.RestoreResultDTO;
+import dev.kandv.kango.repositories.BackupRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StreamUtils;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.*;
+
+@Slf4j
+@Service
+public class BackupService {
+
+    public static final String BACKUP_FORMAT = "kango-backup";
+    public static final int BACKUP_VERSION = 2;
+    public static final String MANIFEST_ENTRY = "manifest.json";
+    public static final String GLOBAL_TAGS_ENTRY = "tags.ndjson.gz";
+    public static final String GLOBAL_CARDS_ENTRY = "global-cards.ndjson.gz";
+    public static final String ARCHIVE_ENTRY = "archive.ndjson.gz";
+    public static final String INVALID_BACKUP_ERROR = "ERROR: Invalid backup archive. Entry: ";
+    public static final String BACKUP_CHECKSUM_ERROR = "ERROR: The backup entry does not match the manifest. Entry: ";
+    public static final String MISSING_BACKUP_MANIFEST_ERROR = "ERROR: The backup archive has no valid manifest.";
+
+    private static final String DASHBOARD_ENTRY_FORMAT = "dashboards/%d.ndjson.gz";
+    private static final Pattern DASHBOARD_ENTRY_PATTERN = Pattern.compile("dashboards/(\\d+)\\.ndjson\\.gz");
+    private static final String FILE_ENTRY_FORMAT = "files/%s";
+    private static final Pattern FILE_ENTRY_PATTERN = Pattern.compile("files/([0-9a-f]{64})");
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final BackupRepository backupRepository;
+    private final DashboardExportService dashboardExportService;
+    private final DashboardImportService dashboardImportService;
+    private final CardPositionBuffer cardPositionBuffer;
+    private final FileStorageService fileStorageService;
+    private final TransactionTemplate snapshotTransaction;
+    private final ObjectWriter manifestWriter;
+    private final ObjectReader manifestReader;
+    private final int workerCount;
+    private final ExecutorService workers;
+
+    public BackupService(
+            BackupRepository backupRepository,
+            DashboardExportService dashboardExportService,
+            DashboardImportService dashboardImportService,
+            CardPositionBuffer cardPositionBuffer,
+            FileStorageService fileStorageService,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            @Value("${kango.backup.workers:4}") int workerCount) {
+        this.backupRepository = backupRepository;
+        this.dashboardExportService = dashboardExportService;
+        this.dashboardImportService = dashboardImportService;
+        this.cardPositionBuffer = cardPositionBuffer;
+        this.fileStorageService = fileStorageService;
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.snapshotTransaction.setReadOnly(true);
+        this.manifestWriter = objectMapper.writerFor(BackupManifestDTO.class)
+                .withDefaultPrettyPrinter()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.manifestReader = objectMapper.readerFor(BackupManifestDTO.class)
+                .without(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+        this.workerCount = workerCount;
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "kango-backup");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        this.workers.shutdownNow();
+    }
+
+    public BackupManifestDTO backup(OutputStream outputStream) throws IOException {
+        // Buffered moves must be written before the snapshot is taken, it would not see them afterwards.
+        this.cardPositionBuffer.flushAll();
+
+        try {
+            return this.snapshotTransaction.execute(status -> {
+                try {
+                    return this.writeBackup(outputStream);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    @Transactional
+    public RestoreResultDTO restore(InputStream inputStream) throws IOException {
+        ZipInputStream zipInputStream = new ZipInputStream(inputStream);
+        Map<String, String> restoredHashes = new LinkedHashMap<>();
+        Map<Long, Long> globalTagIds = new HashMap<>();
+        Map<Long, Long> tagIds = new HashMap<>();
+        Map<Long, Long> tableIds = new HashMap<>();
+        RestoreResultDTO result = new RestoreResultDTO();
+        BackupManifestDTO manifest = null;
+        ZipEntry entry;
+
+        while ((entry = zipInputStream.getNextEntry()) != null) {
+            String name = entry.getName();
+
+            if (manifest != null || restoredHashes.containsKey(name)) {
+                throw new IllegalArgumentException(INVALID_BACKUP_ERROR + name);
+            }
+
+            if (MANIFEST_ENTRY.equals(name)) {
+                manifest = this.manifestReader.readValue(zipInputStream);
+                continue;
+            }
+
+            MessageDigest digest = newDigest();
+            InputStream entryStream = new DigestInputStream(StreamUtils.nonClosing(zipInputStream), digest);
+            Matcher dashboardMatcher = DASHBOARD_ENTRY_PATTERN.matcher(name);
+            Matcher fileMatcher = FILE_ENTRY_PATTERN.matcher(name);
+
+            if (GLOBAL_TAGS_ENTRY.equals(name)) {
+                Map<Long, Long> restoredTagIds = this.dashboardImportService.importGlobalTags(gunzip(entryStream));
+                globalTagIds.putAll(restoredTagIds);
+                tagIds.putAll(restoredTagIds);
+                result.setRestoredTags(result.getRestoredTags() + restoredTagIds.size());
+            } else if (dashboardMatcher.matches()) {
+                ImportResultDTO importResult = this.dashboardImportService.importDashboard(
+                        gunzip(entryStream), globalTagIds, tagIds, tableIds);
+                result.setRestoredDashboards(result.getRestoredDashboards() + 1);
+                result.setRestoredTags(result.getRestoredTags() + importResult.getImportedTags());
+                result.setRestoredTables(result.getRestoredTables() + importResult.getImportedTables());
+                result.setRestoredCards(result.getRestoredCards() + importResult.getImportedCards());
+            } else if (GLOBAL_CARDS_ENTRY.equals(name)) {
+                // Written after the dashboards, so the dashboard tags these cards use are already mapped.
+                ImportResultDTO importResult = this.dashboardImportService.importGlobalCards(gunzip(entryStream), tagIds, tableIds);
+                result.setRestoredTables(result.getRestoredTables() + importResult.getImportedTables());
+                result.setRestoredCards(result.getRestoredCards() + importResult.getImportedCards());
+            } else if (ARCHIVE_ENTRY.equals(name)) {
+                int restoredCards = this.dashboardImportService.importArchivedCards(gunzip(entryStream), tagIds, tableIds);
+                result.setRestoredArchivedCards(result.getRestoredArchivedCards() + restoredCards);
+            } else if (fileMatcher.matches()) {
+                if (!fileMatcher.group(1).equals(this.fileStorageService.storeBlob(entryStream))) {
+                    throw new IllegalArgumentException(BACKUP_CHECKSUM_ERROR + name);
+                }
+
+                result.setRestoredFiles(result.getRestoredFiles() + 1);
+            } else {
+                throw new IllegalArgumentException(INVALID_BACKUP_ERROR + name);
+            }
+
+            entryStream.transferTo(OutputStream.nullOutputStream());
+            restoredHashes.put(name, HexFormat.of().formatHex(digest.digest()));
+        }
+
+        this.checkManifest(manifest, restoredHashes);
+
+        return result;
+    }
+
+    private BackupManifestDTO writeBackup(OutputStream outputStream) throws IOException {
+        String snapshotId = this.backupRepository.exportSnapshot();
+        List<Long> dashboardIds = this.backupRepository.findDashboardIds();
+        BackupManifestDTO manifest = new BackupManifestDTO(BACKUP_FORMAT, BACKUP_VERSION, new Date(), new ArrayList<>());
+        ZipOutputStream zipOutputStream = new ZipOutputStream(new BufferedOutputStream(StreamUtils.nonClosing(outputStream), BUFFER_SIZE));
+
+        BackupFile globalTags = writeEntry(GLOBAL_TAGS_ENTRY, null, this.dashboardExportService::exportGlobalTags);
+        appendEntry(zipOutputStream, globalTags, manifest);
+
+        CompletionService<BackupFile> completionService = new ExecutorCompletionService<>(this.workers);
+        Set<Future<BackupFile>> inFlight = new HashSet<>();
+        Iterator<Long> pendingDashboards = dashboardIds.iterator();
+
+        try {
+            while (pendingDashboards.hasNext() && inFlight.size() < this.workerCount) {
+                inFlight.add(this.submitDashboard(completionService, snapshotId, pendingDashboards.next()));
+            }
+
+            while (!inFlight.isEmpty()) {
+                Future<BackupFile> completed = completionService.take();
+                inFlight.remove(completed);
+
+                if (pendingDashboards.hasNext()) {
+                    inFlight.add(this.submitDashboard(completionService, snapshotId, pendingDashboards.next()));
+                }
+
+                appendEntry(zipOutputStream, completed.get(), manifest);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(e.getMessage());
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof UncheckedIOException ioException) {
+                throw ioException.getCause();
+            }
+
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            for (Future<BackupFile> future : inFlight) {
+                if (!future.cancel(true) && future.state() == Future.State.SUCCESS) {
+                    Files.deleteIfExists(future.resultNow().path());
+                }
+            }
+        }
+
+        BackupFile globalCards = writeEntry(GLOBAL_CARDS_ENTRY, null, this.dashboardExportService::writeGlobalCards);
+        appendEntry(zipOutputStream, globalCards, manifest);
+
+        BackupFile archive = writeEntry(ARCHIVE_ENTRY, null, this.dashboardExportService::writeArchivedCards);
+        appendEntry(zipOutputStream, archive, manifest);
+
+        for (String hash : this.findAttachedBlobs()) {
+            this.appendBlob(zipOutputStream, hash, manifest);
+        }
+
+        zipOutputStream.putNextEntry(new ZipEntry(MANIFEST_ENTRY));
+        this.manifestWriter.writeValue(zipOutputStream, manifest);
+        zipOutputStream.closeEntry();
+        zipOutputStream.finish();
+        zipOutputStream.flush();
+
+        log.info("Backup finished: {} dashboards in {} entries", dashboardIds.size(), manifest.getEntries().size());
+        return manifest;
+    }
+
+    private Future<BackupFile> submitDashboard(CompletionService<BackupFile> completionService, String snapshotId, Long dashboardId) {
+        return completionService.submit(() -> this.snapshotTransaction.execute(status -> {
+            this.backupRepository.importSnapshot(snapshotId);
+
+            try {
+                return writeEntry(DASHBOARD_ENTRY_FORMAT.formatted(dashboardId), dashboardId,
+                        outputStream -> this.dashboardExportService.writeDashboard(dashboardId, outputStream));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }));
+    }
+
+    private Set<String> findAttachedBlobs() {
+        Set<String> hashes = new TreeSet<>();
+
+        for (String fileUrl : this.backupRepository.findAttachedFileUrls()) {
+            this.fileStorageService.hashOf(fileUrl).ifPresent(hashes::add);
+        }
+
+        return hashes;
+    }
+
+    private void appendBlob(ZipOutputStream zipOutputStream, String hash, BackupManifestDTO manifest) throws IOException {
+        Path blob;
+
+        try {
+            blob = this.fileStorageService.load(hash);
+        } catch (NoSuchElementException e) {
+            log.warn("Attached file {} is missing from the storage and is left out of the backup", hash);
+            return;
+        }
+
+        String name = FILE_ENTRY_FORMAT.formatted(hash);
+        zipOutputStream.putNextEntry(new ZipEntry(name));
+        long size = Files.copy(blob, zipOutputStream);
+        zipOutputStream.closeEntry();
+
+        manifest.getEntries().add(new BackupEntryDTO(name, null, size, hash));
+    }
+
+    private void checkManifest(BackupManifestDTO manifest, Map<String, String> restoredHashes) {
+        if (manifest == null || !BACKUP_FORMAT.equals(manifest.getFormat())
+                || manifest.getVersion() < 1 || manifest.getVersion() > BACKUP_VERSION
+                || manifest.getEntries() == null) {
+            throw new IllegalArgumentException(MISSING_BACKUP_MANIFEST_ERROR);
+        }
+
+        Map<String, String> expectedHashes = new HashMap<>();
+        manifest.getEntries().forEach(entry -> expectedHashes.put(entry.getName(), entry.getSha256()));
+
+        for (String name : restoredHashes.keySet()) {
+            if (!restoredHashes.get(name).equals(expectedHashes.remove(name))) {
+                throw new IllegalArgumentException(BACKUP_CHECKSUM_ERROR + name);
+            }
+        }
+
+        if (!expectedHashes.isEmpty()) {
+            throw new IllegalArgumentException(BACKUP_CHECKSUM_ERROR + expectedHashes.keySet().iterator().next());
+        }
+    }
+
+    private static BackupFile writeEntry(String name, Long dashboardId, EntryWriter entryWriter) throws IOException {
+        Path temporaryFile = Files.createTempFile("kango-backup-", ".ndjson.gz");
+
+        try {
+            MessageDigest digest = newDigest();
+            CRC32 crc = new CRC32();
+
+            try (OutputStream fileStream = new DigestOutputStream(new CheckedOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temporaryFile), BUFFER_SIZE), crc), digest);
+                 OutputStream gzipStream = new GZIPOutputStream(fileStream, BUFFER_SIZE)) {
+                entryWriter.write(gzipStream);
+            }
+
+            if (Thread.currentThread().isInterrupted()) {
+                throw new CancellationException();
+            }
+
+            return new BackupFile(name, dashboardId, temporaryFile, Files.size(temporaryFile), crc.getValue(),
+                    HexFormat.of().formatHex(digest.digest()));
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporaryFile);
+            throw e;
+        }
+    }
+
+    private static void appendEntry(ZipOutputStream zipOutputStream, BackupFile backupFile, BackupManifestDTO manifest) throws IOException {
+        try {
+            ZipEntry entry = new ZipEntry(backupFile.name());
+            entry.setMethod(ZipEntry.STORED);
+            entry.setSize(backupFile.size());
+            entry.setCompressedSize(backupFile.size());
+            entry.setCrc(backupFile.crc());
+
+            zipOutputStream.putNextEntry(entry);
+            Files.copy(backupFile.path(), zipOutputStream);
+            zipOutputStream.closeEntry();
+        } finally {
+            Files.deleteIfExists(backupFile.path());
+        }
+
+        manifest.getEntries().add(new BackupEntryDTO(backupFile.name(), backupFile.dashboardId(), backupFile.size(), backupFile.sha256()));
+    }
+
+    private static InputStream gunzip(InputStream inputStream) throws IOException {
+        return new GZIPInputStream(inputStream, BUFFER_SIZE);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface EntryWriter {
+        void write(OutputStream outputStream) throws IOException;
+    }
+
+    private record BackupFile(String name, Long dashboardId, Path path, long size, long crc, String sha256) {
+    }
+}
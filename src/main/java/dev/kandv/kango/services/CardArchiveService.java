@@ -0,0 +1,204 @@
+package dev.kandv.kango.services;
+
+import dev.kandv.kango.dtos.ArchiveJobDTO;
+import dev.kandv.kango.models.ArchivedCard;
+import dev.kandv.kango.models.enums.ArchiveJobState;
+import dev.kandv.kango.repositories.ArchivedCardRepository;
+import dev.kandv.kango.repositories.CardArchiveRepository;
+import dev.kandv.kango.repositories.CardBulkRepository;
+import dev.kandv.kango.repositories.CardRepository;
+import dev.kandv.kango.repositories.TableRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static dev.kandv.kango.services.CardService.MAX_PAGE_SIZE;
+import static dev.kandv.kango.services.ErrorMessagesServices.*;
+
+@Slf4j
+@Service
+public class CardArchiveService {
+
+    public static final String INVALID_ARCHIVE_CARD_ERROR = "ERROR: Only Cards inside a Table can be archived. ID: ";
+    public static final String INVALID_ARCHIVE_AGE_ERROR = "ERROR: Invalid archive age. Value: ";
+    public static final String NOT_FOUND_ARCHIVED_CARD_WITH_ID_ERROR = "ERROR: There is no archived Card with such ID. ID: ";
+
+    private static final int MAX_TRACKED_JOBS = 100;
+
+    private final CardRepository cardRepository;
+    private final TableRepository tableRepository;
+    private final CardBulkRepository cardBulkRepository;
+    private final CardArchiveRepository cardArchiveRepository;
+    private final ArchivedCardRepository archivedCardRepository;
+    private final DeadlineReminderService deadlineReminderService;
+    private final TransactionTemplate batchTransaction;
+    private final int batchSize;
+    private final ExecutorService archiveWorker;
+    private final Map<String, ArchiveJobDTO> archiveJobs = Collections.synchronizedMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ArchiveJobDTO> eldest) {
+            return this.size() > MAX_TRACKED_JOBS;
+        }
+    });
+
+    public CardArchiveService(
+            CardRepository cardRepository,
+            TableRepository tableRepository,
+            CardBulkRepository cardBulkRepository,
+            CardArchiveRepository cardArchiveRepository,
+            ArchivedCardRepository archivedCardRepository,
+            DeadlineReminderService deadlineReminderService,
+            PlatformTransactionManager transactionManager,
+            @Value("${kango.archive.batch-size:500}") int batchSize) {
+        this.cardRepository = cardRepository;
+        this.tableRepository = tableRepository;
+        this.cardBulkRepository = cardBulkRepository;
+        this.cardArchiveRepository = cardArchiveRepository;
+        this.archivedCardRepository = archivedCardRepository;
+        this.deadlineReminderService = deadlineReminderService;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.archiveWorker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "kango-archive");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        this.archiveWorker.shutdownNow();
+    }
+
+    @Transactional
+    public void archiveCard(Long id) {
+        this.checkId(id);
+        this.cardRepository.flush();
+
+        if (this.cardArchiveRepository.lockArchivableCard(id).isEmpty()) {
+            if (!this.cardRepository.existsById(id)) {
+                throw new NoSuchElementException(NOT_FOUND_CARD_WITH_ID_ERROR + id);
+            }
+
+            throw new IllegalArgumentException(INVALID_ARCHIVE_CARD_ERROR + id);
+        }
+
+        this.cardBulkRepository.materializeTemplateInstances(List.of(id));
+        List<Long> tableIds = this.cardArchiveRepository.archiveCards(List.of(id));
+        tableIds.forEach(this.cardArchiveRepository::renumberTablePositions);
+        this.deadlineReminderService.cancelReminder(id);
+    }
+
+    public ArchiveJobDTO archiveTableCards(Long tableId, Duration olderThan) {
+        this.checkId(tableId);
+
+        if (olderThan == null || olderThan.isNegative()) {
+            throw new IllegalArgumentException(INVALID_ARCHIVE_AGE_ERROR + olderThan);
+        }
+
+        if (!this.tableRepository.existsById(tableId)) {
+            throw new NoSuchElementException(NOT_FOUND_TABLE_WITH_ID_ERROR + tableId);
+        }
+
+        Date createdBefore = new Date(System.currentTimeMillis() - olderThan.toMillis());
+        ArchiveJobDTO archiveJob = new ArchiveJobDTO(
+                UUID.randomUUID().toString(), tableId, createdBefore, ArchiveJobState.RUNNING, 0
+        );
+
+        this.archiveJobs.put(archiveJob.getId(), archiveJob);
+        this.archiveWorker.execute(() -> this.runArchiveJob(archiveJob));
+
+        return archiveJob;
+    }
+
+    public List<ArchiveJobDTO> getArchiveJobs() {
+        synchronized (this.archiveJobs) {
+            return new ArrayList<>(this.archiveJobs.values());
+        }
+    }
+
+    public ArchivedCard getArchivedCardById(Long id) {
+        this.checkId(id);
+
+        return this.archivedCardRepository.findById(id)
+                .orElseThrow(() -> new NoSuchElementException(NOT_FOUND_ARCHIVED_CARD_WITH_ID_ERROR + id));
+    }
+
+    public List<ArchivedCard> searchArchivedCards(String text, Long tableId, int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException(INVALID_PAGE_ERROR + page + " Size: " + size);
+        }
+
+        String filter = text == null ? "" : text.trim();
+        return this.archivedCardRepository.search(filter, tableId, PageRequest.of(page, size));
+    }
+
+    @Transactional
+    public Long unarchiveCard(Long id, Long tableId) {
+        this.checkId(id);
+        this.checkId(tableId);
+
+        int position = this.cardBulkRepository.lockTableForAppend(tableId)
+                .orElseThrow(() -> new NoSuchElementException(NOT_FOUND_TABLE_WITH_ID_ERROR + tableId));
+
+        Long restoredId = this.cardArchiveRepository.restoreCard(id, tableId, position)
+                .orElseThrow(() -> new NoSuchElementException(NOT_FOUND_ARCHIVED_CARD_WITH_ID_ERROR + id));
+
+        this.cardArchiveRepository.findCardReminder(restoredId).ifPresent(reminder ->
+                this.deadlineReminderService.scheduleReminder(reminder.getCardId(), reminder.getTitle(), reminder.getDeadLine()));
+
+        return restoredId;
+    }
+
+    public void removeAllArchivedCards() {
+        this.archivedCardRepository.deleteAll();
+    }
+
+    private void runArchiveJob(ArchiveJobDTO archiveJob) {
+        try {
+            List<Long> archivedIds;
+
+            do {
+                archivedIds = this.batchTransaction.execute(status -> this.archiveBatch(archiveJob));
+                archivedIds.forEach(this.deadlineReminderService::cancelReminder);
+                archiveJob.setArchivedCards(archiveJob.getArchivedCards() + archivedIds.size());
+            } while (archivedIds.size() == this.batchSize);
+
+            this.batchTransaction.executeWithoutResult(status ->
+                    this.cardArchiveRepository.renumberTablePositions(archiveJob.getTableId()));
+
+            archiveJob.setState(ArchiveJobState.FINISHED);
+            log.info("Archive job {} finished: archived {} cards from table {}",
+                    archiveJob.getId(), archiveJob.getArchivedCards(), archiveJob.getTableId());
+        } catch (RuntimeException e) {
+            archiveJob.setState(ArchiveJobState.FAILED);
+            log.error("Archive job {} failed after archiving {} cards", archiveJob.getId(), archiveJob.getArchivedCards(), e);
+        }
+    }
+
+    private List<Long> archiveBatch(ArchiveJobDTO archiveJob) {
+        List<Long> cardIds = this.cardArchiveRepository.lockArchivableCards(
+                archiveJob.getTableId(), archiveJob.getCreatedBefore(), this.batchSize
+        );
+
+        this.cardBulkRepository.materializeTemplateInstances(cardIds);
+        this.cardArchiveRepository.archiveCards(cardIds);
+        return cardIds;
+    }
+
+    private void checkId(Long id) {
+        if (id == null) {
+            throw new IllegalArgumentException(INVALID_ID_ERROR + null);
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package dev.kandv.kango.services;
+
+import dev.kandv.kango.models.Table;
+import dev.kandv.kango.models.enums.AuditAction;
+import dev.kandv.kango.models.enums.AuditEntityType;
+import dev.kandv.kango.repositories.CardBulkRepository;
+import dev.kandv.kango.repositories.CardPositionRepository;
+import dev.kandv.kango.repositories.CardRepository;
+import dev.kandv.kango.repositories.TableRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static dev.kandv.kango.services.ErrorMessagesServices.*;
+import static dev.kandv.kango.services.TableService.NOT_FOUND_CARD_IN_THE_TABLE_ERROR;
+
+@Slf4j
+@Service
+public class CardPositionBuffer {
+
+    private final CardPositionRepository cardPositionRepository;
+    private final CardBulkRepository cardBulkRepository;
+    private final TableRepository tableRepository;
+    private final CardRepository cardRepository;
+    private final AuditLogService auditLogService;
+    private final TransactionTemplate flushTransaction;
+    private final long coalesceWindowMillis;
+    private final ScheduledExecutorService flushScheduler;
+    private final Map<Long, PendingCardOrder> pendingOrders = new ConcurrentHashMap<>();
+
+    public CardPositionBuffer(
+            CardPositionRepository cardPositionRepository,
+            CardBulkRepository cardBulkRepository,
+            TableRepository tableRepository,
+            CardRepository cardRepository,
+            AuditLogService auditLogService,
+            PlatformTransactionManager transactionManager,
+            @Value("${kango.positions.coalesce-window:250ms}") Duration coalesceWindow) {
+        this.cardPositionRepository = cardPositionRepository;
+        this.cardBulkRepository = cardBulkRepository;
+        this.tableRepository = tableRepository;
+        this.cardRepository = cardRepository;
+        this.auditLogService = auditLogService;
+        this.flushTransaction = new TransactionTemplate(transactionManager);
+        this.flushTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.coalesceWindowMillis = coalesceWindow.toMillis();
+        this.flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "kango-position-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        this.flushScheduler.shutdownNow();
+        this.flushAll();
+    }
+
+    public List<Long> moveCard(Long tableId, Long cardId, int newPosition) {
+        this.checkId(tableId);
+        this.checkId(cardId);
+
+        while (true) {
+            PendingCardOrder pendingOrder = this.pendingOrders.computeIfAbsent(tableId, id -> new PendingCardOrder());
+
+            synchronized (pendingOrder) {
+                if (pendingOrder.retired) {
+                    continue;
+                }
+
+                try {
+                    return this.applyMove(tableId, pendingOrder, cardId, newPosition);
+                } finally {
+                    if (pendingOrder.flushTask == null) {
+                        pendingOrder.retired = true;
+                        this.pendingOrders.remove(tableId, pendingOrder);
+                    }
+                }
+            }
+        }
+    }
+
+    private List<Long> applyMove(Long tableId, PendingCardOrder pendingOrder, Long cardId, int newPosition) {
+        if (pendingOrder.cardIds == null) {
+            pendingOrder.cardIds = this.loadCardOrder(tableId);
+        }
+
+        int oldPosition = pendingOrder.cardIds.indexOf(cardId);
+
+        if (oldPosition < 0) {
+            this.checkCardExistence(cardId);
+            throw new NoSuchElementException(NOT_FOUND_CARD_IN_THE_TABLE_ERROR + cardId);
+        }
+
+        int position = Math.clamp(newPosition, 0, pendingOrder.cardIds.size() - 1);
+
+        if (position != oldPosition) {
+            pendingOrder.cardIds.remove(oldPosition);
+            pendingOrder.cardIds.add(position, cardId);
+            this.scheduleFlush(tableId, pendingOrder);
+            this.auditLogService.record(AuditEntityType.CARD, cardId, AuditAction.MOVE_CARD,
+                    "table " + tableId + " position " + oldPosition + " -> " + position);
+        }
+
+        return List.copyOf(pendingOrder.cardIds);
+    }
+
+    public Optional<List<Long>> getPendingOrder(Long tableId) {
+        PendingCardOrder pendingOrder = this.pendingOrders.get(tableId);
+
+        if (pendingOrder == null) {
+            return Optional.empty();
+        }
+
+        synchronized (pendingOrder) {
+            // A retired entry is still the newest order until it leaves the map, the flush may not be committed yet.
+            if (pendingOrder.flushTask == null) {
+                return Optional.empty();
+            }
+
+            return Optional.of(List.copyOf(pendingOrder.cardIds));
+        }
+    }
+
+    public boolean hasPendingOrders() {
+        return !this.pendingOrders.isEmpty();
+    }
+
+    public void applyPendingOrder(Table table) {
+        if (table == null || !this.hasPendingOrders()) {
+            return;
+        }
+
+        this.getPendingOrder(table.getId()).ifPresent(cardIds -> {
+            // Read-only first, so the overlaid positions are never flushed by the surrounding session.
+            this.cardPositionRepository.markCardsReadOnly(table);
+            table.applyCardOrder(cardIds);
+        });
+    }
+
+    public void flush(Long tableId) {
+        if (tableId == null) {
+            return;
+        }
+
+        PendingCardOrder pendingOrder = this.pendingOrders.get(tableId);
+
+        if (pendingOrder == null) {
+            return;
+        }
+
+        synchronized (pendingOrder) {
+            if (pendingOrder.retired) {
+                return;
+            }
+
+            pendingOrder.retired = true;
+
+            try {
+                if (pendingOrder.flushTask != null) {
+                    pendingOrder.flushTask.cancel(false);
+                    this.flushTransaction.executeWithoutResult(status -> this.writeCardOrder(tableId, pendingOrder.cardIds));
+                }
+            } catch (RuntimeException e) {
+                log.error("Unable to persist the card order of table {}", tableId, e);
+            } finally {
+                this.pendingOrders.remove(tableId, pendingOrder);
+            }
+        }
+    }
+
+    public void flushDashboard(Long dashboardId) {
+        if (dashboardId == null || !this.hasPendingOrders()) {
+            return;
+        }
+
+        this.cardPositionRepository.findDashboardTableIds(dashboardId).forEach(this::flush);
+    }
+
+    public void flushAll() {
+        new ArrayList<>(this.pendingOrders.keySet()).forEach(this::flush);
+    }
+
+    private List<Long> loadCardOrder(Long tableId) {
+        if (!this.tableRepository.existsById(tableId)) {
+            throw new NoSuchElementException(NOT_FOUND_TABLE_WITH_ID_ERROR + tableId);
+        }
+
+        return new ArrayList<>(this.cardPositionRepository.findTableCardIds(tableId));
+    }
+
+    private void checkCardExistence(Long cardId) {
+        if (!this.cardRepository.existsById(cardId)) {
+            throw new NoSuchElementException(NOT_FOUND_CARD_WITH_ID_ERROR + cardId);
+        }
+    }
+
+    private void scheduleFlush(Long tableId, PendingCardOrder pendingOrder) {
+        if (pendingOrder.flushTask == null) {
+            pendingOrder.flushTask = this.flushScheduler.schedule(
+                    () -> this.flush(tableId), this.coalesceWindowMillis, TimeUnit.MILLISECONDS
+            );
+        }
+    }
+
+    private void writeCardOrder(Long tableId, List<Long> pendingCardIds) {
+        if (this.cardBulkRepository.lockTableForAppend(tableId).isEmpty()) {
+            return;
+        }
+
+        List<Long> currentCardIds = this.cardPositionRepository.findTableCardIds(tableId);
+        Set<Long> currentCardIdSet = new HashSet<>(currentCardIds);
+        LinkedHashSet<Long> cardOrder = new LinkedHashSet<>();
+
+        pendingCardIds.stream().filter(currentCardIdSet::contains).forEach(cardOrder::add);
+        cardOrder.addAll(currentCardIds);
+
+        this.cardPositionRepository.updateCardPositions(tableId, new ArrayList<>(cardOrder));
+    }
+
+    private void checkId(Long id) {
+        if (id == null) {
+            throw new IllegalArgumentException(INVALID_ID_ERROR + null);
+        }
+    }
+
+    private static class PendingCardOrder {
+        private List<Long> cardIds;
+        private ScheduledFuture<?> flushTask;
+        private boolean retired;
+    }
+}
@@ -0,0 +1,193 @@
+package dev.kandv.kango.services;
+
+import dev.kandv.kango.dtos.CardQueryDTO;
+import dev.kandv.kango.models.Card;
+import dev.kandv.kango.models.enums.CardQuerySort;
+import dev.kandv.kango.repositories.CardRepository;
+import dev.kandv.kango.repositories.CardSearchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.*;
+
+import static dev.kandv.kango.repositories.CardSpecifications.*;
+import static dev.kandv.kango.services.CardService.INVALID_CARD_SELECTION_ERROR;
+import static dev.kandv.kango.services.CardService.INVALID_DEAD_LINE_RANGE_ERROR;
+import static dev.kandv.kango.services.CardService.MAX_PAGE_SIZE;
+import static dev.kandv.kango.services.ErrorMessagesServices.INVALID_PAGE_ERROR;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CardQueryService {
+
+    public static final String INVALID_CARD_CURSOR_ERROR = "ERROR: Invalid Card cursor. Value: ";
+
+    private static final String CURSOR_SEPARATOR = "|";
+    private static final String NULL_CURSOR_VALUE = "null";
+
+    private final CardRepository cardRepository;
+    private final CardSearchRepository cardSearchRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        try {
+            this.cardSearchRepository.createSearchIndexes();
+        } catch (RuntimeException e) {
+            log.error("Unable to create the card search indexes", e);
+        }
+    }
+
+    public Slice<Card> findCards(CardQueryDTO cardQuery) {
+        CardQuerySort sort = sortOf(cardQuery);
+        int limit = cardQuery.getLimit();
+
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException(INVALID_PAGE_ERROR + cardQuery.getAfter() + " Size: " + limit);
+        }
+
+        checkDeadLineRange(cardQuery);
+
+        List<Specification<Card>> specifications = this.buildFilters(cardQuery);
+
+        if (cardQuery.getAfter() != null) {
+            specifications.add(decodeCursor(sort, cardQuery.getAfter()));
+        }
+
+        List<Card> cards = this.cardRepository.findBy(
+                Specification.allOf(specifications),
+                query -> query.sortBy(sort.toSort()).limit(limit + 1).all()
+        );
+        boolean hasNext = cards.size() > limit;
+
+        return new SliceImpl<>(hasNext ? cards.subList(0, limit) : cards, PageRequest.ofSize(limit), hasNext);
+    }
+
+    public List<Long> findCardIds(CardQueryDTO cardQuery) {
+        checkDeadLineRange(cardQuery);
+
+        List<Specification<Card>> specifications = this.buildFilters(cardQuery);
+
+        if (specifications.isEmpty()) {
+            throw new IllegalArgumentException(INVALID_CARD_SELECTION_ERROR + "empty filter");
+        }
+
+        return this.cardSearchRepository.findCardIds(Specification.allOf(specifications));
+    }
+
+    public String nextCursor(CardQueryDTO cardQuery, Slice<Card> cards) {
+        if (!cards.hasNext()) {
+            return null;
+        }
+
+        CardQuerySort sort = sortOf(cardQuery);
+        Card lastCard = cards.getContent().getLast();
+        String cursor = sort.name() + CURSOR_SEPARATOR + encodeValue(sortValueOf(sort, lastCard))
+                + CURSOR_SEPARATOR + lastCard.getId();
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private List<Specification<Card>> buildFilters(CardQueryDTO cardQuery) {
+        List<Specification<Card>> specifications = new ArrayList<>();
+
+        if (cardQuery.getDashboardId() != null) {
+            specifications.add(inDashboard(cardQuery.getDashboardId()));
+        }
+
+        if (cardQuery.getTableId() != null) {
+            specifications.add(inTable(cardQuery.getTableId()));
+        }
+
+        if (cardQuery.getTagIds() != null && !cardQuery.getTagIds().isEmpty()) {
+            specifications.add(withAnyTag(cardQuery.getTagIds()));
+        }
+
+        if (cardQuery.getColor() != null) {
+            specifications.add(withColor(cardQuery.getColor()));
+        }
+
+        if (cardQuery.getCardType() != null) {
+            specifications.add(withCardType(cardQuery.getCardType()));
+        }
+
+        if (cardQuery.getDeadLineFrom() != null) {
+            specifications.add(withDeadLineFrom(cardQuery.getDeadLineFrom()));
+        }
+
+        if (cardQuery.getDeadLineTo() != null) {
+            specifications.add(withDeadLineTo(cardQuery.getDeadLineTo()));
+        }
+
+        if (cardQuery.getHasUncheckedChecks() != null) {
+            specifications.add(withUncheckedChecks(cardQuery.getHasUncheckedChecks()));
+        }
+
+        if (cardQuery.getText() != null && !cardQuery.getText().isBlank()) {
+            specifications.add(containingText(cardQuery.getText().strip()));
+        }
+
+        return specifications;
+    }
+
+    private static void checkDeadLineRange(CardQueryDTO cardQuery) {
+        Date from = cardQuery.getDeadLineFrom();
+        Date to = cardQuery.getDeadLineTo();
+
+        if (from != null && to != null && from.after(to)) {
+            throw new IllegalArgumentException(INVALID_DEAD_LINE_RANGE_ERROR + from + " To: " + to);
+        }
+    }
+
+    private static CardQuerySort sortOf(CardQueryDTO cardQuery) {
+        return cardQuery.getSort() != null ? cardQuery.getSort() : CardQuerySort.NEWEST;
+    }
+
+    private static Object sortValueOf(CardQuerySort sort, Card card) {
+        return switch (sort) {
+            case NEWEST, OLDEST -> card.getCreatedAt();
+            case DEAD_LINE -> card.getDeadLine();
+            case TITLE -> card.getTitleSortKey();
+        };
+    }
+
+    private static String encodeValue(Object value) {
+        return switch (value) {
+            case null -> NULL_CURSOR_VALUE;
+            case Timestamp timestamp -> timestamp.toInstant().toString();
+            case Date date -> date.toInstant().toString();
+            case byte[] bytes -> HexFormat.of().formatHex(bytes);
+            default -> throw new IllegalStateException("Unexpected sort value: " + value);
+        };
+    }
+
+    private static Specification<Card> decodeCursor(CardQuerySort sort, String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\" + CURSOR_SEPARATOR, -1);
+
+            if (parts.length != 3 || !parts[0].equals(sort.name())) {
+                throw new IllegalArgumentException(INVALID_CARD_CURSOR_ERROR + cursor);
+            }
+
+            Object lastValue = NULL_CURSOR_VALUE.equals(parts[1]) ? null : switch (sort) {
+                case NEWEST, OLDEST, DEAD_LINE -> Timestamp.from(Instant.parse(parts[1]));
+                case TITLE -> HexFormat.of().parseHex(parts[1]);
+            };
+
+            return after(sort, lastValue, Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException(INVALID_CARD_CURSOR_ERROR + cursor, e);
+        }
+    }
+}
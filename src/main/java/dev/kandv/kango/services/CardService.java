@@ -1,20 +1,29 @@
 package dev.kandv.kango.services;
 
+import dev.kandv.kango.dtos.CardBulkUpdateDTO;
+import dev.kandv.kango.dtos.CardDTO;
+import dev.kandv.kango.dtos.CardQueryDTO;
+import dev.kandv.kango.dtos.DeadlineReminderDTO;
+import dev.kandv.kango.dtos.OverdueCountDTO;
 import dev.kandv.kango.models.Card;
 import dev.kandv.kango.models.Tag;
+import dev.kandv.kango.models.enums.AuditAction;
+import dev.kandv.kango.models.enums.AuditEntityType;
+import dev.kandv.kango.models.enums.CardBulkOperation;
 import dev.kandv.kango.models.enums.CardType;
 import dev.kandv.kango.models.enums.Color;
 import dev.kandv.kango.models.utils.AttachedFile;
 import dev.kandv.kango.models.utils.Check;
+import dev.kandv.kango.repositories.CardBulkRepository;
 import dev.kandv.kango.repositories.CardRepository;
+import dev.kandv.kango.repositories.CascadeDeleteRepository;
+import dev.kandv.kango.repositories.CascadeDeleteRepository.Deleted;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
-import java.util.Date;
-import java.util.List;
-import java.util.NoSuchElementException;
-import java.util.Optional;
+import java.util.*;
 
 import static dev.kandv.kango.services.ErrorMessagesServices.*;
 import static dev.kandv.kango.services.ServiceUtils.*;
@@ -25,22 +34,57 @@ public class CardService {
 
     public static final String INVALID_CARD_CREATION_ERROR = "ERROR: Invalid Card. Value: ";
     public static final String NOT_FOUND_ELEMENT_IN_CARD_ERROR = "ERROR: There is no such Element in that Card. Element: ";
+    public static final String INVALID_DEAD_LINE_RANGE_ERROR = "ERROR: Invalid Dead Line range. From: ";
+    public static final String INVALID_COPY_COUNT_ERROR = "ERROR: Invalid number of copies. Value: ";
+    public static final String INVALID_CARD_SELECTION_ERROR = "ERROR: Invalid Card selection. Value: ";
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_TEMPLATE_COPIES = 500;
 
     private final CardRepository cardRepository;
+    private final CardBulkRepository cardBulkRepository;
+    private final CascadeDeleteRepository cascadeDeleteRepository;
+    private final CardQueryService cardQueryService;
+    private final CardPositionBuffer cardPositionBuffer;
+    private final DeadlineReminderService deadlineReminderService;
+    private final AuditLogService auditLogService;
 
     public Card getSpecificCardById(Long id) {
         Optional<Card> cardById = this.cardRepository.findById(id);
         return cardById.orElse(null);
     }
 
+    @Transactional
+    public List<Card> getCardsByIds(List<Long> ids) {
+        Set<Long> cardIds = checkIdList(ids);
+
+        List<Card> cards = this.cardRepository.findAllWithTagsByIdIn(cardIds);
+        Set<Long> contentIds = new LinkedHashSet<>(cardIds);
+        cards.stream()
+                .filter(card -> card.getTemplateSource() != null)
+                .forEach(card -> contentIds.add(card.getTemplateSource().getId()));
+        this.cardRepository.findAllWithChecksByIdIn(contentIds);
+        this.cardRepository.findAllWithAttachedFilesByIdIn(contentIds);
+
+        return cards;
+    }
+
     public Card createCard(Card card) {
         try{
-            return this.cardRepository.save(card);
+            Card createdCard = this.cardRepository.save(card);
+            this.scheduleDeadLineReminder(createdCard);
+            this.audit(createdCard.getId(), AuditAction.CREATE, createdCard.getTitle());
+            return createdCard;
         } catch (IllegalArgumentException e) {
             throw new IllegalArgumentException(INVALID_CARD_CREATION_ERROR + card);
         }
     }
 
+    private void scheduleDeadLineReminder(Card card) {
+        if (card.getDeadLine() != null) {
+            this.deadlineReminderService.scheduleReminder(card.getId(), card.getTitle(), card.getDeadLine());
+        }
+    }
+
     @Transactional
     public Card createCardUsingATemplate(Long id) {
         this.checkId(id);
@@ -48,30 +92,135 @@ public class CardService {
         Optional<Card> result = this.cardRepository.findById(id);
         Card currentCard = this.checkDatabaseResult(id, result);
 
-        Card copyCard = new Card(currentCard);
-        copyCard.setCardType(CardType.NORMAL);
+        Card copyCard = currentCard.createTemplateInstance();
         this.cardRepository.save(copyCard);
-        System.out.println(copyCard.getCardType());
+        this.scheduleDeadLineReminder(copyCard);
+        this.audit(copyCard.getId(), AuditAction.CREATE, copyCard.getTitle());
         return copyCard;
     }
 
+    @Transactional
+    public List<Long> createCardsUsingATemplate(Long id, int count, Long tableId) {
+        this.checkId(id);
+
+        if (count < 1 || count > MAX_TEMPLATE_COPIES) {
+            throw new IllegalArgumentException(INVALID_COPY_COUNT_ERROR + count);
+        }
+
+        Optional<Card> result = this.cardRepository.findById(id);
+        Card currentCard = this.checkDatabaseResult(id, result);
+        this.cardRepository.flush();
+
+        Integer firstPosition = null;
+        if (tableId != null) {
+            firstPosition = this.cardBulkRepository.lockTableForAppend(tableId)
+                    .orElseThrow(() -> new NoSuchElementException(NOT_FOUND_TABLE_WITH_ID_ERROR + tableId));
+        }
+
+        List<Long> cardIds = this.cardBulkRepository.allocateCardIds(count);
+        this.cardBulkRepository.insertTemplateInstances(id, cardIds, tableId, firstPosition);
+        this.auditLogService.recordAll(AuditEntityType.CARD, cardIds, AuditAction.CREATE, currentCard.getTitle());
+
+        if (currentCard.getDeadLine() != null) {
+            for (Long cardId : cardIds) {
+                this.deadlineReminderService.scheduleReminder(cardId, currentCard.getTitle(), currentCard.getDeadLine());
+            }
+        }
+
+        return cardIds;
+    }
+
     public void removeAllCards() {
         List<Card> cards = this.cardRepository.findAll();
         for (Card card : cards) {
             card.setTable(null);
+            card.setTemplateSource(null);
         }
         this.cardRepository.saveAll(cards);
         this.cardRepository.deleteAll();
+        this.deadlineReminderService.cancelAllReminders();
     }
 
+    @Transactional
     public void removeCardById(Long id) {
+        this.audit(id, AuditAction.DELETE, null);
+        this.materializeTemplateInstances(List.of(id));
         this.cardRepository.deleteById(id);
+        this.deadlineReminderService.cancelReminder(id);
+    }
+
+    @Transactional
+    public CardDTO deleteCardById(Long id) {
+        this.checkId(id);
+
+        Deleted<CardDTO> deletedCard = this.cascadeDeleteRepository.deleteCard(id)
+                .orElseThrow(() -> new NoSuchElementException(NOT_FOUND_CARD_WITH_ID_ERROR + id));
+        this.deadlineReminderService.cancelReminder(id);
+        this.auditLogService.record(AuditEntityType.CARD, id, deletedCard.dashboardId(), AuditAction.DELETE, null);
+
+        return deletedCard.element();
+    }
+
+    @Transactional
+    public int removeCardsByIds(List<Long> ids) {
+        Set<Long> cardIds = checkIdList(ids, MAX_BULK_ID_LIST_SIZE);
+        this.cardBulkRepository.findCardTableIds(cardIds).forEach(this.cardPositionBuffer::flush);
+
+        return this.removeCards(cardIds);
+    }
+
+    public int removeCards(Collection<Long> cardIds) {
+        if (cardIds.isEmpty()) {
+            return 0;
+        }
+
+        this.materializeTemplateInstances(List.copyOf(cardIds));
+        Map<Long, Long> deletedIds = this.cardBulkRepository.deleteCards(cardIds);
+
+        deletedIds.forEach((deletedId, dashboardId) -> {
+            this.deadlineReminderService.cancelReminder(deletedId);
+            this.auditLogService.record(AuditEntityType.CARD, deletedId, dashboardId, AuditAction.DELETE, null);
+        });
+
+        return deletedIds.size();
+    }
+
+    public void materializeTemplateInstances(List<Long> templateIds) {
+        this.cardRepository.flush();
+        this.cardBulkRepository.materializeTemplateInstances(templateIds);
+    }
+
+    private void materializeTemplateInstances(Card card) {
+        this.materializeTemplateInstances(List.of(card.getId()));
     }
 
     public List<Card> getAllGlobalTemplateCards() {
         return this.cardRepository.findAllByCardTypeEquals(CardType.GLOBAL_TEMPLATE);
     }
 
+    public List<Card> getCardsByDeadLineRange(Date from, Date to, int page, int size) {
+        this.checkElementToUpdate(from, FROM_ELEMENT);
+        this.checkElementToUpdate(to, TO_ELEMENT);
+
+        if (from.after(to)) {
+            throw new IllegalArgumentException(INVALID_DEAD_LINE_RANGE_ERROR + from + " To: " + to);
+        }
+
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException(INVALID_PAGE_ERROR + page + " Size: " + size);
+        }
+
+        return this.cardRepository.findAllByDeadLineBetweenOrderByDeadLineAscIdAsc(from, to, PageRequest.of(page, size));
+    }
+
+    public List<OverdueCountDTO> getOverdueCardCountsByDashboard() {
+        return this.cardRepository.countOverdueCardsByDashboard(new Date());
+    }
+
+    private void audit(Long id, AuditAction action, Object detail) {
+        this.auditLogService.record(AuditEntityType.CARD, id, action, detail);
+    }
+
     private Card checkDatabaseResult(Long id, Optional<Card> result) {
         if (result.isEmpty()) {
             throw new NoSuchElementException(NOT_FOUND_CARD_WITH_ID_ERROR + id);
@@ -100,6 +249,7 @@ public class CardService {
         Card currentCard = this.checkDatabaseResult(id, result);
         currentCard.setTitle(newTitle);
         this.cardRepository.save(currentCard);
+        this.audit(id, AuditAction.UPDATE_TITLE, newTitle);
     }
 
     public void updateDescriptionCard(Long id, String newDescription) {
@@ -110,6 +260,7 @@ public class CardService {
         Card currentCard = this.checkDatabaseResult(id, result);
         currentCard.setDescription(newDescription);
         this.cardRepository.save(currentCard);
+        this.audit(id, AuditAction.UPDATE_DESCRIPTION, newDescription);
     }
 
     public void updateColorCard(Long id, Color newColor) {
@@ -120,6 +271,7 @@ public class CardService {
         Card currentCard = this.checkDatabaseResult(id, result);
         currentCard.setColor(newColor);
         this.cardRepository.save(currentCard);
+        this.audit(id, AuditAction.UPDATE_COLOR, newColor);
     }
 
     public void updateDeadLineCard(Long id, Date newDeadLine) {
@@ -130,8 +282,11 @@ public class CardService {
         Card currentCard = this.checkDatabaseResult(id, result);
         currentCard.setDeadLine(newDeadLine);
         this.cardRepository.save(currentCard);
+        this.deadlineReminderService.scheduleReminder(id, currentCard.getTitle(), newDeadLine);
+        this.audit(id, AuditAction.UPDATE_DEAD_LINE, newDeadLine != null ? newDeadLine.toInstant() : null);
     }
 
+    @Transactional
     public void attachFileToCard(Long id, AttachedFile newAttachedFile) {
         this.checkId(id);
         this.checkElementToUpdate(newAttachedFile, FILE_ELEMENT);
@@ -139,10 +294,13 @@ public class CardService {
         Optional<Card> result = this.cardRepository.findById(id);
 
         Card currentCard = this.checkDatabaseResult(id, result);
+        this.materializeTemplateInstances(currentCard);
         currentCard.attachFile(newAttachedFile);
         this.cardRepository.save(currentCard);
+        this.audit(id, AuditAction.ATTACH_FILE, newAttachedFile.getFileUrl());
     }
 
+    @Transactional
     public void detachFileToCard(Long id, AttachedFile attachedFile) {
         this.checkId(id);
         this.checkElementToUpdate(attachedFile, FILE_ELEMENT);
@@ -150,6 +308,7 @@ public class CardService {
         Optional<Card> result = this.cardRepository.findById(id);
 
         Card currentCard = this.checkDatabaseResult(id, result);
+        this.materializeTemplateInstances(currentCard);
         boolean isSuccess = currentCard.detachFile(attachedFile);
 
         if (!isSuccess) {
@@ -157,8 +316,10 @@ public class CardService {
         }
 
         this.cardRepository.save(currentCard);
+        this.audit(id, AuditAction.DETACH_FILE, attachedFile.getFileUrl());
     }
 
+    @Transactional
     public void addCheckToCard(Long id, Check newCheck) {
         this.checkId(id);
         this.checkElementToUpdate(newCheck, CHECK_ELEMENT);
@@ -166,10 +327,13 @@ public class CardService {
         Optional<Card> result = this.cardRepository.findById(id);
 
         Card currentCard = this.checkDatabaseResult(id, result);
+        this.materializeTemplateInstances(currentCard);
         currentCard.addCheckToCheckList(newCheck);
         this.cardRepository.save(currentCard);
+        this.audit(id, AuditAction.ADD_CHECK, newCheck.getLabel());
     }
 
+    @Transactional
     public void removeCheckFromCard(Long id, Check newCheck) {
         this.checkId(id);
         this.checkElementToUpdate(newCheck, CHECK_ELEMENT);
@@ -177,6 +341,7 @@ public class CardService {
         Optional<Card> result = this.cardRepository.findById(id);
 
         Card currentCard = this.checkDatabaseResult(id, result);
+        this.materializeTemplateInstances(currentCard);
         boolean isSuccess = currentCard.removeCheckFromCheckList(newCheck);
 
         if (!isSuccess) {
@@ -184,8 +349,10 @@ public class CardService {
         }
 
         this.cardRepository.save(currentCard);
+        this.audit(id, AuditAction.REMOVE_CHECK, newCheck.getLabel());
     }
 
+    @Transactional
     public void updateCheckFromCard(Long id, Check newCheck) {
         this.checkId(id);
         this.checkElementToUpdate(newCheck, CHECK_ELEMENT);
@@ -193,9 +360,11 @@ public class CardService {
         Optional<Card> result = this.cardRepository.findById(id);
 
         Card currentCard = this.checkDatabaseResult(id, result);
+        this.materializeTemplateInstances(currentCard);
         currentCard.updateCheckFromCheckList(newCheck);
 
         this.cardRepository.save(currentCard);
+        this.audit(id, AuditAction.UPDATE_CHECK, newCheck.getLabel() + (newCheck.isChecked() ? " [x]" : " [ ]"));
     }
 
     public void addTagToCard(Long id, Tag tag) {
@@ -208,6 +377,7 @@ public class CardService {
         currentCard.addTagToTagList(tag);
 
         this.cardRepository.save(currentCard);
+        this.audit(id, AuditAction.ADD_TAG, tag.getId());
     }
 
     public void removeTagFromCard(Long id, Tag tag) {
@@ -224,6 +394,74 @@ public class CardService {
         }
 
         this.cardRepository.save(currentCard);
+        this.audit(id, AuditAction.REMOVE_TAG, tag.getId());
+    }
+
+    @Transactional
+    public int updateCards(CardBulkUpdateDTO cardBulkUpdate) {
+        CardBulkOperation operation = cardBulkUpdate.getOperation();
+        this.checkElementToUpdate(operation, BULK_OPERATION_ELEMENT);
+
+        switch (operation) {
+            case SET_COLOR -> this.checkElementToUpdate(cardBulkUpdate.getColor(), COLOR_ELEMENT);
+            case SET_DEAD_LINE -> this.checkElementToUpdate(cardBulkUpdate.getDeadLine(), DEAD_LINE_ELEMENT);
+            case ADD_TAG, REMOVE_TAG -> this.checkElementToUpdate(cardBulkUpdate.getTagId(), TAG_ELEMENT);
+        }
+
+        Collection<Long> cardIds = this.selectCards(cardBulkUpdate);
+
+        if (cardIds.isEmpty()) {
+            return 0;
+        }
+
+        return switch (operation) {
+            case SET_COLOR -> {
+                List<Long> updatedIds = this.cardBulkRepository.updateCardColors(cardIds, cardBulkUpdate.getColor());
+                this.auditLogService.recordAll(AuditEntityType.CARD, updatedIds, AuditAction.UPDATE_COLOR, cardBulkUpdate.getColor());
+                yield updatedIds.size();
+            }
+            case SET_DEAD_LINE -> {
+                List<DeadlineReminderDTO> updatedCards =
+                        this.cardBulkRepository.updateCardDeadLines(cardIds, cardBulkUpdate.getDeadLine());
+
+                for (DeadlineReminderDTO updatedCard : updatedCards) {
+                    this.deadlineReminderService.scheduleReminder(
+                            updatedCard.getCardId(), updatedCard.getTitle(), updatedCard.getDeadLine()
+                    );
+                }
+
+                this.auditLogService.recordAll(AuditEntityType.CARD,
+                        updatedCards.stream().map(DeadlineReminderDTO::getCardId).toList(),
+                        AuditAction.UPDATE_DEAD_LINE, cardBulkUpdate.getDeadLine().toInstant());
+
+                yield updatedCards.size();
+            }
+            case ADD_TAG -> {
+                List<Long> updatedIds = this.cardBulkRepository.addTagToCards(cardIds, cardBulkUpdate.getTagId());
+                this.auditLogService.recordAll(AuditEntityType.CARD, updatedIds, AuditAction.ADD_TAG, cardBulkUpdate.getTagId());
+                yield updatedIds.size();
+            }
+            case REMOVE_TAG -> {
+                List<Long> updatedIds = this.cardBulkRepository.removeTagFromCards(cardIds, cardBulkUpdate.getTagId());
+                this.auditLogService.recordAll(AuditEntityType.CARD, updatedIds, AuditAction.REMOVE_TAG, cardBulkUpdate.getTagId());
+                yield updatedIds.size();
+            }
+        };
+    }
+
+    private Collection<Long> selectCards(CardBulkUpdateDTO cardBulkUpdate) {
+        List<Long> ids = cardBulkUpdate.getIds();
+        CardQueryDTO filter = cardBulkUpdate.getFilter();
+
+        if ((ids == null) == (filter == null)) {
+            throw new IllegalArgumentException(INVALID_CARD_SELECTION_ERROR + "ids or filter");
+        }
+
+        if (ids != null) {
+            return checkIdList(ids, MAX_BULK_ID_LIST_SIZE);
+        }
+
+        return this.cardQueryService.findCardIds(filter);
     }
 
 }
@@ -0,0 +1,86 @@
+package dev.kandv.kango.services;
+
+import dev.kandv.kango.dtos.CloneResultDTO;
+import dev.kandv.kango.dtos.DeadlineReminderDTO;
+import dev.kandv.kango.models.Dashboard;
+import dev.kandv.kango.models.Table;
+import dev.kandv.kango.repositories.CloneRepository;
+import dev.kandv.kango.repositories.TableRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.NoSuchElementException;
+
+import static dev.kandv.kango.services.ErrorMessagesServices.*;
+
+@Service
+@RequiredArgsConstructor
+public class CloneService {
+
+    private final CloneRepository cloneRepository;
+    private final TableRepository tableRepository;
+    private final DeadlineReminderService deadlineReminderService;
+    private final CardPositionBuffer cardPositionBuffer;
+
+    @Transactional
+    public CloneResultDTO cloneDashboard(Long id, String name) {
+        this.checkId(id);
+        this.cardPositionBuffer.flushDashboard(id);
+
+        Long dashboardId = this.cloneRepository.insertDashboardCopy(id, name)
+                .orElseThrow(() -> new NoSuchElementException(NOT_FOUND_DASHBOARD_WITH_ID_ERROR + id));
+
+        this.cloneRepository.prepareMappingTables();
+        this.cloneRepository.insertDashboardAttachedFileCopies(id, dashboardId);
+        this.cloneRepository.mapDashboard(id);
+
+        int clonedTags = this.cloneRepository.insertMappedTags(dashboardId);
+        int clonedTables = this.cloneRepository.insertMappedTables(dashboardId, null);
+        int clonedCards = this.cloneRepository.insertMappedCards(dashboardId);
+
+        this.scheduleClonedReminders();
+
+        return new CloneResultDTO(dashboardId, null, clonedTags, clonedTables, clonedCards);
+    }
+
+    @Transactional
+    public CloneResultDTO cloneTable(Long id, Long dashboardId) {
+        this.checkId(id);
+        this.cardPositionBuffer.flush(id);
+
+        Table currentTable = this.tableRepository.findById(id)
+                .orElseThrow(() -> new NoSuchElementException(NOT_FOUND_TABLE_WITH_ID_ERROR + id));
+        Dashboard currentDashboard = currentTable.getDashboard();
+        Long targetDashboardId = dashboardId != null ? dashboardId : currentDashboard != null ? currentDashboard.getId() : null;
+
+        Integer position = null;
+        if (targetDashboardId != null) {
+            position = this.cloneRepository.lockDashboardForAppend(targetDashboardId)
+                    .orElseThrow(() -> new NoSuchElementException(NOT_FOUND_DASHBOARD_WITH_ID_ERROR + targetDashboardId));
+        }
+
+        this.cloneRepository.prepareMappingTables();
+        Long tableId = this.cloneRepository.mapTable(id)
+                .orElseThrow(() -> new NoSuchElementException(NOT_FOUND_TABLE_WITH_ID_ERROR + id));
+
+        int clonedTables = this.cloneRepository.insertMappedTables(targetDashboardId, position);
+        int clonedCards = this.cloneRepository.insertMappedCards(null);
+
+        this.scheduleClonedReminders();
+
+        return new CloneResultDTO(targetDashboardId, tableId, 0, clonedTables, clonedCards);
+    }
+
+    private void checkId(Long id) {
+        if (id == null) {
+            throw new IllegalArgumentException(INVALID_ID_ERROR + null);
+        }
+    }
+
+    private void scheduleClonedReminders() {
+        for (DeadlineReminderDTO reminder : this.cloneRepository.findMappedCardReminders()) {
+            this.deadlineReminderService.scheduleReminder(reminder.getCardId(), reminder.getTitle(), reminder.getDeadLine());
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package dev.kandv.kango.services;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import dev.kandv.kango.dtos.ArchivedCardExportDTO;
+import dev.kandv.kango.dtos.CardExportDTO;
+import dev.kandv.kango.dtos.DashboardExportDTO;
+import dev.kandv.kango.dtos.ExportRecordDTO;
+import dev.kandv.kango.dtos.TableExportDTO;
+import dev.kandv.kango.repositories.DashboardExportRepository;
+import jakarta.transaction.Transactional;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static dev.kandv.kango.repositories.DashboardExportRepository.FETCH_SIZE;
+import static dev.kandv.kango.services.ErrorMessagesServices.NOT_FOUND_DASHBOARD_WITH_ID_ERROR;
+
+@Service
+public class DashboardExportService {
+
+    private final DashboardExportRepository dashboardExportRepository;
+    private final CardPositionBuffer cardPositionBuffer;
+    private final ObjectWriter recordWriter;
+
+    public DashboardExportService(DashboardExportRepository dashboardExportRepository,
+                                  CardPositionBuffer cardPositionBuffer, ObjectMapper objectMapper) {
+        this.dashboardExportRepository = dashboardExportRepository;
+        this.cardPositionBuffer = cardPositionBuffer;
+        this.recordWriter = objectMapper
+                .writerFor(ExportRecordDTO.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .withRootValueSeparator("\n");
+    }
+
+    @Transactional
+    public void exportDashboard(Long id, OutputStream outputStream) throws IOException {
+        this.cardPositionBuffer.flushDashboard(id);
+        this.writeDashboard(id, outputStream);
+    }
+
+    @Transactional
+    public void writeDashboard(Long id, OutputStream outputStream) throws IOException {
+        DashboardExportDTO dashboard = this.dashboardExportRepository.findDashboard(id)
+                .orElseThrow(() -> new NoSuchElementException(NOT_FOUND_DASHBOARD_WITH_ID_ERROR + id));
+
+        try (SequenceWriter sequenceWriter = this.recordWriter.writeValues(outputStream)) {
+            sequenceWriter.write(dashboard);
+
+            for (ExportRecordDTO tag : this.dashboardExportRepository.findTags(id)) {
+                sequenceWriter.write(tag);
+            }
+
+            try (Stream<TableExportDTO> tables = this.dashboardExportRepository.streamTables(id)) {
+                tables.forEach(table -> this.write(sequenceWriter, table));
+            }
+
+            try (Stream<CardExportDTO> cards = this.dashboardExportRepository.streamCards(id)) {
+                this.writeChunks(sequenceWriter, cards, this.dashboardExportRepository::fillCardDetails);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        outputStream.write('\n');
+        outputStream.flush();
+    }
+
+    @Transactional
+    public void writeGlobalCards(OutputStream outputStream) throws IOException {
+        try (SequenceWriter sequenceWriter = this.recordWriter.writeValues(outputStream)) {
+            try (Stream<TableExportDTO> tables = this.dashboardExportRepository.streamGlobalTables()) {
+                tables.forEach(table -> this.write(sequenceWriter, table));
+            }
+
+            try (Stream<CardExportDTO> cards = this.dashboardExportRepository.streamGlobalCards()) {
+                this.writeChunks(sequenceWriter, cards, this.dashboardExportRepository::fillCardDetails);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        outputStream.write('\n');
+        outputStream.flush();
+    }
+
+    @Transactional
+    public void writeArchivedCards(OutputStream outputStream) throws IOException {
+        try (SequenceWriter sequenceWriter = this.recordWriter.writeValues(outputStream);
+             Stream<ArchivedCardExportDTO> cards = this.dashboardExportRepository.streamArchivedCards()) {
+            this.writeChunks(sequenceWriter, cards, this.dashboardExportRepository::fillArchivedCardDetails);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        outputStream.write('\n');
+        outputStream.flush();
+    }
+
+    @Transactional
+    public void exportGlobalTags(OutputStream outputStream) throws IOException {
+        try (SequenceWriter sequenceWriter = this.recordWriter.writeValues(outputStream)) {
+            for (ExportRecordDTO tag : this.dashboardExportRepository.findGlobalTags()) {
+                sequenceWriter.write(tag);
+            }
+        }
+
+        outputStream.write('\n');
+        outputStream.flush();
+    }
+
+    private <T extends ExportRecordDTO> void writeChunks(SequenceWriter sequenceWriter, Stream<T> cards,
+                                                         Consumer<List<T>> detailsFiller) throws IOException {
+        Iterator<T> iterator = cards.iterator();
+        List<T> chunk = new ArrayList<>(FETCH_SIZE);
+
+        while (iterator.hasNext()) {
+            chunk.add(iterator.next());
+
+            if (chunk.size() == FETCH_SIZE || !iterator.hasNext()) {
+                detailsFiller.accept(chunk);
+                chunk.forEach(card -> this.write(sequenceWriter, card));
+                chunk.clear();
+                sequenceWriter.flush();
+            }
+        }
+    }
+
+    private void write(SequenceWriter sequenceWriter, ExportRecordDTO exportRecord) {
+        try {
+            sequenceWriter.write(exportRecord);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,361 @@
+package dev.kandv.kango.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import dev.kandv.kango.dtos.*;
+import dev.kandv.kango.models.enums.CardType;
+import dev.kandv.kango.models.enums.Visibility;
+import dev.kandv.kango.repositories.CardBulkRepository;
+import dev.kandv.kango.repositories.DashboardImportRepository;
+import jakarta.transaction.Transactional;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+
+@Service
+public class DashboardImportService {
+
+    public static final String INVALID_IMPORT_ERROR = "ERROR: Invalid import stream. Record: ";
+    public static final String INVALID_IMPORT_REFERENCE_ERROR = "ERROR: The imported element references an unknown element. Reference: ";
+    public static final String MISSING_IMPORT_DASHBOARD_ERROR = "ERROR: The import stream must start with a single dashboard record.";
+    public static final int IMPORT_CHUNK_SIZE = 5000;
+
+    private final DashboardImportRepository dashboardImportRepository;
+    private final CardBulkRepository cardBulkRepository;
+    private final DeadlineReminderService deadlineReminderService;
+    private final ObjectReader recordReader;
+
+    public DashboardImportService(
+            DashboardImportRepository dashboardImportRepository,
+            CardBulkRepository cardBulkRepository,
+            DeadlineReminderService deadlineReminderService,
+            ObjectMapper objectMapper) {
+        this.dashboardImportRepository = dashboardImportRepository;
+        this.cardBulkRepository = cardBulkRepository;
+        this.deadlineReminderService = deadlineReminderService;
+        this.recordReader = objectMapper.readerFor(ExportRecordDTO.class);
+    }
+
+    @Transactional
+    public ImportResultDTO importDashboard(InputStream inputStream) throws IOException {
+        return this.importDashboard(inputStream, Map.of(), new HashMap<>(), new HashMap<>());
+    }
+
+    @Transactional
+    public ImportResultDTO importDashboard(InputStream inputStream, Map<Long, Long> globalTagIds,
+                                           Map<Long, Long> restoredTagIds, Map<Long, Long> restoredTableIds) throws IOException {
+        try (MappingIterator<ExportRecordDTO> records = this.recordReader.readValues(inputStream)) {
+            ImportState state = this.importRecords(records, globalTagIds);
+            restoredTagIds.putAll(state.tagIds);
+            restoredTableIds.putAll(state.tableIds);
+            return state.toResult();
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(INVALID_IMPORT_ERROR + e.getOriginalMessage(), e);
+        } catch (RuntimeException e) {
+            throw invalidImport(e);
+        }
+    }
+
+    @Transactional
+    public Map<Long, Long> importGlobalTags(InputStream inputStream) throws IOException {
+        Map<Long, Long> globalTagIds = new HashMap<>();
+
+        try (MappingIterator<ExportRecordDTO> records = this.recordReader.readValues(inputStream)) {
+            while (records.hasNext()) {
+                if (!(records.next() instanceof TagExportDTO tag) || tag.isDashboardTag()) {
+                    throw new IllegalArgumentException(INVALID_IMPORT_ERROR + "global tag");
+                }
+
+                this.checkTag(tag);
+                this.putMapping(globalTagIds, tag.getId(), this.dashboardImportRepository.insertTag(tag, null), "tag");
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(INVALID_IMPORT_ERROR + e.getOriginalMessage(), e);
+        } catch (RuntimeException e) {
+            throw invalidImport(e);
+        }
+
+        return globalTagIds;
+    }
+
+    @Transactional
+    public ImportResultDTO importGlobalCards(InputStream inputStream, Map<Long, Long> restoredTagIds,
+                                            Map<Long, Long> restoredTableIds) throws IOException {
+        ImportState state = new ImportState(null, Map.of(), restoredTagIds);
+
+        try (MappingIterator<ExportRecordDTO> records = this.recordReader.readValues(inputStream)) {
+            while (records.hasNext()) {
+                switch (records.next()) {
+                    case TableExportDTO table -> this.importTable(table, state);
+                    case CardExportDTO card -> this.importCard(card, state);
+                    default -> throw new IllegalArgumentException(INVALID_IMPORT_ERROR + "global card");
+                }
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(INVALID_IMPORT_ERROR + e.getOriginalMessage(), e);
+        } catch (RuntimeException e) {
+            throw invalidImport(e);
+        }
+
+        this.flushCards(state);
+        restoredTableIds.putAll(state.tableIds);
+
+        return new ImportResultDTO(null, 0, state.tableIds.size(), state.importedCards);
+    }
+
+    @Transactional
+    public int importArchivedCards(InputStream inputStream, Map<Long, Long> restoredTagIds,
+                                   Map<Long, Long> restoredTableIds) throws IOException {
+        List<ArchivedCardExportDTO> pendingCards = new ArrayList<>(IMPORT_CHUNK_SIZE);
+        int importedCards = 0;
+
+        try (MappingIterator<ExportRecordDTO> records = this.recordReader.readValues(inputStream)) {
+            while (records.hasNext()) {
+                if (!(records.next() instanceof ArchivedCardExportDTO card)) {
+                    throw new IllegalArgumentException(INVALID_IMPORT_ERROR + "archived card");
+                }
+
+                pendingCards.add(this.checkArchivedCard(card, restoredTagIds, restoredTableIds));
+
+                if (pendingCards.size() == IMPORT_CHUNK_SIZE || !records.hasNext()) {
+                    List<Long> newCardIds = this.cardBulkRepository.allocateCardIds(pendingCards.size());
+                    for (int i = 0; i < pendingCards.size(); i++) {
+                        pendingCards.get(i).setId(newCardIds.get(i));
+                    }
+
+                    this.cardBulkRepository.copyArchivedCards(pendingCards);
+                    importedCards += pendingCards.size();
+                    pendingCards.clear();
+                }
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(INVALID_IMPORT_ERROR + e.getOriginalMessage(), e);
+        } catch (RuntimeException e) {
+            throw invalidImport(e);
+        }
+
+        return importedCards;
+    }
+
+    public ImportResultDTO importRecords(Iterator<ExportRecordDTO> records) {
+        return this.importRecords(records, Map.of()).toResult();
+    }
+
+    private ImportState importRecords(Iterator<ExportRecordDTO> records, Map<Long, Long> globalTagIds) {
+        if (!records.hasNext() || !(records.next() instanceof DashboardExportDTO dashboard)) {
+            throw new IllegalArgumentException(MISSING_IMPORT_DASHBOARD_ERROR);
+        }
+
+        this.checkDashboard(dashboard);
+        Long dashboardId = this.dashboardImportRepository.insertDashboard(dashboard.getName(), dashboard.getAttachedFiles());
+
+        ImportState state = new ImportState(dashboardId, globalTagIds, Map.of());
+
+        while (records.hasNext()) {
+            ExportRecordDTO exportRecord = records.next();
+
+            switch (exportRecord) {
+                case TagExportDTO tag -> this.importTag(tag, state);
+                case TableExportDTO table -> this.importTable(table, state);
+                case CardExportDTO card -> this.importCard(card, state);
+                default -> throw new IllegalArgumentException(MISSING_IMPORT_DASHBOARD_ERROR);
+            }
+        }
+
+        this.flushCards(state);
+
+        return state;
+    }
+
+    private void importTag(TagExportDTO tag, ImportState state) {
+        this.checkTag(tag);
+
+        Long newTagId;
+
+        if (tag.isDashboardTag()) {
+            newTagId = this.dashboardImportRepository.insertTag(tag, state.dashboardId);
+        } else if (state.globalTagIds.containsKey(tag.getId())) {
+            newTagId = state.globalTagIds.get(tag.getId());
+        } else {
+            newTagId = this.dashboardImportRepository.findGlobalTag(tag)
+                    .orElseGet(() -> this.dashboardImportRepository.insertTag(tag, null));
+        }
+
+        this.putMapping(state.tagIds, tag.getId(), newTagId, "tag");
+    }
+
+    private void checkTag(TagExportDTO tag) {
+        if (tag.getId() == null || tag.getColor() == null || tag.getLabel() == null) {
+            throw new IllegalArgumentException(INVALID_IMPORT_ERROR + "tag " + tag.getId());
+        }
+
+        if (tag.getVisibility() == null) {
+            tag.setVisibility(Visibility.LOCAL);
+        }
+    }
+
+    private void importTable(TableExportDTO table, ImportState state) {
+        if (table.getId() == null || table.getName() == null) {
+            throw new IllegalArgumentException(INVALID_IMPORT_ERROR + "table " + table.getId());
+        }
+
+        Long newTableId = this.dashboardImportRepository.insertTable(table, state.dashboardId);
+        this.putMapping(state.tableIds, table.getId(), newTableId, "table");
+    }
+
+    private void importCard(CardExportDTO card, ImportState state) {
+        state.pendingCards.add(this.checkCard(card, state));
+
+        if (state.pendingCards.size() == IMPORT_CHUNK_SIZE) {
+            this.flushCards(state);
+        }
+    }
+
+    private CardExportDTO checkCard(CardExportDTO card, ImportState state) {
+        card.setChecks(Objects.requireNonNullElseGet(card.getChecks(), ArrayList::new));
+        card.setAttachedFiles(Objects.requireNonNullElseGet(card.getAttachedFiles(), ArrayList::new));
+        card.setTagIds(Objects.requireNonNullElseGet(card.getTagIds(), ArrayList::new));
+
+        if (card.getTableId() != null) {
+            Long newTableId = state.tableIds.get(card.getTableId());
+
+            if (newTableId == null) {
+                throw new IllegalArgumentException(INVALID_IMPORT_REFERENCE_ERROR + "table " + card.getTableId());
+            }
+
+            card.setTableId(newTableId);
+        }
+
+        List<Long> newTagIds = new ArrayList<>(card.getTagIds().size());
+        for (Long tagId : card.getTagIds()) {
+            Long newTagId = state.tagIds.get(tagId);
+
+            if (newTagId == null) {
+                throw new IllegalArgumentException(INVALID_IMPORT_REFERENCE_ERROR + "tag " + tagId);
+            }
+
+            newTagIds.add(newTagId);
+        }
+        card.setTagIds(newTagIds);
+
+        if (card.getCardType() == null) {
+            card.setCardType(CardType.NORMAL);
+        }
+
+        boolean invalidChecks = card.getChecks().stream()
+                .anyMatch(check -> check == null || check.getLabel() == null);
+        boolean invalidAttachedFiles = card.getAttachedFiles().stream()
+                .anyMatch(file -> file == null || file.getFileName() == null || file.getFileUrl() == null);
+
+        if (invalidChecks || invalidAttachedFiles) {
+            throw new IllegalArgumentException(INVALID_IMPORT_ERROR + "card " + card.getId());
+        }
+
+        return card;
+    }
+
+    private ArchivedCardExportDTO checkArchivedCard(ArchivedCardExportDTO card, Map<Long, Long> restoredTagIds,
+                                                    Map<Long, Long> restoredTableIds) {
+        card.setChecks(Objects.requireNonNullElseGet(card.getChecks(), ArrayList::new));
+        card.setAttachedFiles(Objects.requireNonNullElseGet(card.getAttachedFiles(), ArrayList::new));
+        card.setTagIds(Objects.requireNonNullElseGet(card.getTagIds(), ArrayList::new));
+
+        boolean invalidChecks = card.getChecks().stream()
+                .anyMatch(check -> check == null || check.getLabel() == null);
+        boolean invalidAttachedFiles = card.getAttachedFiles().stream()
+                .anyMatch(file -> file == null || file.getFileName() == null || file.getFileUrl() == null);
+
+        if (card.getArchivedAt() == null || invalidChecks || invalidAttachedFiles) {
+            throw new IllegalArgumentException(INVALID_IMPORT_ERROR + "archived card " + card.getId());
+        }
+
+        // The archive outlives the tables and tags its cards came from, dangling references are dropped.
+        card.setTableId(card.getTableId() != null ? restoredTableIds.get(card.getTableId()) : null);
+        card.setTagIds(card.getTagIds().stream()
+                .map(restoredTagIds::get)
+                .filter(Objects::nonNull)
+                .toList());
+
+        if (card.getCardType() == null) {
+            card.setCardType(CardType.NORMAL);
+        }
+
+        return card;
+    }
+
+    private void flushCards(ImportState state) {
+        List<CardExportDTO> cards = state.pendingCards;
+
+        if (cards.isEmpty()) {
+            return;
+        }
+
+        List<Long> newCardIds = this.cardBulkRepository.allocateCardIds(cards.size());
+        for (int i = 0; i < cards.size(); i++) {
+            cards.get(i).setId(newCardIds.get(i));
+        }
+
+        this.cardBulkRepository.copyCards(cards, state.dashboardId);
+
+        for (CardExportDTO card : cards) {
+            if (card.getDeadLine() != null) {
+                this.deadlineReminderService.scheduleReminder(card.getId(), card.getTitle(), card.getDeadLine());
+            }
+        }
+
+        state.importedCards += cards.size();
+        cards.clear();
+    }
+
+    private void checkDashboard(DashboardExportDTO dashboard) {
+        dashboard.setAttachedFiles(Objects.requireNonNullElseGet(dashboard.getAttachedFiles(), ArrayList::new));
+
+        if (dashboard.getName() == null || dashboard.getName().isEmpty()) {
+            throw new IllegalArgumentException(INVALID_IMPORT_ERROR + "dashboard " + dashboard.getId());
+        }
+
+        boolean invalidAttachedFiles = dashboard.getAttachedFiles().stream()
+                .anyMatch(file -> file == null || file.getFileName() == null || file.getFileUrl() == null);
+
+        if (invalidAttachedFiles) {
+            throw new IllegalArgumentException(INVALID_IMPORT_ERROR + "dashboard " + dashboard.getId());
+        }
+    }
+
+    private void putMapping(Map<Long, Long> mapping, Long oldId, Long newId, String element) {
+        if (mapping.putIfAbsent(oldId, newId) != null) {
+            throw new IllegalArgumentException(INVALID_IMPORT_ERROR + "duplicated " + element + " " + oldId);
+        }
+    }
+
+    private static RuntimeException invalidImport(RuntimeException e) {
+        if (e.getCause() instanceof JsonProcessingException jsonException) {
+            return new IllegalArgumentException(INVALID_IMPORT_ERROR + jsonException.getOriginalMessage(), e);
+        }
+
+        return e;
+    }
+
+    private static class ImportState {
+        private final Long dashboardId;
+        private final Map<Long, Long> globalTagIds;
+        private final Map<Long, Long> tagIds;
+        private final Map<Long, Long> tableIds = new HashMap<>();
+        private final List<CardExportDTO> pendingCards = new ArrayList<>(IMPORT_CHUNK_SIZE);
+        private int importedCards;
+
+        ImportState(Long dashboardId, Map<Long, Long> globalTagIds, Map<Long, Long> tagIds) {
+            this.dashboardId = dashboardId;
+            this.globalTagIds = globalTagIds;
+            this.tagIds = new HashMap<>(tagIds);
+        }
+
+        ImportResultDTO toResult() {
+            return new ImportResultDTO(this.dashboardId, this.tagIds.size(), this.tableIds.size(), this.importedCards);
+        }
+    }
+}
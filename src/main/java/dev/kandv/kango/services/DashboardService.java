@@ -1,21 +1,31 @@
 package dev.kandv.kango.services;
 
+import dev.kandv.kango.dtos.DashboardDTO;
 import dev.kandv.kango.models.Card;
 import dev.kandv.kango.models.Dashboard;
 import dev.kandv.kango.models.Table;
 import dev.kandv.kango.models.Tag;
+import dev.kandv.kango.models.enums.AuditAction;
+import dev.kandv.kango.models.enums.AuditEntityType;
 import dev.kandv.kango.models.utils.AttachedFile;
+import dev.kandv.kango.repositories.CardBulkRepository;
+import dev.kandv.kango.repositories.CardPositionRepository;
+import dev.kandv.kango.repositories.CardPositionRepository.TableCardPreview;
+import dev.kandv.kango.repositories.CardRepository;
+import dev.kandv.kango.repositories.CascadeDeleteRepository;
 import dev.kandv.kango.repositories.DashboardRepository;
 import dev.kandv.kango.repositories.TableRepository;
 import dev.kandv.kango.repositories.TagRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-import java.util.NoSuchElementException;
-import java.util.Optional;
+import java.util.*;
 
+import static dev.kandv.kango.services.CardService.MAX_PAGE_SIZE;
 import static dev.kandv.kango.services.ErrorMessagesServices.*;
 import static dev.kandv.kango.services.ServiceUtils.*;
 
@@ -33,10 +43,18 @@ public class DashboardService {
     private final CardService cardService;
     private final TagRepository tagRepository;
     private final TableRepository tableRepository;
+    private final CardBulkRepository cardBulkRepository;
+    private final CascadeDeleteRepository cascadeDeleteRepository;
+    private final AuditLogService auditLogService;
+    private final CardPositionBuffer cardPositionBuffer;
+    private final CardPositionRepository cardPositionRepository;
+    private final CardRepository cardRepository;
 
     public Dashboard createDashboard(Dashboard dashboard) {
         try{
-            return this.dashboardRepository.save(dashboard);
+            Dashboard createdDashboard = this.dashboardRepository.save(dashboard);
+            this.audit(createdDashboard.getId(), AuditAction.CREATE, createdDashboard.getName());
+            return createdDashboard;
         } catch (IllegalArgumentException e) {
             throw new IllegalArgumentException(INVALID_DASHBOARD_CREATION_ERROR + dashboard);
         }
@@ -44,15 +62,54 @@ public class DashboardService {
 
     public Dashboard getSpecificDashboardById(Long id) {
         Optional<Dashboard> dashboardById = this.dashboardRepository.findById(id);
+
+        if (dashboardById.isPresent() && this.cardPositionBuffer.hasPendingOrders()) {
+            dashboardById.get().getTableList().forEach(this.cardPositionBuffer::applyPendingOrder);
+        }
+
         return dashboardById.orElse(null);
     }
 
+    public Map<Long, Page<Card>> getTableCardPreviews(Long dashboardId, int cardsPerTable) {
+        if (cardsPerTable < 1 || cardsPerTable > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException(INVALID_PAGE_ERROR + 0 + " Size: " + cardsPerTable);
+        }
+
+        this.cardPositionBuffer.flushDashboard(dashboardId);
+        List<TableCardPreview> previews = this.cardPositionRepository.findTableCardPreviews(dashboardId, cardsPerTable);
+        List<Long> cardIds = previews.stream().flatMap(preview -> preview.cardIds().stream()).toList();
+        Map<Long, Card> cardsById = new HashMap<>();
+        this.cardRepository.findAllById(cardIds).forEach(card -> cardsById.put(card.getId(), card));
+
+        Map<Long, Page<Card>> tableCards = new LinkedHashMap<>();
+
+        for (TableCardPreview preview : previews) {
+            List<Card> cards = preview.cardIds().stream().map(cardsById::get).filter(Objects::nonNull).toList();
+            tableCards.put(preview.tableId(), new PageImpl<>(cards, PageRequest.ofSize(cardsPerTable), preview.totalCards()));
+        }
+
+        return tableCards;
+    }
+
+    @Transactional
     public void removeAllDashboards() {
+        this.cardService.materializeTemplateInstances(this.cardBulkRepository.findAllDashboardTemplateIds());
         this.dashboardRepository.deleteAll();
     }
 
-    public void removeDashboardById(Long id) {
-        this.dashboardRepository.deleteById(id);
+    @Transactional
+    public DashboardDTO removeDashboardById(Long id) {
+        checkId(id);
+
+        DashboardDTO deletedDashboard = this.cascadeDeleteRepository.deleteDashboard(id)
+                .orElseThrow(() -> new NoSuchElementException(NOT_FOUND_DASHBOARD_WITH_ID_ERROR + id));
+        this.audit(id, AuditAction.DELETE, null);
+
+        return deletedDashboard;
+    }
+
+    private void audit(Long id, AuditAction action, Object detail) {
+        this.auditLogService.record(AuditEntityType.DASHBOARD, id, id, action, detail);
     }
 
     private Dashboard checkDatabaseResult(Long id, Optional<Dashboard> result) {
@@ -71,6 +128,7 @@ public class DashboardService {
         Dashboard currentDashboard = this.checkDatabaseResult(id, result);
         currentDashboard.setName(newName);
         this.dashboardRepository.save(currentDashboard);
+        this.audit(id, AuditAction.UPDATE_NAME, newName);
     }
 
     @Transactional
@@ -83,6 +141,7 @@ public class DashboardService {
         Dashboard currentDashboard = this.checkDatabaseResult(id, result);
         currentDashboard.attachFile(newAttachedFile);
         this.dashboardRepository.save(currentDashboard);
+        this.audit(id, AuditAction.ATTACH_FILE, newAttachedFile.getFileUrl());
     }
 
     @Transactional
@@ -100,6 +159,7 @@ public class DashboardService {
         }
 
         this.dashboardRepository.save(currentDashboard);
+        this.audit(id, AuditAction.DETACH_FILE, attachedFile.getFileUrl());
     }
 
     @Transactional
@@ -115,6 +175,7 @@ public class DashboardService {
 
         this.tagRepository.save(tag);
         this.dashboardRepository.save(currentDashboard);
+        this.audit(id, AuditAction.ADD_TAG, tag.getId());
     }
 
     @Transactional
@@ -133,6 +194,7 @@ public class DashboardService {
 
         this.tagRepository.delete(tag);
         this.dashboardRepository.save(currentDashboard);
+        this.audit(id, AuditAction.REMOVE_TAG, tag.getId());
     }
 
     public void addTemplateCardToDashboard(Long dashboardId, Long cardId) {
@@ -141,6 +203,7 @@ public class DashboardService {
 
         currentDashboard.addTemplateCard(currentCard);
         this.dashboardRepository.save(currentDashboard);
+        this.audit(dashboardId, AuditAction.ADD_TEMPLATE_CARD, cardId);
     }
 
     public void removeTemplateCardFromDashboard(Long dashboardId, Long cardId) {
@@ -155,6 +218,7 @@ public class DashboardService {
 
         this.cardService.removeCardById(cardId);
         this.dashboardRepository.save(currentDashboard);
+        this.audit(dashboardId, AuditAction.REMOVE_TEMPLATE_CARD, cardId);
     }
 
     @Transactional
@@ -167,6 +231,7 @@ public class DashboardService {
         currentTable.setDashboard(currentDashboard);
         this.tableRepository.save(currentTable);
         this.dashboardRepository.save(currentDashboard);
+        this.audit(dashboardId, AuditAction.ADD_TABLE, tableId);
     }
 
     @Transactional
@@ -182,6 +247,7 @@ public class DashboardService {
 
         this.tableRepository.delete(currentTable);
         this.dashboardRepository.save(currentDashboard);
+        this.audit(dashboardId, AuditAction.REMOVE_TABLE, tableId);
     }
 
     public List<Dashboard> getAllDashboards() {
@@ -199,6 +265,7 @@ public class DashboardService {
         }
 
         this.dashboardRepository.save(currentDashboard);
+        this.audit(dashboardId, AuditAction.MOVE_TABLE, "table " + tableId + " position " + newPosition);
     }
 
     private Dashboard obtainDashboard(Long dashboardId) {
@@ -209,13 +276,8 @@ public class DashboardService {
 
     private Table obtainTable(Long tableId) {
         checkElementToUpdate(tableId, TABLE_ID_ELEMENT);
-        Table currentTable = this.tableService.getSpecificTableById(tableId);
-
-        if (currentTable == null) {
-            throw new NoSuchElementException(NOT_FOUND_TABLE_WITH_ID_ERROR + tableId);
-        }
-
-        return currentTable;
+        return this.tableRepository.findById(tableId)
+                .orElseThrow(() -> new NoSuchElementException(NOT_FOUND_TABLE_WITH_ID_ERROR + tableId));
     }
 
 }
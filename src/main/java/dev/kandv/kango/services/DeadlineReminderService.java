@@ -0,0 +1,139 @@
+package dev.kandv.kango.services;
+
+import dev.kandv.kango.dtos.DeadlineReminderDTO;
+import dev.kandv.kango.models.Card;
+import dev.kandv.kango.models.enums.ReminderType;
+import dev.kandv.kango.repositories.CardRepository;
+import dev.kandv.kango.services.utils.TimingWheel;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Service
+public class DeadlineReminderService {
+
+    private final CardRepository cardRepository;
+    private final List<DeadlineReminderSink> sinks;
+    private final long tickMillis;
+    private final long leadTimeMillis;
+    private final TimingWheel<Long, DeadlineReminderDTO> timingWheel;
+    private ScheduledExecutorService ticker;
+
+    public DeadlineReminderService(
+            CardRepository cardRepository,
+            List<DeadlineReminderSink> sinks,
+            @Value("${kango.reminders.tick:1s}") Duration tick,
+            @Value("${kango.reminders.lead-time:1h}") Duration leadTime) {
+        this.cardRepository = cardRepository;
+        this.sinks = sinks;
+        this.tickMillis = tick.toMillis();
+        this.leadTimeMillis = leadTime.toMillis();
+        this.timingWheel = new TimingWheel<>(this.tickMillis, System.currentTimeMillis());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        List<DeadlineReminderDTO> pendingReminders = this.cardRepository.findAllDeadLineRemindersAfter(new Date());
+        pendingReminders.forEach(reminder ->
+                this.scheduleReminder(reminder.getCardId(), reminder.getTitle(), reminder.getDeadLine()));
+
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "kango-deadline-reminders");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.ticker.scheduleAtFixedRate(this::tick, this.tickMillis, this.tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (this.ticker != null) {
+            this.ticker.shutdownNow();
+        }
+    }
+
+    public void scheduleReminder(Long cardId, String title, Date deadLine) {
+        long now = System.currentTimeMillis();
+
+        if (deadLine == null || deadLine.getTime() <= now) {
+            this.timingWheel.cancel(cardId);
+            return;
+        }
+
+        long approachingAt = deadLine.getTime() - this.leadTimeMillis;
+
+        if (approachingAt > now) {
+            DeadlineReminderDTO reminder = new DeadlineReminderDTO(cardId, title, deadLine, ReminderType.APPROACHING);
+            this.timingWheel.schedule(cardId, approachingAt, reminder);
+        } else {
+            DeadlineReminderDTO reminder = new DeadlineReminderDTO(cardId, title, deadLine, ReminderType.DUE);
+            this.timingWheel.schedule(cardId, deadLine.getTime(), reminder);
+        }
+    }
+
+    public void cancelReminder(Long cardId) {
+        this.timingWheel.cancel(cardId);
+    }
+
+    public void cancelAllReminders() {
+        this.timingWheel.clear();
+    }
+
+    public int getPendingReminderCount() {
+        return this.timingWheel.size();
+    }
+
+    void tick() {
+        try {
+            List<DeadlineReminderDTO> expiredReminders = this.timingWheel.advance(System.currentTimeMillis());
+            expiredReminders.forEach(this::fire);
+        } catch (RuntimeException e) {
+            log.error("Unable to process deadline reminders", e);
+        }
+    }
+
+    private void fire(DeadlineReminderDTO reminder) {
+        Optional<Card> result = this.cardRepository.findById(reminder.getCardId());
+
+        if (result.isEmpty()) {
+            return;
+        }
+
+        Card currentCard = result.get();
+        Date currentDeadLine = currentCard.getDeadLine();
+
+        if (currentDeadLine == null || currentDeadLine.getTime() != reminder.getDeadLine().getTime()) {
+            return;
+        }
+
+        reminder.setTitle(currentCard.getTitle());
+
+        if (reminder.getReminderType() == ReminderType.APPROACHING) {
+            Date deadLine = reminder.getDeadLine();
+            DeadlineReminderDTO dueReminder = new DeadlineReminderDTO(
+                    reminder.getCardId(), reminder.getTitle(), deadLine, ReminderType.DUE
+            );
+            this.timingWheel.schedule(reminder.getCardId(), deadLine.getTime(), dueReminder);
+        }
+
+        for (DeadlineReminderSink sink : this.sinks) {
+            try {
+                sink.onReminder(reminder);
+            } catch (RuntimeException e) {
+                log.warn("Deadline reminder sink {} failed for Card {}", sink.getClass().getSimpleName(), reminder.getCardId(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package dev.kandv.kango.services;
+
+import dev.kandv.kango.dtos.DeadlineReminderDTO;
+
+public interface DeadlineReminderSink {
+
+    void onReminder(DeadlineReminderDTO reminder);
+}
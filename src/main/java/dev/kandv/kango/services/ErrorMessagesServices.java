@@ -3,6 +3,8 @@ package dev.kandv.kango.services;
 public class ErrorMessagesServices {
     public static final String INVALID_ID_ERROR = "ERROR: The ID value is invalid. ID: ";
     public static final String INVALID_ELEMENT_ERROR = "ERROR: The element value is null. Element: ";
+    public static final String INVALID_PAGE_ERROR = "ERROR: The page values are invalid. Page: ";
+    public static final String INVALID_ID_LIST_ERROR = "ERROR: The list of IDs is invalid. Size: ";
 
     public static final String NOT_FOUND_CARD_WITH_ID_ERROR = "ERROR: There is no Card with such ID. ID: ";
     public static final String NOT_FOUND_DASHBOARD_WITH_ID_ERROR = "ERROR: There is no Dashboard with such ID. ID: ";
@@ -0,0 +1,172 @@
+package dev.kandv.kango.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.kandv.kango.dtos.ExportRecordDTO;
+import dev.kandv.kango.dtos.ImportProgressDTO;
+import dev.kandv.kango.dtos.ImportResultDTO;
+import dev.kandv.kango.services.importers.CsvBoardMapper;
+import dev.kandv.kango.services.importers.TrelloBoardMapper;
+import dev.kandv.kango.services.utils.BatchPipeline;
+import dev.kandv.kango.services.utils.CsvReader;
+import jakarta.annotation.PreDestroy;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static dev.kandv.kango.services.DashboardImportService.INVALID_IMPORT_ERROR;
+
+@Slf4j
+@Service
+public class ExternalImportService {
+
+    public static final String TRELLO_FORMAT = "trello";
+    public static final String CSV_FORMAT = "csv";
+
+    private static final char CSV_DELIMITER = ',';
+
+    private final DashboardImportService dashboardImportService;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final int queueCapacity;
+    private final long progressIntervalNanos;
+    private final ExecutorService stageWorkers;
+    private final Map<String, RunningImport> runningImports = new ConcurrentHashMap<>();
+
+    public ExternalImportService(
+            DashboardImportService dashboardImportService,
+            ObjectMapper objectMapper,
+            @Value("${kango.import.pipeline.batch-size:500}") int batchSize,
+            @Value("${kango.import.pipeline.queue-capacity:16}") int queueCapacity,
+            @Value("${kango.import.pipeline.progress-interval:5s}") Duration progressInterval) {
+        this.dashboardImportService = dashboardImportService;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.queueCapacity = queueCapacity;
+        this.progressIntervalNanos = progressInterval.toNanos();
+        this.stageWorkers = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "kango-import-pipeline");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        this.stageWorkers.shutdownNow();
+    }
+
+    @Transactional
+    public ImportResultDTO importTrelloBoard(InputStream inputStream) {
+        BatchPipeline.Source<TrelloBoardMapper.Element> parser = sink -> {
+            try {
+                TrelloBoardMapper.parse(this.objectMapper, inputStream, sink);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException(INVALID_IMPORT_ERROR + e.getOriginalMessage(), e);
+            }
+        };
+
+        return this.runPipeline(TRELLO_FORMAT, parser, new TrelloBoardMapper());
+    }
+
+    @Transactional
+    public ImportResultDTO importCsv(String dashboardName, InputStream inputStream) {
+        BatchPipeline.Source<List<String>> parser = sink -> {
+            CsvReader csvReader = new CsvReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8), CSV_DELIMITER);
+            List<String> row;
+
+            while ((row = csvReader.readRow()) != null) {
+                sink.accept(row);
+            }
+        };
+
+        return this.runPipeline(CSV_FORMAT, parser, new CsvBoardMapper(dashboardName));
+    }
+
+    public List<ImportProgressDTO> getRunningImports() {
+        return this.runningImports.values().stream()
+                .map(RunningImport::toImportProgressDTO)
+                .toList();
+    }
+
+    private <S> ImportResultDTO runPipeline(String format, BatchPipeline.Source<S> parser, BatchPipeline.Stage<S, ExportRecordDTO> mapper) {
+        try (BatchPipeline<S, ExportRecordDTO> pipeline =
+                     new BatchPipeline<>(this.stageWorkers, parser, mapper, this.batchSize, this.queueCapacity)) {
+            RunningImport runningImport = new RunningImport(UUID.randomUUID().toString(), format, pipeline);
+            this.runningImports.put(runningImport.id, runningImport);
+
+            try {
+                ImportResultDTO importResult = this.dashboardImportService.importRecords(new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return pipeline.hasNext();
+                    }
+
+                    @Override
+                    public ExportRecordDTO next() {
+                        runningImport.logProgressIfDue(ExternalImportService.this.progressIntervalNanos);
+                        return pipeline.next();
+                    }
+                });
+
+                runningImport.logProgress("finished");
+                return importResult;
+            } finally {
+                this.runningImports.remove(runningImport.id);
+            }
+        }
+    }
+
+    private static class RunningImport {
+        private final String id;
+        private final String format;
+        private final BatchPipeline<?, ?> pipeline;
+        private final long startedAt = System.nanoTime();
+        private long lastLoggedAt = this.startedAt;
+
+        RunningImport(String id, String format, BatchPipeline<?, ?> pipeline) {
+            this.id = id;
+            this.format = format;
+            this.pipeline = pipeline;
+        }
+
+        void logProgressIfDue(long intervalNanos) {
+            long now = System.nanoTime();
+
+            if (now - this.lastLoggedAt >= intervalNanos) {
+                this.lastLoggedAt = now;
+                this.logProgress("running");
+            }
+        }
+
+        void logProgress(String state) {
+            ImportProgressDTO progress = this.toImportProgressDTO();
+            log.info("Import {} ({}) {}: parsed {}, mapped {}, imported {} records in {} ms ({} records/s)",
+                    progress.getId(), progress.getFormat(), state,
+                    progress.getParsedRecords(), progress.getMappedRecords(), progress.getImportedRecords(),
+                    progress.getElapsedMillis(), Math.round(progress.getRecordsPerSecond()));
+        }
+
+        ImportProgressDTO toImportProgressDTO() {
+            long elapsedMillis = Duration.ofNanos(System.nanoTime() - this.startedAt).toMillis();
+            long importedRecords = this.pipeline.getConsumedCount();
+            double recordsPerSecond = elapsedMillis > 0 ? importedRecords * 1000.0 / elapsedMillis : 0;
+
+            return new ImportProgressDTO(
+                    this.id, this.format,
+                    this.pipeline.getParsedCount(), this.pipeline.getMappedCount(), importedRecords,
+                    elapsedMillis, recordsPerSecond
+            );
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package dev.kandv.kango.services;
+
+import dev.kandv.kango.repositories.AttachedFileReferenceRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static dev.kandv.kango.services.FileStorageService.FILES_URL_PREFIX;
+
+@Slf4j
+@Service
+public class FileGarbageCollectorService {
+
+    private final AttachedFileReferenceRepository attachedFileReferenceRepository;
+    private final FileStorageService fileStorageService;
+    private final long intervalMillis;
+    private final Duration gracePeriod;
+    private ScheduledExecutorService sweeper;
+
+    public FileGarbageCollectorService(
+            AttachedFileReferenceRepository attachedFileReferenceRepository,
+            FileStorageService fileStorageService,
+            @Value("${kango.storage.gc.interval:1h}") Duration interval,
+            @Value("${kango.storage.gc.grace-period:1h}") Duration gracePeriod) {
+        this.attachedFileReferenceRepository = attachedFileReferenceRepository;
+        this.fileStorageService = fileStorageService;
+        this.intervalMillis = interval.toMillis();
+        this.gracePeriod = gracePeriod;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "kango-file-gc");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.sweeper.scheduleWithFixedDelay(this::sweep, this.intervalMillis, this.intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (this.sweeper != null) {
+            this.sweeper.shutdownNow();
+        }
+    }
+
+    public Map<String, Long> getReferenceCounts() {
+        Map<String, Long> referenceCounts = new HashMap<>();
+        Map<String, Long> countsByFileUrl = this.attachedFileReferenceRepository.countReferencesByFileUrl(FILES_URL_PREFIX);
+
+        countsByFileUrl.forEach((fileUrl, count) ->
+                this.fileStorageService.hashOf(fileUrl).ifPresent(hash -> referenceCounts.merge(hash, count, Long::sum)));
+
+        return referenceCounts;
+    }
+
+    public int collectGarbage() {
+        Instant unreferencedBefore = Instant.now().minus(this.gracePeriod);
+        return this.fileStorageService.collectGarbage(this.getReferenceCounts(), unreferencedBefore);
+    }
+
+    void sweep() {
+        try {
+            int deletedBlobs = this.collectGarbage();
+
+            if (deletedBlobs > 0) {
+                log.info("Deleted {} unreferenced stored files", deletedBlobs);
+            }
+        } catch (RuntimeException e) {
+            log.error("Unable to collect unreferenced stored files", e);
+        }
+    }
+}
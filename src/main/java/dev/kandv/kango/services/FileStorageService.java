@@ -0,0 +1,213 @@
+package dev.kandv.kango.services;
+
+import dev.kandv.kango.models.utils.AttachedFile;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static dev.kandv.kango.services.ServiceUtils.FILE_ELEMENT;
+import static dev.kandv.kango.services.ServiceUtils.checkElementToUpdate;
+
+@Service
+public class FileStorageService {
+
+    public static final String FILES_URL_PREFIX = "/api/files/";
+    public static final String INVALID_FILE_ERROR = "ERROR: The uploaded file is empty or invalid. File: ";
+    public static final String NOT_FOUND_FILE_ERROR = "ERROR: There is no stored File with such name. Name: ";
+    public static final String STORAGE_ERROR = "ERROR: The File could not be stored. File: ";
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final String TEMPORARY_DIRECTORY = ".tmp";
+    private static final String THUMBNAILS_DIRECTORY = ".thumbnails";
+    private static final String THUMBNAIL_EXTENSION = ".png";
+    private static final Pattern STORED_NAME_PATTERN = Pattern.compile("[A-Za-z0-9._-]+");
+    private static final Pattern BLOB_NAME_PATTERN = Pattern.compile("([0-9a-f]{64})(\\.[a-z0-9]{1,10})?");
+    private static final Pattern EXTENSION_PATTERN = Pattern.compile("\\.[A-Za-z0-9]{1,10}$");
+    private static final Pattern SHARD_PATTERN = Pattern.compile("[0-9a-f]{2}");
+
+    private final Path rootLocation;
+    private final Path temporaryLocation;
+    private final Path thumbnailsLocation;
+
+    public FileStorageService(@Value("${kango.storage.location:storage}") String location) {
+        this.rootLocation = Path.of(location).toAbsolutePath().normalize();
+        this.temporaryLocation = this.rootLocation.resolve(TEMPORARY_DIRECTORY);
+        this.thumbnailsLocation = this.rootLocation.resolve(THUMBNAILS_DIRECTORY);
+
+        try {
+            Files.createDirectories(this.temporaryLocation);
+            Files.createDirectories(this.thumbnailsLocation);
+        } catch (IOException e) {
+            throw new UncheckedIOException(STORAGE_ERROR + this.rootLocation, e);
+        }
+    }
+
+    public AttachedFile store(MultipartFile file) {
+        checkElementToUpdate(file, FILE_ELEMENT);
+
+        String originalName = file.getOriginalFilename();
+
+        if (file.isEmpty() || originalName == null || originalName.isBlank()) {
+            throw new IllegalArgumentException(INVALID_FILE_ERROR + originalName);
+        }
+
+        try (InputStream inputStream = file.getInputStream()) {
+            String hash = this.storeBlob(inputStream);
+            String storedName = hash + this.extensionOf(originalName);
+            return new AttachedFile(this.baseNameOf(originalName), FILES_URL_PREFIX + storedName);
+        } catch (IOException e) {
+            throw new UncheckedIOException(STORAGE_ERROR + originalName, e);
+        }
+    }
+
+    public Path load(String storedName) {
+        if (storedName == null || !STORED_NAME_PATTERN.matcher(storedName).matches()) {
+            throw new NoSuchElementException(NOT_FOUND_FILE_ERROR + storedName);
+        }
+
+        Matcher blobMatcher = BLOB_NAME_PATTERN.matcher(storedName);
+        Path file = blobMatcher.matches()
+                ? this.blobPathOf(blobMatcher.group(1))
+                : this.rootLocation.resolve(storedName).normalize();
+
+        if (!file.startsWith(this.rootLocation)
+                || file.startsWith(this.temporaryLocation)
+                || file.startsWith(this.thumbnailsLocation)
+                || !Files.isRegularFile(file)) {
+            throw new NoSuchElementException(NOT_FOUND_FILE_ERROR + storedName);
+        }
+
+        return file;
+    }
+
+    public Optional<String> hashOf(String fileUrl) {
+        if (fileUrl == null || !fileUrl.startsWith(FILES_URL_PREFIX)) {
+            return Optional.empty();
+        }
+
+        Matcher blobMatcher = BLOB_NAME_PATTERN.matcher(fileUrl.substring(FILES_URL_PREFIX.length()));
+        return blobMatcher.matches() ? Optional.of(blobMatcher.group(1)) : Optional.empty();
+    }
+
+    public Path thumbnailPathOf(String hash) {
+        return this.shardedPathOf(this.thumbnailsLocation, hash, hash + THUMBNAIL_EXTENSION);
+    }
+
+    public Path createTemporaryFile(String suffix) {
+        try {
+            return Files.createTempFile(this.temporaryLocation, "work-", suffix);
+        } catch (IOException e) {
+            throw new UncheckedIOException(STORAGE_ERROR + suffix, e);
+        }
+    }
+
+    public int collectGarbage(Map<String, Long> referenceCounts, Instant unreferencedBefore) {
+        int deletedBlobs = 0;
+
+        try (Stream<Path> blobs = Files.find(this.rootLocation, 3, (path, attributes) -> attributes.isRegularFile())) {
+            for (Path blob : (Iterable<Path>) blobs::iterator) {
+                if (this.isCollectable(blob, referenceCounts, unreferencedBefore) && Files.deleteIfExists(blob)) {
+                    Files.deleteIfExists(this.thumbnailPathOf(blob.getFileName().toString()));
+                    deletedBlobs++;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(STORAGE_ERROR + this.rootLocation, e);
+        }
+
+        return deletedBlobs;
+    }
+
+    public String storeBlob(InputStream inputStream) throws IOException {
+        Path temporaryFile = Files.createTempFile(this.temporaryLocation, "upload-", ".part");
+
+        try {
+            MessageDigest digest = this.newDigest();
+
+            try (DigestInputStream digestInputStream = new DigestInputStream(inputStream, digest)) {
+                Files.copy(digestInputStream, temporaryFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            String hash = HexFormat.of().formatHex(digest.digest());
+            Path blob = this.blobPathOf(hash);
+
+            if (Files.exists(blob)) {
+                Files.setLastModifiedTime(blob, FileTime.from(Instant.now()));
+                return hash;
+            }
+
+            Files.createDirectories(blob.getParent());
+
+            try {
+                Files.move(temporaryFile, blob, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                Files.setLastModifiedTime(blob, FileTime.from(Instant.now()));
+            }
+
+            return hash;
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    private boolean isCollectable(Path blob, Map<String, Long> referenceCounts, Instant unreferencedBefore) throws IOException {
+        Path relativePath = this.rootLocation.relativize(blob);
+
+        if (relativePath.getNameCount() != 3
+                || !SHARD_PATTERN.matcher(relativePath.getName(0).toString()).matches()
+                || !SHARD_PATTERN.matcher(relativePath.getName(1).toString()).matches()) {
+            return false;
+        }
+
+        String hash = relativePath.getFileName().toString();
+
+        if (!BLOB_NAME_PATTERN.matcher(hash).matches() || referenceCounts.getOrDefault(hash, 0L) > 0) {
+            return false;
+        }
+
+        return Files.getLastModifiedTime(blob).toInstant().isBefore(unreferencedBefore);
+    }
+
+    private Path blobPathOf(String hash) {
+        return this.shardedPathOf(this.rootLocation, hash, hash);
+    }
+
+    private Path shardedPathOf(Path location, String hash, String fileName) {
+        return location
+                .resolve(hash.substring(0, 2))
+                .resolve(hash.substring(2, 4))
+                .resolve(fileName);
+    }
+
+    private MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String baseNameOf(String originalName) {
+        int separator = Math.max(originalName.lastIndexOf('/'), originalName.lastIndexOf('\\'));
+        return originalName.substring(separator + 1);
+    }
+
+    private String extensionOf(String originalName) {
+        var matcher = EXTENSION_PATTERN.matcher(originalName);
+        return matcher.find() ? matcher.group().toLowerCase() : "";
+    }
+}
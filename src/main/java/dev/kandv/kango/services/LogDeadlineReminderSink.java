@@ -0,0 +1,16 @@
+package dev.kandv.kango.services;
+
+import dev.kandv.kango.dtos.DeadlineReminderDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class LogDeadlineReminderSink implements DeadlineReminderSink {
+
+    @Override
+    public void onReminder(DeadlineReminderDTO reminder) {
+        log.info("Deadline reminder {} for Card {} ({}) due at {}",
+                reminder.getReminderType(), reminder.getCardId(), reminder.getTitle(), reminder.getDeadLine());
+    }
+}
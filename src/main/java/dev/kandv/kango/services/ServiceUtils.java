@@ -2,7 +2,10 @@ package dev.kandv.kango.services;
 
 import dev.kandv.kango.models.Card;
 
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Set;
 
 import static dev.kandv.kango.services.ErrorMessagesServices.*;
 
@@ -14,10 +17,19 @@ public class ServiceUtils {
     public static final String TABLE_ID_ELEMENT = "table_id";
     public static final String DESTINY_TABLE_ID_ELEMENT = "destiny_table_id";
     public static final String CARD_LIST_SORT_ELEMENT = "card_list_sort";
+    public static final String CARD_ORDER_ELEMENT = "card_order";
     public static final String CARD_ID_ELEMENT = "card_id";
+    public static final String FROM_ELEMENT = "from";
+    public static final String TO_ELEMENT = "to";
+    public static final String COLOR_ELEMENT = "color";
+    public static final String DEAD_LINE_ELEMENT = "dead_line";
+    public static final String BULK_OPERATION_ELEMENT = "bulk_operation";
 
     public static final String NAME_ELEMENT = "name";
 
+    public static final int MAX_ID_LIST_SIZE = 100;
+    public static final int MAX_BULK_ID_LIST_SIZE = 1000;
+
     private ServiceUtils() {
         throw new IllegalStateException("Utility class");
     }
@@ -28,6 +40,20 @@ public class ServiceUtils {
         }
     }
 
+    public static Set<Long> checkIdList(List<Long> ids) {
+        return checkIdList(ids, MAX_ID_LIST_SIZE);
+    }
+
+    public static Set<Long> checkIdList(List<Long> ids, int maxSize) {
+        if (ids == null || ids.isEmpty() || ids.size() > maxSize) {
+            throw new IllegalArgumentException(INVALID_ID_LIST_ERROR + (ids == null ? null : ids.size()));
+        }
+
+        ids.forEach(ServiceUtils::checkId);
+
+        return new LinkedHashSet<>(ids);
+    }
+
     public static void checkElementToUpdate(Object newObject, String element) {
         if (newObject == null) {
             throw new IllegalArgumentException(INVALID_ELEMENT_ERROR + element);
@@ -1,17 +1,28 @@
 package dev.kandv.kango.services;
 
+import dev.kandv.kango.dtos.TableDTO;
 import dev.kandv.kango.models.Card;
 import dev.kandv.kango.models.Table;
+import dev.kandv.kango.models.enums.AuditAction;
+import dev.kandv.kango.models.enums.AuditEntityType;
 import dev.kandv.kango.models.enums.CardListSort;
+import dev.kandv.kango.repositories.CardBulkRepository;
+import dev.kandv.kango.repositories.CardPositionRepository;
+import dev.kandv.kango.repositories.CardRepository;
+import dev.kandv.kango.repositories.CascadeDeleteRepository;
+import dev.kandv.kango.repositories.CascadeDeleteRepository.Deleted;
 import dev.kandv.kango.repositories.TableRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-import java.util.NoSuchElementException;
-import java.util.Optional;
+import java.util.*;
 
+import static dev.kandv.kango.services.CardService.MAX_PAGE_SIZE;
 import static dev.kandv.kango.services.ErrorMessagesServices.*;
 import static dev.kandv.kango.services.ServiceUtils.*;
 
@@ -21,18 +32,71 @@ public class TableService {
 
     public static final String INVALID_TABLE_CREATION_ERROR = "ERROR: Invalid Table. Value: ";
     public static final String NOT_FOUND_CARD_IN_THE_TABLE_ERROR = "ERROR: There is no Card with such ID in the Table. ID: ";
+    public static final String INVALID_CARD_ORDER_ERROR = "ERROR: The order must contain every Card of the Table once. Value: ";
 
     private final TableRepository tableRepository;
     private final CardService cardService;
+    private final AuditLogService auditLogService;
+    private final CardPositionBuffer cardPositionBuffer;
+    private final CardBulkRepository cardBulkRepository;
+    private final CardPositionRepository cardPositionRepository;
+    private final CardRepository cardRepository;
+    private final CascadeDeleteRepository cascadeDeleteRepository;
 
     public Table getSpecificTableById(Long id) {
         Optional<Table> cardById = this.tableRepository.findById(id);
+        cardById.ifPresent(this.cardPositionBuffer::applyPendingOrder);
         return cardById.orElse(null);
     }
 
+    @Transactional
+    public List<Table> getTablesByIds(List<Long> ids) {
+        List<Table> tables = this.tableRepository.findAllWithCardsByIdIn(checkIdList(ids));
+        List<Long> cardIds = tables.stream()
+                .flatMap(table -> table.getCardList().stream())
+                .map(Card::getId)
+                .toList();
+
+        for (int i = 0; i < cardIds.size(); i += MAX_ID_LIST_SIZE) {
+            this.cardService.getCardsByIds(cardIds.subList(i, Math.min(i + MAX_ID_LIST_SIZE, cardIds.size())));
+        }
+
+        for (Table table : tables) {
+            this.cardPositionBuffer.getPendingOrder(table.getId()).ifPresent(pendingOrder -> {
+                // Detached first, so the overlaid positions are never flushed by this read.
+                this.cardPositionRepository.detachTable(table);
+                table.applyCardOrder(pendingOrder);
+            });
+        }
+
+        return tables;
+    }
+
+    public Slice<Card> getCardPageFromTable(Long tableId, int afterPosition, int limit) {
+        this.checkId(tableId);
+
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException(INVALID_PAGE_ERROR + afterPosition + " Size: " + limit);
+        }
+
+        if (!this.tableRepository.existsById(tableId)) {
+            throw new NoSuchElementException(NOT_FOUND_TABLE_WITH_ID_ERROR + tableId);
+        }
+
+        this.cardPositionBuffer.flush(tableId);
+        List<Card> cards = this.cardRepository.findAllByTableIdAndPositionGreaterThanOrderByPositionAscIdAsc(
+                tableId, afterPosition, Limit.of(limit + 1)
+        );
+        boolean hasNext = cards.size() > limit;
+
+        return new SliceImpl<>(hasNext ? cards.subList(0, limit) : cards, PageRequest.ofSize(limit), hasNext);
+    }
+
     public Table createTable(Table table) {
         try{
-            return this.tableRepository.save(table);
+            Table createdTable = this.tableRepository.save(table);
+            this.audit(createdTable.getId(), AuditAction.CREATE, createdTable.getName());
+            return createdTable;
         } catch (IllegalArgumentException e) {
             throw new IllegalArgumentException(INVALID_TABLE_CREATION_ERROR + table);
         }
@@ -42,8 +106,20 @@ public class TableService {
         this.tableRepository.deleteAll();
     }
 
-    public void removeTableById(Long id) {
-        this.tableRepository.deleteById(id);
+    @Transactional
+    public TableDTO removeTableById(Long id) {
+        this.checkId(id);
+        this.cardPositionBuffer.flush(id);
+
+        Deleted<TableDTO> deletedTable = this.cascadeDeleteRepository.deleteTable(id)
+                .orElseThrow(() -> new NoSuchElementException(NOT_FOUND_TABLE_WITH_ID_ERROR + id));
+        this.auditLogService.record(AuditEntityType.TABLE, id, deletedTable.dashboardId(), AuditAction.DELETE, null);
+
+        return deletedTable.element();
+    }
+
+    private void audit(Long id, AuditAction action, Object detail) {
+        this.auditLogService.record(AuditEntityType.TABLE, id, action, detail);
     }
 
     private Table checkTableDatabaseResult(Long id, Optional<Table> result) {
@@ -75,6 +151,7 @@ public class TableService {
         Table currentTable = this.checkTableDatabaseResult(id, result);
         currentTable.setName(newName);
         this.tableRepository.save(currentTable);
+        this.audit(id, AuditAction.UPDATE_NAME, newName);
     }
 
     public boolean checkPositions(int newPosition, int oldPosition) {
@@ -90,6 +167,7 @@ public class TableService {
     @Transactional
     public void addCardToTable(Long tableId, Long cardId) {
         this.checkId(tableId);
+        this.cardPositionBuffer.flush(tableId);
         Card currentCard = obtainCard(cardId, cardService);
 
         Optional<Table> result = this.tableRepository.findById(tableId);
@@ -97,11 +175,13 @@ public class TableService {
 
         currentTable.addCardToCardList(currentCard);
         this.tableRepository.save(currentTable);
+        this.audit(tableId, AuditAction.ADD_CARD, cardId);
     }
 
     @Transactional
     public void removeCardFromTable(Long tableId, Long cardId) {
         this.checkId(tableId);
+        this.cardPositionBuffer.flush(tableId);
         Card currentCard = obtainCard(cardId, cardService);
 
         Optional<Table> result = this.tableRepository.findById(tableId);
@@ -115,23 +195,46 @@ public class TableService {
 
         this.cardService.removeCardById(cardId);
         this.tableRepository.save(currentTable);
+        this.audit(tableId, AuditAction.REMOVE_CARD, cardId);
+    }
+
+    @Transactional
+    public int removeAllCardsFromTable(Long tableId) {
+        this.checkId(tableId);
+        this.cardPositionBuffer.flush(tableId);
+
+        if (!this.tableRepository.existsById(tableId)) {
+            throw new NoSuchElementException(NOT_FOUND_TABLE_WITH_ID_ERROR + tableId);
+        }
+
+        List<Long> cardIds = this.cardPositionRepository.findTableCardIds(tableId);
+        Long dashboardId = this.auditLogService.findDashboardId(AuditEntityType.TABLE, tableId);
+        int removedCards = this.cardService.removeCards(cardIds);
+        cardIds.forEach(cardId ->
+                this.auditLogService.record(AuditEntityType.TABLE, tableId, dashboardId, AuditAction.REMOVE_CARD, cardId));
+
+        return removedCards;
     }
 
     @Transactional
     public void sortCardListFromTable(Long id, CardListSort cardListSort) {
         this.checkId(id);
+        this.cardPositionBuffer.flush(id);
         this.checkElementToUpdate(cardListSort, CARD_LIST_SORT_ELEMENT);
+        this.tableRepository.flush();
 
-        Optional<Table> result = this.tableRepository.findById(id);
-        Table currentTable = this.checkTableDatabaseResult(id, result);
+        if (this.cardBulkRepository.lockTableForAppend(id).isEmpty()) {
+            throw new NoSuchElementException(NOT_FOUND_TABLE_WITH_ID_ERROR + id);
+        }
 
-        currentTable.sortCardList(cardListSort);
-        this.tableRepository.save(currentTable);
+        this.cardPositionRepository.sortTableCards(id, cardListSort);
+        this.audit(id, AuditAction.SORT_CARDS, cardListSort);
     }
 
     @Transactional
     public void updateCardPositionFromTable(Long tableId, Long cardId, int newPosition) {
         this.checkId(tableId);
+        this.cardPositionBuffer.flush(tableId);
         Card currentCard = obtainCard(cardId, cardService);
 
         Optional<Table> result = this.tableRepository.findById(tableId);
@@ -149,6 +252,7 @@ public class TableService {
             return;
         }
 
+        int oldPosition = currentCard.getPosition();
         boolean isSuccess = currentTable.updateCardPosition(currentCard, newPosition);
 
         if (!isSuccess) {
@@ -156,6 +260,36 @@ public class TableService {
         }
 
         this.tableRepository.save(currentTable);
+        this.auditLogService.record(AuditEntityType.CARD, cardId, AuditAction.MOVE_CARD,
+                "table " + tableId + " position " + oldPosition + " -> " + newPosition);
+    }
+
+    @Transactional
+    public void updateCardOrderFromTable(Long tableId, List<Long> cardIds) {
+        this.checkId(tableId);
+        this.checkElementToUpdate(cardIds, CARD_ORDER_ELEMENT);
+        this.cardPositionBuffer.flush(tableId);
+        this.tableRepository.flush();
+
+        if (this.cardBulkRepository.lockTableForAppend(tableId).isEmpty()) {
+            throw new NoSuchElementException(NOT_FOUND_TABLE_WITH_ID_ERROR + tableId);
+        }
+
+        List<Long> currentCardIds = this.cardPositionRepository.findTableCardIds(tableId);
+        Set<Long> currentCardIdSet = new HashSet<>(currentCardIds);
+
+        for (Long cardId : cardIds) {
+            if (!currentCardIdSet.contains(cardId)) {
+                throw new NoSuchElementException(NOT_FOUND_CARD_IN_THE_TABLE_ERROR + cardId);
+            }
+        }
+
+        if (cardIds.size() != currentCardIds.size() || new HashSet<>(cardIds).size() != cardIds.size()) {
+            throw new IllegalArgumentException(INVALID_CARD_ORDER_ERROR + cardIds);
+        }
+
+        this.cardPositionRepository.updateCardPositions(tableId, cardIds);
+        this.audit(tableId, AuditAction.REORDER_CARDS, cardIds);
     }
 
     @Transactional
@@ -166,14 +300,18 @@ public class TableService {
 
         Table destinyTable = obtainDestinationTable(destinyTableId);
 
+        Card cloneCard = new Card(currentCard);
+
         this.removeCardFromTable(originTableId, cardId);
 
-        Card cloneCard = new Card(currentCard);
         Card newCard = this.cardService.createCard(cloneCard);
         destinyTable.addCardToCardList(newCard);
         destinyTable.updateCardPosition(newCard, newPosition);
 
         this.tableRepository.save(destinyTable);
+        Long dashboardId = destinyTable.getDashboard() != null ? destinyTable.getDashboard().getId() : null;
+        this.auditLogService.record(AuditEntityType.CARD, newCard.getId(), dashboardId, AuditAction.MOVE_CARD,
+                "card " + cardId + " table " + originTableId + " -> " + destinyTableId + " position " + newPosition);
     }
 
     @Transactional
@@ -189,6 +327,8 @@ public class TableService {
 
         this.tableRepository.save(originTable);
         this.tableRepository.save(destinyTable);
+        this.audit(originTableId, AuditAction.MOVE_CARDS, "table " + originTableId + " -> " + destinyTableId);
+        this.audit(destinyTableId, AuditAction.MOVE_CARDS, "table " + originTableId + " -> " + destinyTableId);
     }
 
     @Transactional
@@ -204,16 +344,19 @@ public class TableService {
         });
 
         this.tableRepository.save(destinyTable);
+        this.audit(destinyTableId, AuditAction.COPY_CARDS, "table " + originTableId + " -> " + destinyTableId);
     }
 
     private Table obtainOriginTable(Long originTableId) {
         this.checkId(originTableId);
+        this.cardPositionBuffer.flush(originTableId);
         Optional<Table> originById = this.tableRepository.findById(originTableId);
         return this.checkTableDatabaseResult(originTableId, originById);
     }
 
     private Table obtainDestinationTable(Long destinyTableId) {
         this.checkElementToUpdate(destinyTableId, DESTINY_TABLE_ID_ELEMENT);
+        this.cardPositionBuffer.flush(destinyTableId);
         Optional<Table> destinyById = this.tableRepository.findById(destinyTableId);
         return this.checkTableDatabaseResult(destinyTableId, destinyById);
     }
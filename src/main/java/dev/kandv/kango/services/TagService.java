@@ -1,8 +1,14 @@
 package dev.kandv.kango.services;
 
+import dev.kandv.kango.dtos.TagDTO;
 import dev.kandv.kango.models.Tag;
+import dev.kandv.kango.models.enums.AuditAction;
+import dev.kandv.kango.models.enums.AuditEntityType;
 import dev.kandv.kango.models.enums.Visibility;
+import dev.kandv.kango.repositories.CascadeDeleteRepository;
+import dev.kandv.kango.repositories.CascadeDeleteRepository.Deleted;
 import dev.kandv.kango.repositories.TagRepository;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -12,6 +18,7 @@ import java.util.Optional;
 
 import static dev.kandv.kango.services.ErrorMessagesServices.INVALID_ID_ERROR;
 import static dev.kandv.kango.services.ErrorMessagesServices.NOT_FOUND_TAG_WITH_ID_ERROR;
+import static dev.kandv.kango.services.ServiceUtils.checkIdList;
 
 @Service
 @RequiredArgsConstructor
@@ -21,15 +28,23 @@ public class TagService {
     public static final String NULL_TAG_ERROR = "ERROR: The Tag is null.";
 
     private final TagRepository tagRepository;
+    private final CascadeDeleteRepository cascadeDeleteRepository;
+    private final AuditLogService auditLogService;
 
     public Tag getSpecificTagById(Long id) {
         Optional<Tag> tagById = this.tagRepository.findById(id);
         return tagById.orElse(null);
     }
 
+    public List<Tag> getTagsByIds(List<Long> ids) {
+        return this.tagRepository.findAllWithDashboardByIdIn(checkIdList(ids));
+    }
+
     public Tag createTag(Tag tag) {
         try{
-            return this.tagRepository.save(tag);
+            Tag createdTag = this.tagRepository.save(tag);
+            this.audit(createdTag.getId(), AuditAction.CREATE, createdTag.getLabel());
+            return createdTag;
         } catch (IllegalArgumentException e) {
             throw new IllegalArgumentException(INVALID_TAG_CREATION_ERROR + tag);
         }
@@ -39,14 +54,25 @@ public class TagService {
         this.tagRepository.deleteAll();
     }
 
-    public void removeTagById(Long id) {
-        this.tagRepository.deleteById(id);
+    @Transactional
+    public TagDTO removeTagById(Long id) {
+        this.checkId(id);
+
+        Deleted<TagDTO> deletedTag = this.cascadeDeleteRepository.deleteTag(id)
+                .orElseThrow(() -> new NoSuchElementException(NOT_FOUND_TAG_WITH_ID_ERROR + id));
+        this.auditLogService.record(AuditEntityType.TAG, id, deletedTag.dashboardId(), AuditAction.DELETE, null);
+
+        return deletedTag.element();
     }
 
     public List<Tag> getAllGlobalTags() {
         return this.tagRepository.findAllByVisibilityEquals(Visibility.GLOBAL);
     }
 
+    private void audit(Long id, AuditAction action, Object detail) {
+        this.auditLogService.record(AuditEntityType.TAG, id, action, detail);
+    }
+
     private void checkId(Long id) {
         if (id == null) {
             throw new IllegalArgumentException(INVALID_ID_ERROR + null);
@@ -78,5 +104,6 @@ public class TagService {
         currentTag.setColor(updatedTag.getColor());
 
         this.tagRepository.save(currentTag);
+        this.audit(id, AuditAction.UPDATE, currentTag.getLabel() + " (" + currentTag.getColor() + ")");
     }
 }
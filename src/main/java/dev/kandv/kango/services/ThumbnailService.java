@@ -0,0 +1,184 @@
+package dev.kandv.kango.services;
+
+import dev.kandv.kango.models.utils.AttachedFile;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static dev.kandv.kango.services.FileStorageService.FILES_URL_PREFIX;
+
+@Slf4j
+@Service
+public class ThumbnailService {
+
+    public static final String THUMBNAIL_URL_SUFFIX = "/thumbnail";
+
+    private static final String THUMBNAIL_FORMAT = "png";
+    private static final Set<String> SUPPORTED_MIME_TYPES = Set.of(ImageIO.getReaderMIMETypes());
+
+    private final FileStorageService fileStorageService;
+    private final int thumbnailSize;
+    private final ThreadPoolExecutor workers;
+    private final Set<String> pendingHashes = ConcurrentHashMap.newKeySet();
+
+    public ThumbnailService(
+            FileStorageService fileStorageService,
+            @Value("${kango.thumbnails.size:256}") int thumbnailSize,
+            @Value("${kango.thumbnails.workers:2}") int workerCount,
+            @Value("${kango.thumbnails.queue-capacity:64}") int queueCapacity) {
+        this.fileStorageService = fileStorageService;
+        this.thumbnailSize = thumbnailSize;
+        this.workers = new ThreadPoolExecutor(
+                workerCount, workerCount,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "kango-thumbnails");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @PreDestroy
+    public void stop() {
+        this.workers.shutdownNow();
+    }
+
+    public void requestThumbnail(AttachedFile attachedFile) {
+        Optional<String> hash = this.fileStorageService.hashOf(attachedFile.getFileUrl());
+
+        if (hash.isEmpty() || !this.isSupportedImage(attachedFile.getFileUrl())) {
+            return;
+        }
+
+        attachedFile.setThumbnailUrl(attachedFile.getFileUrl() + THUMBNAIL_URL_SUFFIX);
+
+        String storedName = attachedFile.getFileUrl().substring(FILES_URL_PREFIX.length());
+        Runnable task = this.newTask(hash.get(), storedName);
+
+        if (task == null) {
+            return;
+        }
+
+        try {
+            this.workers.execute(task);
+        } catch (RejectedExecutionException e) {
+            task.run();
+        }
+    }
+
+    public Optional<Path> findThumbnail(String storedName) {
+        Optional<String> hash = this.fileStorageService.hashOf(FILES_URL_PREFIX + storedName);
+
+        if (hash.isEmpty() || !this.isSupportedImage(storedName)) {
+            return Optional.empty();
+        }
+
+        Path thumbnail = this.fileStorageService.thumbnailPathOf(hash.get());
+
+        if (Files.isRegularFile(thumbnail)) {
+            return Optional.of(thumbnail);
+        }
+
+        Runnable task = this.newTask(hash.get(), storedName);
+
+        if (task != null) {
+            try {
+                this.workers.execute(task);
+            } catch (RejectedExecutionException e) {
+                this.pendingHashes.remove(hash.get());
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    public int getPendingThumbnailCount() {
+        return this.pendingHashes.size();
+    }
+
+    private Runnable newTask(String hash, String storedName) {
+        if (Files.isRegularFile(this.fileStorageService.thumbnailPathOf(hash)) || !this.pendingHashes.add(hash)) {
+            return null;
+        }
+
+        return () -> {
+            try {
+                this.generateThumbnail(hash, storedName);
+            } catch (RuntimeException e) {
+                log.warn("Unable to generate thumbnail for stored File {}", storedName, e);
+            } finally {
+                this.pendingHashes.remove(hash);
+            }
+        };
+    }
+
+    private void generateThumbnail(String hash, String storedName) {
+        Path source = this.fileStorageService.load(storedName);
+        Path thumbnail = this.fileStorageService.thumbnailPathOf(hash);
+        Path temporaryFile = this.fileStorageService.createTemporaryFile("." + THUMBNAIL_FORMAT);
+
+        try {
+            BufferedImage image = ImageIO.read(source.toFile());
+
+            if (image == null) {
+                return;
+            }
+
+            ImageIO.write(this.scale(image), THUMBNAIL_FORMAT, temporaryFile.toFile());
+            Files.createDirectories(thumbnail.getParent());
+            Files.move(temporaryFile, thumbnail, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            try {
+                Files.deleteIfExists(temporaryFile);
+            } catch (IOException e) {
+                log.debug("Unable to delete temporary thumbnail {}", temporaryFile, e);
+            }
+        }
+    }
+
+    private BufferedImage scale(BufferedImage image) {
+        double ratio = Math.min(1.0, (double) this.thumbnailSize / Math.max(image.getWidth(), image.getHeight()));
+        int width = Math.max(1, (int) Math.round(image.getWidth() * ratio));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * ratio));
+
+        BufferedImage thumbnail = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = thumbnail.createGraphics();
+
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        return thumbnail;
+    }
+
+    private boolean isSupportedImage(String fileName) {
+        return MediaTypeFactory.getMediaType(fileName)
+                .map(MediaType::toString)
+                .filter(SUPPORTED_MIME_TYPES::contains)
+                .isPresent();
+    }
+}
@@ -0,0 +1,51 @@
+package dev.kandv.kango.services;
+
+import dev.kandv.kango.models.utils.TitleCollator;
+import dev.kandv.kango.repositories.CardSortKeyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TitleSortKeyService {
+
+    private static final int BACKFILL_BATCH_SIZE = 1000;
+
+    private final CardSortKeyRepository cardSortKeyRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        try {
+            int updatedCards = this.backfillTitleSortKeys();
+
+            if (updatedCards > 0) {
+                log.info("Computed title sort keys for {} cards", updatedCards);
+            }
+        } catch (RuntimeException e) {
+            log.error("Unable to compute missing title sort keys", e);
+        }
+    }
+
+    public int backfillTitleSortKeys() {
+        int updatedCards = 0;
+        Map<Long, String> titles;
+
+        do {
+            titles = this.cardSortKeyRepository.findTitlesWithoutSortKey(BACKFILL_BATCH_SIZE);
+            Map<Long, byte[]> sortKeys = new LinkedHashMap<>();
+
+            titles.forEach((id, title) -> sortKeys.put(id, TitleCollator.sortKey(title)));
+            this.cardSortKeyRepository.updateTitleSortKeys(sortKeys);
+            updatedCards += sortKeys.size();
+        } while (titles.size() == BACKFILL_BATCH_SIZE);
+
+        return updatedCards;
+    }
+}
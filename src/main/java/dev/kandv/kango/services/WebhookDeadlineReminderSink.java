@@ -0,0 +1,35 @@
+package dev.kandv.kango.services;
+
+import dev.kandv.kango.dtos.DeadlineReminderDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "kango.reminders.webhook-url")
+public class WebhookDeadlineReminderSink implements DeadlineReminderSink {
+
+    private final RestClient restClient;
+
+    public WebhookDeadlineReminderSink(@Value("${kango.reminders.webhook-url}") String webhookUrl) {
+        this.restClient = RestClient.create(webhookUrl);
+    }
+
+    @Override
+    public void onReminder(DeadlineReminderDTO reminder) {
+        try {
+            this.restClient.post()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(reminder)
+                    .retrieve()
+                    .toBodilessEntity();
+        } catch (RestClientException e) {
+            log.warn("Unable to deliver deadline reminder for Card {}: {}", reminder.getCardId(), e.getMessage());
+        }
+    }
+}
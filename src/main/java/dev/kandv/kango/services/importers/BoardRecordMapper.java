@@ -0,0 +1,110 @@
+package dev.kandv.kango.services.importers;
+
+import dev.kandv.kango.dtos.CardExportDTO;
+import dev.kandv.kango.dtos.DashboardExportDTO;
+import dev.kandv.kango.dtos.ExportRecordDTO;
+import dev.kandv.kango.dtos.TableExportDTO;
+import dev.kandv.kango.dtos.TagExportDTO;
+import dev.kandv.kango.models.enums.CardType;
+import dev.kandv.kango.models.enums.Color;
+import dev.kandv.kango.models.enums.Visibility;
+import dev.kandv.kango.services.utils.BatchPipeline;
+
+import java.time.*;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.function.Consumer;
+
+import static dev.kandv.kango.services.DashboardImportService.INVALID_IMPORT_ERROR;
+
+public abstract class BoardRecordMapper<S> implements BatchPipeline.Stage<S, ExportRecordDTO> {
+
+    public static final Color DEFAULT_TAG_COLOR = Color.BLACK;
+
+    private static final Map<String, Color> COLOR_NAMES = Map.ofEntries(
+            Map.entry("purple", Color.PURPLE),
+            Map.entry("pink", Color.PINK),
+            Map.entry("yellow", Color.YELLOW),
+            Map.entry("blue", Color.BLUE),
+            Map.entry("sky", Color.BLUE),
+            Map.entry("red", Color.RED),
+            Map.entry("green", Color.GREEN),
+            Map.entry("lime", Color.GREEN),
+            Map.entry("orange", Color.ORANGE),
+            Map.entry("black", Color.BLACK)
+    );
+
+    private final Map<Long, Integer> cardPositions = new HashMap<>();
+    private boolean dashboardEmitted;
+    private long nextTagId = 1;
+    private long nextTableId = 1;
+    private long nextCardId = 1;
+
+    protected boolean isDashboardEmitted() {
+        return this.dashboardEmitted;
+    }
+
+    protected void emitDashboard(String name, Consumer<ExportRecordDTO> sink) {
+        this.dashboardEmitted = true;
+        sink.accept(new DashboardExportDTO(null, name, new ArrayList<>()));
+    }
+
+    protected Long emitTable(String name, Consumer<ExportRecordDTO> sink) {
+        long tableId = this.nextTableId++;
+        sink.accept(new TableExportDTO(tableId, name, (int) tableId - 1));
+        return tableId;
+    }
+
+    protected Long emitTag(String label, Color color, Consumer<ExportRecordDTO> sink) {
+        long tagId = this.nextTagId++;
+        Color tagColor = color != null ? color : DEFAULT_TAG_COLOR;
+        String tagLabel = label == null || label.isBlank() ? tagColor.getLabel() : label;
+
+        sink.accept(new TagExportDTO(tagId, tagLabel, tagColor, Visibility.LOCAL, true));
+        return tagId;
+    }
+
+    protected void emitCard(CardExportDTO card, Consumer<ExportRecordDTO> sink) {
+        card.setId(this.nextCardId++);
+        card.setCardType(CardType.NORMAL);
+        card.setPosition(this.cardPositions.merge(card.getTableId(), 1, Integer::sum) - 1);
+        sink.accept(card);
+    }
+
+    protected static Color colorOf(String name) {
+        if (name == null || name.isBlank()) {
+            return null;
+        }
+
+        String colorName = name.trim().toLowerCase(Locale.ROOT);
+        int variant = colorName.indexOf('_');
+
+        return COLOR_NAMES.get(variant > 0 ? colorName.substring(0, variant) : colorName);
+    }
+
+    protected static Date dateOf(String value, String element) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+
+        String date = value.trim();
+
+        try {
+            return Date.from(OffsetDateTime.parse(date).toInstant());
+        } catch (DateTimeParseException ignored) {
+            // Not a date with offset, try the local formats below
+        }
+
+        try {
+            return Date.from(LocalDateTime.parse(date).toInstant(ZoneOffset.UTC));
+        } catch (DateTimeParseException ignored) {
+            // Not a local date time, try a plain date below
+        }
+
+        try {
+            return Date.from(LocalDate.parse(date).atStartOfDay(ZoneOffset.UTC).toInstant());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(INVALID_IMPORT_ERROR + element, e);
+        }
+    }
+}
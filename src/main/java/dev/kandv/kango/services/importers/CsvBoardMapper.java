@@ -0,0 +1,178 @@
+package dev.kandv.kango.services.importers;
+
+import dev.kandv.kango.dtos.CardExportDTO;
+import dev.kandv.kango.dtos.ExportRecordDTO;
+import dev.kandv.kango.models.enums.Color;
+import dev.kandv.kango.models.utils.AttachedFile;
+import dev.kandv.kango.models.utils.Check;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static dev.kandv.kango.services.DashboardImportService.INVALID_IMPORT_ERROR;
+
+public class CsvBoardMapper extends BoardRecordMapper<List<String>> {
+
+    public static final String DEFAULT_TABLE_NAME = "Imported";
+    public static final String MISSING_TITLE_COLUMN_ERROR = "ERROR: The CSV header must contain a title column. Header: ";
+
+    private static final Map<String, String> HEADER_ALIASES = Map.ofEntries(
+            Map.entry("table", "table"),
+            Map.entry("list", "table"),
+            Map.entry("list name", "table"),
+            Map.entry("column", "table"),
+            Map.entry("status", "table"),
+            Map.entry("title", "title"),
+            Map.entry("name", "title"),
+            Map.entry("card", "title"),
+            Map.entry("card name", "title"),
+            Map.entry("description", "description"),
+            Map.entry("desc", "description"),
+            Map.entry("card description", "description"),
+            Map.entry("deadline", "deadline"),
+            Map.entry("dead line", "deadline"),
+            Map.entry("due", "deadline"),
+            Map.entry("due date", "deadline"),
+            Map.entry("color", "color"),
+            Map.entry("tags", "tags"),
+            Map.entry("labels", "tags"),
+            Map.entry("checks", "checks"),
+            Map.entry("checklist", "checks"),
+            Map.entry("attachments", "attachments"),
+            Map.entry("files", "attachments")
+    );
+
+    private static final Pattern LIST_SEPARATOR = Pattern.compile("\\s*[;\\n]\\s*");
+    private static final Pattern TAG_SEPARATOR = Pattern.compile("\\s*[;,\\n]\\s*");
+    private static final Pattern TAG_WITH_COLOR = Pattern.compile("(.*?)\\s*\\(([A-Za-z_]+)\\)");
+    private static final Pattern CHECKED_PREFIX = Pattern.compile("\\[([ xX]?)]\\s*(.*)");
+
+    private final String dashboardName;
+    private final Map<String, Long> tableIds = new HashMap<>();
+    private final Map<String, Long> tagIds = new HashMap<>();
+    private Map<String, Integer> columns;
+    private int rowNumber;
+
+    public CsvBoardMapper(String dashboardName) {
+        this.dashboardName = dashboardName;
+    }
+
+    @Override
+    public void accept(List<String> row, Consumer<ExportRecordDTO> sink) {
+        this.rowNumber++;
+
+        if (this.columns == null) {
+            this.columns = columnsOf(row);
+            this.emitDashboard(this.dashboardName, sink);
+            return;
+        }
+
+        if (row.stream().allMatch(String::isBlank)) {
+            return;
+        }
+
+        String title = this.valueOf(row, "title");
+
+        if (title == null) {
+            throw new IllegalArgumentException(INVALID_IMPORT_ERROR + "row " + this.rowNumber);
+        }
+
+        String tableName = Objects.requireNonNullElse(this.valueOf(row, "table"), DEFAULT_TABLE_NAME);
+
+        CardExportDTO card = new CardExportDTO();
+        card.setTableId(this.tableIds.computeIfAbsent(tableName, name -> this.emitTable(name, sink)));
+        card.setTitle(title);
+        card.setDescription(this.valueOf(row, "description"));
+        card.setDeadLine(dateOf(this.valueOf(row, "deadline"), "row " + this.rowNumber));
+        card.setColor(this.colorOfRow(row));
+
+        for (String tag : split(this.valueOf(row, "tags"), TAG_SEPARATOR)) {
+            Long tagId = this.tagIds.get(tag);
+
+            if (tagId == null) {
+                Matcher matcher = TAG_WITH_COLOR.matcher(tag);
+                tagId = matcher.matches()
+                        ? this.emitTag(matcher.group(1), colorOf(matcher.group(2)), sink)
+                        : this.emitTag(tag, null, sink);
+                this.tagIds.put(tag, tagId);
+            }
+
+            if (!card.getTagIds().contains(tagId)) {
+                card.getTagIds().add(tagId);
+            }
+        }
+
+        for (String check : split(this.valueOf(row, "checks"), LIST_SEPARATOR)) {
+            Matcher matcher = CHECKED_PREFIX.matcher(check);
+            boolean checked = matcher.matches() && matcher.group(1).equalsIgnoreCase("x");
+            String label = matcher.matches() ? matcher.group(2) : check;
+
+            card.getChecks().add(new Check(label, checked, card.getChecks().size()));
+        }
+
+        for (String url : split(this.valueOf(row, "attachments"), LIST_SEPARATOR)) {
+            String fileName = url.substring(url.lastIndexOf('/') + 1);
+            card.getAttachedFiles().add(new AttachedFile(fileName.isEmpty() ? url : fileName, url));
+        }
+
+        this.emitCard(card, sink);
+    }
+
+    @Override
+    public void finish(Consumer<ExportRecordDTO> sink) {
+        if (this.columns == null) {
+            throw new IllegalArgumentException(MISSING_TITLE_COLUMN_ERROR + "[]");
+        }
+    }
+
+    private Color colorOfRow(List<String> row) {
+        String colorName = this.valueOf(row, "color");
+        Color color = colorOf(colorName);
+
+        if (colorName != null && color == null) {
+            throw new IllegalArgumentException(INVALID_IMPORT_ERROR + "row " + this.rowNumber);
+        }
+
+        return color;
+    }
+
+    private String valueOf(List<String> row, String column) {
+        Integer index = this.columns.get(column);
+
+        if (index == null || index >= row.size() || row.get(index).isBlank()) {
+            return null;
+        }
+
+        return row.get(index).trim();
+    }
+
+    private static Map<String, Integer> columnsOf(List<String> header) {
+        Map<String, Integer> columns = new HashMap<>();
+
+        for (int i = 0; i < header.size(); i++) {
+            String column = HEADER_ALIASES.get(header.get(i).trim().toLowerCase(Locale.ROOT));
+
+            if (column != null) {
+                columns.putIfAbsent(column, i);
+            }
+        }
+
+        if (!columns.containsKey("title")) {
+            throw new IllegalArgumentException(MISSING_TITLE_COLUMN_ERROR + header);
+        }
+
+        return columns;
+    }
+
+    private static List<String> split(String value, Pattern separator) {
+        if (value == null) {
+            return List.of();
+        }
+
+        return Arrays.stream(separator.split(value))
+                .filter(element -> !element.isBlank())
+                .toList();
+    }
+}
@@ -0,0 +1,204 @@
+package dev.kandv.kango.services.importers;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+import dev.kandv.kango.dtos.CardExportDTO;
+import dev.kandv.kango.dtos.ExportRecordDTO;
+import dev.kandv.kango.models.utils.AttachedFile;
+import dev.kandv.kango.models.utils.Check;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.function.Consumer;
+
+import static dev.kandv.kango.services.DashboardImportService.INVALID_IMPORT_ERROR;
+
+public class TrelloBoardMapper extends BoardRecordMapper<TrelloBoardMapper.Element> {
+
+    public static final String DEFAULT_BOARD_NAME = "Trello Board";
+
+    public static final String NAME_FIELD = "name";
+    public static final String LABELS_FIELD = "labels";
+    public static final String LISTS_FIELD = "lists";
+    public static final String CARDS_FIELD = "cards";
+    public static final String CHECKLISTS_FIELD = "checklists";
+
+    private static final Set<String> ELEMENT_FIELDS = Set.of(LABELS_FIELD, LISTS_FIELD, CARDS_FIELD, CHECKLISTS_FIELD);
+    private static final String COMPLETE_STATE = "complete";
+
+    private final Map<String, Long> tableIds = new HashMap<>();
+    private final Set<String> closedListIds = new HashSet<>();
+    private final Map<String, Long> tagIds = new HashMap<>();
+    private final Map<String, List<Check>> checklists = new HashMap<>();
+    private final List<BufferedCard> bufferedCards = new ArrayList<>();
+
+    public static void parse(ObjectMapper objectMapper, InputStream inputStream, Consumer<Element> sink) throws IOException {
+        try (JsonParser parser = objectMapper.createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException(INVALID_IMPORT_ERROR + "Trello board");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+
+                if (NAME_FIELD.equals(field) && value == JsonToken.VALUE_STRING) {
+                    sink.accept(new Element(field, TextNode.valueOf(parser.getText())));
+                } else if (ELEMENT_FIELDS.contains(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        sink.accept(new Element(field, parser.readValueAsTree()));
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+    }
+
+    @Override
+    public void accept(Element element, Consumer<ExportRecordDTO> sink) {
+        if (!this.isDashboardEmitted()) {
+            boolean named = NAME_FIELD.equals(element.field()) && !element.node().asText().isBlank();
+            this.emitDashboard(named ? element.node().asText() : DEFAULT_BOARD_NAME, sink);
+        }
+
+        JsonNode node = element.node();
+
+        switch (element.field()) {
+            case LABELS_FIELD -> this.tagIds.put(
+                    node.path("id").asText(), this.emitTag(textOf(node, NAME_FIELD), colorOf(textOf(node, "color")), sink)
+            );
+            case LISTS_FIELD -> this.acceptList(node, sink);
+            case CHECKLISTS_FIELD -> this.checklists.put(node.path("id").asText(), checksOf(node));
+            case CARDS_FIELD -> this.acceptCard(node, sink);
+            default -> {
+            }
+        }
+    }
+
+    @Override
+    public void finish(Consumer<ExportRecordDTO> sink) {
+        if (!this.isDashboardEmitted()) {
+            this.emitDashboard(DEFAULT_BOARD_NAME, sink);
+        }
+
+        List<BufferedCard> cards = new ArrayList<>(this.bufferedCards.size());
+
+        for (BufferedCard bufferedCard : this.bufferedCards) {
+            if (bufferedCard.card() != null) {
+                cards.add(bufferedCard);
+            } else if (this.tableIds.containsKey(bufferedCard.node().path("idList").asText())) {
+                cards.add(new BufferedCard(bufferedCard.pos(), null, this.mapCard(bufferedCard.node())));
+            }
+        }
+
+        cards.sort(Comparator.comparing((BufferedCard card) -> card.card().getTableId())
+                .thenComparingDouble(BufferedCard::pos));
+        cards.forEach(card -> this.emitCard(card.card(), sink));
+
+        this.bufferedCards.clear();
+    }
+
+    private void acceptList(JsonNode list, Consumer<ExportRecordDTO> sink) {
+        String listId = list.path("id").asText();
+
+        if (list.path("closed").asBoolean()) {
+            this.closedListIds.add(listId);
+            return;
+        }
+
+        this.tableIds.put(listId, this.emitTable(textOf(list, NAME_FIELD), sink));
+    }
+
+    private void acceptCard(JsonNode card, Consumer<ExportRecordDTO> sink) {
+        String listId = card.path("idList").asText();
+
+        if (card.path("closed").asBoolean() || this.closedListIds.contains(listId)) {
+            return;
+        }
+
+        boolean ready = this.tableIds.containsKey(listId)
+                && allKnown(card.path("idLabels"), this.tagIds.keySet())
+                && allKnown(card.path("idChecklists"), this.checklists.keySet());
+
+        // Positions follow pos inside each list, so no card can be emitted before the whole board is read.
+        // Ready cards are mapped now so only the unresolved ones keep their Trello node.
+        double pos = card.path("pos").asDouble();
+        this.bufferedCards.add(ready ? new BufferedCard(pos, null, this.mapCard(card)) : new BufferedCard(pos, card, null));
+    }
+
+    private CardExportDTO mapCard(JsonNode node) {
+        CardExportDTO card = new CardExportDTO();
+        card.setTableId(this.tableIds.get(node.path("idList").asText()));
+        card.setTitle(Objects.requireNonNullElse(textOf(node, NAME_FIELD), ""));
+        card.setDescription(textOf(node, "desc"));
+        card.setColor(colorOf(textOf(node.path("cover"), "color")));
+        card.setDeadLine(dateOf(textOf(node, "due"), "card " + node.path("id").asText()));
+
+        for (JsonNode labelId : node.path("idLabels")) {
+            Long tagId = this.tagIds.get(labelId.asText());
+
+            if (tagId != null) {
+                card.getTagIds().add(tagId);
+            }
+        }
+
+        for (JsonNode checklistId : node.path("idChecklists")) {
+            for (Check check : this.checklists.getOrDefault(checklistId.asText(), List.of())) {
+                card.getChecks().add(new Check(check.getLabel(), check.isChecked(), card.getChecks().size()));
+            }
+        }
+
+        for (JsonNode attachment : node.path("attachments")) {
+            String url = textOf(attachment, "url");
+
+            if (url != null) {
+                card.getAttachedFiles().add(new AttachedFile(Objects.requireNonNullElse(textOf(attachment, NAME_FIELD), url), url));
+            }
+        }
+
+        return card;
+    }
+
+    private static List<Check> checksOf(JsonNode checklist) {
+        List<JsonNode> items = new ArrayList<>();
+        checklist.path("checkItems").forEach(items::add);
+        items.sort(Comparator.comparingDouble(item -> item.path("pos").asDouble()));
+
+        List<Check> checks = new ArrayList<>(items.size());
+        for (JsonNode item : items) {
+            String label = textOf(item, NAME_FIELD);
+
+            if (label != null) {
+                checks.add(new Check(label, COMPLETE_STATE.equals(textOf(item, "state"))));
+            }
+        }
+
+        return checks;
+    }
+
+    private static boolean allKnown(JsonNode ids, Set<String> knownIds) {
+        for (JsonNode id : ids) {
+            if (!knownIds.contains(id.asText())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static String textOf(JsonNode node, String field) {
+        JsonNode value = node.path(field);
+        return value.isValueNode() && !value.isNull() ? value.asText() : null;
+    }
+
+    public record Element(String field, JsonNode node) {
+    }
+
+    private record BufferedCard(double pos, JsonNode node, CardExportDTO card) {
+    }
+}
@@ -0,0 +1,22 @@
+package dev.kandv.kango.services.utils;
+
+public final class AuditContext {
+
+    private static final ThreadLocal<String> CURRENT_ACTOR = new ThreadLocal<>();
+
+    private AuditContext() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static String currentActor() {
+        return CURRENT_ACTOR.get();
+    }
+
+    public static void setCurrentActor(String actor) {
+        CURRENT_ACTOR.set(actor);
+    }
+
+    public static void clear() {
+        CURRENT_ACTOR.remove();
+    }
+}
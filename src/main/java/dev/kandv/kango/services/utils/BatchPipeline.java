@@ -0,0 +1,215 @@
+package dev.kandv.kango.services.utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+public class BatchPipeline<S, T> implements Iterator<T>, AutoCloseable {
+
+    public static final String INVALID_BATCH_SIZE_ERROR = "ERROR: The batch size of the Pipeline must be positive. Batch Size: ";
+
+    private static final List<Object> END_OF_STREAM = new ArrayList<>(0);
+
+    private final int batchSize;
+    private final BlockingQueue<List<S>> parsedBatches;
+    private final BlockingQueue<List<T>> mappedBatches;
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private final AtomicLong parsedCount = new AtomicLong();
+    private final AtomicLong mappedCount = new AtomicLong();
+    private final AtomicLong consumedCount = new AtomicLong();
+    private final List<Future<?>> stages = new ArrayList<>(2);
+    private Iterator<T> currentBatch = Collections.emptyIterator();
+    private boolean finished;
+
+    public BatchPipeline(ExecutorService executor, Source<S> source, Stage<S, T> stage, int batchSize, int queueCapacity) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException(INVALID_BATCH_SIZE_ERROR + batchSize);
+        }
+
+        this.batchSize = batchSize;
+        this.parsedBatches = new ArrayBlockingQueue<>(queueCapacity);
+        this.mappedBatches = new ArrayBlockingQueue<>(queueCapacity);
+
+        this.stages.add(executor.submit(() -> this.runSource(source)));
+        this.stages.add(executor.submit(() -> this.runStage(stage)));
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!this.currentBatch.hasNext()) {
+            if (this.finished) {
+                return false;
+            }
+
+            List<T> batch = take(this.mappedBatches);
+            this.throwIfFailed();
+
+            if (batch == END_OF_STREAM) {
+                this.finished = true;
+            } else {
+                this.currentBatch = batch.iterator();
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        this.consumedCount.incrementAndGet();
+        return this.currentBatch.next();
+    }
+
+    @Override
+    public void close() {
+        this.finished = true;
+        this.stages.forEach(stage -> stage.cancel(true));
+    }
+
+    public long getParsedCount() {
+        return this.parsedCount.get();
+    }
+
+    public long getMappedCount() {
+        return this.mappedCount.get();
+    }
+
+    public long getConsumedCount() {
+        return this.consumedCount.get();
+    }
+
+    private void runSource(Source<S> source) {
+        Batcher<S> batcher = new Batcher<>(this.parsedBatches, this.parsedCount);
+
+        try {
+            source.emit(batcher);
+            batcher.flush();
+        } catch (Throwable e) {
+            this.failure.compareAndSet(null, e);
+        } finally {
+            batcher.end();
+        }
+    }
+
+    private void runStage(Stage<S, T> stage) {
+        Batcher<T> batcher = new Batcher<>(this.mappedBatches, this.mappedCount);
+
+        try {
+            List<S> batch;
+
+            while ((batch = take(this.parsedBatches)) != END_OF_STREAM) {
+                if (this.failure.get() == null) {
+                    batch.forEach(element -> stage.accept(element, batcher));
+                }
+            }
+
+            if (this.failure.get() == null) {
+                stage.finish(batcher);
+                batcher.flush();
+            }
+        } catch (Throwable e) {
+            this.failure.compareAndSet(null, e);
+        } finally {
+            batcher.end();
+        }
+    }
+
+    private void throwIfFailed() {
+        Throwable e = this.failure.get();
+
+        if (e == null) {
+            return;
+        }
+
+        this.finished = true;
+
+        switch (e) {
+            case RuntimeException runtimeException -> throw runtimeException;
+            case Error error -> throw error;
+            case IOException ioException -> throw new UncheckedIOException(ioException);
+            default -> throw new IllegalStateException(e);
+        }
+    }
+
+    private static <E> List<E> take(BlockingQueue<List<E>> queue) {
+        try {
+            return queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> List<E> endOfStream() {
+        return (List<E>) END_OF_STREAM;
+    }
+
+    @FunctionalInterface
+    public interface Source<S> {
+        void emit(Consumer<S> sink) throws Exception;
+    }
+
+    public interface Stage<S, T> {
+        void accept(S element, Consumer<T> sink);
+
+        default void finish(Consumer<T> sink) {
+        }
+    }
+
+    private class Batcher<E> implements Consumer<E> {
+        private final BlockingQueue<List<E>> queue;
+        private final AtomicLong counter;
+        private List<E> batch;
+
+        Batcher(BlockingQueue<List<E>> queue, AtomicLong counter) {
+            this.queue = queue;
+            this.counter = counter;
+            this.batch = new ArrayList<>(BatchPipeline.this.batchSize);
+        }
+
+        @Override
+        public void accept(E element) {
+            this.batch.add(element);
+            this.counter.incrementAndGet();
+
+            if (this.batch.size() == BatchPipeline.this.batchSize) {
+                this.flush();
+            }
+        }
+
+        void flush() {
+            if (this.batch.isEmpty()) {
+                return;
+            }
+
+            this.put(this.batch);
+            this.batch = new ArrayList<>(BatchPipeline.this.batchSize);
+        }
+
+        void end() {
+            try {
+                this.queue.put(endOfStream());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void put(List<E> elements) {
+            try {
+                this.queue.put(elements);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException();
+            }
+        }
+    }
+}
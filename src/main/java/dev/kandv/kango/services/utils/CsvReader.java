@@ -0,0 +1,92 @@
+package dev.kandv.kango.services.utils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+public class CsvReader {
+
+    public static final String UNTERMINATED_QUOTE_ERROR = "ERROR: The CSV stream has an unterminated quoted value. Row: ";
+
+    private static final char QUOTE = '"';
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final BufferedReader reader;
+    private final char delimiter;
+    private final StringBuilder value = new StringBuilder();
+    private int rowNumber;
+    private boolean started;
+
+    public CsvReader(Reader reader, char delimiter) {
+        this.reader = reader instanceof BufferedReader bufferedReader ? bufferedReader : new BufferedReader(reader);
+        this.delimiter = delimiter;
+    }
+
+    public List<String> readRow() throws IOException {
+        int character = this.reader.read();
+
+        if (!this.started) {
+            this.started = true;
+
+            if (character == BYTE_ORDER_MARK) {
+                character = this.reader.read();
+            }
+        }
+
+        if (character == -1) {
+            return null;
+        }
+
+        this.rowNumber++;
+        List<String> row = new ArrayList<>();
+        boolean quoted = false;
+        this.value.setLength(0);
+
+        while (true) {
+            if (quoted) {
+                if (character == -1) {
+                    throw new IllegalArgumentException(UNTERMINATED_QUOTE_ERROR + this.rowNumber);
+                }
+
+                if (character == QUOTE) {
+                    this.reader.mark(1);
+
+                    if (this.reader.read() == QUOTE) {
+                        this.value.append(QUOTE);
+                    } else {
+                        this.reader.reset();
+                        quoted = false;
+                    }
+                } else {
+                    this.value.append((char) character);
+                }
+            } else if (character == QUOTE) {
+                quoted = true;
+            } else if (character == this.delimiter) {
+                row.add(this.value.toString());
+                this.value.setLength(0);
+            } else if (character == '\n' || character == '\r' || character == -1) {
+                if (character == '\r') {
+                    this.reader.mark(1);
+
+                    if (this.reader.read() != '\n') {
+                        this.reader.reset();
+                    }
+                }
+
+                row.add(this.value.toString());
+                return row;
+            } else {
+                this.value.append((char) character);
+            }
+
+            character = this.reader.read();
+        }
+    }
+
+    public int getRowNumber() {
+        return this.rowNumber;
+    }
+}
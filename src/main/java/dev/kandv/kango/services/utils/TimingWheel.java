@@ -0,0 +1,209 @@
+package dev.kandv.kango.services.utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class TimingWheel<K, V> {
+
+    public static final String INVALID_TICK_ERROR = "ERROR: The tick of the Timing Wheel must be positive. Tick: ";
+
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 6;
+
+    private final long tickMillis;
+    private final long startMillis;
+    private final Bucket<K, V>[][] levels;
+    private final Map<K, Entry<K, V>> entries = new HashMap<>();
+    private long currentTick;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public TimingWheel(long tickMillis, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException(INVALID_TICK_ERROR + tickMillis);
+        }
+
+        this.tickMillis = tickMillis;
+        this.startMillis = startMillis;
+        this.levels = new Bucket[LEVELS][];
+        this.currentTick = 0;
+    }
+
+    public synchronized void schedule(K key, long expirationMillis, V value) {
+        this.cancel(key);
+
+        long expirationTick = Math.max(this.toTick(expirationMillis), this.currentTick + 1);
+        Entry<K, V> entry = new Entry<>(key, value, expirationTick);
+
+        this.entries.put(key, entry);
+        this.place(entry);
+    }
+
+    public synchronized boolean cancel(K key) {
+        Entry<K, V> entry = this.entries.remove(key);
+
+        if (entry == null) {
+            return false;
+        }
+
+        entry.unlink();
+        return true;
+    }
+
+    public synchronized List<V> advance(long nowMillis) {
+        List<V> expired = new ArrayList<>();
+        long targetTick = this.toTick(nowMillis);
+
+        while (this.currentTick < targetTick) {
+            this.currentTick++;
+            this.cascade();
+
+            Bucket<K, V> bucket = this.bucket(0, (int) (this.currentTick & WHEEL_MASK));
+            for (Entry<K, V> entry = bucket.poll(); entry != null; entry = bucket.poll()) {
+                this.entries.remove(entry.key);
+                expired.add(entry.value);
+            }
+        }
+
+        return expired;
+    }
+
+    public synchronized void clear() {
+        for (Entry<K, V> entry : this.entries.values()) {
+            entry.unlink();
+        }
+
+        this.entries.clear();
+    }
+
+    public synchronized int size() {
+        return this.entries.size();
+    }
+
+    public synchronized boolean contains(K key) {
+        return this.entries.containsKey(key);
+    }
+
+    private long toTick(long millis) {
+        long elapsed = millis - this.startMillis;
+
+        if (elapsed <= 0) {
+            return 0;
+        }
+
+        return (elapsed + this.tickMillis - 1) / this.tickMillis;
+    }
+
+    private void cascade() {
+        int highestLevel = 0;
+
+        for (int level = 1; level < LEVELS; level++) {
+            long lowerBits = this.currentTick & ((1L << (level * WHEEL_BITS)) - 1);
+
+            if (lowerBits != 0) {
+                break;
+            }
+
+            highestLevel = level;
+        }
+
+        for (int level = highestLevel; level >= 1; level--) {
+            if (this.levels[level] == null) {
+                continue;
+            }
+
+            int index = (int) ((this.currentTick >>> (level * WHEEL_BITS)) & WHEEL_MASK);
+            Bucket<K, V> bucket = this.levels[level][index];
+
+            for (Entry<K, V> entry = bucket.poll(); entry != null; entry = bucket.poll()) {
+                this.place(entry);
+            }
+        }
+    }
+
+    private void place(Entry<K, V> entry) {
+        long delta = entry.expirationTick - this.currentTick;
+        long placementTick = entry.expirationTick;
+        int level = 0;
+
+        while (level < LEVELS - 1 && delta >= (1L << ((level + 1) * WHEEL_BITS))) {
+            level++;
+        }
+
+        long topLevelSpan = 1L << (LEVELS * WHEEL_BITS);
+        if (delta >= topLevelSpan) {
+            placementTick = this.currentTick + topLevelSpan - 1;
+        }
+
+        int index = (int) ((placementTick >>> (level * WHEEL_BITS)) & WHEEL_MASK);
+        this.bucket(level, index).add(entry);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Bucket<K, V> bucket(int level, int index) {
+        if (this.levels[level] == null) {
+            Bucket<K, V>[] buckets = new Bucket[WHEEL_SIZE];
+
+            for (int i = 0; i < WHEEL_SIZE; i++) {
+                buckets[i] = new Bucket<>();
+            }
+
+            this.levels[level] = buckets;
+        }
+
+        return this.levels[level][index];
+    }
+
+    private static class Entry<K, V> {
+        private final K key;
+        private final V value;
+        private final long expirationTick;
+        private Entry<K, V> previous;
+        private Entry<K, V> next;
+
+        Entry(K key, V value, long expirationTick) {
+            this.key = key;
+            this.value = value;
+            this.expirationTick = expirationTick;
+        }
+
+        void unlink() {
+            if (this.previous != null) {
+                this.previous.next = this.next;
+                this.next.previous = this.previous;
+                this.previous = null;
+                this.next = null;
+            }
+        }
+    }
+
+    private static class Bucket<K, V> {
+        private final Entry<K, V> head = new Entry<>(null, null, -1);
+
+        Bucket() {
+            this.head.previous = this.head;
+            this.head.next = this.head;
+        }
+
+        void add(Entry<K, V> entry) {
+            entry.previous = this.head.previous;
+            entry.next = this.head;
+            this.head.previous.next = entry;
+            this.head.previous = entry;
+        }
+
+        Entry<K, V> poll() {
+            Entry<K, V> first = this.head.next;
+
+            if (first == this.head) {
+                return null;
+            }
+
+            first.unlink();
+            return first;
+        }
+    }
+}
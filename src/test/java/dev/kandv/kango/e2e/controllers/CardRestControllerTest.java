@@ -1,12 +1,15 @@
 package dev.kandv.kango.e2e.controllers;
 
 import dev.kandv.kango.KangoApplication;
+import dev.kandv.kango.dtos.CardBulkUpdateDTO;
 import dev.kandv.kango.dtos.CardDTO;
 import dev.kandv.kango.models.Tag;
+import dev.kandv.kango.models.enums.CardBulkOperation;
 import dev.kandv.kango.models.enums.CardType;
 import dev.kandv.kango.models.enums.Color;
 import dev.kandv.kango.models.utils.AttachedFile;
 import dev.kandv.kango.models.utils.Check;
+import dev.kandv.kango.services.AuditLogService;
 import dev.kandv.kango.services.CardService;
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
@@ -23,19 +26,34 @@ import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.text.SimpleDateFormat;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
 import java.util.TimeZone;
 
+import static dev.kandv.kango.config.AuditActorFilter.ACTOR_HEADER;
 import static dev.kandv.kango.controllers.CardRestController.*;
 import static dev.kandv.kango.controllers.ErrorMessagesRestControllers.*;
 import static dev.kandv.kango.e2e.controllers.CardRestControllerUtils.actionCreateCard;
 import static dev.kandv.kango.e2e.controllers.CardRestControllerUtils.actionGetSpecificCardById;
+import static dev.kandv.kango.e2e.controllers.TableRestControllerUtils.actionCreateTable;
 import static dev.kandv.kango.e2e.controllers.TagRestControllerUtils.actionCreateTag;
 import static dev.kandv.kango.models.Card.NOT_FOUND_CHECK_ERROR;
+import static dev.kandv.kango.services.CardService.INVALID_COPY_COUNT_ERROR;
+import static dev.kandv.kango.services.CardService.INVALID_DEAD_LINE_RANGE_ERROR;
 import static dev.kandv.kango.services.CardService.NOT_FOUND_ELEMENT_IN_CARD_ERROR;
+import static dev.kandv.kango.services.ErrorMessagesServices.INVALID_ID_LIST_ERROR;
+import static dev.kandv.kango.services.ErrorMessagesServices.INVALID_PAGE_ERROR;
 import static dev.kandv.kango.services.ErrorMessagesServices.NOT_FOUND_CARD_WITH_ID_ERROR;
+import static dev.kandv.kango.services.FileStorageService.INVALID_FILE_ERROR;
 import static io.restassured.RestAssured.given;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 
 @Testcontainers
@@ -64,6 +82,8 @@ class CardRestControllerTest {
     int port;
     @Autowired
     CardService cardService;
+    @Autowired
+    AuditLogService auditLogService;
 
     String cardTitle = CardRestControllerUtils.cardTitle;
     CardType cardType = CardRestControllerUtils.cardType;
@@ -190,6 +210,38 @@ class CardRestControllerTest {
                 .body("message", containsString(CARD_NOT_FOUND));
     }
 
+    @Test
+    void testCreateCardsUsingATemplate(){
+        long cardId = actionCreateCard("EXAMPLE TEMPLATE CARD", CardType.GLOBAL_TEMPLATE);
+        long tableId = actionCreateTable();
+
+        given()
+                .pathParams("id", cardId)
+                .queryParam("count", 3)
+                .queryParam("tableId", tableId)
+                .when()
+                .post("/api/cards/{id}/copy", cardId)
+                .then()
+                .statusCode(201)
+                .body("templateId", equalTo((int) cardId))
+                .body("tableId", equalTo((int) tableId))
+                .body("cardIds", hasSize(3));
+    }
+
+    @Test
+    void testCreateCardsUsingATemplateWithInvalidCount(){
+        long cardId = actionCreateCard("EXAMPLE TEMPLATE CARD", CardType.GLOBAL_TEMPLATE);
+
+        given()
+                .pathParams("id", cardId)
+                .queryParam("count", 0)
+                .when()
+                .post("/api/cards/{id}/copy", cardId)
+                .then()
+                .statusCode(400)
+                .body("message", containsString(INVALID_COPY_COUNT_ERROR));
+    }
+
     @Test
     void testGetSpecificCardById(){
         long cardId = actionCreateCard();
@@ -988,6 +1040,350 @@ class CardRestControllerTest {
                 .body("message", containsString(NOT_FOUND_CARD_WITH_ID_ERROR));
     }
 
+    @Test
+    void testGetCardsByDeadLineRange() {
+        long cardId = actionCreateCard();
+        Date deadline = new Date(System.currentTimeMillis() + 60000);
+        CardDTO newDeadlineDTO = new CardDTO();
+        newDeadlineDTO.setDeadLine(deadline);
+
+        given()
+                .pathParams("id", cardId)
+                .contentType(ContentType.JSON)
+                .body(newDeadlineDTO)
+                .when()
+                .put("/api/cards/{id}/deadline", cardId)
+                .then()
+                .statusCode(204);
+
+        SimpleDateFormat isoFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
+        isoFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
+
+        given()
+                .queryParam("from", isoFormat.format(new Date()))
+                .queryParam("to", isoFormat.format(new Date(deadline.getTime() + 60000)))
+                .when()
+                .get("/api/deadlines")
+                .then()
+                .statusCode(200)
+                .body("size()", equalTo(1))
+                .body("get(0).id", equalTo((int) cardId));
+    }
+
+    @Test
+    void testGetCardsByDeadLineRangeWithInvalidRange() {
+        SimpleDateFormat isoFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
+        isoFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
+        Date now = new Date();
+
+        given()
+                .queryParam("from", isoFormat.format(now))
+                .queryParam("to", isoFormat.format(new Date(now.getTime() - 60000)))
+                .when()
+                .get("/api/deadlines")
+                .then()
+                .statusCode(400)
+                .body("message", containsString(INVALID_DEAD_LINE_RANGE_ERROR));
+    }
+
+    @Test
+    void testGetOverdueCardCountsByDashboard() {
+        given()
+                .when()
+                .get("/api/deadlines/overdue-counts")
+                .then()
+                .statusCode(200);
+    }
+
+    @Test
+    void testGetCards() {
+        long firstCardId = actionCreateCard("Query Beta", CardType.NORMAL);
+        long secondCardId = actionCreateCard("query alpha", CardType.NORMAL);
+        actionCreateCard("Other", CardType.NORMAL);
+
+        String nextCursor = given()
+                .queryParam("text", "QUERY")
+                .queryParam("sort", "TITLE")
+                .queryParam("limit", 1)
+                .when()
+                .get("/api/cards")
+                .then()
+                .statusCode(200)
+                .body("cards.size()", equalTo(1))
+                .body("cards[0].id", equalTo((int) secondCardId))
+                .body("nextCursor", notNullValue())
+                .extract()
+                .path("nextCursor");
+
+        given()
+                .queryParam("text", "QUERY")
+                .queryParam("sort", "TITLE")
+                .queryParam("limit", 1)
+                .queryParam("after", nextCursor)
+                .when()
+                .get("/api/cards")
+                .then()
+                .statusCode(200)
+                .body("cards.size()", equalTo(1))
+                .body("cards[0].id", equalTo((int) firstCardId))
+                .body("nextCursor", nullValue());
+    }
+
+    @Test
+    void testGetCardsWithInvalidLimit() {
+        given()
+                .queryParam("limit", 0)
+                .when()
+                .get("/api/cards")
+                .then()
+                .statusCode(400)
+                .body("message", containsString(INVALID_PAGE_ERROR));
+    }
+
+    @Test
+    void testGetCardsByIds() {
+        long firstCardId = actionCreateCard("First Card", CardType.NORMAL);
+        long secondCardId = actionCreateCard("Second Card", CardType.NORMAL);
+
+        given()
+                .queryParam("ids", secondCardId + ",12345," + firstCardId)
+                .when()
+                .get("/api/cards")
+                .then()
+                .statusCode(200)
+                .body("size()", equalTo(3))
+                .body("[0].id", equalTo((int) secondCardId))
+                .body("[0].missing", equalTo(false))
+                .body("[0].value.title", equalTo("Second Card"))
+                .body("[1].id", equalTo(12345))
+                .body("[1].missing", equalTo(true))
+                .body("[1].value", nullValue())
+                .body("[2].id", equalTo((int) firstCardId))
+                .body("[2].value.title", equalTo("First Card"));
+    }
+
+    @Test
+    void testGetCardsByIdsWithTooManyIds() {
+        String ids = String.join(",", Collections.nCopies(101, "1"));
+
+        given()
+                .queryParam("ids", ids)
+                .when()
+                .get("/api/cards")
+                .then()
+                .statusCode(400)
+                .body("message", containsString(INVALID_ID_LIST_ERROR));
+    }
+
+    @Test
+    void testUpdateCardsInBulk() {
+        long firstCardId = actionCreateCard("First Card", CardType.NORMAL);
+        long secondCardId = actionCreateCard("Second Card", CardType.NORMAL);
+        long tagId = actionCreateTag();
+        CardBulkUpdateDTO cardBulkUpdateDTO = new CardBulkUpdateDTO(
+                List.of(firstCardId, secondCardId), null, CardBulkOperation.ADD_TAG, null, null, tagId
+        );
+
+        given()
+                .contentType(ContentType.JSON)
+                .body(cardBulkUpdateDTO)
+                .when()
+                .patch("/api/cards/bulk")
+                .then()
+                .statusCode(200)
+                .body("affectedCards", equalTo(2));
+
+        actionGetSpecificCardById(firstCardId)
+                .then()
+                .body("tagList.size()", equalTo(1));
+    }
+
+    @Test
+    void testUpdateCardsInBulkWithInvalidValues() {
+        long cardId = actionCreateCard("First Card", CardType.NORMAL);
+        CardBulkUpdateDTO withoutColor = new CardBulkUpdateDTO(
+                List.of(cardId), null, CardBulkOperation.SET_COLOR, null, null, null
+        );
+        CardBulkUpdateDTO withMissingTag = new CardBulkUpdateDTO(
+                List.of(cardId), null, CardBulkOperation.ADD_TAG, null, null, 12345L
+        );
+
+        given()
+                .contentType(ContentType.JSON)
+                .body(withoutColor)
+                .when()
+                .patch("/api/cards/bulk")
+                .then()
+                .statusCode(400);
+
+        given()
+                .contentType(ContentType.JSON)
+                .body(withMissingTag)
+                .when()
+                .patch("/api/cards/bulk")
+                .then()
+                .statusCode(404)
+                .body("message", containsString(TAG_NOT_FOUND));
+    }
+
+    @Test
+    void testDeleteCardsByIds() {
+        long firstCardId = actionCreateCard("First Card", CardType.NORMAL);
+        long secondCardId = actionCreateCard("Second Card", CardType.NORMAL);
+
+        given()
+                .queryParam("ids", firstCardId + "," + secondCardId + ",12345")
+                .when()
+                .delete("/api/cards")
+                .then()
+                .statusCode(200)
+                .body("affectedCards", equalTo(2));
+
+        actionGetSpecificCardById(firstCardId)
+                .then()
+                .statusCode(404);
+    }
+
+    @Test
+    void testUploadFileToCard() {
+        long cardId = actionCreateCard();
+        byte[] content = "Kango attached file".getBytes(StandardCharsets.UTF_8);
+
+        String fileUrl = given()
+                .pathParams("id", cardId)
+                .multiPart("file", "notes.txt", content, "text/plain")
+                .when()
+                .post("/api/cards/{id}/attached-files/upload", cardId)
+                .then()
+                .statusCode(201)
+                .body("fileName", equalTo("notes.txt"))
+                .extract()
+                .path("fileUrl");
+
+        Response response = actionGetSpecificCardById(cardId);
+        response.then()
+                .statusCode(200)
+                .body("attachedFiles.size()", equalTo(1))
+                .body("attachedFiles.get(0).fileUrl", equalTo(fileUrl));
+
+        String eTag = given()
+                .when()
+                .get(fileUrl)
+                .then()
+                .statusCode(200)
+                .header("Accept-Ranges", "bytes")
+                .body(equalTo("Kango attached file"))
+                .extract()
+                .header("ETag");
+
+        given()
+                .header("Range", "bytes=0-4")
+                .when()
+                .get(fileUrl)
+                .then()
+                .statusCode(206)
+                .header("Content-Range", "bytes 0-4/" + content.length)
+                .body(equalTo("Kango"));
+
+        given()
+                .header("If-None-Match", eTag)
+                .when()
+                .get(fileUrl)
+                .then()
+                .statusCode(304);
+    }
+
+    @Test
+    void testUploadSameFileToCardsIsDeduplicated() {
+        long firstCardId = actionCreateCard();
+        long secondCardId = actionCreateCard();
+        byte[] content = "Shared attached file".getBytes(StandardCharsets.UTF_8);
+
+        String firstFileUrl = actionUploadFileToCard(firstCardId, "shared.pdf", content);
+        String secondFileUrl = actionUploadFileToCard(secondCardId, "copy-of-shared.pdf", content);
+
+        assertThat(secondFileUrl, equalTo(firstFileUrl));
+
+        given()
+                .when()
+                .get(secondFileUrl)
+                .then()
+                .statusCode(200)
+                .contentType("application/pdf")
+                .body(equalTo("Shared attached file"));
+    }
+
+    @Test
+    void testUploadImageToCardHasThumbnail() throws IOException {
+        long cardId = actionCreateCard();
+        BufferedImage image = new BufferedImage(640, 480, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", content);
+
+        String fileUrl = actionUploadFileToCard(cardId, "photo.png", content.toByteArray());
+
+        Response response = actionGetSpecificCardById(cardId);
+        response.then()
+                .statusCode(200)
+                .body("attachedFiles.get(0).thumbnailUrl", equalTo(fileUrl + "/thumbnail"));
+
+        given()
+                .when()
+                .get(fileUrl + "/thumbnail")
+                .then()
+                .statusCode(200)
+                .contentType("image/png");
+    }
+
+    @Test
+    void testUploadFileToCardWithInvalidId() {
+        long cardId = 12345L;
+
+        given()
+                .pathParams("id", cardId)
+                .multiPart("file", "notes.txt", "content".getBytes(StandardCharsets.UTF_8), "text/plain")
+                .when()
+                .post("/api/cards/{id}/attached-files/upload", cardId)
+                .then()
+                .statusCode(404)
+                .body("message", containsString(CARD_NOT_FOUND));
+    }
+
+    @Test
+    void testUploadFileToCardWithEmptyFile() {
+        long cardId = actionCreateCard();
+
+        given()
+                .pathParams("id", cardId)
+                .multiPart("file", "empty.txt", new byte[0], "text/plain")
+                .when()
+                .post("/api/cards/{id}/attached-files/upload", cardId)
+                .then()
+                .statusCode(400)
+                .body("message", containsString(INVALID_FILE_ERROR));
+    }
+
+    @Test
+    void testDownloadFileWithInvalidName() {
+        given()
+                .when()
+                .get("/api/files/not-a-stored-file")
+                .then()
+                .statusCode(404);
+    }
+
+    private String actionUploadFileToCard(long cardId, String fileName, byte[] content) {
+        return given()
+                .pathParams("id", cardId)
+                .multiPart("file", fileName, content)
+                .when()
+                .post("/api/cards/{id}/attached-files/upload", cardId)
+                .then()
+                .statusCode(201)
+                .extract()
+                .path("fileUrl");
+    }
+
     private void actionAttachFileToCard(long cardId, AttachedFile attachedFile) {
         given()
                 .pathParams("id", cardId)
@@ -1021,4 +1417,49 @@ class CardRestControllerTest {
                 .statusCode(204);
     }
 
+
+    @Test
+    void testGetCardHistory() {
+        long cardId = actionCreateCard();
+        CardDTO newTitleDTO = new CardDTO();
+        newTitleDTO.setTitle("AUDITED TITLE");
+
+        given()
+                .pathParams("id", cardId)
+                .header(ACTOR_HEADER, "alice")
+                .contentType(ContentType.JSON)
+                .body(newTitleDTO)
+        .when()
+                .put("/api/cards/{id}/title", cardId)
+        .then()
+                .statusCode(204);
+
+        this.auditLogService.flush();
+
+        given()
+                .pathParams("id", cardId)
+                .queryParam("size", 1)
+        .when()
+                .get("/api/cards/{id}/history")
+        .then()
+                .statusCode(200)
+                .body("size()", equalTo(1))
+                .body("[0].action", equalTo("UPDATE_TITLE"))
+                .body("[0].actor", equalTo("alice"))
+                .body("[0].detail", equalTo("AUDITED TITLE"));
+    }
+
+    @Test
+    void testGetCardHistoryWithInvalidPage() {
+        long cardId = actionCreateCard();
+
+        given()
+                .pathParams("id", cardId)
+                .queryParam("page", -1)
+        .when()
+                .get("/api/cards/{id}/history")
+        .then()
+                .statusCode(400)
+                .body("message", containsString(INVALID_PAGE_ERROR));
+    }
 }
@@ -22,20 +22,26 @@ import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 
-import static dev.kandv.kango.controllers.DashboardRestController.INVALID_DASHBOARD_NAME;
+import static dev.kandv.kango.controllers.DashboardRestController.*;
 import static dev.kandv.kango.controllers.ErrorMessagesRestControllers.*;
 import static dev.kandv.kango.e2e.controllers.CardRestControllerUtils.actionCreateCard;
 import static dev.kandv.kango.e2e.controllers.CardRestControllerUtils.actionGetSpecificCardById;
 import static dev.kandv.kango.e2e.controllers.DashboardRestControllerUtils.*;
+import static dev.kandv.kango.e2e.controllers.TableRestControllerUtils.actionAddCardToTable;
 import static dev.kandv.kango.e2e.controllers.TableRestControllerUtils.actionCreateTable;
 import static dev.kandv.kango.e2e.controllers.TagRestControllerUtils.actionCreateTag;
+import static dev.kandv.kango.services.DashboardImportService.INVALID_IMPORT_REFERENCE_ERROR;
 import static dev.kandv.kango.services.DashboardService.*;
 import static dev.kandv.kango.services.ErrorMessagesServices.*;
+import static dev.kandv.kango.services.importers.CsvBoardMapper.MISSING_TITLE_COLUMN_ERROR;
 import static io.restassured.RestAssured.given;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
 
 @Testcontainers
 @SpringBootTest(
@@ -184,6 +190,30 @@ class DashboardRestControllerTest {
         notFoundResponse.then().statusCode(404);
     }
 
+    @Test
+    void testRemoveDashboardWithContent() {
+        long dashboardId = actionCreateDashboard();
+        long tableId = actionCreateTable();
+        long cardId = actionCreateCard();
+        long templateCardId = actionCreateCard();
+        actionAddTableToDashboard(dashboardId, tableId);
+        actionAddCardToTable(tableId, cardId);
+        actionAddTemplateCardToDashboard(dashboardId, templateCardId);
+
+        given()
+                .pathParams("id", dashboardId)
+                .when()
+                .delete("/api/dashboards/{id}", dashboardId)
+                .then()
+                .statusCode(200)
+                .body("tableList.size()", equalTo(1))
+                .body("tableList[0].cardList.size()", equalTo(1))
+                .body("templateCardList.size()", equalTo(1));
+
+        actionGetSpecificCardById(cardId).then().statusCode(404);
+        actionGetSpecificCardById(templateCardId).then().statusCode(404);
+    }
+
     @Test
     void testRemoveDashboardWithInvalidId() {
         long cardId = 12345L;
@@ -787,6 +817,42 @@ class DashboardRestControllerTest {
                 .body("tableList.get(1).name", equalTo(tableName));
     }
 
+    @Test
+    void testGetDashboardWithCardsPerTable() {
+        long dashboardId = actionCreateDashboard();
+        long tableId = actionCreateTable();
+        long cardId1 = actionCreateCard("Card 1", CardType.NORMAL);
+        long cardId2 = actionCreateCard("Card 2", CardType.NORMAL);
+        long cardId3 = actionCreateCard("Card 3", CardType.NORMAL);
+
+        actionAddTableToDashboard(dashboardId, tableId);
+        actionAddCardToTable(tableId, cardId1);
+        actionAddCardToTable(tableId, cardId2, 2);
+        actionAddCardToTable(tableId, cardId3, 3);
+
+        given()
+                .pathParams("id", dashboardId)
+                .queryParam("cardsPerTable", 2)
+                .when()
+                .get("/api/dashboards/{id}")
+                .then()
+                .statusCode(200)
+                .body("tableList.size()", equalTo(1))
+                .body("tableList.get(0).cardCount", equalTo(3))
+                .body("tableList.get(0).cardList.size()", equalTo(2))
+                .body("tableList.get(0).cardList.get(0).id", equalTo((int) cardId1))
+                .body("tableList.get(0).cardList.get(1).id", equalTo((int) cardId2));
+
+        given()
+                .pathParams("id", dashboardId)
+                .queryParam("cardsPerTable", 0)
+                .when()
+                .get("/api/dashboards/{id}")
+                .then()
+                .statusCode(400)
+                .body("message", containsString(INVALID_PAGE_ERROR));
+    }
+
     @Test
     void testUpdateTablePositionFromDashboardWithInvalidDashboardId() {
         long dashboardId = 12345L;
@@ -841,6 +907,249 @@ class DashboardRestControllerTest {
                 .body("message", containsString(NOT_FOUND_TABLE_IN_THE_DASHBOARD_ERROR));
     }
 
+    @Test
+    void testUploadFileToDashboard() {
+        long dashboardId = actionCreateDashboard();
+
+        given()
+                .pathParams("id", dashboardId)
+                .multiPart("file", "board.txt", "Kango board".getBytes(StandardCharsets.UTF_8), "text/plain")
+                .when()
+                .post("/api/dashboards/{id}/attached-files/upload", dashboardId)
+                .then()
+                .statusCode(201)
+                .body("fileName", equalTo("board.txt"));
+
+        Response response = actionGetSpecificDashboardById(dashboardId);
+        response.then()
+                .statusCode(200)
+                .body("attachedFiles.size()", equalTo(1));
+    }
+
+    @Test
+    void testExportDashboard() {
+        long dashboardId = actionCreateDashboard();
+        long tableId = actionCreateTable();
+        long cardId = actionCreateCard();
+        actionAddTableToDashboard(dashboardId, tableId);
+        actionAddCardToTable(tableId, cardId);
+
+        String body = given()
+                .pathParams("id", dashboardId)
+                .when()
+                .get("/api/dashboards/{id}/export", dashboardId)
+                .then()
+                .statusCode(200)
+                .contentType(NDJSON_CONTENT_TYPE)
+                .header("Content-Disposition", containsString("dashboard-" + dashboardId + ".ndjson"))
+                .extract()
+                .asString();
+
+        String[] lines = body.strip().split("\n");
+        assertThat(lines.length, equalTo(3));
+        assertThat(lines[0], containsString("\"type\":\"dashboard\""));
+        assertThat(lines[1], containsString("\"type\":\"table\""));
+        assertThat(lines[2], containsString("\"type\":\"card\""));
+        assertThat(lines[2], containsString("\"tableId\":" + tableId));
+    }
+
+    @Test
+    void testExportDashboardWithGzip() {
+        long dashboardId = actionCreateDashboard();
+
+        given()
+                .pathParams("id", dashboardId)
+                .queryParam("compression", "gzip")
+                .when()
+                .get("/api/dashboards/{id}/export", dashboardId)
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .body(containsString("\"type\":\"dashboard\""));
+    }
+
+    @Test
+    void testExportDashboardWithInvalidCompression() {
+        long dashboardId = actionCreateDashboard();
+
+        given()
+                .pathParams("id", dashboardId)
+                .queryParam("compression", "rar")
+                .when()
+                .get("/api/dashboards/{id}/export", dashboardId)
+                .then()
+                .statusCode(400)
+                .body("message", containsString(INVALID_COMPRESSION));
+    }
+
+    @Test
+    void testExportDashboardWithInvalidId() {
+        long dashboardId = 12345L;
+
+        given()
+                .pathParams("id", dashboardId)
+                .when()
+                .get("/api/dashboards/{id}/export", dashboardId)
+                .then()
+                .statusCode(404)
+                .body("message", containsString(DASHBOARD_NOT_FOUND));
+    }
+
+    @Test
+    void testImportExportedDashboard() {
+        long dashboardId = actionCreateDashboard("Imported Dashboard");
+        long tableId = actionCreateTable();
+        long cardId = actionCreateCard();
+        actionAddTableToDashboard(dashboardId, tableId);
+        actionAddCardToTable(tableId, cardId);
+
+        byte[] export = given()
+                .pathParams("id", dashboardId)
+                .queryParam("compression", "gzip")
+                .when()
+                .get("/api/dashboards/{id}/export", dashboardId)
+                .then()
+                .statusCode(200)
+                .extract()
+                .asByteArray();
+
+        long importedDashboardId = ((Integer) given()
+                .contentType(NDJSON_CONTENT_TYPE)
+                .body(export)
+                .when()
+                .post("/api/import")
+                .then()
+                .statusCode(201)
+                .body("importedTables", equalTo(1))
+                .body("importedCards", equalTo(1))
+                .extract()
+                .path("dashboardId")).longValue();
+
+        Response response = actionGetSpecificDashboardById(importedDashboardId);
+        response.then()
+                .statusCode(200)
+                .body("name", equalTo("Imported Dashboard"))
+                .body("tableList.size()", equalTo(1))
+                .body("tableList.get(0).cardList.size()", equalTo(1));
+    }
+
+    @Test
+    void testCloneDashboard() {
+        long dashboardId = actionCreateDashboard();
+        long tableId = actionCreateTable();
+        long cardId = actionCreateCard();
+        actionAddTableToDashboard(dashboardId, tableId);
+        actionAddCardToTable(tableId, cardId);
+
+        given()
+                .pathParams("id", dashboardId)
+                .queryParam("name", "Cloned Dashboard")
+                .when()
+                .post("/api/dashboards/{id}/clone", dashboardId)
+                .then()
+                .statusCode(201)
+                .body("dashboardId", not(equalTo((int) dashboardId)))
+                .body("clonedTables", equalTo(1))
+                .body("clonedCards", equalTo(1));
+    }
+
+    @Test
+    void testCloneDashboardWithNotFoundDashboard() {
+        long dashboardId = 12345L;
+
+        given()
+                .pathParams("id", dashboardId)
+                .when()
+                .post("/api/dashboards/{id}/clone", dashboardId)
+                .then()
+                .statusCode(404)
+                .body("message", containsString(DASHBOARD_NOT_FOUND));
+    }
+
+    @Test
+    void testImportWithInvalidReference() {
+        String stream = """
+                {"type":"dashboard","id":1,"name":"Imported Dashboard"}
+                {"type":"card","id":1,"tableId":99,"title":"Card","position":0}
+                """;
+
+        given()
+                .contentType(NDJSON_CONTENT_TYPE)
+                .body(stream.getBytes(StandardCharsets.UTF_8))
+                .when()
+                .post("/api/import")
+                .then()
+                .statusCode(400)
+                .body("message", containsString(INVALID_IMPORT_REFERENCE_ERROR));
+    }
+
+    @Test
+    void testImportCsv() {
+        String csv = """
+                title,table,labels,checklist
+                CSV CARD,TO DO,Urgent (red),[x] CSV CHECK
+                SECOND CSV CARD,DONE,,
+                """;
+
+        given()
+                .contentType(CSV_CONTENT_TYPE)
+                .queryParam("name", "CSV Dashboard")
+                .body(csv.getBytes(StandardCharsets.UTF_8))
+                .when()
+                .post("/api/import/csv")
+                .then()
+                .statusCode(201)
+                .body("importedTags", equalTo(1))
+                .body("importedTables", equalTo(2))
+                .body("importedCards", equalTo(2));
+    }
+
+    @Test
+    void testImportCsvWithoutTitleColumn() {
+        given()
+                .contentType(CSV_CONTENT_TYPE)
+                .queryParam("name", "CSV Dashboard")
+                .body("table\nTO DO\n".getBytes(StandardCharsets.UTF_8))
+                .when()
+                .post("/api/import/csv")
+                .then()
+                .statusCode(400)
+                .body("message", containsString(MISSING_TITLE_COLUMN_ERROR));
+    }
+
+    @Test
+    void testImportTrelloBoard() {
+        String board = """
+                {"name": "Trello Dashboard",
+                 "lists": [{"id": "l1", "name": "Trello List", "closed": false}],
+                 "cards": [{"id": "c1", "name": "Trello Card", "idList": "l1", "closed": false}]}
+                """;
+
+        given()
+                .contentType(ContentType.JSON)
+                .body(board)
+                .when()
+                .post("/api/import/trello")
+                .then()
+                .statusCode(201)
+                .body("importedTables", equalTo(1))
+                .body("importedCards", equalTo(1));
+    }
+
+    @Test
+    void testUploadFileToDashboardWithInvalidId() {
+        long dashboardId = 12345L;
+
+        given()
+                .pathParams("id", dashboardId)
+                .multiPart("file", "board.txt", "Kango board".getBytes(StandardCharsets.UTF_8), "text/plain")
+                .when()
+                .post("/api/dashboards/{id}/attached-files/upload", dashboardId)
+                .then()
+                .statusCode(404)
+                .body("message", containsString(DASHBOARD_NOT_FOUND));
+    }
+
     private void actionAttachFileToDashboard(long dashboardId, AttachedFile attachedFile) {
         given()
                 .pathParams("id", dashboardId)
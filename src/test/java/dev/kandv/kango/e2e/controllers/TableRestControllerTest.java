@@ -25,16 +25,22 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 import java.util.ArrayList;
 import java.util.List;
 
+import static dev.kandv.kango.controllers.ErrorMessagesRestControllers.INVALID_REMOVE_ALL_CARDS;
 import static dev.kandv.kango.controllers.ErrorMessagesRestControllers.TABLE_NOT_FOUND;
 import static dev.kandv.kango.controllers.TableRestController.*;
 import static dev.kandv.kango.e2e.controllers.CardRestControllerUtils.actionCreateCard;
+import static dev.kandv.kango.e2e.controllers.CardRestControllerUtils.actionGetSpecificCardById;
 import static dev.kandv.kango.e2e.controllers.TableRestControllerUtils.*;
 import static dev.kandv.kango.services.ErrorMessagesServices.NOT_FOUND_CARD_WITH_ID_ERROR;
 import static dev.kandv.kango.services.ErrorMessagesServices.NOT_FOUND_TABLE_WITH_ID_ERROR;
+import static dev.kandv.kango.services.TableService.INVALID_CARD_ORDER_ERROR;
 import static dev.kandv.kango.services.TableService.NOT_FOUND_CARD_IN_THE_TABLE_ERROR;
 import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 
 @Testcontainers
 @SpringBootTest(
@@ -303,6 +309,25 @@ class TableRestControllerTest {
         notFoundResponse.then().statusCode(404);
     }
 
+    @Test
+    void testRemoveTableWithCards() {
+        long tableId = actionCreateTable();
+        long cardId = actionCreateCard();
+        actionAddCardToTable(tableId, cardId);
+
+        given()
+                .pathParams("id", tableId)
+                .when()
+                .delete("/api/tables/{id}", tableId)
+                .then()
+                .statusCode(200)
+                .body("name", equalTo(name))
+                .body("cardList.size()", equalTo(1));
+
+        Response notFoundResponse = actionGetSpecificCardById(cardId);
+        notFoundResponse.then().statusCode(404);
+    }
+
     @Test
     void testRemoveTableWithInvalidId() {
         long tableId = 12345L;
@@ -516,6 +541,166 @@ class TableRestControllerTest {
                 .body("cardList.get(1).title", equalTo(cardTitle));
     }
 
+    @Test
+    void testUpdateCardPositionFromTableBurstIsVisibleToReads() {
+        long tableId = actionCreateTable();
+        long cardId1 = actionCreateCard("Card 1", CardType.NORMAL);
+        long cardId2 = actionCreateCard("Card 2", CardType.NORMAL);
+        long cardId3 = actionCreateCard("Card 3", CardType.NORMAL);
+
+        actionAddCardToTable(tableId, cardId1);
+        actionAddCardToTable(tableId, cardId2, 2);
+        actionAddCardToTable(tableId, cardId3, 3);
+
+        for (int position = 1; position <= 2; position++) {
+            given()
+                    .pathParams("tableId", tableId)
+                    .pathParams("cardId", cardId1)
+                    .queryParam("position", position)
+                    .when()
+                    .put("/api/tables/{tableId}/cards/{cardId}/position")
+                    .then()
+                    .statusCode(200);
+        }
+
+        given()
+                .pathParams("id", tableId)
+                .when()
+                .get("/api/tables/{id}")
+                .then()
+                .statusCode(200)
+                .body("cardList.title", contains("Card 2", "Card 3", "Card 1"))
+                .body("cardList.position", contains(0, 1, 2));
+    }
+
+    @Test
+    void testUpdateCardOrderFromTable() {
+        long tableId = actionCreateTable();
+        long cardId1 = actionCreateCard("Card 1", CardType.NORMAL);
+        long cardId2 = actionCreateCard("Card 2", CardType.NORMAL);
+        long cardId3 = actionCreateCard("Card 3", CardType.NORMAL);
+
+        actionAddCardToTable(tableId, cardId1);
+        actionAddCardToTable(tableId, cardId2, 2);
+        actionAddCardToTable(tableId, cardId3, 3);
+
+        given()
+                .contentType(ContentType.JSON)
+                .body(List.of(cardId2, cardId3, cardId1))
+                .pathParams("id", tableId)
+                .when()
+                .put("/api/tables/{id}/order")
+                .then()
+                .statusCode(200)
+                .body("cardList.title", contains("Card 2", "Card 3", "Card 1"));
+
+        given()
+                .contentType(ContentType.JSON)
+                .body(List.of(cardId2, cardId1))
+                .pathParams("id", tableId)
+                .when()
+                .put("/api/tables/{id}/order")
+                .then()
+                .statusCode(400)
+                .body("message", containsString(INVALID_CARD_ORDER_ERROR));
+    }
+
+    @Test
+    void testGetTableCards() {
+        long tableId = actionCreateTable();
+        long cardId1 = actionCreateCard("Card 1", CardType.NORMAL);
+        long cardId2 = actionCreateCard("Card 2", CardType.NORMAL);
+        long cardId3 = actionCreateCard("Card 3", CardType.NORMAL);
+
+        actionAddCardToTable(tableId, cardId1);
+        actionAddCardToTable(tableId, cardId2, 2);
+        actionAddCardToTable(tableId, cardId3, 3);
+
+        String nextCursor = given()
+                .pathParams("id", tableId)
+                .queryParam("limit", 2)
+                .when()
+                .get("/api/tables/{id}/cards")
+                .then()
+                .statusCode(200)
+                .body("cards.title", contains("Card 1", "Card 2"))
+                .body("nextCursor", notNullValue())
+                .extract()
+                .path("nextCursor");
+
+        given()
+                .pathParams("id", tableId)
+                .queryParam("after", nextCursor)
+                .queryParam("limit", 2)
+                .when()
+                .get("/api/tables/{id}/cards")
+                .then()
+                .statusCode(200)
+                .body("cards.title", contains("Card 3"))
+                .body("nextCursor", nullValue());
+    }
+
+    @Test
+    void testGetTableCardsWithInvalidTableId() {
+        given()
+                .pathParams("id", 12345L)
+                .when()
+                .get("/api/tables/{id}/cards")
+                .then()
+                .statusCode(404)
+                .body("message", containsString(NOT_FOUND_TABLE_WITH_ID_ERROR));
+    }
+
+    @Test
+    void testRemoveAllCardsFromTable() {
+        long tableId = actionCreateTable();
+        long cardId1 = actionCreateCard("Card 1", CardType.NORMAL);
+        long cardId2 = actionCreateCard("Card 2", CardType.NORMAL);
+
+        actionAddCardToTable(tableId, cardId1);
+        actionAddCardToTable(tableId, cardId2, 2);
+
+        given()
+                .pathParams("id", tableId)
+                .queryParam("all", true)
+                .when()
+                .delete("/api/tables/{id}/cards")
+                .then()
+                .statusCode(200)
+                .body("affectedCards", equalTo(2));
+
+        given()
+                .pathParams("id", tableId)
+                .when()
+                .get("/api/tables/{id}/cards")
+                .then()
+                .statusCode(200)
+                .body("cards.size()", equalTo(0));
+    }
+
+    @Test
+    void testRemoveAllCardsFromTableWithInvalidValues() {
+        long tableId = actionCreateTable();
+
+        given()
+                .pathParams("id", tableId)
+                .queryParam("all", false)
+                .when()
+                .delete("/api/tables/{id}/cards")
+                .then()
+                .statusCode(400)
+                .body("message", containsString(INVALID_REMOVE_ALL_CARDS));
+
+        given()
+                .pathParams("id", 12345L)
+                .queryParam("all", true)
+                .when()
+                .delete("/api/tables/{id}/cards")
+                .then()
+                .statusCode(404)
+                .body("message", containsString(TABLE_NOT_FOUND));
+    }
+
     @Test
     void testUpdateCardPositionFromTableWithInvalidTableId() {
         long tableId = 12345L;
@@ -808,4 +993,98 @@ class TableRestControllerTest {
                 .body("message", containsString(NOT_FOUND_TABLE_WITH_ID_ERROR));
     }
 
+    @Test
+    void testCloneTable() {
+        long tableId = actionCreateTable();
+        long cardId = actionCreateCard();
+        actionAddCardToTable(tableId, cardId);
+
+        int clonedTableId = given()
+                .pathParams("id", tableId)
+                .when()
+                .post("/api/tables/{id}/clone", tableId)
+                .then()
+                .statusCode(201)
+                .body("clonedTables", equalTo(1))
+                .body("clonedCards", equalTo(1))
+                .extract()
+                .path("tableId");
+
+        actionGetSpecificTableById((long) clonedTableId)
+                .then()
+                .statusCode(200)
+                .body("name", equalTo(name))
+                .body("cardList.size()", equalTo(1));
+    }
+
+    @Test
+    void testCloneTableWithNotFoundTable() {
+        long tableId = 12345L;
+
+        given()
+                .pathParams("id", tableId)
+                .when()
+                .post("/api/tables/{id}/clone", tableId)
+                .then()
+                .statusCode(404)
+                .body("message", containsString(NOT_FOUND_TABLE_WITH_ID_ERROR));
+    }
+
+    @Test
+    void testArchiveAndRestoreCard() {
+        long tableId = actionCreateTable();
+        long cardId = actionCreateCard();
+        actionAddCardToTable(tableId, cardId);
+
+        given()
+                .pathParams("id", cardId)
+                .when()
+                .post("/api/cards/{id}/archive")
+                .then()
+                .statusCode(200)
+                .body("id", equalTo((int) cardId))
+                .body("tableId", equalTo((int) tableId));
+
+        actionGetSpecificTableById(tableId)
+                .then()
+                .statusCode(200)
+                .body("cardList.size()", equalTo(0));
+
+        given()
+                .queryParam("tableId", tableId)
+                .when()
+                .get("/api/archive/cards")
+                .then()
+                .statusCode(200)
+                .body("size()", equalTo(1));
+
+        given()
+                .pathParams("id", cardId)
+                .queryParam("tableId", tableId)
+                .when()
+                .post("/api/archive/cards/{id}/restore")
+                .then()
+                .statusCode(201)
+                .body("id", equalTo((int) cardId))
+                .body("position", equalTo(0));
+
+        actionGetSpecificTableById(tableId)
+                .then()
+                .statusCode(200)
+                .body("cardList.size()", equalTo(1));
+    }
+
+    @Test
+    void testArchiveTableCardsWithNotFoundTable() {
+        long tableId = 12345L;
+
+        given()
+                .pathParams("id", tableId)
+                .queryParam("olderThan", "P30D")
+                .when()
+                .post("/api/tables/{id}/archive")
+                .then()
+                .statusCode(404)
+                .body("message", containsString(NOT_FOUND_TABLE_WITH_ID_ERROR));
+    }
 }
@@ -0,0 +1,189 @@
+package dev.kandv.kango.integrations.services;
+
+import dev.kandv.kango.KangoApplication;
+import dev.kandv.kango.dtos.AuditEntryDTO;
+import dev.kandv.kango.models.Card;
+import dev.kandv.kango.models.Dashboard;
+import dev.kandv.kango.models.Table;
+import dev.kandv.kango.models.Tag;
+import dev.kandv.kango.models.enums.AuditAction;
+import dev.kandv.kango.models.enums.AuditEntityType;
+import dev.kandv.kango.models.enums.Color;
+import dev.kandv.kango.models.utils.Check;
+import dev.kandv.kango.services.*;
+import dev.kandv.kango.services.utils.AuditContext;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static dev.kandv.kango.services.ErrorMessagesServices.INVALID_PAGE_ERROR;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Testcontainers
+@SpringBootTest(classes = KangoApplication.class)
+@ExtendWith(SpringExtension.class)
+class AuditLogServiceTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgreSQLContainer =
+            new PostgreSQLContainer<>("postgres:16-alpine")
+                    .withDatabaseName("testdb")
+                    .withUsername("test")
+                    .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgreSQLContainer::getUsername);
+        registry.add("spring.datasource.password", postgreSQLContainer::getPassword);
+    }
+
+    @Autowired
+    private AuditLogService auditLogService;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private TableService tableService;
+
+    @Autowired
+    private CardService cardService;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeAll
+    static void beforeAll(){
+        postgreSQLContainer.start();
+    }
+
+    @AfterAll
+    static void afterAll(){
+        postgreSQLContainer.stop();
+    }
+
+    @AfterEach
+    void afterEach(){
+        AuditContext.clear();
+        this.dashboardService.removeAllDashboards();
+        this.tableService.removeAllTables();
+        this.cardService.removeAllCards();
+        this.tagService.removeAllTags();
+    }
+
+    @Test
+    void testRecordCardAndDashboardHistory() {
+        AuditContext.setCurrentActor("alice");
+        Dashboard dashboard = this.dashboardService.createDashboard(new Dashboard("AUDITED BOARD"));
+        Table table = this.tableService.createTable(new Table("TO DO"));
+        this.dashboardService.addTableToDashboard(dashboard.getId(), table.getId());
+        Card card = this.cardService.createCard(new Card("AUDITED CARD"));
+        this.tableService.addCardToTable(table.getId(), card.getId());
+
+        AuditContext.setCurrentActor("bob");
+        this.cardService.updateTitleCard(card.getId(), "RENAMED CARD");
+        this.cardService.addCheckToCard(card.getId(), new Check("REVIEW", false));
+        this.auditLogService.flush();
+
+        List<AuditEntryDTO> cardHistory = this.auditLogService.getCardHistory(card.getId(), 0, 20);
+
+        assertThat(cardHistory).extracting(AuditEntryDTO::getAction)
+                .containsExactly(AuditAction.ADD_CHECK, AuditAction.UPDATE_TITLE, AuditAction.CREATE);
+        assertThat(cardHistory).extracting(AuditEntryDTO::getActor).containsExactly("bob", "bob", "alice");
+        assertThat(cardHistory).extracting(AuditEntryDTO::getDetail).containsExactly("REVIEW", "RENAMED CARD", "AUDITED CARD");
+        assertThat(cardHistory.get(0).getDashboardId()).isEqualTo(dashboard.getId());
+
+        List<AuditEntryDTO> dashboardHistory = this.auditLogService.getDashboardHistory(dashboard.getId(), 0, 20);
+
+        assertThat(dashboardHistory).extracting(AuditEntryDTO::getEntityType)
+                .contains(AuditEntityType.DASHBOARD, AuditEntityType.TABLE, AuditEntityType.CARD);
+        assertThat(dashboardHistory).extracting(AuditEntryDTO::getAction)
+                .startsWith(AuditAction.ADD_CHECK, AuditAction.UPDATE_TITLE, AuditAction.ADD_CARD)
+                .contains(AuditAction.ADD_TABLE);
+        assertThat(this.auditLogService.getDashboardHistory(dashboard.getId(), 1, 2)).hasSize(2);
+    }
+
+    @Test
+    void testDeletedElementsKeepTheirDashboard() {
+        Dashboard dashboard = this.dashboardService.createDashboard(new Dashboard("AUDITED BOARD"));
+        Table table = this.tableService.createTable(new Table("TO DO"));
+        this.dashboardService.addTableToDashboard(dashboard.getId(), table.getId());
+        Tag tag = new Tag("AUDITED TAG", Color.RED);
+        this.dashboardService.addTagToDashboard(dashboard.getId(), tag);
+        Card deletedCard = this.cardService.createCard(new Card("DELETED CARD"));
+        Card bulkDeletedCard = this.cardService.createCard(new Card("BULK DELETED CARD"));
+        this.tableService.addCardToTable(table.getId(), deletedCard.getId());
+        this.tableService.addCardToTable(table.getId(), bulkDeletedCard.getId());
+
+        this.cardService.deleteCardById(deletedCard.getId());
+        this.cardService.removeCardsByIds(List.of(bulkDeletedCard.getId()));
+        this.tagService.removeTagById(tag.getId());
+        this.tableService.removeTableById(table.getId());
+        this.auditLogService.flush();
+
+        assertThat(this.auditLogService.getDashboardHistory(dashboard.getId(), 0, 20))
+                .filteredOn(entry -> entry.getAction() == AuditAction.DELETE)
+                .extracting(AuditEntryDTO::getEntityType, AuditEntryDTO::getEntityId)
+                .containsExactly(
+                        tuple(AuditEntityType.TABLE, table.getId()),
+                        tuple(AuditEntityType.TAG, tag.getId()),
+                        tuple(AuditEntityType.CARD, bulkDeletedCard.getId()),
+                        tuple(AuditEntityType.CARD, deletedCard.getId())
+                );
+    }
+
+    @Test
+    void testRolledBackChangesAreNotRecorded() {
+        Card card = this.cardService.createCard(new Card("STABLE CARD"));
+
+        new TransactionTemplate(this.transactionManager).executeWithoutResult(status -> {
+            this.cardService.updateTitleCard(card.getId(), "DISCARDED TITLE");
+            status.setRollbackOnly();
+        });
+        this.auditLogService.flush();
+
+        assertThat(this.auditLogService.getCardHistory(card.getId(), 0, 20))
+                .extracting(AuditEntryDTO::getAction)
+                .containsExactly(AuditAction.CREATE);
+    }
+
+    @Test
+    void testAuditLogIsPartitioned() {
+        this.tagService.removeTagById(this.tagService.createTag(new Tag("AUDITED TAG", Color.RED)).getId());
+        this.auditLogService.flush();
+
+        Integer partitions = this.jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_inherits WHERE inhparent = 'audit_log'::regclass", Integer.class);
+
+        assertThat(partitions).isPositive();
+    }
+
+    @Test
+    void testGetHistoryWithInvalidPage() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                this.auditLogService.getCardHistory(1L, 0, 0));
+
+        assertThat(exception.getMessage()).isEqualTo(INVALID_PAGE_ERROR + 0 + " Size: " + 0);
+    }
+}
@@ -0,0 +1,400 @@
+package dev.kandv.kango.integrations.services;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.kandv.kango.KangoApplication;
+import dev.kandv.kango.dtos.*;
+import dev.kandv.kango.models.ArchivedCard;
+import dev.kandv.kango.models.Card;
+import dev.kandv.kango.models.Dashboard;
+import dev.kandv.kango.models.Table;
+import dev.kandv.kango.models.Tag;
+import dev.kandv.kango.models.enums.CardType;
+import dev.kandv.kango.models.enums.Color;
+import dev.kandv.kango.models.enums.Visibility;
+import dev.kandv.kango.models.utils.AttachedFile;
+import dev.kandv.kango.models.utils.Check;
+import dev.kandv.kango.repositories.TableRepository;
+import dev.kandv.kango.services.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import static dev.kandv.kango.services.BackupService.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Testcontainers
+@SpringBootTest(classes = KangoApplication.class)
+@ExtendWith(SpringExtension.class)
+class BackupServiceTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgreSQLContainer =
+            new PostgreSQLContainer<>("postgres:16-alpine")
+                    .withDatabaseName("testdb")
+                    .withUsername("test")
+                    .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgreSQLContainer::getUsername);
+        registry.add("spring.datasource.password", postgreSQLContainer::getPassword);
+    }
+
+    @Autowired
+    private BackupService backupService;
+
+    @Autowired
+    private DashboardExportService dashboardExportService;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private TableService tableService;
+
+    @Autowired
+    private CardService cardService;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private CardArchiveService cardArchiveService;
+
+    @Autowired
+    private FileStorageService fileStorageService;
+
+    @Autowired
+    private TableRepository tableRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeAll
+    static void beforeAll(){
+        postgreSQLContainer.start();
+    }
+
+    @AfterAll
+    static void afterAll(){
+        postgreSQLContainer.stop();
+    }
+
+    @AfterEach
+    void afterEach(){
+        this.dashboardService.removeAllDashboards();
+        this.tableService.removeAllTables();
+        this.cardService.removeAllCards();
+        this.tagService.removeAllTags();
+        this.cardArchiveService.removeAllArchivedCards();
+    }
+
+    @Test
+    void testBackupAndRestore() throws IOException {
+        Tag globalTag = this.tagService.createTag(new Tag("GLOBAL TAG", Color.BLUE, Visibility.GLOBAL));
+        List<Long> dashboardIds = new ArrayList<>();
+
+        for (int i = 0; i < 6; i++) {
+            Dashboard dashboard = this.dashboardService.createDashboard(new Dashboard("BACKUP DASHBOARD " + i));
+            Table table = this.tableService.createTable(new Table("BACKUP TABLE " + i));
+
+            Card card = new Card("BACKUP CARD " + i);
+            card.addCheckToCheckList(new Check("BACKUP CHECK", i % 2 == 0));
+            card.addTagToTagList(globalTag);
+            card = this.cardService.createCard(card);
+
+            this.dashboardService.addTableToDashboard(dashboard.getId(), table.getId());
+            this.tableService.addCardToTable(table.getId(), card.getId());
+            dashboardIds.add(dashboard.getId());
+        }
+
+        ByteArrayOutputStream backup = new ByteArrayOutputStream();
+        BackupManifestDTO manifest = this.backupService.backup(backup);
+
+        assertThat(manifest.getFormat()).isEqualTo(BACKUP_FORMAT);
+        assertThat(manifest.getEntries()).hasSize(9);
+        assertThat(manifest.getEntries()).extracting(BackupEntryDTO::getDashboardId)
+                .containsAll(dashboardIds)
+                .startsWith((Long) null)
+                .endsWith((Long) null);
+        assertThat(this.entryNames(backup.toByteArray()))
+                .hasSize(10)
+                .startsWith(GLOBAL_TAGS_ENTRY)
+                .endsWith(GLOBAL_CARDS_ENTRY, ARCHIVE_ENTRY, MANIFEST_ENTRY);
+
+        this.afterEach();
+
+        RestoreResultDTO result = this.backupService.restore(new ByteArrayInputStream(backup.toByteArray()));
+
+        assertThat(result.getRestoredDashboards()).isEqualTo(6);
+        assertThat(result.getRestoredTables()).isEqualTo(6);
+        assertThat(result.getRestoredCards()).isEqualTo(6);
+        assertThat(this.dashboardService.getAllDashboards()).hasSize(6);
+        assertThat(this.tagService.getAllGlobalTags()).extracting(Tag::getLabel).containsExactly("GLOBAL TAG");
+
+        Long restoredTagId = this.tagService.getAllGlobalTags().getFirst().getId();
+        for (Dashboard dashboard : this.dashboardService.getAllDashboards()) {
+            CardExportDTO restoredCard = (CardExportDTO) this.exportRecords(dashboard.getId()).getLast();
+            assertThat(restoredCard.getTagIds()).containsExactly(restoredTagId);
+            assertThat(restoredCard.getChecks()).extracting(Check::getLabel).containsExactly("BACKUP CHECK");
+        }
+    }
+
+    @Test
+    void testBackupIncludesAttachedFiles() throws IOException {
+        Dashboard dashboard = this.dashboardService.createDashboard(new Dashboard("BACKUP DASHBOARD"));
+        Table table = this.tableService.createTable(new Table("BACKUP TABLE"));
+        this.dashboardService.addTableToDashboard(dashboard.getId(), table.getId());
+        byte[] content = ("BACKUP FILE " + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8);
+        AttachedFile attachedFile = this.fileStorageService.store(
+                new MockMultipartFile("file", "backup.txt", "text/plain", content));
+
+        Card card = new Card("BACKUP CARD");
+        card.attachFile(attachedFile);
+        card = this.cardService.createCard(card);
+        this.tableService.addCardToTable(table.getId(), card.getId());
+
+        String hash = this.fileStorageService.hashOf(attachedFile.getFileUrl()).orElseThrow();
+        ByteArrayOutputStream backup = new ByteArrayOutputStream();
+        BackupManifestDTO manifest = this.backupService.backup(backup);
+
+        assertThat(manifest.getVersion()).isEqualTo(BACKUP_VERSION);
+        assertThat(manifest.getEntries()).extracting(BackupEntryDTO::getName, BackupEntryDTO::getSha256)
+                .contains(tuple("files/" + hash, hash));
+        assertThat(this.entryNames(backup.toByteArray())).contains("files/" + hash);
+
+        this.afterEach();
+        Files.delete(this.fileStorageService.load(hash));
+
+        RestoreResultDTO result = this.backupService.restore(new ByteArrayInputStream(backup.toByteArray()));
+
+        assertThat(result.getRestoredFiles()).isEqualTo(1);
+        assertThat(Files.readAllBytes(this.fileStorageService.load(hash))).isEqualTo(content);
+    }
+
+    @Test
+    void testBackupRestoresCardsOutsideDashboards() throws IOException {
+        Tag globalTag = this.tagService.createTag(new Tag("GLOBAL TAG", Color.BLUE, Visibility.GLOBAL));
+        Dashboard dashboard = this.dashboardService.createDashboard(new Dashboard("BACKUP DASHBOARD"));
+        Tag dashboardTag = new Tag("DASHBOARD TAG", Color.PINK, Visibility.LOCAL);
+        this.dashboardService.addTagToDashboard(dashboard.getId(), dashboardTag);
+        byte[] content = ("TEMPLATE FILE " + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8);
+        AttachedFile attachedFile = this.fileStorageService.store(
+                new MockMultipartFile("file", "template.txt", "text/plain", content));
+
+        Card template = new Card("GLOBAL TEMPLATE", CardType.GLOBAL_TEMPLATE);
+        template.addCheckToCheckList(new Check("TEMPLATE CHECK", false));
+        template.attachFile(attachedFile);
+        template.addTagToTagList(globalTag);
+        template.addTagToTagList(dashboardTag);
+        this.cardService.createCard(template);
+
+        Table looseTable = this.tableService.createTable(new Table("LOOSE TABLE"));
+        Card looseCard = this.cardService.createCard(new Card("LOOSE CARD"));
+        this.tableService.addCardToTable(looseTable.getId(), looseCard.getId());
+
+        String hash = this.fileStorageService.hashOf(attachedFile.getFileUrl()).orElseThrow();
+        ByteArrayOutputStream backup = new ByteArrayOutputStream();
+        this.backupService.backup(backup);
+
+        assertThat(this.entryNames(backup.toByteArray())).contains(GLOBAL_CARDS_ENTRY, "files/" + hash);
+
+        this.afterEach();
+        Files.delete(this.fileStorageService.load(hash));
+
+        RestoreResultDTO result = this.backupService.restore(new ByteArrayInputStream(backup.toByteArray()));
+
+        assertThat(result.getRestoredTables()).isEqualTo(1);
+        assertThat(result.getRestoredCards()).isEqualTo(2);
+        assertThat(result.getRestoredFiles()).isEqualTo(1);
+        assertThat(Files.readAllBytes(this.fileStorageService.load(hash))).isEqualTo(content);
+
+        new TransactionTemplate(this.transactionManager).executeWithoutResult(status -> {
+            Card restoredTemplate = this.cardService.getAllGlobalTemplateCards().getFirst();
+            assertThat(restoredTemplate.getTitle()).isEqualTo("GLOBAL TEMPLATE");
+            assertThat(restoredTemplate.getDashboard()).isNull();
+            assertThat(restoredTemplate.getChecks()).extracting(Check::getLabel).containsExactly("TEMPLATE CHECK");
+            assertThat(restoredTemplate.getAttachedFiles()).extracting(AttachedFile::getFileUrl)
+                    .containsExactly(attachedFile.getFileUrl());
+            assertThat(restoredTemplate.getTagList()).extracting(Tag::getLabel)
+                    .containsExactlyInAnyOrder("GLOBAL TAG", "DASHBOARD TAG");
+
+            Table restoredTable = this.tableRepository.findAll().stream()
+                    .filter(table -> table.getDashboard() == null)
+                    .findFirst().orElseThrow();
+            assertThat(restoredTable.getName()).isEqualTo("LOOSE TABLE");
+            assertThat(restoredTable.getCardList()).extracting(Card::getTitle).containsExactly("LOOSE CARD");
+        });
+    }
+
+    @Test
+    void testBackupRestoresArchivedCards() throws IOException {
+        Tag globalTag = this.tagService.createTag(new Tag("GLOBAL TAG", Color.BLUE, Visibility.GLOBAL));
+        Dashboard dashboard = this.dashboardService.createDashboard(new Dashboard("BACKUP DASHBOARD"));
+        Table table = this.tableService.createTable(new Table("BACKUP TABLE"));
+        this.dashboardService.addTableToDashboard(dashboard.getId(), table.getId());
+        byte[] content = ("ARCHIVED FILE " + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8);
+        AttachedFile attachedFile = this.fileStorageService.store(
+                new MockMultipartFile("file", "archived.txt", "text/plain", content));
+
+        Card card = new Card("ARCHIVED CARD");
+        card.addCheckToCheckList(new Check("ARCHIVED CHECK", true));
+        card.attachFile(attachedFile);
+        card.addTagToTagList(globalTag);
+        card = this.cardService.createCard(card);
+        this.tableService.addCardToTable(table.getId(), card.getId());
+        this.cardArchiveService.archiveCard(card.getId());
+
+        String hash = this.fileStorageService.hashOf(attachedFile.getFileUrl()).orElseThrow();
+        ByteArrayOutputStream backup = new ByteArrayOutputStream();
+        this.backupService.backup(backup);
+
+        assertThat(this.entryNames(backup.toByteArray())).contains(ARCHIVE_ENTRY, "files/" + hash);
+
+        this.afterEach();
+        Files.delete(this.fileStorageService.load(hash));
+
+        RestoreResultDTO result = this.backupService.restore(new ByteArrayInputStream(backup.toByteArray()));
+
+        assertThat(result.getRestoredCards()).isZero();
+        assertThat(result.getRestoredArchivedCards()).isEqualTo(1);
+        assertThat(result.getRestoredFiles()).isEqualTo(1);
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(this.transactionManager);
+        Long restoredTableId = transactionTemplate.execute(status ->
+                this.dashboardService.getAllDashboards().getFirst().getTableList().getFirst().getId());
+        ArchivedCard archivedCard = this.cardArchiveService.searchArchivedCards(null, restoredTableId, 0, 20).getFirst();
+        assertThat(archivedCard.getTitle()).isEqualTo("ARCHIVED CARD");
+        assertThat(archivedCard.getArchivedAt()).isNotNull();
+
+        Long restoredId = this.cardArchiveService.unarchiveCard(archivedCard.getId(), restoredTableId);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Card restoredCard = this.cardService.getSpecificCardById(restoredId);
+            assertThat(restoredCard.getChecks()).extracting(Check::getLabel).containsExactly("ARCHIVED CHECK");
+            assertThat(restoredCard.getAttachedFiles()).extracting(AttachedFile::getFileUrl)
+                    .containsExactly(attachedFile.getFileUrl());
+            assertThat(restoredCard.getTagList()).extracting(Tag::getLabel).containsExactly("GLOBAL TAG");
+        });
+        assertThat(Files.readAllBytes(this.fileStorageService.load(hash))).isEqualTo(content);
+    }
+
+    @Test
+    void testRestoreTamperedBackup() throws IOException {
+        this.dashboardService.createDashboard(new Dashboard("BACKUP DASHBOARD"));
+
+        ByteArrayOutputStream backup = new ByteArrayOutputStream();
+        BackupManifestDTO manifest = this.backupService.backup(backup);
+        this.afterEach();
+
+        manifest.getEntries().getLast().setSha256("0".repeat(64));
+        byte[] tamperedBackup = this.replaceManifest(backup.toByteArray(), manifest);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                this.backupService.restore(new ByteArrayInputStream(tamperedBackup))
+        );
+
+        assertThat(exception.getMessage()).isEqualTo(BACKUP_CHECKSUM_ERROR + manifest.getEntries().getLast().getName());
+        assertThat(this.dashboardService.getAllDashboards()).isEmpty();
+    }
+
+    @Test
+    void testRestoreWithoutManifest() throws IOException {
+        this.dashboardService.createDashboard(new Dashboard("BACKUP DASHBOARD"));
+
+        ByteArrayOutputStream backup = new ByteArrayOutputStream();
+        this.backupService.backup(backup);
+        this.afterEach();
+
+        byte[] backupWithoutManifest = this.replaceManifest(backup.toByteArray(), null);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                this.backupService.restore(new ByteArrayInputStream(backupWithoutManifest))
+        );
+
+        assertThat(exception.getMessage()).isEqualTo(MISSING_BACKUP_MANIFEST_ERROR);
+        assertThat(this.dashboardService.getAllDashboards()).isEmpty();
+    }
+
+    private List<String> entryNames(byte[] backup) throws IOException {
+        List<String> entryNames = new ArrayList<>();
+
+        try (ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(backup))) {
+            ZipEntry entry;
+
+            while ((entry = zipInputStream.getNextEntry()) != null) {
+                entryNames.add(entry.getName());
+            }
+        }
+
+        return entryNames;
+    }
+
+    private byte[] replaceManifest(byte[] backup, BackupManifestDTO manifest) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        try (ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(backup));
+             ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream)) {
+            ZipEntry entry;
+
+            while ((entry = zipInputStream.getNextEntry()) != null) {
+                if (!MANIFEST_ENTRY.equals(entry.getName())) {
+                    zipOutputStream.putNextEntry(new ZipEntry(entry.getName()));
+                    zipInputStream.transferTo(zipOutputStream);
+                    zipOutputStream.closeEntry();
+                }
+            }
+
+            if (manifest != null) {
+                zipOutputStream.putNextEntry(new ZipEntry(MANIFEST_ENTRY));
+                zipOutputStream.write(this.objectMapper.writeValueAsBytes(manifest));
+                zipOutputStream.closeEntry();
+            }
+        }
+
+        return outputStream.toByteArray();
+    }
+
+    private ByteArrayInputStream export(Long dashboardId) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        this.dashboardExportService.exportDashboard(dashboardId, outputStream);
+        return new ByteArrayInputStream(outputStream.toByteArray());
+    }
+
+    private List<ExportRecordDTO> exportRecords(Long dashboardId) throws IOException {
+        List<ExportRecordDTO> records = new ArrayList<>();
+
+        try (MappingIterator<ExportRecordDTO> iterator = this.objectMapper.readerFor(ExportRecordDTO.class).readValues(this.export(dashboardId))) {
+            iterator.forEachRemaining(records::add);
+        }
+
+        return records;
+    }
+}
@@ -0,0 +1,242 @@
+package dev.kandv.kango.integrations.services;
+
+import dev.kandv.kango.KangoApplication;
+import dev.kandv.kango.dtos.ArchiveJobDTO;
+import dev.kandv.kango.models.ArchivedCard;
+import dev.kandv.kango.models.Card;
+import dev.kandv.kango.models.Table;
+import dev.kandv.kango.models.Tag;
+import dev.kandv.kango.models.enums.ArchiveJobState;
+import dev.kandv.kango.models.enums.CardType;
+import dev.kandv.kango.models.enums.Color;
+import dev.kandv.kango.models.utils.AttachedFile;
+import dev.kandv.kango.models.utils.Check;
+import dev.kandv.kango.services.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static dev.kandv.kango.services.CardArchiveService.INVALID_ARCHIVE_CARD_ERROR;
+import static dev.kandv.kango.services.CardArchiveService.NOT_FOUND_ARCHIVED_CARD_WITH_ID_ERROR;
+import static dev.kandv.kango.services.ErrorMessagesServices.INVALID_PAGE_ERROR;
+import static dev.kandv.kango.services.ErrorMessagesServices.NOT_FOUND_CARD_WITH_ID_ERROR;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Testcontainers
+@SpringBootTest(classes = KangoApplication.class)
+@ExtendWith(SpringExtension.class)
+class CardArchiveServiceTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgreSQLContainer =
+            new PostgreSQLContainer<>("postgres:16-alpine")
+                    .withDatabaseName("testdb")
+                    .withUsername("test")
+                    .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgreSQLContainer::getUsername);
+        registry.add("spring.datasource.password", postgreSQLContainer::getPassword);
+    }
+
+    @Autowired
+    private CardArchiveService cardArchiveService;
+
+    @Autowired
+    private TableService tableService;
+
+    @Autowired
+    private CardService cardService;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private DeadlineReminderService deadlineReminderService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeAll
+    static void beforeAll(){
+        postgreSQLContainer.start();
+    }
+
+    @AfterAll
+    static void afterAll(){
+        postgreSQLContainer.stop();
+    }
+
+    @AfterEach
+    void afterEach(){
+        this.tableService.removeAllTables();
+        this.cardService.removeAllCards();
+        this.tagService.removeAllTags();
+        this.cardArchiveService.removeAllArchivedCards();
+    }
+
+    @Test
+    void testArchiveAndUnarchiveCard() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(this.transactionManager);
+        Long tableId = transactionTemplate.execute(status -> this.createDoneTable("DONE", 3));
+        Long archivedId = this.cardsOf(tableId).get(1).getId();
+        int pendingReminders = this.deadlineReminderService.getPendingReminderCount();
+
+        this.cardArchiveService.archiveCard(archivedId);
+
+        assertThat(this.cardService.getSpecificCardById(archivedId)).isNull();
+        assertThat(this.cardsOf(tableId)).extracting(Card::getTitle).containsExactly("CARD 0", "CARD 2");
+        assertThat(this.cardsOf(tableId)).extracting(Card::getPosition).containsExactly(0, 1);
+        assertThat(this.deadlineReminderService.getPendingReminderCount()).isEqualTo(pendingReminders - 1);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            ArchivedCard archivedCard = this.cardArchiveService.getArchivedCardById(archivedId);
+
+            assertThat(archivedCard.getTitle()).isEqualTo("CARD 1");
+            assertThat(archivedCard.getTableId()).isEqualTo(tableId);
+            assertThat(archivedCard.getArchivedAt()).isNotNull();
+            assertThat(archivedCard.getChecks()).extracting(Check::getLabel).containsExactly("CHECK 1");
+            assertThat(archivedCard.getAttachedFiles()).extracting(AttachedFile::getFileUrl).containsExactly("/files/1.txt");
+            assertThat(archivedCard.getTagIds()).hasSize(1);
+        });
+
+        List<ArchivedCard> searchResult = this.cardArchiveService.searchArchivedCards("card 1", tableId, 0, 20);
+        assertThat(searchResult).extracting(ArchivedCard::getId).containsExactly(archivedId);
+        assertThat(this.cardArchiveService.searchArchivedCards("missing", null, 0, 20)).isEmpty();
+
+        Long restoredId = this.cardArchiveService.unarchiveCard(archivedId, tableId);
+
+        assertThat(restoredId).isEqualTo(archivedId);
+        assertThat(this.cardArchiveService.searchArchivedCards(null, tableId, 0, 20)).isEmpty();
+        assertThat(this.deadlineReminderService.getPendingReminderCount()).isEqualTo(pendingReminders);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Card> cards = this.cardsOf(tableId);
+            Card restoredCard = cards.getLast();
+
+            assertThat(cards).extracting(Card::getTitle).containsExactly("CARD 0", "CARD 2", "CARD 1");
+            assertThat(restoredCard.getPosition()).isEqualTo(2);
+            assertThat(restoredCard.getChecks()).extracting(Check::getLabel).containsExactly("CHECK 1");
+            assertThat(restoredCard.getAttachedFiles()).extracting(AttachedFile::getFileUrl).containsExactly("/files/1.txt");
+            assertThat(restoredCard.getTagList()).extracting(Tag::getLabel).containsExactly("DONE TAG");
+        });
+    }
+
+    @Test
+    void testArchiveCardKeepsTheContentOfItsCopies() {
+        Long tableId = new TransactionTemplate(this.transactionManager).execute(status -> this.createDoneTable("DONE", 1));
+        Long archivedId = this.cardsOf(tableId).getFirst().getId();
+        Long copyId = this.cardService.createCardsUsingATemplate(archivedId, 1, null).getFirst();
+
+        this.cardArchiveService.archiveCard(archivedId);
+
+        Card copy = this.cardService.getCardsByIds(List.of(copyId)).getFirst();
+        assertThat(copy.getTemplateSource()).isNull();
+        assertThat(copy.getChecks()).extracting(Check::getLabel).containsExactly("CHECK 0");
+        assertThat(copy.getAttachedFiles()).extracting(AttachedFile::getFileUrl).containsExactly("/files/0.txt");
+    }
+
+    @Test
+    void testArchiveCardWithInvalidCards() {
+        Card template = this.cardService.createCard(new Card("TEMPLATE", CardType.GLOBAL_TEMPLATE));
+        Table table = this.tableService.createTable(new Table("DONE"));
+
+        IllegalArgumentException invalidException = assertThrows(IllegalArgumentException.class, () ->
+                this.cardArchiveService.archiveCard(template.getId()));
+        NoSuchElementException notFoundException = assertThrows(NoSuchElementException.class, () ->
+                this.cardArchiveService.archiveCard(-1L));
+        NoSuchElementException notArchivedException = assertThrows(NoSuchElementException.class, () ->
+                this.cardArchiveService.unarchiveCard(template.getId(), table.getId()));
+
+        assertThat(invalidException.getMessage()).isEqualTo(INVALID_ARCHIVE_CARD_ERROR + template.getId());
+        assertThat(notFoundException.getMessage()).isEqualTo(NOT_FOUND_CARD_WITH_ID_ERROR + -1L);
+        assertThat(notArchivedException.getMessage()).isEqualTo(NOT_FOUND_ARCHIVED_CARD_WITH_ID_ERROR + template.getId());
+    }
+
+    @Test
+    void testArchiveTableCards() throws InterruptedException {
+        Long tableId = new TransactionTemplate(this.transactionManager).execute(status -> this.createDoneTable("DONE", 5));
+        Long otherTableId = new TransactionTemplate(this.transactionManager).execute(status -> this.createDoneTable("TO DO", 2));
+
+        ArchiveJobDTO archiveJob = this.cardArchiveService.archiveTableCards(tableId, Duration.ZERO);
+        this.awaitArchiveJob(archiveJob);
+
+        assertThat(archiveJob.getState()).isEqualTo(ArchiveJobState.FINISHED);
+        assertThat(archiveJob.getArchivedCards()).isEqualTo(5);
+        assertThat(this.cardArchiveService.getArchiveJobs()).extracting(ArchiveJobDTO::getId).contains(archiveJob.getId());
+        assertThat(this.cardsOf(tableId)).isEmpty();
+        assertThat(this.cardsOf(otherTableId)).hasSize(2);
+        assertThat(this.cardArchiveService.searchArchivedCards("CARD", tableId, 0, 3)).hasSize(3);
+        assertThat(this.cardArchiveService.searchArchivedCards("CARD", tableId, 1, 3)).hasSize(2);
+
+        ArchiveJobDTO recentJob = this.cardArchiveService.archiveTableCards(otherTableId, Duration.ofDays(1));
+        this.awaitArchiveJob(recentJob);
+
+        assertThat(recentJob.getArchivedCards()).isZero();
+        assertThat(this.cardsOf(otherTableId)).hasSize(2);
+    }
+
+    @Test
+    void testArchiveTableCardsWithInvalidValues() {
+        Table table = this.tableService.createTable(new Table("DONE"));
+
+        assertThrows(IllegalArgumentException.class, () ->
+                this.cardArchiveService.archiveTableCards(table.getId(), Duration.ofDays(-1)));
+        assertThrows(NoSuchElementException.class, () ->
+                this.cardArchiveService.archiveTableCards(-1L, Duration.ZERO));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                this.cardArchiveService.searchArchivedCards(null, null, -1, 20));
+
+        assertThat(exception.getMessage()).isEqualTo(INVALID_PAGE_ERROR + -1 + " Size: " + 20);
+    }
+
+    private Long createDoneTable(String name, int amount) {
+        Tag tag = this.tagService.createTag(new Tag(name + " TAG", Color.GREEN));
+        Table table = this.tableService.createTable(new Table(name));
+
+        for (int i = 0; i < amount; i++) {
+            Card card = new Card("CARD " + i);
+            card.addCheckToCheckList(new Check("CHECK " + i, true));
+            card.attachFile(new AttachedFile(i + ".txt", "/files/" + i + ".txt"));
+            card.addTagToTagList(tag);
+            card.setDeadLine(new Date(System.currentTimeMillis() + 86_400_000L));
+            card = this.cardService.createCard(card);
+            this.tableService.addCardToTable(table.getId(), card.getId());
+        }
+
+        return table.getId();
+    }
+
+    private List<Card> cardsOf(Long tableId) {
+        return new TransactionTemplate(this.transactionManager).execute(status ->
+                this.tableService.getSpecificTableById(tableId).getCardList().stream()
+                        .sorted(Comparator.comparingInt(Card::getPosition))
+                        .toList()
+        );
+    }
+
+    private void awaitArchiveJob(ArchiveJobDTO archiveJob) throws InterruptedException {
+        for (int i = 0; i < 100 && archiveJob.getState() == ArchiveJobState.RUNNING; i++) {
+            Thread.sleep(50);
+        }
+    }
+}
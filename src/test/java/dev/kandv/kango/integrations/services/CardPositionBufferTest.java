@@ -0,0 +1,270 @@
+package dev.kandv.kango.integrations.services;
+
+import dev.kandv.kango.KangoApplication;
+import dev.kandv.kango.models.Card;
+import dev.kandv.kango.models.Dashboard;
+import dev.kandv.kango.models.Table;
+import dev.kandv.kango.services.CardPositionBuffer;
+import dev.kandv.kango.services.CardService;
+import dev.kandv.kango.services.DashboardService;
+import dev.kandv.kango.services.TableService;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static dev.kandv.kango.services.ErrorMessagesServices.NOT_FOUND_CARD_WITH_ID_ERROR;
+import static dev.kandv.kango.services.ErrorMessagesServices.NOT_FOUND_TABLE_WITH_ID_ERROR;
+import static dev.kandv.kango.services.TableService.NOT_FOUND_CARD_IN_THE_TABLE_ERROR;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Testcontainers
+@SpringBootTest(classes = KangoApplication.class, properties = "kango.positions.coalesce-window=2s")
+@ExtendWith(SpringExtension.class)
+class CardPositionBufferTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgreSQLContainer =
+            new PostgreSQLContainer<>("postgres:16-alpine")
+                    .withDatabaseName("testdb")
+                    .withUsername("test")
+                    .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgreSQLContainer::getUsername);
+        registry.add("spring.datasource.password", postgreSQLContainer::getPassword);
+    }
+
+    @Autowired
+    private CardPositionBuffer cardPositionBuffer;
+
+    @Autowired
+    private TableService tableService;
+
+    @Autowired
+    private CardService cardService;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeAll
+    static void beforeAll(){
+        postgreSQLContainer.start();
+    }
+
+    @AfterAll
+    static void afterAll(){
+        postgreSQLContainer.stop();
+    }
+
+    @AfterEach
+    void afterEach(){
+        this.cardPositionBuffer.flushAll();
+        this.dashboardService.removeAllDashboards();
+        this.tableService.removeAllTables();
+        this.cardService.removeAllCards();
+    }
+
+    @Test
+    void testMoveCardBurstIsMergedAndPersistedOnce() throws InterruptedException {
+        Long tableId = this.createTable(4);
+        List<Long> cardIds = this.storedOrder(tableId);
+
+        this.cardPositionBuffer.moveCard(tableId, cardIds.get(0), 1);
+        this.cardPositionBuffer.moveCard(tableId, cardIds.get(0), 2);
+        List<Long> mergedOrder = this.cardPositionBuffer.moveCard(tableId, cardIds.get(3), 0);
+
+        List<Long> expectedOrder = List.of(cardIds.get(3), cardIds.get(1), cardIds.get(2), cardIds.get(0));
+        assertThat(mergedOrder).isEqualTo(expectedOrder);
+        assertThat(this.storedOrder(tableId)).isEqualTo(cardIds);
+        assertThat(this.orderOf(tableId)).isEqualTo(expectedOrder);
+
+        for (int i = 0; i < 100 && this.cardPositionBuffer.getPendingOrder(tableId).isPresent(); i++) {
+            Thread.sleep(50);
+        }
+
+        assertThat(this.cardPositionBuffer.getPendingOrder(tableId)).isEmpty();
+        assertThat(this.storedOrder(tableId)).isEqualTo(expectedOrder);
+        assertThat(this.storedPositions(tableId)).containsExactly(0, 1, 2, 3);
+    }
+
+    @Test
+    void testTableChangesFlushPendingMovesFirst() {
+        Long tableId = this.createTable(3);
+        List<Long> cardIds = this.storedOrder(tableId);
+
+        this.cardPositionBuffer.moveCard(tableId, cardIds.get(2), 0);
+        Card newCard = this.cardService.createCard(new Card("CARD 3"));
+        this.tableService.addCardToTable(tableId, newCard.getId());
+
+        assertThat(this.cardPositionBuffer.getPendingOrder(tableId)).isEmpty();
+        assertThat(this.storedOrder(tableId))
+                .containsExactly(cardIds.get(2), cardIds.get(0), cardIds.get(1), newCard.getId());
+        assertThat(this.storedPositions(tableId)).containsExactly(0, 1, 2, 3);
+    }
+
+    @Test
+    void testFlushKeepsCardsChangedOutsideTheBuffer() {
+        Long tableId = this.createTable(3);
+        List<Long> cardIds = this.storedOrder(tableId);
+
+        this.cardPositionBuffer.moveCard(tableId, cardIds.get(0), 2);
+        this.cardService.removeCardById(cardIds.get(1));
+        this.cardPositionBuffer.flush(tableId);
+
+        assertThat(this.storedOrder(tableId)).containsExactly(cardIds.get(2), cardIds.get(0));
+        assertThat(this.storedPositions(tableId)).containsExactly(0, 1);
+    }
+
+    @Test
+    void testGetTablesByIdsDoesNotWritePendingOrder() {
+        Long tableId = this.createTable(3);
+        List<Long> cardIds = this.storedOrder(tableId);
+
+        List<Long> pendingOrder = this.cardPositionBuffer.moveCard(tableId, cardIds.get(2), 0);
+        Table table = this.tableService.getTablesByIds(List.of(tableId)).getFirst();
+
+        assertThat(table.getCardList()).extracting(Card::getId).isEqualTo(pendingOrder);
+        assertThat(table.getCardList()).extracting(Card::getPosition).containsExactly(0, 1, 2);
+        assertThat(this.storedOrder(tableId)).isEqualTo(cardIds);
+    }
+
+    @Test
+    void testTransactionalReadsDoNotWritePendingOrder() {
+        Long tableId = this.createTable(3);
+        List<Long> cardIds = this.storedOrder(tableId);
+        Dashboard dashboard = this.dashboardService.createDashboard(new Dashboard("BOARD"));
+        this.dashboardService.addTableToDashboard(dashboard.getId(), tableId);
+
+        List<Long> pendingOrder = this.cardPositionBuffer.moveCard(tableId, cardIds.get(2), 0);
+
+        assertThat(this.orderOf(tableId)).isEqualTo(pendingOrder);
+        new TransactionTemplate(this.transactionManager).executeWithoutResult(status ->
+                this.dashboardService.getSpecificDashboardById(dashboard.getId()).getTableList()
+                        .forEach(table -> table.getCardList().size()));
+
+        assertThat(this.storedOrder(tableId)).isEqualTo(cardIds);
+        assertThat(this.cardPositionBuffer.getPendingOrder(tableId)).contains(pendingOrder);
+    }
+
+    @Test
+    void testGetPendingOrderWaitsForARunningFlush() throws Exception {
+        Long tableId = this.createTable(3);
+        List<Long> cardIds = this.storedOrder(tableId);
+        List<Long> pendingOrder = this.cardPositionBuffer.moveCard(tableId, cardIds.get(2), 0);
+        TransactionTemplate lockTransaction = new TransactionTemplate(this.transactionManager);
+        lockTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        CompletableFuture<Optional<List<Long>>> readOrder = new CompletableFuture<>();
+
+        lockTransaction.executeWithoutResult(status -> {
+            this.jdbcTemplate.queryForList("SELECT id FROM tables WHERE id = ? FOR UPDATE", tableId);
+            CompletableFuture.runAsync(() -> this.cardPositionBuffer.flush(tableId));
+            this.awaitLockWaiters();
+
+            Thread reader = new Thread(() -> readOrder.complete(this.cardPositionBuffer.getPendingOrder(tableId)));
+            reader.start();
+            this.awaitState(reader, Thread.State.BLOCKED);
+        });
+
+        assertThat(readOrder.get(10, TimeUnit.SECONDS)).contains(pendingOrder);
+        assertThat(this.storedOrder(tableId)).isEqualTo(pendingOrder);
+        assertThat(this.cardPositionBuffer.getPendingOrder(tableId)).isEmpty();
+    }
+
+    @Test
+    void testMoveCardWithInvalidValues() {
+        Long tableId = this.createTable(1);
+        Card outsideCard = this.cardService.createCard(new Card("OUTSIDE"));
+
+        NoSuchElementException notInTableException = assertThrows(NoSuchElementException.class, () ->
+                this.cardPositionBuffer.moveCard(tableId, outsideCard.getId(), 0));
+        NoSuchElementException notFoundCardException = assertThrows(NoSuchElementException.class, () ->
+                this.cardPositionBuffer.moveCard(tableId, -1L, 0));
+        NoSuchElementException notFoundTableException = assertThrows(NoSuchElementException.class, () ->
+                this.cardPositionBuffer.moveCard(-1L, outsideCard.getId(), 0));
+
+        assertThat(notInTableException.getMessage()).isEqualTo(NOT_FOUND_CARD_IN_THE_TABLE_ERROR + outsideCard.getId());
+        assertThat(notFoundCardException.getMessage()).isEqualTo(NOT_FOUND_CARD_WITH_ID_ERROR + -1L);
+        assertThat(notFoundTableException.getMessage()).isEqualTo(NOT_FOUND_TABLE_WITH_ID_ERROR + -1L);
+        assertThat(this.cardPositionBuffer.getPendingOrder(tableId)).isEmpty();
+    }
+
+    private Long createTable(int amount) {
+        Table table = this.tableService.createTable(new Table("BOARD"));
+
+        for (int i = 0; i < amount; i++) {
+            Card card = this.cardService.createCard(new Card("CARD " + i));
+            this.tableService.addCardToTable(table.getId(), card.getId());
+        }
+
+        return table.getId();
+    }
+
+    private void awaitLockWaiters() {
+        for (int i = 0; i < 200; i++) {
+            Integer waiters = this.jdbcTemplate.queryForObject(
+                    "SELECT count(*) FROM pg_locks WHERE NOT granted", Integer.class);
+
+            if (waiters != null && waiters > 0) {
+                return;
+            }
+
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(25));
+        }
+
+        throw new IllegalStateException("The flush never waited for the table lock");
+    }
+
+    private void awaitState(Thread thread, Thread.State state) {
+        for (int i = 0; i < 200 && thread.getState() != state; i++) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(25));
+        }
+
+        assertThat(thread.getState()).isEqualTo(state);
+    }
+
+    private List<Long> orderOf(Long tableId) {
+        return new TransactionTemplate(this.transactionManager).execute(status -> {
+            List<Long> cardIds = new ArrayList<>();
+            this.tableService.getSpecificTableById(tableId).getCardList().forEach(card -> cardIds.add(card.getId()));
+            return cardIds;
+        });
+    }
+
+    private List<Long> storedOrder(Long tableId) {
+        return this.jdbcTemplate.queryForList(
+                "SELECT id FROM card WHERE table_id = ? ORDER BY position, id", Long.class, tableId);
+    }
+
+    private List<Integer> storedPositions(Long tableId) {
+        return this.jdbcTemplate.queryForList(
+                "SELECT position FROM card WHERE table_id = ? ORDER BY position, id", Integer.class, tableId);
+    }
+}
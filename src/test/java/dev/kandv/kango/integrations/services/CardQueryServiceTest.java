@@ -0,0 +1,359 @@
+package dev.kandv.kango.integrations.services;
+
+import dev.kandv.kango.KangoApplication;
+import dev.kandv.kango.dtos.CardQueryDTO;
+import dev.kandv.kango.models.Card;
+import dev.kandv.kango.models.Dashboard;
+import dev.kandv.kango.models.Table;
+import dev.kandv.kango.models.Tag;
+import dev.kandv.kango.models.enums.CardQuerySort;
+import dev.kandv.kango.models.enums.CardType;
+import dev.kandv.kango.models.enums.Color;
+import dev.kandv.kango.models.utils.Check;
+import dev.kandv.kango.services.*;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static dev.kandv.kango.services.CardQueryService.INVALID_CARD_CURSOR_ERROR;
+import static dev.kandv.kango.services.CardService.INVALID_DEAD_LINE_RANGE_ERROR;
+import static dev.kandv.kango.services.ErrorMessagesServices.INVALID_PAGE_ERROR;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Testcontainers
+@SpringBootTest(classes = KangoApplication.class)
+@ExtendWith(SpringExtension.class)
+class CardQueryServiceTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgreSQLContainer =
+            new PostgreSQLContainer<>("postgres:16-alpine")
+                    .withDatabaseName("testdb")
+                    .withUsername("test")
+                    .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgreSQLContainer::getUsername);
+        registry.add("spring.datasource.password", postgreSQLContainer::getPassword);
+        registry.add("spring.jpa.properties.hibernate.session_factory.statement_inspector",
+                CardQueryCapture.class::getName);
+    }
+
+    @Autowired
+    private CardQueryService cardQueryService;
+
+    @Autowired
+    private CardService cardService;
+
+    @Autowired
+    private TableService tableService;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeAll
+    static void beforeAll(){
+        postgreSQLContainer.start();
+    }
+
+    @AfterAll
+    static void afterAll(){
+        postgreSQLContainer.stop();
+    }
+
+    @AfterEach
+    void afterEach(){
+        this.dashboardService.removeAllDashboards();
+        this.tableService.removeAllTables();
+        this.cardService.removeAllCards();
+        this.tagService.removeAllTags();
+    }
+
+    @Test
+    void testFindCardsWithFilters() {
+        Board board = this.createBoard();
+
+        assertThat(this.findIds(query -> query.setDashboardId(board.dashboardId())))
+                .containsExactlyInAnyOrder(board.report(), board.review());
+        assertThat(this.findIds(query -> query.setTableId(board.otherTableId())))
+                .containsExactlyInAnyOrder(board.release(), board.instance());
+        assertThat(this.findIds(query -> query.setTagIds(List.of(board.urgentTagId(), board.laterTagId()))))
+                .containsExactlyInAnyOrder(board.report(), board.review());
+        assertThat(this.findIds(query -> query.setColor(Color.RED)))
+                .containsExactlyInAnyOrder(board.report(), board.release());
+        assertThat(this.findIds(query -> query.setCardType(CardType.GLOBAL_TEMPLATE)))
+                .containsExactly(board.template());
+        assertThat(this.findIds(query -> {
+            query.setDeadLineFrom(Date.from(Instant.parse("2026-01-01T00:00:00Z")));
+            query.setDeadLineTo(Date.from(Instant.parse("2026-01-31T00:00:00Z")));
+        })).containsExactly(board.report());
+        assertThat(this.findIds(query -> query.setHasUncheckedChecks(true)))
+                .containsExactlyInAnyOrder(board.report(), board.template(), board.instance());
+        assertThat(this.findIds(query -> query.setText("REPORT")))
+                .containsExactlyInAnyOrder(board.report(), board.release());
+        assertThat(this.findIds(query -> {
+            query.setDashboardId(board.dashboardId());
+            query.setColor(Color.RED);
+            query.setText("report");
+        })).containsExactly(board.report());
+    }
+
+    @Test
+    void testFindCardsWithKeysetPagination() {
+        String[] titles = {"zebra", "Éclair", "apple", "Apple", "eclair", "mango", "apple"};
+        Date[] deadLines = {
+                Date.from(Instant.parse("2026-03-01T00:00:00Z")), null,
+                Date.from(Instant.parse("2026-01-01T00:00:00Z")), Date.from(Instant.parse("2026-03-01T00:00:00Z")),
+                null, Date.from(Instant.parse("2026-02-01T00:00:00Z")), null
+        };
+
+        for (int i = 0; i < titles.length; i++) {
+            Card card = this.cardService.createCard(new Card(titles[i]));
+
+            if (deadLines[i] != null) {
+                this.cardService.updateDeadLineCard(card.getId(), deadLines[i]);
+            }
+        }
+
+        assertThat(this.findAllPages(CardQuerySort.NEWEST))
+                .isEqualTo(this.storedOrder("created_at DESC, id DESC"));
+        assertThat(this.findAllPages(CardQuerySort.OLDEST))
+                .isEqualTo(this.storedOrder("created_at, id"));
+        assertThat(this.findAllPages(CardQuerySort.DEAD_LINE))
+                .isEqualTo(this.storedOrder("dead_line NULLS LAST, id"));
+        assertThat(this.findAllPages(CardQuerySort.TITLE))
+                .isEqualTo(this.storedOrder("title_sort_key NULLS LAST, id"));
+    }
+
+    @Test
+    void testFindCardsWithInvalidValues() {
+        CardQueryDTO invalidLimit = new CardQueryDTO();
+        invalidLimit.setLimit(0);
+        CardQueryDTO invalidRange = new CardQueryDTO();
+        invalidRange.setDeadLineFrom(Date.from(Instant.parse("2026-02-01T00:00:00Z")));
+        invalidRange.setDeadLineTo(Date.from(Instant.parse("2026-01-01T00:00:00Z")));
+        CardQueryDTO invalidCursor = new CardQueryDTO();
+        invalidCursor.setAfter("not-a-cursor");
+
+        IllegalArgumentException limitException = assertThrows(IllegalArgumentException.class, () ->
+                this.cardQueryService.findCards(invalidLimit));
+        IllegalArgumentException rangeException = assertThrows(IllegalArgumentException.class, () ->
+                this.cardQueryService.findCards(invalidRange));
+        IllegalArgumentException cursorException = assertThrows(IllegalArgumentException.class, () ->
+                this.cardQueryService.findCards(invalidCursor));
+
+        assertThat(limitException.getMessage()).isEqualTo(INVALID_PAGE_ERROR + null + " Size: " + 0);
+        assertThat(rangeException.getMessage()).startsWith(INVALID_DEAD_LINE_RANGE_ERROR);
+        assertThat(cursorException.getMessage()).isEqualTo(INVALID_CARD_CURSOR_ERROR + "not-a-cursor");
+    }
+
+    @Test
+    void testFindCardsWithCursorOfAnotherSort() {
+        this.cardService.createCard(new Card("FIRST"));
+        this.cardService.createCard(new Card("SECOND"));
+        CardQueryDTO firstPage = new CardQueryDTO();
+        firstPage.setLimit(1);
+        String cursor = this.cardQueryService.nextCursor(firstPage, this.cardQueryService.findCards(firstPage));
+
+        CardQueryDTO nextPage = new CardQueryDTO();
+        nextPage.setSort(CardQuerySort.TITLE);
+        nextPage.setAfter(cursor);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                this.cardQueryService.findCards(nextPage));
+
+        assertThat(exception.getMessage()).isEqualTo(INVALID_CARD_CURSOR_ERROR + cursor);
+    }
+
+    @Test
+    void testFilterQueriesUseIndexes() {
+        Board board = this.createBoard();
+        Date from = Date.from(Instant.parse("2026-01-01T00:00:00Z"));
+        Date to = Date.from(Instant.parse("2026-01-31T00:00:00Z"));
+        List<Consumer<CardQueryDTO>> filterCombinations = List.of(
+                query -> query.setDashboardId(board.dashboardId()),
+                query -> query.setTableId(board.tableId()),
+                query -> query.setTagIds(List.of(board.urgentTagId())),
+                query -> query.setColor(Color.RED),
+                query -> query.setCardType(CardType.GLOBAL_TEMPLATE),
+                query -> {
+                    query.setDeadLineFrom(from);
+                    query.setDeadLineTo(to);
+                },
+                query -> query.setHasUncheckedChecks(true),
+                query -> query.setText("report"),
+                query -> {
+                    query.setDashboardId(board.dashboardId());
+                    query.setTagIds(List.of(board.urgentTagId()));
+                    query.setText("report");
+                },
+                query -> {
+                    query.setTableId(board.tableId());
+                    query.setHasUncheckedChecks(true);
+                    query.setSort(CardQuerySort.TITLE);
+                },
+                query -> {
+                    query.setColor(Color.RED);
+                    query.setDeadLineFrom(from);
+                    query.setSort(CardQuerySort.DEAD_LINE);
+                }
+        );
+
+        for (Consumer<CardQueryDTO> filters : filterCombinations) {
+            CardQueryCapture.lastQuery = null;
+            this.findIds(filters);
+            String plan = this.explain(CardQueryCapture.lastQuery);
+
+            assertThat(plan).contains("Index").doesNotContain("Seq Scan");
+        }
+    }
+
+    private Board createBoard() {
+        Dashboard dashboard = this.dashboardService.createDashboard(new Dashboard("BOARD"));
+        Table table = this.tableService.createTable(new Table("TODO"));
+        Table otherTable = this.tableService.createTable(new Table("OTHER"));
+        this.dashboardService.addTableToDashboard(dashboard.getId(), table.getId());
+        Tag urgent = this.tagService.createTag(new Tag("URGENT", Color.RED));
+        Tag later = this.tagService.createTag(new Tag("LATER", Color.BLUE));
+
+        Card report = this.createCard("Write report", Color.RED, table.getId());
+        this.cardService.updateDeadLineCard(report.getId(), Date.from(Instant.parse("2026-01-10T00:00:00Z")));
+        this.cardService.addCheckToCard(report.getId(), new Check("DRAFT", false));
+        this.addTag(report.getId(), urgent);
+
+        Card review = this.createCard("Review código", Color.BLUE, table.getId());
+        this.cardService.addCheckToCard(review.getId(), new Check("READ", true));
+        this.addTag(review.getId(), later);
+
+        Card release = this.createCard("Ship release", Color.RED, otherTable.getId());
+        this.cardService.updateDescriptionCard(release.getId(), "Attach the Report notes");
+        this.cardService.updateDeadLineCard(release.getId(), Date.from(Instant.parse("2026-02-01T00:00:00Z")));
+
+        Card template = this.cardService.createCard(new Card("Weekly template", CardType.GLOBAL_TEMPLATE));
+        this.cardService.addCheckToCard(template.getId(), new Check("PLAN", false));
+        Long instance = this.cardService.createCardsUsingATemplate(template.getId(), 1, otherTable.getId()).getFirst();
+
+        return new Board(dashboard.getId(), table.getId(), otherTable.getId(), urgent.getId(), later.getId(),
+                report.getId(), review.getId(), release.getId(), template.getId(), instance);
+    }
+
+    private Card createCard(String title, Color color, Long tableId) {
+        Card card = this.cardService.createCard(new Card(title));
+        this.cardService.updateColorCard(card.getId(), color);
+        this.tableService.addCardToTable(tableId, card.getId());
+
+        return card;
+    }
+
+    private void addTag(Long cardId, Tag tag) {
+        new TransactionTemplate(this.transactionManager).executeWithoutResult(status ->
+                this.cardService.addTagToCard(cardId, tag));
+    }
+
+    private List<Long> findIds(Consumer<CardQueryDTO> filters) {
+        CardQueryDTO cardQuery = new CardQueryDTO();
+        filters.accept(cardQuery);
+
+        return this.cardQueryService.findCards(cardQuery).map(Card::getId).getContent();
+    }
+
+    private List<Long> findAllPages(CardQuerySort sort) {
+        List<Long> cardIds = new ArrayList<>();
+        CardQueryDTO cardQuery = new CardQueryDTO();
+        cardQuery.setSort(sort);
+        cardQuery.setLimit(2);
+
+        do {
+            Slice<Card> cards = this.cardQueryService.findCards(cardQuery);
+            cards.forEach(card -> cardIds.add(card.getId()));
+            cardQuery.setAfter(this.cardQueryService.nextCursor(cardQuery, cards));
+        } while (cardQuery.getAfter() != null);
+
+        return cardIds;
+    }
+
+    private List<Long> storedOrder(String orderBy) {
+        return this.jdbcTemplate.queryForList("SELECT id FROM card ORDER BY " + orderBy, Long.class);
+    }
+
+    private String explain(String query) {
+        StringBuilder parameterizedQuery = new StringBuilder();
+        int parameter = 0;
+
+        for (char character : query.toCharArray()) {
+            if (character == '?') {
+                parameterizedQuery.append('$').append(++parameter);
+            } else {
+                parameterizedQuery.append(character);
+            }
+        }
+
+        String parameters = String.join(", ", Collections.nCopies(parameter, "NULL"));
+
+        return new TransactionTemplate(this.transactionManager).execute(status -> {
+            this.jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+            this.jdbcTemplate.execute("SET LOCAL plan_cache_mode = force_generic_plan");
+            this.jdbcTemplate.execute("PREPARE card_query AS " + parameterizedQuery);
+
+            try {
+                List<String> plan = this.jdbcTemplate.queryForList(
+                        "EXPLAIN EXECUTE card_query(" + parameters + ")", String.class);
+
+                return String.join("\n", plan);
+            } finally {
+                this.jdbcTemplate.execute("DEALLOCATE card_query");
+            }
+        });
+    }
+
+    private record Board(Long dashboardId, Long tableId, Long otherTableId, Long urgentTagId, Long laterTagId,
+                         Long report, Long review, Long release, Long template, Long instance) {
+    }
+
+    public static class CardQueryCapture implements StatementInspector {
+
+        private static final long serialVersionUID = 1L;
+
+        static volatile String lastQuery;
+
+        @Override
+        public String inspect(String sql) {
+            if (sql.startsWith("select") && sql.contains(" from card c1_0")) {
+                lastQuery = sql;
+            }
+
+            return sql;
+        }
+    }
+}
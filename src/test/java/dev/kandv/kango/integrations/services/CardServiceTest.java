@@ -1,14 +1,22 @@
 package dev.kandv.kango.integrations.services;
 
 import dev.kandv.kango.KangoApplication;
+import dev.kandv.kango.dtos.CardBulkUpdateDTO;
+import dev.kandv.kango.dtos.CardDTO;
+import dev.kandv.kango.dtos.CardQueryDTO;
 import dev.kandv.kango.models.Card;
+import dev.kandv.kango.models.Table;
 import dev.kandv.kango.models.Tag;
+import dev.kandv.kango.models.enums.CardBulkOperation;
 import dev.kandv.kango.models.enums.CardType;
 import dev.kandv.kango.models.enums.Color;
 import dev.kandv.kango.models.utils.AttachedFile;
 import dev.kandv.kango.models.utils.Check;
 import dev.kandv.kango.services.CardService;
+import dev.kandv.kango.services.DeadlineReminderService;
+import dev.kandv.kango.services.TableService;
 import dev.kandv.kango.services.TagService;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -21,15 +29,25 @@ import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.stream.LongStream;
 
 import static dev.kandv.kango.models.Card.NOT_FOUND_CHECK_ERROR;
 import static dev.kandv.kango.services.CardService.INVALID_CARD_CREATION_ERROR;
+import static dev.kandv.kango.services.CardService.INVALID_COPY_COUNT_ERROR;
+import static dev.kandv.kango.services.CardService.INVALID_DEAD_LINE_RANGE_ERROR;
 import static dev.kandv.kango.services.CardService.NOT_FOUND_ELEMENT_IN_CARD_ERROR;
 import static dev.kandv.kango.services.ErrorMessagesServices.*;
+import static dev.kandv.kango.services.CardService.INVALID_CARD_SELECTION_ERROR;
+import static dev.kandv.kango.services.ServiceUtils.BULK_OPERATION_ELEMENT;
+import static dev.kandv.kango.services.ServiceUtils.COLOR_ELEMENT;
+import static dev.kandv.kango.services.ServiceUtils.MAX_BULK_ID_LIST_SIZE;
+import static dev.kandv.kango.services.ServiceUtils.MAX_ID_LIST_SIZE;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @Testcontainers
@@ -57,6 +75,15 @@ class CardServiceTest {
     @Autowired
     private TagService tagService;
 
+    @Autowired
+    private TableService tableService;
+
+    @Autowired
+    private DeadlineReminderService deadlineReminderService;
+
+    @Autowired
+    private EntityManager entityManager;
+
     Card card;
 
     @BeforeAll
@@ -96,6 +123,171 @@ class CardServiceTest {
         assertThat(resultCard).isNull();
     }
 
+    @Test
+    void testGetCardsByIds(){
+        Card template = this.cardService.createCard(new Card("EXAMPLE TEMPLATE", CardType.GLOBAL_TEMPLATE));
+        this.cardService.addCheckToCard(template.getId(), new Check("FIRST CHECK", false));
+        this.cardService.attachFileToCard(template.getId(), new AttachedFile("example.pdf", "/files/example.pdf"));
+        Long instanceId = this.cardService.createCardsUsingATemplate(template.getId(), 1, null).getFirst();
+
+        List<Card> resultCards = this.cardService.getCardsByIds(List.of(instanceId, template.getId(), 12345L));
+
+        assertThat(resultCards).extracting(Card::getId).containsExactlyInAnyOrder(instanceId, template.getId());
+
+        for (Card resultCard : resultCards) {
+            assertThat(resultCard.getChecks()).extracting(Check::getLabel).containsExactly("FIRST CHECK");
+            assertThat(resultCard.getAttachedFiles()).extracting(AttachedFile::getFileName).containsExactly("example.pdf");
+            assertThat(resultCard.getTagList()).isEmpty();
+        }
+    }
+
+    @Test
+    void testGetCardsByIdsWithOnlyTemplateInstance(){
+        Card template = this.cardService.createCard(new Card("EXAMPLE TEMPLATE", CardType.GLOBAL_TEMPLATE));
+        this.cardService.addCheckToCard(template.getId(), new Check("FIRST CHECK", false));
+        Long instanceId = this.cardService.createCardsUsingATemplate(template.getId(), 1, null).getFirst();
+
+        List<Card> resultCards = this.cardService.getCardsByIds(List.of(instanceId));
+
+        assertThat(resultCards).hasSize(1);
+        assertThat(resultCards.getFirst().getChecks()).extracting(Check::getLabel).containsExactly("FIRST CHECK");
+        assertThat(resultCards.getFirst().getAttachedFiles()).isEmpty();
+    }
+
+    @Test
+    void testGetCardsByIdsWithInvalidIds(){
+        List<Long> nullIds = new ArrayList<>();
+        nullIds.add(null);
+        List<Long> tooManyIds = LongStream.rangeClosed(1, MAX_ID_LIST_SIZE + 1).boxed().toList();
+
+        IllegalArgumentException emptyException = assertThrows(IllegalArgumentException.class, () -> this.cardService.getCardsByIds(List.of()));
+        IllegalArgumentException nullException = assertThrows(IllegalArgumentException.class, () -> this.cardService.getCardsByIds(nullIds));
+        IllegalArgumentException tooManyException = assertThrows(IllegalArgumentException.class, () -> this.cardService.getCardsByIds(tooManyIds));
+
+        assertThat(emptyException.getMessage()).isEqualTo(INVALID_ID_LIST_ERROR + 0);
+        assertThat(nullException.getMessage()).isEqualTo(INVALID_ID_ERROR + null);
+        assertThat(tooManyException.getMessage()).isEqualTo(INVALID_ID_LIST_ERROR + (MAX_ID_LIST_SIZE + 1));
+    }
+
+    @Test
+    void testUpdateCards(){
+        long firstCardId = this.cardService.createCard(new Card("FIRST CARD")).getId();
+        long secondCardId = this.cardService.createCard(new Card("SECOND CARD")).getId();
+        Card blueCard = new Card("BLUE CARD");
+        blueCard.setColor(Color.BLUE);
+        long blueCardId = this.cardService.createCard(blueCard).getId();
+        List<Long> cardIds = List.of(firstCardId, secondCardId, blueCardId);
+        Tag exampleTag = this.tagService.createTag(new Tag("Example Tag", Color.RED));
+        Date deadLine = new Date(System.currentTimeMillis() + 86_400_000L);
+
+        int coloredCards = this.cardService.updateCards(bulkUpdate(cardIds, CardBulkOperation.SET_COLOR, Color.BLUE, null, null));
+        int scheduledCards = this.cardService.updateCards(bulkUpdate(cardIds, CardBulkOperation.SET_DEAD_LINE, null, deadLine, null));
+        int taggedCards = this.cardService.updateCards(bulkUpdate(cardIds, CardBulkOperation.ADD_TAG, null, null, exampleTag.getId()));
+        int retaggedCards = this.cardService.updateCards(bulkUpdate(cardIds, CardBulkOperation.ADD_TAG, null, null, exampleTag.getId()));
+        int untaggedCards = this.cardService.updateCards(bulkUpdate(List.of(firstCardId), CardBulkOperation.REMOVE_TAG, null, null, exampleTag.getId()));
+
+        assertThat(coloredCards).isEqualTo(2);
+        assertThat(scheduledCards).isEqualTo(3);
+        assertThat(taggedCards).isEqualTo(3);
+        assertThat(retaggedCards).isZero();
+        assertThat(untaggedCards).isEqualTo(1);
+
+        for (Card resultCard : this.cardService.getCardsByIds(cardIds)) {
+            assertThat(resultCard.getColor()).isEqualTo(Color.BLUE);
+            assertThat(resultCard.getDeadLine()).hasSameTimeAs(deadLine);
+            assertThat(resultCard.getTagList()).hasSize(resultCard.getId() == firstCardId ? 0 : 1);
+        }
+    }
+
+    @Test
+    void testUpdateCardsWithFilter(){
+        Table table = this.tableService.createTable(new Table("TO DO"));
+        long firstCardId = this.cardService.createCard(new Card("FIRST CARD")).getId();
+        long secondCardId = this.cardService.createCard(new Card("SECOND CARD")).getId();
+        long outsideCardId = this.cardService.createCard(new Card("OUTSIDE CARD")).getId();
+        this.tableService.addCardToTable(table.getId(), firstCardId);
+        this.tableService.addCardToTable(table.getId(), secondCardId);
+        CardQueryDTO filter = new CardQueryDTO();
+        filter.setTableId(table.getId());
+        CardBulkUpdateDTO cardBulkUpdate = bulkUpdate(null, CardBulkOperation.SET_COLOR, Color.GREEN, null, null);
+        cardBulkUpdate.setFilter(filter);
+
+        int affectedCards = this.cardService.updateCards(cardBulkUpdate);
+
+        assertThat(affectedCards).isEqualTo(2);
+        assertThat(this.cardService.getSpecificCardById(firstCardId).getColor()).isEqualTo(Color.GREEN);
+        assertThat(this.cardService.getSpecificCardById(secondCardId).getColor()).isEqualTo(Color.GREEN);
+        assertThat(this.cardService.getSpecificCardById(outsideCardId).getColor()).isNull();
+    }
+
+    @Test
+    void testUpdateCardsWithInvalidValues(){
+        long cardId = this.cardService.createCard(this.card).getId();
+        CardBulkUpdateDTO withoutOperation = bulkUpdate(List.of(cardId), null, Color.BLUE, null, null);
+        CardBulkUpdateDTO withoutColor = bulkUpdate(List.of(cardId), CardBulkOperation.SET_COLOR, null, null, null);
+        CardBulkUpdateDTO withoutSelection = bulkUpdate(null, CardBulkOperation.SET_COLOR, Color.BLUE, null, null);
+        CardBulkUpdateDTO withEmptyFilter = bulkUpdate(null, CardBulkOperation.SET_COLOR, Color.BLUE, null, null);
+        withEmptyFilter.setFilter(new CardQueryDTO());
+
+        IllegalArgumentException operationException = assertThrows(IllegalArgumentException.class, () -> this.cardService.updateCards(withoutOperation));
+        IllegalArgumentException colorException = assertThrows(IllegalArgumentException.class, () -> this.cardService.updateCards(withoutColor));
+        IllegalArgumentException selectionException = assertThrows(IllegalArgumentException.class, () -> this.cardService.updateCards(withoutSelection));
+        IllegalArgumentException filterException = assertThrows(IllegalArgumentException.class, () -> this.cardService.updateCards(withEmptyFilter));
+
+        assertThat(operationException.getMessage()).isEqualTo(INVALID_ELEMENT_ERROR + BULK_OPERATION_ELEMENT);
+        assertThat(colorException.getMessage()).isEqualTo(INVALID_ELEMENT_ERROR + COLOR_ELEMENT);
+        assertThat(selectionException.getMessage()).contains(INVALID_CARD_SELECTION_ERROR);
+        assertThat(filterException.getMessage()).contains(INVALID_CARD_SELECTION_ERROR);
+        assertThat(this.cardService.getSpecificCardById(cardId).getColor()).isNull();
+    }
+
+    @Test
+    void testRemoveCardsByIds(){
+        Table table = this.tableService.createTable(new Table("TO DO"));
+        List<Long> tableCardIds = new ArrayList<>();
+
+        for (int i = 0; i < 3; i++) {
+            long cardId = this.cardService.createCard(new Card("CARD " + i)).getId();
+            this.cardService.addCheckToCard(cardId, new Check("CHECK " + i, false));
+            this.tableService.addCardToTable(table.getId(), cardId);
+            tableCardIds.add(cardId);
+        }
+
+        Tag exampleTag = this.tagService.createTag(new Tag("Example Tag", Color.RED));
+        this.cardService.updateCards(bulkUpdate(tableCardIds, CardBulkOperation.ADD_TAG, null, null, exampleTag.getId()));
+        Card template = this.cardService.createCard(new Card("EXAMPLE TEMPLATE", CardType.GLOBAL_TEMPLATE));
+        this.cardService.addCheckToCard(template.getId(), new Check("TEMPLATE CHECK", false));
+        Long instanceId = this.cardService.createCardsUsingATemplate(template.getId(), 1, null).getFirst();
+
+        int removedCards = this.cardService.removeCardsByIds(List.of(tableCardIds.get(1), template.getId(), 12345L));
+
+        assertThat(removedCards).isEqualTo(2);
+        assertThat(this.cardService.getSpecificCardById(tableCardIds.get(1))).isNull();
+        assertThat(this.cardService.getSpecificCardById(template.getId())).isNull();
+        assertThat(this.tableService.getTablesByIds(List.of(table.getId())).getFirst().getCardList())
+                .extracting(Card::getId, Card::getPosition)
+                .containsExactly(tuple(tableCardIds.get(0), 0), tuple(tableCardIds.get(2), 1));
+
+        Card instance = this.cardService.getCardsByIds(List.of(instanceId)).getFirst();
+        assertThat(instance.getTemplateSource()).isNull();
+        assertThat(instance.getChecks()).extracting(Check::getLabel).containsExactly("TEMPLATE CHECK");
+    }
+
+    @Test
+    void testRemoveCardsByIdsWithInvalidIds(){
+        List<Long> tooManyIds = LongStream.rangeClosed(1, MAX_BULK_ID_LIST_SIZE + 1).boxed().toList();
+
+        IllegalArgumentException emptyException = assertThrows(IllegalArgumentException.class, () -> this.cardService.removeCardsByIds(List.of()));
+        IllegalArgumentException tooManyException = assertThrows(IllegalArgumentException.class, () -> this.cardService.removeCardsByIds(tooManyIds));
+
+        assertThat(emptyException.getMessage()).isEqualTo(INVALID_ID_LIST_ERROR + 0);
+        assertThat(tooManyException.getMessage()).isEqualTo(INVALID_ID_LIST_ERROR + (MAX_BULK_ID_LIST_SIZE + 1));
+    }
+
+    private static CardBulkUpdateDTO bulkUpdate(List<Long> ids, CardBulkOperation operation, Color color, Date deadLine, Long tagId) {
+        return new CardBulkUpdateDTO(ids, null, operation, color, deadLine, tagId);
+    }
+
     @Test
     void testCreateCard(){
         Card expectedCard = this.cardService.createCard(this.card);
@@ -136,6 +328,43 @@ class CardServiceTest {
         assertThat(resultCard.getTagList()).containsAll(expectedCard.getTagList());
     }
 
+    @Test
+    @Transactional
+    void testTemplateInstanceKeepsContentWhenTemplateChanges(){
+        Card templateCard = new Card("EXAMPLE TEMPLATE", CardType.GLOBAL_TEMPLATE);
+        templateCard.addCheckToCheckList(new Check("FIRST CHECK", false));
+        Card expectedTemplate = this.cardService.createCard(templateCard);
+
+        Card resultCard = this.cardService.createCardUsingATemplate(expectedTemplate.getId());
+        assertThat(resultCard.getTemplateSource()).isEqualTo(expectedTemplate);
+
+        this.cardService.addCheckToCard(expectedTemplate.getId(), new Check("SECOND CHECK", false));
+        this.entityManager.clear();
+
+        Card instanceCard = this.cardService.getSpecificCardById(resultCard.getId());
+        assertThat(instanceCard.getTemplateSource()).isNull();
+        assertThat(instanceCard.getChecks()).extracting(Check::getLabel).containsExactly("FIRST CHECK");
+    }
+
+    @Test
+    @Transactional
+    void testTemplateInstanceCopiesContentOnFirstChange(){
+        Card templateCard = new Card("EXAMPLE TEMPLATE", CardType.GLOBAL_TEMPLATE);
+        templateCard.addCheckToCheckList(new Check("FIRST CHECK", false));
+        Card expectedTemplate = this.cardService.createCard(templateCard);
+        Card resultCard = this.cardService.createCardUsingATemplate(expectedTemplate.getId());
+
+        this.cardService.addCheckToCard(resultCard.getId(), new Check("SECOND CHECK", true));
+        this.entityManager.flush();
+        this.entityManager.clear();
+
+        Card instanceCard = this.cardService.getSpecificCardById(resultCard.getId());
+        Card template = this.cardService.getSpecificCardById(expectedTemplate.getId());
+        assertThat(instanceCard.getTemplateSource()).isNull();
+        assertThat(instanceCard.getChecks()).extracting(Check::getLabel).containsExactly("FIRST CHECK", "SECOND CHECK");
+        assertThat(template.getChecks()).extracting(Check::getLabel).containsExactly("FIRST CHECK");
+    }
+
     @Test
     void testCreateCardUsingATemplateWithInvalidCard(){
         IllegalArgumentException illegalArgumentException = assertThrows(IllegalArgumentException.class, () -> this.cardService.createCardUsingATemplate(null));
@@ -160,6 +389,98 @@ class CardServiceTest {
         assertThat(resultCard).isNull();
     }
 
+    @Test
+    void testEditingACopiedNormalCardKeepsItsCopiesUnchanged(){
+        Card source = this.cardService.createCard(new Card("NORMAL CARD"));
+        this.cardService.addCheckToCard(source.getId(), new Check("FIRST CHECK", false));
+        Long copyId = this.cardService.createCardsUsingATemplate(source.getId(), 1, null).getFirst();
+
+        this.cardService.addCheckToCard(source.getId(), new Check("SECOND CHECK", false));
+
+        Card copy = this.cardService.getCardsByIds(List.of(copyId)).getFirst();
+        assertThat(copy.getTemplateSource()).isNull();
+        assertThat(copy.getChecks()).extracting(Check::getLabel).containsExactly("FIRST CHECK");
+    }
+
+    @Test
+    void testDeleteCardById(){
+        Card template = this.cardService.createCard(new Card("EXAMPLE TEMPLATE", CardType.GLOBAL_TEMPLATE));
+        this.cardService.addCheckToCard(template.getId(), new Check("TEMPLATE CHECK", true));
+        this.cardService.attachFileToCard(template.getId(), new AttachedFile("example.pdf", "/files/example.pdf"));
+        Tag exampleTag = this.tagService.createTag(new Tag("Example Tag", Color.RED));
+        this.cardService.updateCards(bulkUpdate(List.of(template.getId()), CardBulkOperation.ADD_TAG, null, null, exampleTag.getId()));
+        Long instanceId = this.cardService.createCardsUsingATemplate(template.getId(), 1, null).getFirst();
+
+        CardDTO deletedCard = this.cardService.deleteCardById(template.getId());
+
+        assertThat(deletedCard.getTitle()).isEqualTo("EXAMPLE TEMPLATE");
+        assertThat(deletedCard.getCardType()).isEqualTo(CardType.GLOBAL_TEMPLATE);
+        assertThat(this.cardService.getSpecificCardById(template.getId())).isNull();
+
+        Card instance = this.cardService.getCardsByIds(List.of(instanceId)).getFirst();
+        assertThat(instance.getTemplateSource()).isNull();
+        assertThat(instance.getChecks()).extracting(Check::getLabel).containsExactly("TEMPLATE CHECK");
+        assertThat(instance.getAttachedFiles()).extracting(AttachedFile::getFileName).containsExactly("example.pdf");
+        assertThat(instance.getTagList()).extracting(Tag::getLabel).containsExactly("Example Tag");
+    }
+
+    @Test
+    void testDeleteCardByIdWithInvalidIds(){
+        IllegalArgumentException nullException = assertThrows(IllegalArgumentException.class, () -> this.cardService.deleteCardById(null));
+        NoSuchElementException notFoundException = assertThrows(NoSuchElementException.class, () -> this.cardService.deleteCardById(12345L));
+
+        assertThat(nullException.getMessage()).isEqualTo(INVALID_ID_ERROR + null);
+        assertThat(notFoundException.getMessage()).isEqualTo(NOT_FOUND_CARD_WITH_ID_ERROR + 12345L);
+    }
+
+    @Test
+    @Transactional
+    void testCreateCardsUsingATemplate(){
+        Card templateCard = new Card("EXAMPLE TEMPLATE", CardType.GLOBAL_TEMPLATE);
+        templateCard.addCheckToCheckList(new Check("FIRST CHECK", true));
+        templateCard.addCheckToCheckList(new Check("SECOND CHECK", false));
+        templateCard.attachFile(new AttachedFile("example.pdf", "/files/example.pdf"));
+        Tag tag = this.tagService.createTag(new Tag("EXAMPLE TAG", Color.BLUE));
+        templateCard.addTagToTagList(tag);
+        Card expectedTemplate = this.cardService.createCard(templateCard);
+
+        Table table = this.tableService.createTable(new Table("EXAMPLE TABLE"));
+        Card existingCard = this.cardService.createCard(new Card("EXISTING CARD"));
+        this.tableService.addCardToTable(table.getId(), existingCard.getId());
+
+        List<Long> cardIds = this.cardService.createCardsUsingATemplate(expectedTemplate.getId(), 5, table.getId());
+
+        assertThat(cardIds).hasSize(5).doesNotContain(expectedTemplate.getId());
+
+        for (int i = 0; i < cardIds.size(); i++) {
+            Card resultCard = this.cardService.getSpecificCardById(cardIds.get(i));
+
+            assertThat(resultCard.getTitle()).isEqualTo(expectedTemplate.getTitle());
+            assertThat(resultCard.getCardType()).isEqualTo(CardType.NORMAL);
+            assertThat(resultCard.getPosition()).isEqualTo(i + 1);
+            assertThat(resultCard.getTable().getId()).isEqualTo(table.getId());
+            assertThat(resultCard.getChecks()).extracting(Check::getLabel).containsExactly("FIRST CHECK", "SECOND CHECK");
+            assertThat(resultCard.getAttachedFiles()).extracting(AttachedFile::getFileName).containsExactly("example.pdf");
+            assertThat(resultCard.getTagList()).extracting(Tag::getId).containsExactly(tag.getId());
+        }
+    }
+
+    @Test
+    void testCreateCardsUsingATemplateWithInvalidCount(){
+        IllegalArgumentException illegalArgumentException = assertThrows(IllegalArgumentException.class, () -> this.cardService.createCardsUsingATemplate(1L, 0, null));
+
+        assertThat(illegalArgumentException.getMessage()).isEqualTo(INVALID_COPY_COUNT_ERROR + 0);
+    }
+
+    @Test
+    void testCreateCardsUsingATemplateWithNotFoundTable(){
+        Card expectedTemplate = this.cardService.createCard(new Card("EXAMPLE TEMPLATE", CardType.GLOBAL_TEMPLATE));
+
+        NoSuchElementException noSuchElementException = assertThrows(NoSuchElementException.class, () -> this.cardService.createCardsUsingATemplate(expectedTemplate.getId(), 3, 12345L));
+
+        assertThat(noSuchElementException.getMessage()).isEqualTo(NOT_FOUND_TABLE_WITH_ID_ERROR + 12345L);
+    }
+
     @Test
     void testGetAllGlobalTemplateCards(){
         Card globalTemplateCard1 = new Card("TEMPLATE 1", CardType.GLOBAL_TEMPLATE);
@@ -663,4 +984,76 @@ class CardServiceTest {
 
         assertThat(exception.getMessage()).contains(NOT_FOUND_ELEMENT_IN_CARD_ERROR);
     }
+
+    @Test
+    void testGetCardsByDeadLineRange(){
+        Date now = new Date();
+        Card lateCard = this.cardService.createCard(new Card("LATE CARD"));
+        Card earlyCard = this.cardService.createCard(new Card("EARLY CARD"));
+        Card outsideCard = this.cardService.createCard(new Card("OUTSIDE CARD"));
+        this.cardService.updateDeadLineCard(lateCard.getId(), new Date(now.getTime() + 2000));
+        this.cardService.updateDeadLineCard(earlyCard.getId(), new Date(now.getTime() + 1000));
+        this.cardService.updateDeadLineCard(outsideCard.getId(), new Date(now.getTime() + 10000));
+
+        List<Card> result = this.cardService.getCardsByDeadLineRange(now, new Date(now.getTime() + 5000), 0, 10);
+
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0)).isEqualTo(earlyCard);
+        assertThat(result.get(1)).isEqualTo(lateCard);
+    }
+
+    @Test
+    void testGetCardsByDeadLineRangeWithPaging(){
+        Date now = new Date();
+        Card earlyCard = this.cardService.createCard(new Card("EARLY CARD"));
+        Card lateCard = this.cardService.createCard(new Card("LATE CARD"));
+        this.cardService.updateDeadLineCard(earlyCard.getId(), new Date(now.getTime() + 1000));
+        this.cardService.updateDeadLineCard(lateCard.getId(), new Date(now.getTime() + 2000));
+
+        List<Card> result = this.cardService.getCardsByDeadLineRange(now, new Date(now.getTime() + 5000), 1, 1);
+
+        assertThat(result).hasSize(1);
+        assertThat(result.getFirst()).isEqualTo(lateCard);
+    }
+
+    @Test
+    void testGetCardsByDeadLineRangeWithInvalidRange(){
+        Date now = new Date();
+        Date before = new Date(now.getTime() - 1000);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> this.cardService.getCardsByDeadLineRange(now, before, 0, 10));
+
+        assertThat(exception.getMessage()).contains(INVALID_DEAD_LINE_RANGE_ERROR);
+    }
+
+    @Test
+    void testGetCardsByDeadLineRangeWithInvalidPage(){
+        Date now = new Date();
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> this.cardService.getCardsByDeadLineRange(now, now, -1, 10));
+
+        assertThat(exception.getMessage()).contains(INVALID_PAGE_ERROR);
+    }
+
+    @Test
+    void testGetCardsByDeadLineRangeWithNullValue(){
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> this.cardService.getCardsByDeadLineRange(null, new Date(), 0, 10));
+
+        assertThat(exception.getMessage()).contains(INVALID_ELEMENT_ERROR);
+    }
+
+    @Test
+    void testUpdateDeadLineCardSchedulesReminder(){
+        Card exampleCard = this.cardService.createCard(this.card);
+        Date newDeadLine = new Date(System.currentTimeMillis() + 60000);
+        int pendingReminders = this.deadlineReminderService.getPendingReminderCount();
+
+        this.cardService.updateDeadLineCard(exampleCard.getId(), newDeadLine);
+
+        assertThat(this.deadlineReminderService.getPendingReminderCount()).isEqualTo(pendingReminders + 1);
+
+        this.cardService.removeCardById(exampleCard.getId());
+
+        assertThat(this.deadlineReminderService.getPendingReminderCount()).isEqualTo(pendingReminders);
+    }
 }
@@ -0,0 +1,299 @@
+package dev.kandv.kango.integrations.services;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.kandv.kango.KangoApplication;
+import dev.kandv.kango.dtos.*;
+import dev.kandv.kango.models.Card;
+import dev.kandv.kango.models.Dashboard;
+import dev.kandv.kango.models.Table;
+import dev.kandv.kango.models.Tag;
+import dev.kandv.kango.models.enums.CardType;
+import dev.kandv.kango.models.enums.Color;
+import dev.kandv.kango.models.enums.Visibility;
+import dev.kandv.kango.models.utils.AttachedFile;
+import dev.kandv.kango.models.utils.Check;
+import dev.kandv.kango.services.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.*;
+
+import static dev.kandv.kango.services.ErrorMessagesServices.NOT_FOUND_DASHBOARD_WITH_ID_ERROR;
+import static dev.kandv.kango.services.ErrorMessagesServices.NOT_FOUND_TABLE_WITH_ID_ERROR;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Testcontainers
+@SpringBootTest(classes = KangoApplication.class)
+@ExtendWith(SpringExtension.class)
+class CloneServiceTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgreSQLContainer =
+            new PostgreSQLContainer<>("postgres:16-alpine")
+                    .withDatabaseName("testdb")
+                    .withUsername("test")
+                    .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgreSQLContainer::getUsername);
+        registry.add("spring.datasource.password", postgreSQLContainer::getPassword);
+    }
+
+    @Autowired
+    private CloneService cloneService;
+
+    @Autowired
+    private DashboardExportService dashboardExportService;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private TableService tableService;
+
+    @Autowired
+    private CardService cardService;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private DeadlineReminderService deadlineReminderService;
+
+    @Autowired
+    private CardPositionBuffer cardPositionBuffer;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeAll
+    static void beforeAll(){
+        postgreSQLContainer.start();
+    }
+
+    @AfterAll
+    static void afterAll(){
+        postgreSQLContainer.stop();
+    }
+
+    @AfterEach
+    void afterEach(){
+        this.dashboardService.removeAllDashboards();
+        this.tableService.removeAllTables();
+        this.cardService.removeAllCards();
+        this.tagService.removeAllTags();
+    }
+
+    @Test
+    void testCloneDashboard() throws IOException {
+        Long dashboardId = new TransactionTemplate(this.transactionManager).execute(status -> this.createSprintBoard());
+        int pendingReminders = this.deadlineReminderService.getPendingReminderCount();
+
+        CloneResultDTO result = this.cloneService.cloneDashboard(dashboardId, "SPRINT BOARD 2");
+
+        assertThat(result.getDashboardId()).isNotEqualTo(dashboardId);
+        assertThat(result.getClonedTags()).isEqualTo(1);
+        assertThat(result.getClonedTables()).isEqualTo(1);
+        assertThat(result.getClonedCards()).isEqualTo(3);
+        assertThat(this.deadlineReminderService.getPendingReminderCount()).isEqualTo(pendingReminders + 1);
+
+        List<ExportRecordDTO> sourceRecords = this.exportRecords(dashboardId);
+        List<ExportRecordDTO> cloneRecords = this.exportRecords(result.getDashboardId());
+
+        assertThat(((DashboardExportDTO) cloneRecords.getFirst()).getName()).isEqualTo("SPRINT BOARD 2");
+        assertThat(((DashboardExportDTO) cloneRecords.getFirst()).getAttachedFiles()).extracting(AttachedFile::getFileName)
+                .containsExactly("plan.pdf");
+        assertThat(cloneRecords).hasSameSizeAs(sourceRecords);
+
+        Map<String, CardExportDTO> sourceCards = this.cardsByTitle(sourceRecords);
+        Map<String, CardExportDTO> cloneCards = this.cardsByTitle(cloneRecords);
+        assertThat(cloneCards.keySet()).containsExactlyInAnyOrderElementsOf(sourceCards.keySet());
+
+        for (String title : sourceCards.keySet()) {
+            CardExportDTO sourceCard = sourceCards.get(title);
+            CardExportDTO cloneCard = cloneCards.get(title);
+
+            assertThat(cloneCard.getId()).isNotEqualTo(sourceCard.getId());
+            assertThat(cloneCard.getPosition()).isEqualTo(sourceCard.getPosition());
+            assertThat(cloneCard.getChecks()).containsExactlyElementsOf(sourceCard.getChecks());
+            assertThat(cloneCard.getAttachedFiles()).containsExactlyElementsOf(sourceCard.getAttachedFiles());
+        }
+
+        Long localTagId = this.tagIdByLabel(sourceRecords, "LOCAL TAG");
+        Long clonedLocalTagId = this.tagIdByLabel(cloneRecords, "LOCAL TAG");
+        Long globalTagId = this.tagService.getAllGlobalTags().getFirst().getId();
+        assertThat(clonedLocalTagId).isNotEqualTo(localTagId);
+        assertThat(cloneCards.get("SPRINT CARD").getTagIds()).containsExactlyInAnyOrder(clonedLocalTagId, globalTagId);
+
+        Card clonedInstance = this.cardService.getSpecificCardById(cloneCards.get("SPRINT TEMPLATE").getId());
+        assertThat(clonedInstance.getTemplateSource().getId()).isEqualTo(cloneCards.get("SPRINT TEMPLATE (template)").getId());
+    }
+
+    @Test
+    void testCloneDashboardWithNotFoundDashboard() {
+        NoSuchElementException exception = assertThrows(NoSuchElementException.class, () ->
+                this.cloneService.cloneDashboard(12345L, null)
+        );
+
+        assertThat(exception.getMessage()).isEqualTo(NOT_FOUND_DASHBOARD_WITH_ID_ERROR + 12345L);
+    }
+
+    @Test
+    void testCloneTableIntoAnotherDashboard() throws IOException {
+        Long sourceDashboardId = new TransactionTemplate(this.transactionManager).execute(status -> this.createSprintBoard());
+        Dashboard targetDashboard = this.dashboardService.createDashboard(new Dashboard("BACKLOG"));
+        Table backlogTable = this.tableService.createTable(new Table("BACKLOG"));
+        this.dashboardService.addTableToDashboard(targetDashboard.getId(), backlogTable.getId());
+
+        TableExportDTO sourceTable = this.exportRecords(sourceDashboardId).stream()
+                .filter(TableExportDTO.class::isInstance)
+                .map(TableExportDTO.class::cast)
+                .findFirst().orElseThrow();
+
+        CloneResultDTO result = this.cloneService.cloneTable(sourceTable.getId(), targetDashboard.getId());
+
+        assertThat(result.getDashboardId()).isEqualTo(targetDashboard.getId());
+        assertThat(result.getTableId()).isNotEqualTo(sourceTable.getId());
+        assertThat(result.getClonedTables()).isEqualTo(1);
+        assertThat(result.getClonedCards()).isEqualTo(2);
+
+        List<ExportRecordDTO> targetRecords = this.exportRecords(targetDashboard.getId());
+        TableExportDTO clonedTable = targetRecords.stream()
+                .filter(TableExportDTO.class::isInstance)
+                .map(TableExportDTO.class::cast)
+                .filter(table -> table.getId().equals(result.getTableId()))
+                .findFirst().orElseThrow();
+        assertThat(clonedTable.getName()).isEqualTo("TO DO");
+        assertThat(clonedTable.getPosition()).isEqualTo(1);
+
+        Map<String, CardExportDTO> sourceCards = this.cardsByTitle(this.exportRecords(sourceDashboardId));
+        Map<String, CardExportDTO> clonedCards = this.cardsByTitle(targetRecords);
+        assertThat(clonedCards).containsOnlyKeys("SPRINT CARD", "SPRINT TEMPLATE");
+        assertThat(clonedCards.get("SPRINT CARD").getTableId()).isEqualTo(result.getTableId());
+        assertThat(clonedCards.get("SPRINT CARD").getChecks()).containsExactlyElementsOf(sourceCards.get("SPRINT CARD").getChecks());
+        assertThat(clonedCards.get("SPRINT CARD").getTagIds()).containsExactlyInAnyOrderElementsOf(sourceCards.get("SPRINT CARD").getTagIds());
+        assertThat(clonedCards.get("SPRINT TEMPLATE").getChecks()).extracting(Check::getLabel).containsExactly("TEMPLATE CHECK");
+    }
+
+    @Test
+    void testCloneTableKeepsPendingCardMoves() throws IOException {
+        Long dashboardId = new TransactionTemplate(this.transactionManager).execute(status -> this.createSprintBoard());
+        List<ExportRecordDTO> sourceRecords = this.exportRecords(dashboardId);
+        Long sourceTableId = sourceRecords.stream()
+                .filter(TableExportDTO.class::isInstance)
+                .map(TableExportDTO.class::cast)
+                .findFirst().orElseThrow()
+                .getId();
+
+        this.cardPositionBuffer.moveCard(sourceTableId, this.cardsByTitle(sourceRecords).get("SPRINT TEMPLATE").getId(), 0);
+        CloneResultDTO result = this.cloneService.cloneTable(sourceTableId, null);
+
+        Map<String, CardExportDTO> clonedCards = new HashMap<>();
+        this.exportRecords(dashboardId).stream()
+                .filter(CardExportDTO.class::isInstance)
+                .map(CardExportDTO.class::cast)
+                .filter(card -> result.getTableId().equals(card.getTableId()))
+                .forEach(card -> clonedCards.put(card.getTitle(), card));
+
+        assertThat(clonedCards.get("SPRINT TEMPLATE").getPosition()).isZero();
+        assertThat(clonedCards.get("SPRINT CARD").getPosition()).isEqualTo(1);
+    }
+
+    @Test
+    void testCloneTableWithNotFoundTable() {
+        NoSuchElementException exception = assertThrows(NoSuchElementException.class, () ->
+                this.cloneService.cloneTable(12345L, null)
+        );
+
+        assertThat(exception.getMessage()).isEqualTo(NOT_FOUND_TABLE_WITH_ID_ERROR + 12345L);
+    }
+
+    private Long createSprintBoard() {
+        Dashboard dashboard = this.dashboardService.createDashboard(new Dashboard("SPRINT BOARD"));
+        this.dashboardService.attachFileToDashboard(dashboard.getId(), new AttachedFile("plan.pdf", "/files/plan.pdf"));
+
+        Tag localTag = this.tagService.createTag(new Tag("LOCAL TAG", Color.RED));
+        this.dashboardService.addTagToDashboard(dashboard.getId(), localTag);
+        Tag globalTag = this.tagService.createTag(new Tag("GLOBAL TAG", Color.BLUE, Visibility.GLOBAL));
+
+        Card template = new Card("SPRINT TEMPLATE", CardType.LOCAL_TEMPLATE);
+        template.addCheckToCheckList(new Check("TEMPLATE CHECK", false));
+        template = this.cardService.createCard(template);
+        this.dashboardService.addTemplateCardToDashboard(dashboard.getId(), template.getId());
+
+        Table table = this.tableService.createTable(new Table("TO DO"));
+        this.dashboardService.addTableToDashboard(dashboard.getId(), table.getId());
+
+        Card card = new Card("SPRINT CARD");
+        card.addCheckToCheckList(new Check("CARD CHECK", true));
+        card.attachFile(new AttachedFile("notes.txt", "/files/notes.txt"));
+        card.addTagToTagList(localTag);
+        card.addTagToTagList(globalTag);
+        card.setDeadLine(new Date(System.currentTimeMillis() + 86_400_000L));
+        card = this.cardService.createCard(card);
+        this.tableService.addCardToTable(table.getId(), card.getId());
+
+        Card instance = this.cardService.createCardUsingATemplate(template.getId());
+        this.tableService.addCardToTable(table.getId(), instance.getId());
+
+        return dashboard.getId();
+    }
+
+    private Long tagIdByLabel(List<ExportRecordDTO> records, String label) {
+        return records.stream()
+                .filter(TagExportDTO.class::isInstance)
+                .map(TagExportDTO.class::cast)
+                .filter(tag -> tag.getLabel().equals(label))
+                .findFirst()
+                .orElseThrow()
+                .getId();
+    }
+
+    private Map<String, CardExportDTO> cardsByTitle(List<ExportRecordDTO> records) {
+        Map<String, CardExportDTO> cards = new HashMap<>();
+
+        for (ExportRecordDTO exportRecord : records) {
+            if (exportRecord instanceof CardExportDTO card) {
+                cards.put(card.getTitle() + (card.getTableId() == null ? " (template)" : ""), card);
+            }
+        }
+
+        return cards;
+    }
+
+    private ByteArrayInputStream export(Long dashboardId) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        this.dashboardExportService.exportDashboard(dashboardId, outputStream);
+        return new ByteArrayInputStream(outputStream.toByteArray());
+    }
+
+    private List<ExportRecordDTO> exportRecords(Long dashboardId) throws IOException {
+        List<ExportRecordDTO> records = new ArrayList<>();
+
+        try (MappingIterator<ExportRecordDTO> iterator = this.objectMapper.readerFor(ExportRecordDTO.class).readValues(this.export(dashboardId))) {
+            iterator.forEachRemaining(records::add);
+        }
+
+        return records;
+    }
+}
@@ -0,0 +1,181 @@
+package dev.kandv.kango.integrations.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.kandv.kango.KangoApplication;
+import dev.kandv.kango.dtos.*;
+import dev.kandv.kango.models.Card;
+import dev.kandv.kango.models.Dashboard;
+import dev.kandv.kango.models.Table;
+import dev.kandv.kango.models.Tag;
+import dev.kandv.kango.models.enums.CardType;
+import dev.kandv.kango.models.enums.Color;
+import dev.kandv.kango.models.enums.Visibility;
+import dev.kandv.kango.models.utils.AttachedFile;
+import dev.kandv.kango.models.utils.Check;
+import dev.kandv.kango.services.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static dev.kandv.kango.services.ErrorMessagesServices.NOT_FOUND_DASHBOARD_WITH_ID_ERROR;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Testcontainers
+@SpringBootTest(classes = KangoApplication.class)
+@ExtendWith(SpringExtension.class)
+class DashboardExportServiceTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgreSQLContainer =
+            new PostgreSQLContainer<>("postgres:16-alpine")
+                    .withDatabaseName("testdb")
+                    .withUsername("test")
+                    .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgreSQLContainer::getUsername);
+        registry.add("spring.datasource.password", postgreSQLContainer::getPassword);
+    }
+
+    @Autowired
+    private DashboardExportService dashboardExportService;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private TableService tableService;
+
+    @Autowired
+    private CardService cardService;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeAll
+    static void beforeAll(){
+        postgreSQLContainer.start();
+    }
+
+    @AfterAll
+    static void afterAll(){
+        postgreSQLContainer.stop();
+    }
+
+    @AfterEach
+    void afterEach(){
+        this.dashboardService.removeAllDashboards();
+        this.tableService.removeAllTables();
+        this.cardService.removeAllCards();
+        this.tagService.removeAllTags();
+    }
+
+    @Test
+    void testExportDashboard() throws IOException {
+        Dashboard dashboard = this.dashboardService.createDashboard(new Dashboard("EXPORT DASHBOARD"));
+        Table table = this.tableService.createTable(new Table("EXPORT TABLE"));
+        Tag tag = new Tag("EXPORT TAG", Color.BLUE, Visibility.LOCAL);
+        this.dashboardService.addTagToDashboard(dashboard.getId(), tag);
+
+        Card card = new Card("EXPORT CARD");
+        card.addCheckToCheckList(new Check("EXPORT CHECK", true));
+        card.attachFile(new AttachedFile("export.pdf", "/api/files/export.pdf"));
+        card.addTagToTagList(tag);
+        card = this.cardService.createCard(card);
+
+        Card templateCard = new Card("EXPORT TEMPLATE", CardType.LOCAL_TEMPLATE);
+        templateCard.setDashboard(dashboard);
+        this.cardService.createCard(templateCard);
+
+        this.dashboardService.addTableToDashboard(dashboard.getId(), table.getId());
+        this.tableService.addCardToTable(table.getId(), card.getId());
+
+        List<ExportRecordDTO> result = this.export(dashboard.getId());
+
+        assertThat(result).hasSize(5);
+        assertThat(result.get(0)).isInstanceOf(DashboardExportDTO.class);
+        assertThat(((DashboardExportDTO) result.get(0)).getName()).isEqualTo("EXPORT DASHBOARD");
+        assertThat(result.get(1)).isInstanceOf(TagExportDTO.class);
+        assertThat(((TagExportDTO) result.get(1)).isDashboardTag()).isTrue();
+        assertThat(result.get(2)).isInstanceOf(TableExportDTO.class);
+
+        CardExportDTO exportedTemplate = (CardExportDTO) result.get(3);
+        assertThat(exportedTemplate.getTitle()).isEqualTo("EXPORT TEMPLATE");
+        assertThat(exportedTemplate.getTableId()).isNull();
+        assertThat(exportedTemplate.getCardType()).isEqualTo(CardType.LOCAL_TEMPLATE);
+
+        CardExportDTO exportedCard = (CardExportDTO) result.get(4);
+        assertThat(exportedCard.getTableId()).isEqualTo(table.getId());
+        assertThat(exportedCard.getChecks()).extracting(Check::getLabel).containsExactly("EXPORT CHECK");
+        assertThat(exportedCard.getAttachedFiles()).extracting(AttachedFile::getFileName).containsExactly("export.pdf");
+        assertThat(exportedCard.getTagIds()).containsExactly(result.get(1).getId());
+    }
+
+    @Test
+    void testExportDashboardWithManyCards() throws IOException {
+        Dashboard dashboard = this.dashboardService.createDashboard(new Dashboard("BIG DASHBOARD"));
+        Table table = this.tableService.createTable(new Table("BIG TABLE"));
+        this.dashboardService.addTableToDashboard(dashboard.getId(), table.getId());
+
+        int amount = 1200;
+        for (int i = 0; i < amount; i++) {
+            Card card = this.cardService.createCard(new Card("CARD " + i));
+            this.tableService.addCardToTable(table.getId(), card.getId());
+        }
+
+        List<ExportRecordDTO> result = this.export(dashboard.getId());
+
+        List<CardExportDTO> exportedCards = result.stream()
+                .filter(CardExportDTO.class::isInstance)
+                .map(CardExportDTO.class::cast)
+                .toList();
+        assertThat(exportedCards).hasSize(amount);
+        assertThat(exportedCards).extracting(CardExportDTO::getPosition).isSorted();
+    }
+
+    @Test
+    void testExportDashboardWithInvalidId() {
+        Long invalidId = 12345L;
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        NoSuchElementException exception = assertThrows(NoSuchElementException.class, () ->
+                this.dashboardExportService.exportDashboard(invalidId, outputStream)
+        );
+
+        assertThat(exception.getMessage()).isEqualTo(NOT_FOUND_DASHBOARD_WITH_ID_ERROR + invalidId);
+    }
+
+    private List<ExportRecordDTO> export(Long dashboardId) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        this.dashboardExportService.exportDashboard(dashboardId, outputStream);
+
+        List<ExportRecordDTO> records = new ArrayList<>();
+        for (String line : outputStream.toString(StandardCharsets.UTF_8).split("\n")) {
+            if (!line.isBlank()) {
+                records.add(this.objectMapper.readValue(line, ExportRecordDTO.class));
+            }
+        }
+
+        return records;
+    }
+}
@@ -0,0 +1,261 @@
+package dev.kandv.kango.integrations.services;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.kandv.kango.KangoApplication;
+import dev.kandv.kango.dtos.*;
+import dev.kandv.kango.models.Card;
+import dev.kandv.kango.models.Dashboard;
+import dev.kandv.kango.models.Table;
+import dev.kandv.kango.models.Tag;
+import dev.kandv.kango.models.enums.Color;
+import dev.kandv.kango.models.enums.Visibility;
+import dev.kandv.kango.models.utils.AttachedFile;
+import dev.kandv.kango.models.utils.Check;
+import dev.kandv.kango.services.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static dev.kandv.kango.services.DashboardImportService.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Testcontainers
+@SpringBootTest(classes = KangoApplication.class)
+@ExtendWith(SpringExtension.class)
+class DashboardImportServiceTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgreSQLContainer =
+            new PostgreSQLContainer<>("postgres:16-alpine")
+                    .withDatabaseName("testdb")
+                    .withUsername("test")
+                    .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgreSQLContainer::getUsername);
+        registry.add("spring.datasource.password", postgreSQLContainer::getPassword);
+    }
+
+    @Autowired
+    private DashboardImportService dashboardImportService;
+
+    @Autowired
+    private DashboardExportService dashboardExportService;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private TableService tableService;
+
+    @Autowired
+    private CardService cardService;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeAll
+    static void beforeAll(){
+        postgreSQLContainer.start();
+    }
+
+    @AfterAll
+    static void afterAll(){
+        postgreSQLContainer.stop();
+    }
+
+    @AfterEach
+    void afterEach(){
+        this.dashboardService.removeAllDashboards();
+        this.tableService.removeAllTables();
+        this.cardService.removeAllCards();
+        this.tagService.removeAllTags();
+    }
+
+    @Test
+    void testImportExportedDashboard() throws IOException {
+        Dashboard dashboard = this.dashboardService.createDashboard(new Dashboard("IMPORT DASHBOARD"));
+        Table table = this.tableService.createTable(new Table("IMPORT TABLE"));
+        Tag tag = new Tag("IMPORT TAG", Color.PINK, Visibility.LOCAL);
+        this.dashboardService.addTagToDashboard(dashboard.getId(), tag);
+
+        Card card = new Card("IMPORT CARD\twith\ttabs\nand lines \\ slashes");
+        card.setColor(Color.RED);
+        card.setDeadLine(new Date(1_700_000_000_000L));
+        card.addCheckToCheckList(new Check("IMPORT CHECK", true));
+        card.attachFile(new AttachedFile("import.pdf", "/api/files/import.pdf"));
+        card.addTagToTagList(tag);
+        card = this.cardService.createCard(card);
+
+        this.dashboardService.addTableToDashboard(dashboard.getId(), table.getId());
+        this.tableService.addCardToTable(table.getId(), card.getId());
+
+        ImportResultDTO result = this.dashboardImportService.importDashboard(this.export(dashboard.getId()));
+
+        assertThat(result.getImportedTags()).isEqualTo(1);
+        assertThat(result.getImportedTables()).isEqualTo(1);
+        assertThat(result.getImportedCards()).isEqualTo(1);
+
+        List<ExportRecordDTO> importedRecords = this.exportRecords(result.getDashboardId());
+        assertThat(importedRecords).hasSize(4);
+        assertThat(((DashboardExportDTO) importedRecords.get(0)).getName()).isEqualTo("IMPORT DASHBOARD");
+
+        TagExportDTO importedTag = (TagExportDTO) importedRecords.get(1);
+        assertThat(importedTag.getId()).isNotEqualTo(tag.getId());
+        assertThat(importedTag.isDashboardTag()).isTrue();
+
+        TableExportDTO importedTable = (TableExportDTO) importedRecords.get(2);
+        assertThat(importedTable.getId()).isNotEqualTo(table.getId());
+
+        CardExportDTO importedCard = (CardExportDTO) importedRecords.get(3);
+        assertThat(importedCard.getId()).isNotEqualTo(card.getId());
+        assertThat(importedCard.getTableId()).isEqualTo(importedTable.getId());
+        assertThat(importedCard.getTitle()).isEqualTo(card.getTitle());
+        assertThat(importedCard.getColor()).isEqualTo(Color.RED);
+        assertThat(importedCard.getDeadLine().getTime()).isEqualTo(card.getDeadLine().getTime());
+        assertThat(importedCard.getChecks()).extracting(Check::getLabel).containsExactly("IMPORT CHECK");
+        assertThat(importedCard.getAttachedFiles()).extracting(AttachedFile::getFileUrl).containsExactly("/api/files/import.pdf");
+        assertThat(importedCard.getTagIds()).containsExactly(importedTag.getId());
+    }
+
+    @Test
+    void testImportManyCards() throws IOException {
+        int amount = 20_000;
+        StringBuilder stream = new StringBuilder("{\"type\":\"dashboard\",\"id\":1,\"name\":\"BIG DASHBOARD\"}\n");
+        stream.append("{\"type\":\"table\",\"id\":1,\"name\":\"BIG TABLE\",\"position\":0}\n");
+
+        for (int i = 0; i < amount; i++) {
+            stream.append("{\"type\":\"card\",\"id\":").append(i)
+                    .append(",\"tableId\":1,\"title\":\"CARD ").append(i)
+                    .append("\",\"cardType\":\"NORMAL\",\"position\":").append(i)
+                    .append(",\"checks\":[{\"label\":\"CHECK\",\"checked\":false,\"position\":0}]}\n");
+        }
+
+        ImportResultDTO result = this.dashboardImportService.importDashboard(this.toInputStream(stream.toString()));
+
+        assertThat(result.getImportedCards()).isEqualTo(amount);
+        List<ExportRecordDTO> importedRecords = this.exportRecords(result.getDashboardId());
+        assertThat(importedRecords).filteredOn(CardExportDTO.class::isInstance).hasSize(amount);
+    }
+
+    @Test
+    void testImportMatchesGlobalTagsByContent() throws IOException {
+        Tag sharedTag = this.tagService.createTag(new Tag("SHARED TAG", Color.BLUE, Visibility.GLOBAL));
+        String stream = """
+                {"type":"dashboard","id":1,"name":"DASHBOARD"}
+                {"type":"tag","id":999,"label":"SHARED TAG","color":"BLUE","visibility":"GLOBAL","dashboardTag":false}
+                {"type":"tag","id":%d,"label":"FOREIGN TAG","color":"RED","visibility":"GLOBAL","dashboardTag":false}
+                {"type":"card","id":1,"title":"TEMPLATE","cardType":"LOCAL_TEMPLATE","position":0,"tagIds":[999,%d]}
+                """.formatted(sharedTag.getId(), sharedTag.getId());
+
+        ImportResultDTO result = this.dashboardImportService.importDashboard(this.toInputStream(stream));
+
+        List<Tag> globalTags = this.tagService.getAllGlobalTags();
+        assertThat(globalTags).extracting(Tag::getLabel).containsExactlyInAnyOrder("SHARED TAG", "FOREIGN TAG");
+        Long foreignTagId = globalTags.stream().filter(tag -> tag.getLabel().equals("FOREIGN TAG")).findFirst().orElseThrow().getId();
+
+        CardExportDTO importedCard = (CardExportDTO) this.exportRecords(result.getDashboardId()).stream()
+                .filter(CardExportDTO.class::isInstance)
+                .findFirst().orElseThrow();
+        assertThat(importedCard.getTagIds()).containsExactlyInAnyOrder(sharedTag.getId(), foreignTagId);
+    }
+
+    @Test
+    void testImportWithUnknownTableReference() {
+        String stream = """
+                {"type":"dashboard","id":1,"name":"DASHBOARD"}
+                {"type":"card","id":1,"tableId":99,"title":"CARD","position":0}
+                """;
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                this.dashboardImportService.importDashboard(this.toInputStream(stream))
+        );
+
+        assertThat(exception.getMessage()).isEqualTo(INVALID_IMPORT_REFERENCE_ERROR + "table 99");
+        assertThat(this.dashboardService.getAllDashboards()).isEmpty();
+    }
+
+    @Test
+    void testImportWithUnknownTagReference() {
+        String stream = """
+                {"type":"dashboard","id":1,"name":"DASHBOARD"}
+                {"type":"card","id":1,"title":"TEMPLATE","cardType":"LOCAL_TEMPLATE","position":0,"tagIds":[7]}
+                """;
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                this.dashboardImportService.importDashboard(this.toInputStream(stream))
+        );
+
+        assertThat(exception.getMessage()).isEqualTo(INVALID_IMPORT_REFERENCE_ERROR + "tag 7");
+    }
+
+    @Test
+    void testImportWithoutDashboard() {
+        String stream = """
+                {"type":"table","id":1,"name":"TABLE","position":0}
+                """;
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                this.dashboardImportService.importDashboard(this.toInputStream(stream))
+        );
+
+        assertThat(exception.getMessage()).isEqualTo(MISSING_IMPORT_DASHBOARD_ERROR);
+    }
+
+    @Test
+    void testImportWithMalformedRecord() {
+        String stream = """
+                {"type":"dashboard","id":1,"name":"DASHBOARD"}
+                {"type":"card","id":
+                """;
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                this.dashboardImportService.importDashboard(this.toInputStream(stream))
+        );
+
+        assertThat(exception.getMessage()).startsWith(INVALID_IMPORT_ERROR);
+        assertThat(this.dashboardService.getAllDashboards()).isEmpty();
+    }
+
+    private ByteArrayInputStream export(Long dashboardId) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        this.dashboardExportService.exportDashboard(dashboardId, outputStream);
+        return new ByteArrayInputStream(outputStream.toByteArray());
+    }
+
+    private List<ExportRecordDTO> exportRecords(Long dashboardId) throws IOException {
+        List<ExportRecordDTO> records = new ArrayList<>();
+
+        try (MappingIterator<ExportRecordDTO> iterator = this.objectMapper.readerFor(ExportRecordDTO.class).readValues(this.export(dashboardId))) {
+            iterator.forEachRemaining(records::add);
+        }
+
+        return records;
+    }
+
+    private ByteArrayInputStream toInputStream(String stream) {
+        return new ByteArrayInputStream(stream.getBytes(StandardCharsets.UTF_8));
+    }
+}
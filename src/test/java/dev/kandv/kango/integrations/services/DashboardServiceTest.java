@@ -1,6 +1,10 @@
 package dev.kandv.kango.integrations.services;
 
 import dev.kandv.kango.KangoApplication;
+import dev.kandv.kango.dtos.CardDTO;
+import dev.kandv.kango.dtos.DashboardDTO;
+import dev.kandv.kango.dtos.TableDTO;
+import dev.kandv.kango.dtos.TagDTO;
 import dev.kandv.kango.models.Card;
 import dev.kandv.kango.models.Dashboard;
 import dev.kandv.kango.models.Table;
@@ -9,6 +13,8 @@ import dev.kandv.kango.models.enums.CardType;
 import dev.kandv.kango.models.enums.Color;
 import dev.kandv.kango.models.enums.Visibility;
 import dev.kandv.kango.models.utils.AttachedFile;
+import dev.kandv.kango.models.utils.Check;
+import dev.kandv.kango.services.CardPositionBuffer;
 import dev.kandv.kango.services.CardService;
 import dev.kandv.kango.services.DashboardService;
 import dev.kandv.kango.services.TableService;
@@ -18,6 +24,7 @@ import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
@@ -25,7 +32,9 @@ import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 
 import static dev.kandv.kango.services.DashboardService.*;
@@ -34,7 +43,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @Testcontainers
-@SpringBootTest(classes = KangoApplication.class)
+@SpringBootTest(classes = KangoApplication.class, properties = "kango.positions.coalesce-window=2s")
 @ExtendWith(SpringExtension.class)
 class DashboardServiceTest {
 
@@ -64,6 +73,9 @@ class DashboardServiceTest {
     @Autowired
     private TagService tagService;
 
+    @Autowired
+    private CardPositionBuffer cardPositionBuffer;
+
     Dashboard dashboard;
     Table table;
     Card card;
@@ -139,6 +151,61 @@ class DashboardServiceTest {
         assertThat(resultDashboard).isNull();
     }
 
+    @Test
+    @Transactional
+    void testDeleteDashboardWithContent(){
+        Dashboard exampleDashboard = this.dashboardService.createDashboard(this.dashboard);
+        long dashboardId = exampleDashboard.getId();
+        Table exampleTable = this.tableService.createTable(new Table("TO DO"));
+        this.dashboardService.addTableToDashboard(dashboardId, exampleTable.getId());
+        List<Long> tableCardIds = new ArrayList<>();
+
+        for (int i = 0; i < 2; i++) {
+            Card tableCard = this.cardService.createCard(new Card("CARD " + i));
+            this.tableService.addCardToTable(exampleTable.getId(), tableCard.getId());
+            tableCardIds.add(tableCard.getId());
+        }
+
+        Card template = this.cardService.createCard(new Card("EXAMPLE TEMPLATE", CardType.LOCAL_TEMPLATE));
+        this.cardService.addCheckToCard(template.getId(), new Check("TEMPLATE CHECK", false));
+        this.dashboardService.addTemplateCardToDashboard(dashboardId, template.getId());
+        Long instanceId = this.cardService.createCardsUsingATemplate(template.getId(), 1, null).getFirst();
+        Tag exampleTag = new Tag("Example Tag", Color.RED);
+        this.dashboardService.addTagToDashboard(dashboardId, exampleTag);
+
+        DashboardDTO deletedDashboard = this.dashboardService.removeDashboardById(dashboardId);
+
+        assertThat(deletedDashboard.getName()).isEqualTo(this.dashboard.getName());
+        assertThat(deletedDashboard.getTableList()).extracting(TableDTO::getName).containsExactly("TO DO");
+        assertThat(deletedDashboard.getTableList().getFirst().getCardList()).extracting(CardDTO::getTitle)
+                .containsExactly("CARD 0", "CARD 1");
+        assertThat(deletedDashboard.getTemplateCardList()).extracting(CardDTO::getTitle).containsExactly("EXAMPLE TEMPLATE");
+        assertThat(deletedDashboard.getTagList()).extracting(TagDTO::getLabel).containsExactly("Example Tag");
+
+        assertThat(this.dashboardService.getSpecificDashboardById(dashboardId)).isNull();
+        assertThat(this.tableService.getSpecificTableById(exampleTable.getId())).isNull();
+        assertThat(this.cardService.getSpecificCardById(tableCardIds.getFirst())).isNull();
+        assertThat(this.cardService.getSpecificCardById(template.getId())).isNull();
+        assertThat(this.tagService.getSpecificTagById(exampleTag.getId())).isNull();
+
+        Card instance = this.cardService.getCardsByIds(List.of(instanceId)).getFirst();
+        assertThat(instance.getTemplateSource()).isNull();
+        assertThat(instance.getChecks()).extracting(Check::getLabel).containsExactly("TEMPLATE CHECK");
+    }
+
+    @Test
+    void testDeleteDashboardWithInvalidId(){
+        Long invalidId = 12345L;
+
+        NoSuchElementException exception = assertThrows(
+                NoSuchElementException.class,
+                () ->
+                        this.dashboardService.removeDashboardById(invalidId)
+        );
+
+        assertThat(exception.getMessage()).isEqualTo(NOT_FOUND_DASHBOARD_WITH_ID_ERROR + invalidId);
+    }
+
     @Test
     void testUpdateNameDashboard(){
         Dashboard exampleDashboard = this.dashboardService.createDashboard(this.dashboard);
@@ -820,6 +887,74 @@ class DashboardServiceTest {
         assertThat(exception.getMessage()).contains(NOT_FOUND_TABLE_IN_THE_DASHBOARD_ERROR);
     }
 
-}
+    @Test
+    void testGetTableCardPreviews(){
+        Dashboard expectedDashboard = this.dashboardService.createDashboard(new Dashboard("Preview Dashboard"));
+        long dashboardId = expectedDashboard.getId();
+        Table fullTable = this.tableService.createTable(new Table("Full Table"));
+        Table emptyTable = this.tableService.createTable(new Table("Empty Table"));
+        this.dashboardService.addTableToDashboard(dashboardId, fullTable.getId());
+        this.dashboardService.addTableToDashboard(dashboardId, emptyTable.getId());
+        List<Long> cardIds = new ArrayList<>();
+
+        for (int i = 0; i < 3; i++) {
+            Card card = this.cardService.createCard(new Card("Card " + i));
+            this.tableService.addCardToTable(fullTable.getId(), card.getId());
+            cardIds.add(card.getId());
+        }
+
+        Map<Long, Page<Card>> tableCards = this.dashboardService.getTableCardPreviews(dashboardId, 2);
+
+        assertThat(tableCards).containsOnlyKeys(fullTable.getId(), emptyTable.getId());
+        assertThat(tableCards.get(fullTable.getId()).getContent()).extracting(Card::getId)
+                .containsExactly(cardIds.get(0), cardIds.get(1));
+        assertThat(tableCards.get(fullTable.getId()).getTotalElements()).isEqualTo(3);
+        assertThat(tableCards.get(emptyTable.getId()).getContent()).isEmpty();
+        assertThat(tableCards.get(emptyTable.getId()).getTotalElements()).isZero();
+    }
+
+    @Test
+    void testGetTableCardPreviewsFlushesOnlyItsOwnTables(){
+        Dashboard expectedDashboard = this.dashboardService.createDashboard(new Dashboard("Preview Dashboard"));
+        long dashboardId = expectedDashboard.getId();
+        Table ownTable = this.tableService.createTable(new Table("Own Table"));
+        Table otherTable = this.tableService.createTable(new Table("Other Table"));
+        this.dashboardService.addTableToDashboard(dashboardId, ownTable.getId());
+        List<Long> ownCardIds = new ArrayList<>();
+        List<Long> otherCardIds = new ArrayList<>();
+
+        for (int i = 0; i < 2; i++) {
+            Card ownCard = this.cardService.createCard(new Card("Own Card " + i));
+            this.tableService.addCardToTable(ownTable.getId(), ownCard.getId());
+            ownCardIds.add(ownCard.getId());
+            Card otherCard = this.cardService.createCard(new Card("Other Card " + i));
+            this.tableService.addCardToTable(otherTable.getId(), otherCard.getId());
+            otherCardIds.add(otherCard.getId());
+        }
+
+        this.cardPositionBuffer.moveCard(ownTable.getId(), ownCardIds.get(1), 0);
+        List<Long> otherOrder = this.cardPositionBuffer.moveCard(otherTable.getId(), otherCardIds.get(1), 0);
 
+        Map<Long, Page<Card>> tableCards = this.dashboardService.getTableCardPreviews(dashboardId, 2);
 
+        assertThat(tableCards.get(ownTable.getId()).getContent()).extracting(Card::getId)
+                .containsExactly(ownCardIds.get(1), ownCardIds.get(0));
+        assertThat(this.cardPositionBuffer.getPendingOrder(ownTable.getId())).isEmpty();
+        assertThat(this.cardPositionBuffer.getPendingOrder(otherTable.getId())).contains(otherOrder);
+        this.cardPositionBuffer.flushAll();
+    }
+
+    @Test
+    void testGetTableCardPreviewsWithInvalidLimit(){
+        Dashboard expectedDashboard = this.dashboardService.createDashboard(new Dashboard("Preview Dashboard"));
+        long dashboardId = expectedDashboard.getId();
+
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () ->
+                        this.dashboardService.getTableCardPreviews(dashboardId, 0)
+        );
+
+        assertThat(exception.getMessage()).contains(INVALID_PAGE_ERROR);
+    }
+}
@@ -0,0 +1,304 @@
+package dev.kandv.kango.integrations.services;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.kandv.kango.KangoApplication;
+import dev.kandv.kango.dtos.*;
+import dev.kandv.kango.models.enums.Color;
+import dev.kandv.kango.models.utils.AttachedFile;
+import dev.kandv.kango.models.utils.Check;
+import dev.kandv.kango.services.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static dev.kandv.kango.services.DashboardImportService.INVALID_IMPORT_ERROR;
+import static dev.kandv.kango.services.importers.CsvBoardMapper.MISSING_TITLE_COLUMN_ERROR;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Testcontainers
+@SpringBootTest(classes = KangoApplication.class)
+@ExtendWith(SpringExtension.class)
+class ExternalImportServiceTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgreSQLContainer =
+            new PostgreSQLContainer<>("postgres:16-alpine")
+                    .withDatabaseName("testdb")
+                    .withUsername("test")
+                    .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgreSQLContainer::getUsername);
+        registry.add("spring.datasource.password", postgreSQLContainer::getPassword);
+    }
+
+    @Autowired
+    private ExternalImportService externalImportService;
+
+    @Autowired
+    private DashboardExportService dashboardExportService;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private TableService tableService;
+
+    @Autowired
+    private CardService cardService;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeAll
+    static void beforeAll(){
+        postgreSQLContainer.start();
+    }
+
+    @AfterAll
+    static void afterAll(){
+        postgreSQLContainer.stop();
+    }
+
+    @AfterEach
+    void afterEach(){
+        this.dashboardService.removeAllDashboards();
+        this.tableService.removeAllTables();
+        this.cardService.removeAllCards();
+        this.tagService.removeAllTags();
+    }
+
+    @Test
+    void testImportTrelloBoard() throws IOException {
+        String board = """
+                {
+                  "id": "board",
+                  "name": "TRELLO BOARD",
+                  "prefs": {"background": "blue"},
+                  "cards": [
+                    {"id": "c1", "name": "TRELLO CARD", "desc": "TRELLO DESCRIPTION", "idList": "l1", "closed": false,
+                     "due": "2030-01-01T10:00:00.000Z", "pos": 2, "idLabels": ["lb1"], "idChecklists": ["ch1"],
+                     "cover": {"color": "red"},
+                     "attachments": [{"name": "trello.pdf", "url": "https://trello.com/trello.pdf"}]},
+                    {"id": "c2", "name": "ARCHIVED CARD", "idList": "l1", "closed": true, "pos": 1},
+                    {"id": "c3", "name": "CARD IN ARCHIVED LIST", "idList": "l2", "closed": false, "pos": 1},
+                    {"id": "c4", "name": "FIRST CARD", "idList": "l1", "closed": false, "pos": 1}
+                  ],
+                  "labels": [{"id": "lb1", "name": "", "color": "green_dark"}],
+                  "lists": [
+                    {"id": "l1", "name": "TRELLO LIST", "closed": false, "pos": 1},
+                    {"id": "l2", "name": "ARCHIVED LIST", "closed": true, "pos": 2}
+                  ],
+                  "checklists": [
+                    {"id": "ch1", "idCard": "c1", "checkItems": [
+                      {"name": "SECOND CHECK", "state": "incomplete", "pos": 2},
+                      {"name": "FIRST CHECK", "state": "complete", "pos": 1}
+                    ]}
+                  ]
+                }
+                """;
+
+        ImportResultDTO result = this.externalImportService.importTrelloBoard(this.toInputStream(board));
+
+        assertThat(result.getImportedTags()).isEqualTo(1);
+        assertThat(result.getImportedTables()).isEqualTo(1);
+        assertThat(result.getImportedCards()).isEqualTo(2);
+
+        List<ExportRecordDTO> importedRecords = this.exportRecords(result.getDashboardId());
+        assertThat(importedRecords).hasSize(5);
+        assertThat(((DashboardExportDTO) importedRecords.get(0)).getName()).isEqualTo("TRELLO BOARD");
+
+        TagExportDTO importedTag = (TagExportDTO) importedRecords.get(1);
+        assertThat(importedTag.getLabel()).isEqualTo(Color.GREEN.getLabel());
+        assertThat(importedTag.getColor()).isEqualTo(Color.GREEN);
+
+        TableExportDTO importedTable = (TableExportDTO) importedRecords.get(2);
+        assertThat(importedTable.getName()).isEqualTo("TRELLO LIST");
+
+        CardExportDTO firstCard = (CardExportDTO) importedRecords.get(3);
+        assertThat(firstCard.getTitle()).isEqualTo("FIRST CARD");
+        assertThat(firstCard.getPosition()).isZero();
+
+        CardExportDTO importedCard = (CardExportDTO) importedRecords.get(4);
+        assertThat(importedCard.getTitle()).isEqualTo("TRELLO CARD");
+        assertThat(importedCard.getDescription()).isEqualTo("TRELLO DESCRIPTION");
+        assertThat(importedCard.getTableId()).isEqualTo(importedTable.getId());
+        assertThat(importedCard.getPosition()).isEqualTo(1);
+        assertThat(importedCard.getColor()).isEqualTo(Color.RED);
+        assertThat(importedCard.getDeadLine()).isEqualTo(Date.from(Instant.parse("2030-01-01T10:00:00Z")));
+        assertThat(importedCard.getChecks()).extracting(Check::getLabel).containsExactly("FIRST CHECK", "SECOND CHECK");
+        assertThat(importedCard.getChecks()).extracting(Check::isChecked).containsExactly(true, false);
+        assertThat(importedCard.getAttachedFiles()).extracting(AttachedFile::getFileName).containsExactly("trello.pdf");
+        assertThat(importedCard.getTagIds()).containsExactly(importedTag.getId());
+    }
+
+    @Test
+    void testImportTrelloBoardOrdersCardsByPos() throws IOException {
+        String board = """
+                {
+                  "name": "TRELLO BOARD",
+                  "lists": [{"id": "l1", "name": "TRELLO LIST", "closed": false, "pos": 1}],
+                  "cards": [
+                    {"id": "c1", "name": "THIRD CARD", "idList": "l1", "closed": false, "pos": 30},
+                    {"id": "c2", "name": "SECOND CARD", "idList": "l1", "closed": false, "pos": 20, "idLabels": ["lb1"]},
+                    {"id": "c3", "name": "FIRST CARD", "idList": "l1", "closed": false, "pos": 10}
+                  ],
+                  "labels": [{"id": "lb1", "name": "LATE LABEL", "color": "blue"}]
+                }
+                """;
+
+        ImportResultDTO result = this.externalImportService.importTrelloBoard(this.toInputStream(board));
+
+        assertThat(this.exportRecords(result.getDashboardId()))
+                .filteredOn(CardExportDTO.class::isInstance)
+                .extracting(card -> ((CardExportDTO) card).getTitle(), card -> ((CardExportDTO) card).getPosition())
+                .containsExactly(tuple("FIRST CARD", 0), tuple("SECOND CARD", 1), tuple("THIRD CARD", 2));
+    }
+
+    @Test
+    void testImportMalformedTrelloBoard() {
+        InputStream board = this.toInputStream("{\"name\": \"TRELLO BOARD\", \"lists\": [{\"id\": ");
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                this.externalImportService.importTrelloBoard(board)
+        );
+
+        assertThat(exception.getMessage()).startsWith(INVALID_IMPORT_ERROR);
+        assertThat(this.dashboardService.getAllDashboards()).isEmpty();
+    }
+
+    @Test
+    void testImportCsv() throws IOException {
+        String csv = """
+                Title,List,Description,Due Date,Color,Labels,Checklist
+                CSV CARD,TO DO,"Multi
+                line, description",2030-01-01,blue,Urgent (red); Later,[x] FIRST CHECK; SECOND CHECK
+                ,,,,,,
+                SECOND CSV CARD,DONE,,,,Urgent (red),
+                THIRD CSV CARD,TO DO,,,,,
+                """;
+
+        ImportResultDTO result = this.externalImportService.importCsv("CSV DASHBOARD", this.toInputStream(csv));
+
+        assertThat(result.getImportedTags()).isEqualTo(2);
+        assertThat(result.getImportedTables()).isEqualTo(2);
+        assertThat(result.getImportedCards()).isEqualTo(3);
+
+        List<ExportRecordDTO> importedRecords = this.exportRecords(result.getDashboardId());
+        assertThat(((DashboardExportDTO) importedRecords.getFirst()).getName()).isEqualTo("CSV DASHBOARD");
+        assertThat(importedRecords).filteredOn(TableExportDTO.class::isInstance)
+                .extracting(table -> ((TableExportDTO) table).getName())
+                .containsExactly("TO DO", "DONE");
+
+        List<TagExportDTO> importedTags = importedRecords.stream()
+                .filter(TagExportDTO.class::isInstance)
+                .map(TagExportDTO.class::cast)
+                .toList();
+        assertThat(importedTags).extracting(TagExportDTO::getLabel).containsExactlyInAnyOrder("Urgent", "Later");
+        assertThat(importedTags).extracting(TagExportDTO::getColor).containsExactlyInAnyOrder(Color.RED, Color.BLACK);
+
+        List<CardExportDTO> importedCards = importedRecords.stream()
+                .filter(CardExportDTO.class::isInstance)
+                .map(CardExportDTO.class::cast)
+                .toList();
+        assertThat(importedCards).extracting(CardExportDTO::getTitle)
+                .containsExactly("CSV CARD", "THIRD CSV CARD", "SECOND CSV CARD");
+        assertThat(importedCards).extracting(CardExportDTO::getPosition).containsExactly(0, 1, 0);
+
+        CardExportDTO importedCard = importedCards.getFirst();
+        assertThat(importedCard.getDescription()).isEqualTo("Multi\nline, description");
+        assertThat(importedCard.getColor()).isEqualTo(Color.BLUE);
+        assertThat(importedCard.getDeadLine()).isEqualTo(Date.from(Instant.parse("2030-01-01T00:00:00Z")));
+        assertThat(importedCard.getTagIds()).hasSize(2);
+        assertThat(importedCard.getChecks()).extracting(Check::getLabel).containsExactly("FIRST CHECK", "SECOND CHECK");
+        assertThat(importedCard.getChecks()).extracting(Check::isChecked).containsExactly(true, false);
+    }
+
+    @Test
+    void testImportLargeCsv() throws IOException {
+        int amount = 20_000;
+        StringBuilder csv = new StringBuilder("title,table,checks\n");
+
+        for (int i = 0; i < amount; i++) {
+            csv.append("CSV CARD ").append(i).append(",TABLE ").append(i % 4).append(",CHECK ").append(i).append('\n');
+        }
+
+        ImportResultDTO result = this.externalImportService.importCsv("CSV DASHBOARD", this.toInputStream(csv.toString()));
+
+        assertThat(result.getImportedTables()).isEqualTo(4);
+        assertThat(result.getImportedCards()).isEqualTo(amount);
+        assertThat(this.externalImportService.getRunningImports()).isEmpty();
+
+        List<ExportRecordDTO> importedRecords = this.exportRecords(result.getDashboardId());
+        assertThat(importedRecords).filteredOn(CardExportDTO.class::isInstance).hasSize(amount);
+    }
+
+    @Test
+    void testImportCsvWithoutTitleColumn() {
+        InputStream csv = this.toInputStream("table,description\nTO DO,CSV DESCRIPTION\n");
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                this.externalImportService.importCsv("CSV DASHBOARD", csv)
+        );
+
+        assertThat(exception.getMessage()).startsWith(MISSING_TITLE_COLUMN_ERROR);
+        assertThat(this.dashboardService.getAllDashboards()).isEmpty();
+    }
+
+    @Test
+    void testImportCsvWithInvalidColor() {
+        InputStream csv = this.toInputStream("title,color\nCSV CARD,CYAN\n");
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                this.externalImportService.importCsv("CSV DASHBOARD", csv)
+        );
+
+        assertThat(exception.getMessage()).isEqualTo(INVALID_IMPORT_ERROR + "row 2");
+        assertThat(this.dashboardService.getAllDashboards()).isEmpty();
+    }
+
+    private ByteArrayInputStream export(Long dashboardId) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        this.dashboardExportService.exportDashboard(dashboardId, outputStream);
+        return new ByteArrayInputStream(outputStream.toByteArray());
+    }
+
+    private List<ExportRecordDTO> exportRecords(Long dashboardId) throws IOException {
+        List<ExportRecordDTO> records = new ArrayList<>();
+
+        try (MappingIterator<ExportRecordDTO> iterator = this.objectMapper.readerFor(ExportRecordDTO.class).readValues(this.export(dashboardId))) {
+            iterator.forEachRemaining(records::add);
+        }
+
+        return records;
+    }
+
+    private ByteArrayInputStream toInputStream(String stream) {
+        return new ByteArrayInputStream(stream.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,9 +1,13 @@
 package dev.kandv.kango.integrations.services;
 
 import dev.kandv.kango.KangoApplication;
+import dev.kandv.kango.dtos.CardDTO;
+import dev.kandv.kango.dtos.TableDTO;
 import dev.kandv.kango.models.Card;
 import dev.kandv.kango.models.Table;
 import dev.kandv.kango.models.enums.CardListSort;
+import dev.kandv.kango.models.enums.Color;
+import dev.kandv.kango.models.utils.Check;
 import dev.kandv.kango.services.CardService;
 import dev.kandv.kango.services.TableService;
 import jakarta.transaction.Transactional;
@@ -12,17 +16,24 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Description;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
 import java.util.List;
 import java.util.NoSuchElementException;
 
 import static dev.kandv.kango.services.ErrorMessagesServices.*;
+import static dev.kandv.kango.services.TableService.INVALID_CARD_ORDER_ERROR;
 import static dev.kandv.kango.services.TableService.INVALID_TABLE_CREATION_ERROR;
 import static dev.kandv.kango.services.TableService.NOT_FOUND_CARD_IN_THE_TABLE_ERROR;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -53,6 +64,9 @@ class TableServiceTest {
     @Autowired
     private CardService cardService;
 
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     Table table;
     Card card;
 
@@ -126,6 +140,39 @@ class TableServiceTest {
         assertThat(resultTable).isNull();
     }
 
+    @Test
+    void testRemoveTableByIdWithCards(){
+        Table expectedTable = this.tableService.createTable(this.table);
+        List<Long> cardIds = new ArrayList<>();
+
+        for (int i = 0; i < 3; i++) {
+            Card card = this.cardService.createCard(new Card("CARD " + i));
+            this.cardService.addCheckToCard(card.getId(), new Check("CHECK " + i, false));
+            this.tableService.addCardToTable(expectedTable.getId(), card.getId());
+            cardIds.add(card.getId());
+        }
+
+        TableDTO deletedTable = this.tableService.removeTableById(expectedTable.getId());
+
+        assertThat(deletedTable.getName()).isEqualTo(this.table.getName());
+        assertThat(deletedTable.getCardList()).extracting(CardDTO::getTitle).containsExactly("CARD 0", "CARD 1", "CARD 2");
+        assertThat(this.tableService.getSpecificTableById(expectedTable.getId())).isNull();
+        assertThat(this.cardService.getCardsByIds(cardIds)).isEmpty();
+    }
+
+    @Test
+    void testRemoveTableByIdWithInvalidId(){
+        Long invalidId = 12345L;
+
+        NoSuchElementException exception = assertThrows(
+                NoSuchElementException.class,
+                () ->
+                        this.tableService.removeTableById(invalidId)
+        );
+
+        assertThat(exception.getMessage()).isEqualTo(NOT_FOUND_TABLE_WITH_ID_ERROR + invalidId);
+    }
+
     @Test
     void testUpdateTableName(){
         String tableName = "New Name";
@@ -331,6 +378,43 @@ class TableServiceTest {
         assertThat(card3.getPosition()).isEqualTo(2);
     }
 
+    @Test
+    void testSortCardListFromTableByCardAttributes(){
+        Table expectedTable = this.tableService.createTable(this.table);
+        long tableId = expectedTable.getId();
+        Card newCard1 = new Card("Card 1");
+        newCard1.setColor(Color.RED);
+        newCard1.addCheckToCheckList(new Check("Check 1", true));
+        newCard1.addCheckToCheckList(new Check("Check 2", false));
+        Card newCard2 = new Card("Card 2");
+        newCard2.setColor(Color.BLUE);
+        newCard2.setDeadLine(new Date(System.currentTimeMillis() + 3_600_000L));
+        newCard2.addCheckToCheckList(new Check("Check 1", true));
+        Card newCard3 = new Card("Card 3");
+        newCard3.setDeadLine(new Date(System.currentTimeMillis() + 60_000L));
+        Card expectedCard1 = this.cardService.createCard(newCard1);
+        Card expectedCard2 = this.cardService.createCard(newCard2);
+        Card expectedCard3 = this.cardService.createCard(newCard3);
+        this.tableService.addCardToTable(tableId, expectedCard1.getId());
+        this.tableService.addCardToTable(tableId, expectedCard2.getId());
+        this.tableService.addCardToTable(tableId, expectedCard3.getId());
+
+        this.tableService.sortCardListFromTable(tableId, CardListSort.BY_DEAD_LINE);
+        assertThat(this.cardListOf(tableId)).containsExactly(expectedCard3, expectedCard2, expectedCard1);
+
+        this.tableService.sortCardListFromTable(tableId, CardListSort.BY_CHECKLIST_PROGRESS_REVERSE);
+        assertThat(this.cardListOf(tableId)).containsExactly(expectedCard2, expectedCard1, expectedCard3);
+
+        this.tableService.sortCardListFromTable(tableId, CardListSort.BY_CREATED_AT_REVERSE);
+        assertThat(this.cardListOf(tableId)).containsExactly(expectedCard3, expectedCard2, expectedCard1);
+
+        this.tableService.sortCardListFromTable(tableId, CardListSort.BY_COLOR);
+        List<Card> cardList = this.cardListOf(tableId);
+        assertThat(cardList).extracting(Card::getColor)
+                .isSortedAccordingTo(Comparator.nullsLast(Comparator.<Color>naturalOrder()));
+        assertThat(cardList).extracting(Card::getPosition).containsExactly(0, 1, 2);
+    }
+
     @Test
     void testSortCardListFromTableWithInvalidTableId(){
         Long tableId = 12345L;
@@ -858,6 +942,130 @@ class TableServiceTest {
         assertThat(exception.getMessage()).contains(NOT_FOUND_CARD_IN_THE_TABLE_ERROR);
     }
 
+    @Test
+    void testUpdateCardOrderFromTable(){
+        Table expectedTable = this.tableService.createTable(this.table);
+        long tableId = expectedTable.getId();
+        Card expectedCard1 = this.cardService.createCard(new Card("Card 1"));
+        Card expectedCard2 = this.cardService.createCard(new Card("Card 2"));
+        Card expectedCard3 = this.cardService.createCard(new Card("Card 3"));
+        this.tableService.addCardToTable(tableId, expectedCard1.getId());
+        this.tableService.addCardToTable(tableId, expectedCard2.getId());
+        this.tableService.addCardToTable(tableId, expectedCard3.getId());
+
+        this.tableService.updateCardOrderFromTable(tableId, List.of(expectedCard3.getId(), expectedCard1.getId(), expectedCard2.getId()));
+
+        new TransactionTemplate(this.transactionManager).executeWithoutResult(status -> {
+            List<Card> cardList = this.tableService.getSpecificTableById(tableId).getCardList();
+            assertThat(cardList).containsExactly(expectedCard3, expectedCard1, expectedCard2);
+            assertThat(cardList).extracting(Card::getPosition).containsExactly(0, 1, 2);
+        });
+    }
+
+    @Test
+    void testUpdateCardOrderFromTableWithInvalidOrder(){
+        Table expectedTable = this.tableService.createTable(this.table);
+        long tableId = expectedTable.getId();
+        Card expectedCard1 = this.cardService.createCard(new Card("Card 1"));
+        Card expectedCard2 = this.cardService.createCard(new Card("Card 2"));
+        Card outsideCard = this.cardService.createCard(new Card("Outside Card"));
+        this.tableService.addCardToTable(tableId, expectedCard1.getId());
+        this.tableService.addCardToTable(tableId, expectedCard2.getId());
+        List<Long> incompleteOrder = List.of(expectedCard2.getId());
+        List<Long> duplicatedOrder = List.of(expectedCard2.getId(), expectedCard2.getId());
+        List<Long> outsideOrder = List.of(expectedCard1.getId(), outsideCard.getId());
+
+        IllegalArgumentException incompleteException = assertThrows(IllegalArgumentException.class, () -> this.tableService.updateCardOrderFromTable(tableId, incompleteOrder));
+        IllegalArgumentException duplicatedException = assertThrows(IllegalArgumentException.class, () -> this.tableService.updateCardOrderFromTable(tableId, duplicatedOrder));
+        NoSuchElementException outsideException = assertThrows(NoSuchElementException.class, () -> this.tableService.updateCardOrderFromTable(tableId, outsideOrder));
+        NoSuchElementException tableException = assertThrows(NoSuchElementException.class, () -> this.tableService.updateCardOrderFromTable(12345L, incompleteOrder));
+        IllegalArgumentException nullException = assertThrows(IllegalArgumentException.class, () -> this.tableService.updateCardOrderFromTable(tableId, null));
+
+        assertThat(incompleteException.getMessage()).contains(INVALID_CARD_ORDER_ERROR);
+        assertThat(duplicatedException.getMessage()).contains(INVALID_CARD_ORDER_ERROR);
+        assertThat(outsideException.getMessage()).contains(NOT_FOUND_CARD_IN_THE_TABLE_ERROR);
+        assertThat(tableException.getMessage()).contains(NOT_FOUND_TABLE_WITH_ID_ERROR);
+        assertThat(nullException.getMessage()).contains(INVALID_ELEMENT_ERROR);
+    }
+
+    @Test
+    void testGetTablesByIds(){
+        Table expectedTable = this.tableService.createTable(this.table);
+        long tableId = expectedTable.getId();
+        Card expectedCard = this.cardService.createCard(new Card("Card 1"));
+        this.cardService.addCheckToCard(expectedCard.getId(), new Check("FIRST CHECK", true));
+        this.tableService.addCardToTable(tableId, expectedCard.getId());
+
+        List<Table> resultTables = this.tableService.getTablesByIds(List.of(12345L, tableId));
+
+        assertThat(resultTables).extracting(Table::getId).containsExactly(tableId);
+        assertThat(resultTables.getFirst().getCardList()).containsExactly(expectedCard);
+        assertThat(resultTables.getFirst().getCardList().getFirst().getChecks())
+                .extracting(Check::getLabel).containsExactly("FIRST CHECK");
+    }
+
+    @Test
+    void testRemoveAllCardsFromTable(){
+        Table expectedTable = this.tableService.createTable(this.table);
+        long tableId = expectedTable.getId();
+
+        for (int i = 0; i < 3; i++) {
+            Card expectedCard = this.cardService.createCard(new Card("Card " + i));
+            this.cardService.addCheckToCard(expectedCard.getId(), new Check("CHECK " + i, false));
+            this.tableService.addCardToTable(tableId, expectedCard.getId());
+        }
+
+        int removedCards = this.tableService.removeAllCardsFromTable(tableId);
+
+        assertThat(removedCards).isEqualTo(3);
+        assertThat(this.tableService.getTablesByIds(List.of(tableId)).getFirst().getCardList()).isEmpty();
+        assertThat(this.tableService.removeAllCardsFromTable(tableId)).isZero();
+    }
+
+    @Test
+    void testRemoveAllCardsFromTableWithInvalidId(){
+        Long invalidId = 12345L;
+
+        NoSuchElementException exception = assertThrows(NoSuchElementException.class, () -> this.tableService.removeAllCardsFromTable(invalidId));
+
+        assertThat(exception.getMessage()).isEqualTo(NOT_FOUND_TABLE_WITH_ID_ERROR + invalidId);
+    }
+
+    @Test
+    void testGetCardPageFromTable(){
+        Table expectedTable = this.tableService.createTable(this.table);
+        long tableId = expectedTable.getId();
+        Card expectedCard1 = this.cardService.createCard(new Card("Card 1"));
+        Card expectedCard2 = this.cardService.createCard(new Card("Card 2"));
+        Card expectedCard3 = this.cardService.createCard(new Card("Card 3"));
+        this.tableService.addCardToTable(tableId, expectedCard1.getId());
+        this.tableService.addCardToTable(tableId, expectedCard2.getId());
+        this.tableService.addCardToTable(tableId, expectedCard3.getId());
+
+        Slice<Card> firstPage = this.tableService.getCardPageFromTable(tableId, -1, 2);
+        int lastPosition = firstPage.getContent().getLast().getPosition();
+        Slice<Card> secondPage = this.tableService.getCardPageFromTable(tableId, lastPosition, 2);
+
+        assertThat(firstPage.getContent()).containsExactly(expectedCard1, expectedCard2);
+        assertThat(firstPage.hasNext()).isTrue();
+        assertThat(secondPage.getContent()).containsExactly(expectedCard3);
+        assertThat(secondPage.hasNext()).isFalse();
+    }
+
+    @Test
+    void testGetCardPageFromTableWithInvalidValues(){
+        Table expectedTable = this.tableService.createTable(this.table);
+        long tableId = expectedTable.getId();
+
+        IllegalArgumentException limitException = assertThrows(IllegalArgumentException.class, () -> this.tableService.getCardPageFromTable(tableId, -1, 0));
+        NoSuchElementException tableException = assertThrows(NoSuchElementException.class, () -> this.tableService.getCardPageFromTable(12345L, -1, 10));
+        IllegalArgumentException nullException = assertThrows(IllegalArgumentException.class, () -> this.tableService.getCardPageFromTable(null, -1, 10));
+
+        assertThat(limitException.getMessage()).contains(INVALID_PAGE_ERROR);
+        assertThat(tableException.getMessage()).contains(NOT_FOUND_TABLE_WITH_ID_ERROR);
+        assertThat(nullException.getMessage()).contains(INVALID_ID_ERROR);
+    }
+
     @Test
     @Transactional
     void testMoveCardFromTableToAnotherTable(){
@@ -1216,4 +1424,10 @@ class TableServiceTest {
         assertThat(resultTable1.getCardList()).isEmpty();
         assertThat(resultTable2.getCardList()).isEmpty();
     }
+
+    private List<Card> cardListOf(Long tableId) {
+        return new TransactionTemplate(this.transactionManager).execute(status ->
+                List.copyOf(this.tableService.getSpecificTableById(tableId).getCardList())
+        );
+    }
 }
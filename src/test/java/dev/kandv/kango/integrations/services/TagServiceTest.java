@@ -1,6 +1,7 @@
 package dev.kandv.kango.integrations.services;
 
 import dev.kandv.kango.KangoApplication;
+import dev.kandv.kango.dtos.TagDTO;
 import dev.kandv.kango.models.Tag;
 import dev.kandv.kango.models.enums.Color;
 import dev.kandv.kango.models.enums.Visibility;
@@ -17,7 +18,9 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 import java.util.List;
+import java.util.NoSuchElementException;
 
+import static dev.kandv.kango.services.ErrorMessagesServices.NOT_FOUND_TAG_WITH_ID_ERROR;
 import static dev.kandv.kango.services.TagService.INVALID_TAG_CREATION_ERROR;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -82,6 +85,16 @@ class TagServiceTest {
         assertThat(resultTag).isNull();
     }
 
+    @Test
+    void testGetTagsByIds(){
+        Tag expectedTag1 = this.tagService.createTag(new Tag("Example Label 1", Color.PURPLE, Visibility.GLOBAL));
+        Tag expectedTag2 = this.tagService.createTag(new Tag("Example Label 2", Color.BLUE, Visibility.GLOBAL));
+
+        List<Tag> resultTags = this.tagService.getTagsByIds(List.of(expectedTag2.getId(), 12345L, expectedTag1.getId()));
+
+        assertThat(resultTags).containsExactlyInAnyOrder(expectedTag1, expectedTag2);
+    }
+
     @Test
     void testCreateCard(){
         Tag expectedTag = this.tagService.createTag(this.tag);
@@ -108,6 +121,30 @@ class TagServiceTest {
         assertThat(resultTag).isNull();
     }
 
+    @Test
+    void testDeleteTagReturnsDeletedTag(){
+        Tag expectedTag = this.tagService.createTag(this.tag);
+
+        TagDTO deletedTag = this.tagService.removeTagById(expectedTag.getId());
+
+        assertThat(deletedTag.getLabel()).isEqualTo(this.tag.getLabel());
+        assertThat(deletedTag.getColor()).isEqualTo(this.tag.getColor());
+        assertThat(deletedTag.getVisibility()).isEqualTo(this.tag.getVisibility());
+    }
+
+    @Test
+    void testDeleteTagWithInvalidId(){
+        Long invalidId = 12345L;
+
+        NoSuchElementException exception = assertThrows(
+                NoSuchElementException.class,
+                () ->
+                        this.tagService.removeTagById(invalidId)
+        );
+
+        assertThat(exception.getMessage()).isEqualTo(NOT_FOUND_TAG_WITH_ID_ERROR + invalidId);
+    }
+
     @Test
     void testGetAllGlobalTemplateCards(){
         Tag globalTag1 = new Tag("Example Label 1", Color.PURPLE, Visibility.GLOBAL);
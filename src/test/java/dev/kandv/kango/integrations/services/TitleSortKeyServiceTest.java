@@ -0,0 +1,112 @@
+package dev.kandv.kango.integrations.services;
+
+import dev.kandv.kango.KangoApplication;
+import dev.kandv.kango.models.Card;
+import dev.kandv.kango.models.Table;
+import dev.kandv.kango.models.enums.CardListSort;
+import dev.kandv.kango.services.CardService;
+import dev.kandv.kango.services.TableService;
+import dev.kandv.kango.services.TitleSortKeyService;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers
+@SpringBootTest(classes = KangoApplication.class)
+@ExtendWith(SpringExtension.class)
+class TitleSortKeyServiceTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgreSQLContainer =
+            new PostgreSQLContainer<>("postgres:16-alpine")
+                    .withDatabaseName("testdb")
+                    .withUsername("test")
+                    .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgreSQLContainer::getUsername);
+        registry.add("spring.datasource.password", postgreSQLContainer::getPassword);
+    }
+
+    @Autowired
+    private TitleSortKeyService titleSortKeyService;
+
+    @Autowired
+    private TableService tableService;
+
+    @Autowired
+    private CardService cardService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void beforeAll(){
+        postgreSQLContainer.start();
+    }
+
+    @AfterAll
+    static void afterAll(){
+        postgreSQLContainer.stop();
+    }
+
+    @AfterEach
+    void afterEach(){
+        this.tableService.removeAllTables();
+        this.cardService.removeAllCards();
+    }
+
+    @Test
+    void testSortCardListByTitleUsesStoredSortKeys() {
+        Long tableId = this.createTable("zebra", "Éclair", "apple", "Apple");
+
+        this.tableService.sortCardListFromTable(tableId, CardListSort.BY_TITLE);
+        assertThat(this.storedTitles(tableId)).containsExactly("apple", "Apple", "Éclair", "zebra");
+
+        this.tableService.sortCardListFromTable(tableId, CardListSort.BY_TITLE_REVERSE);
+        assertThat(this.storedTitles(tableId)).containsExactly("zebra", "Éclair", "Apple", "apple");
+    }
+
+    @Test
+    void testBackfillTitleSortKeys() {
+        Long tableId = this.createTable("zebra", "Éclair", "apple");
+        this.jdbcTemplate.update("UPDATE card SET title_sort_key = NULL WHERE table_id = ?", tableId);
+
+        int updatedCards = this.titleSortKeyService.backfillTitleSortKeys();
+        this.tableService.sortCardListFromTable(tableId, CardListSort.BY_TITLE);
+
+        assertThat(updatedCards).isEqualTo(3);
+        assertThat(this.titleSortKeyService.backfillTitleSortKeys()).isZero();
+        assertThat(this.storedTitles(tableId)).containsExactly("apple", "Éclair", "zebra");
+    }
+
+    private Long createTable(String... titles) {
+        Table table = this.tableService.createTable(new Table("BOARD"));
+
+        for (String title : titles) {
+            Card card = this.cardService.createCard(new Card(title));
+            this.tableService.addCardToTable(table.getId(), card.getId());
+        }
+
+        return table.getId();
+    }
+
+    private List<String> storedTitles(Long tableId) {
+        return this.jdbcTemplate.queryForList(
+                "SELECT title FROM card WHERE table_id = ? ORDER BY position", String.class, tableId);
+    }
+}
@@ -2,6 +2,7 @@ package dev.kandv.kango.units.models;
 
 import dev.kandv.kango.models.Card;
 import dev.kandv.kango.models.Tag;
+import dev.kandv.kango.models.enums.CardType;
 import dev.kandv.kango.models.enums.Color;
 import dev.kandv.kango.models.utils.AttachedFile;
 import dev.kandv.kango.models.utils.Check;
@@ -170,4 +171,34 @@ public class CardTest {
         tags = card.getTagList();
         assertThat(tags).isEmpty();
     }
+
+    @Test
+    public void testCreateTemplateInstanceSharesTemplateContent() {
+        Card template = new Card("Example Template", CardType.GLOBAL_TEMPLATE);
+        template.addCheckToCheckList(new Check("Example Check", false));
+        template.attachFile(new AttachedFile("example.png", "example"));
+
+        Card instance = template.createTemplateInstance();
+
+        assertThat(instance.getCardType()).isEqualTo(CardType.NORMAL);
+        assertThat(instance.getTemplateSource()).isSameAs(template);
+        assertThat(instance.getChecks()).containsExactlyElementsOf(template.getChecks());
+        assertThat(instance.getAttachedFiles()).containsExactlyElementsOf(template.getAttachedFiles());
+    }
+
+    @Test
+    public void testModifyTemplateInstanceMaterializesTemplateContent() {
+        Card template = new Card("Example Template", CardType.GLOBAL_TEMPLATE);
+        template.addCheckToCheckList(new Check("Example Check", false));
+        template.attachFile(new AttachedFile("example.png", "example"));
+        Card instance = template.createTemplateInstance();
+
+        instance.addCheckToCheckList(new Check("Another Check", true));
+
+        assertThat(instance.getTemplateSource()).isNull();
+        assertThat(instance.getChecks()).hasSize(2);
+        assertThat(instance.getChecks().get(1).getPosition()).isEqualTo(1);
+        assertThat(instance.getAttachedFiles()).containsExactlyElementsOf(template.getAttachedFiles());
+        assertThat(template.getChecks()).hasSize(1);
+    }
 }
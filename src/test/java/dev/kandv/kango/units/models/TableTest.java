@@ -8,6 +8,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.context.annotation.Description;
 
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -491,4 +492,64 @@ class TableTest {
         assertThat(result.get(3).getTitle()).isEqualTo(card3.getTitle());
         assertThat(result.get(3).getPosition()).isEqualTo(3);
     }
+
+    @Test
+    @Description("sortCardList by title -> accents and case follow the collation order")
+    void testSortCardListByTitleWithAccents(){
+        Table newTable = new Table("New Table");
+        newTable.addCardToCardList(new Card("zebra"));
+        newTable.addCardToCardList(new Card("Éclair"));
+        newTable.addCardToCardList(new Card("apple"));
+        newTable.addCardToCardList(new Card("Apple"));
+
+        newTable.sortCardList(CardListSort.BY_TITLE);
+
+        assertThat(newTable.getCardList()).extracting(Card::getTitle).containsExactly("apple", "Apple", "Éclair", "zebra");
+    }
+
+    @Test
+    @Description("sortCardList by dead line -> cards without dead line go last")
+    void testSortCardListByDeadLine(){
+        Card card1 = new Card("Card 1");
+        Card card2 = new Card("Card 2");
+        Card card3 = new Card("Card 3");
+        card2.setDeadLine(new Date(2_000L));
+        card3.setDeadLine(new Date(1_000L));
+        Table newTable = new Table("New Table");
+        newTable.addCardToCardList(card1);
+        newTable.addCardToCardList(card2);
+        newTable.addCardToCardList(card3);
+
+        newTable.sortCardList(CardListSort.BY_DEAD_LINE);
+
+        List<Card> result = newTable.getCardList();
+        assertThat(result).extracting(Card::getTitle).containsExactly("Card 3", "Card 2", "Card 1");
+        assertThat(result).extracting(Card::getPosition).containsExactly(0, 1, 2);
+    }
+
+    @Test
+    @Description("applyCardOrder -> cards follow the given order and unknown cards go last")
+    void testApplyCardOrder(){
+        Card card1 = new Card("Card 1");
+        Card card2 = new Card("Card 2");
+        Card card3 = new Card("Card 3");
+        card1.setId(1L);
+        card2.setId(2L);
+        card3.setId(3L);
+        Table newTable = new Table("New Table");
+        newTable.addCardToCardList(card1);
+        newTable.addCardToCardList(card2);
+        newTable.addCardToCardList(card3);
+
+        newTable.applyCardOrder(List.of(3L, 1L));
+
+        List<Card> result = newTable.getCardList();
+        assertThat(result).hasSize(3);
+        assertThat(result.get(0).getTitle()).isEqualTo(card3.getTitle());
+        assertThat(result.get(0).getPosition()).isZero();
+        assertThat(result.get(1).getTitle()).isEqualTo(card1.getTitle());
+        assertThat(result.get(1).getPosition()).isEqualTo(1);
+        assertThat(result.get(2).getTitle()).isEqualTo(card2.getTitle());
+        assertThat(result.get(2).getPosition()).isEqualTo(2);
+    }
 }
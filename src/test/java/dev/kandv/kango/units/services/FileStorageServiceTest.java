@@ -0,0 +1,123 @@
+package dev.kandv.kango.units.services;
+
+import dev.kandv.kango.models.utils.AttachedFile;
+import dev.kandv.kango.services.FileStorageService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static dev.kandv.kango.services.FileStorageService.FILES_URL_PREFIX;
+import static dev.kandv.kango.services.FileStorageService.INVALID_FILE_ERROR;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FileStorageServiceTest {
+
+    private static final String UNKNOWN_HASH = "c6b3ab5e8da2fc22a29dc95e9d8b1b2b90c25e3e0fb9f73b6e1b04ab2ab8ffb2";
+
+    @TempDir
+    Path storageLocation;
+
+    private FileStorageService fileStorageService;
+
+    @BeforeEach
+    void beforeEach() {
+        this.fileStorageService = new FileStorageService(this.storageLocation.toString());
+    }
+
+    @Test
+    void testStoreUsesShardedContentAddress() {
+        AttachedFile attachedFile = this.fileStorageService.store(this.multipartFile("notes.TXT", "Kango"));
+        String hash = this.fileStorageService.hashOf(attachedFile.getFileUrl()).orElseThrow();
+
+        assertThat(attachedFile.getFileName()).isEqualTo("notes.TXT");
+        assertThat(attachedFile.getFileUrl()).isEqualTo(FILES_URL_PREFIX + hash + ".txt");
+        assertThat(this.storageLocation.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash))
+                .isRegularFile()
+                .hasContent("Kango");
+    }
+
+    @Test
+    void testStoreSameContentTwiceIsDeduplicated() throws IOException {
+        AttachedFile firstFile = this.fileStorageService.store(this.multipartFile("first.pdf", "Same content"));
+        AttachedFile secondFile = this.fileStorageService.store(this.multipartFile("second.pdf", "Same content"));
+
+        assertThat(secondFile.getFileUrl()).isEqualTo(firstFile.getFileUrl());
+        assertThat(secondFile.getFileName()).isEqualTo("second.pdf");
+
+        try (var files = Files.find(this.storageLocation, 3, (path, attributes) -> attributes.isRegularFile())) {
+            assertThat(files.count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void testLoadStoredFile() {
+        AttachedFile attachedFile = this.fileStorageService.store(this.multipartFile("notes.txt", "Kango"));
+        String storedName = attachedFile.getFileUrl().substring(FILES_URL_PREFIX.length());
+
+        Path result = this.fileStorageService.load(storedName);
+
+        assertThat(result).hasContent("Kango");
+    }
+
+    @Test
+    void testLoadWithInvalidName() {
+        assertThrows(NoSuchElementException.class, () -> this.fileStorageService.load("../secret.txt"));
+        assertThrows(NoSuchElementException.class, () -> this.fileStorageService.load(".tmp"));
+        assertThrows(NoSuchElementException.class, () -> this.fileStorageService.load(UNKNOWN_HASH + ".txt"));
+    }
+
+    @Test
+    void testStoreEmptyFile() {
+        MockMultipartFile emptyFile = new MockMultipartFile("file", "empty.txt", "text/plain", new byte[0]);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                this.fileStorageService.store(emptyFile)
+        );
+
+        assertThat(exception.getMessage()).contains(INVALID_FILE_ERROR);
+    }
+
+    @Test
+    void testCollectGarbageDeletesOnlyUnreferencedExpiredBlobs() throws IOException {
+        AttachedFile referencedFile = this.fileStorageService.store(this.multipartFile("kept.txt", "Referenced"));
+        AttachedFile unreferencedFile = this.fileStorageService.store(this.multipartFile("lost.txt", "Unreferenced"));
+        AttachedFile recentFile = this.fileStorageService.store(this.multipartFile("new.txt", "Recent"));
+        String referencedHash = this.fileStorageService.hashOf(referencedFile.getFileUrl()).orElseThrow();
+        Path referencedBlob = this.pathOf(referencedFile);
+        Path unreferencedBlob = this.pathOf(unreferencedFile);
+        Path recentBlob = this.pathOf(recentFile);
+
+        FileTime oldTime = FileTime.from(Instant.now().minus(Duration.ofDays(1)));
+        Files.setLastModifiedTime(referencedBlob, oldTime);
+        Files.setLastModifiedTime(unreferencedBlob, oldTime);
+
+        int result = this.fileStorageService.collectGarbage(
+                Map.of(referencedHash, 2L), Instant.now().minus(Duration.ofHours(1))
+        );
+
+        assertThat(result).isEqualTo(1);
+        assertThat(referencedBlob).exists();
+        assertThat(unreferencedBlob).doesNotExist();
+        assertThat(recentBlob).exists();
+    }
+
+    private Path pathOf(AttachedFile attachedFile) {
+        return this.fileStorageService.load(attachedFile.getFileUrl().substring(FILES_URL_PREFIX.length()));
+    }
+
+    private MockMultipartFile multipartFile(String fileName, String content) {
+        return new MockMultipartFile("file", fileName, "text/plain", content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,126 @@
+package dev.kandv.kango.units.services;
+
+import dev.kandv.kango.models.utils.AttachedFile;
+import dev.kandv.kango.services.FileStorageService;
+import dev.kandv.kango.services.ThumbnailService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static dev.kandv.kango.services.FileStorageService.FILES_URL_PREFIX;
+import static dev.kandv.kango.services.ThumbnailService.THUMBNAIL_URL_SUFFIX;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ThumbnailServiceTest {
+
+    private static final int THUMBNAIL_SIZE = 32;
+
+    @TempDir
+    Path storageLocation;
+
+    private FileStorageService fileStorageService;
+    private ThumbnailService thumbnailService;
+
+    @BeforeEach
+    void beforeEach() {
+        this.fileStorageService = new FileStorageService(this.storageLocation.toString());
+        this.thumbnailService = new ThumbnailService(this.fileStorageService, THUMBNAIL_SIZE, 1, 1);
+    }
+
+    @AfterEach
+    void afterEach() {
+        this.thumbnailService.stop();
+    }
+
+    @Test
+    void testRequestThumbnailForImage() throws Exception {
+        AttachedFile attachedFile = this.fileStorageService.store(this.imageFile("photo.png", 200, 100));
+
+        this.thumbnailService.requestThumbnail(attachedFile);
+
+        assertThat(attachedFile.getThumbnailUrl()).isEqualTo(attachedFile.getFileUrl() + THUMBNAIL_URL_SUFFIX);
+
+        Path thumbnail = this.awaitThumbnail(this.storedNameOf(attachedFile));
+        BufferedImage result = ImageIO.read(thumbnail.toFile());
+
+        assertThat(result.getWidth()).isEqualTo(THUMBNAIL_SIZE);
+        assertThat(result.getHeight()).isEqualTo(THUMBNAIL_SIZE / 2);
+    }
+
+    @Test
+    void testRequestThumbnailForNonImage() {
+        MockMultipartFile textFile = new MockMultipartFile(
+                "file", "notes.txt", "text/plain", "Kango".getBytes(StandardCharsets.UTF_8)
+        );
+        AttachedFile attachedFile = this.fileStorageService.store(textFile);
+
+        this.thumbnailService.requestThumbnail(attachedFile);
+
+        assertThat(attachedFile.getThumbnailUrl()).isNull();
+        assertThat(this.thumbnailService.findThumbnail(this.storedNameOf(attachedFile))).isEmpty();
+    }
+
+    @Test
+    void testFindThumbnailRegeneratesMissingThumbnail() throws Exception {
+        AttachedFile attachedFile = this.fileStorageService.store(this.imageFile("photo.png", 10, 10));
+        this.thumbnailService.requestThumbnail(attachedFile);
+        Files.delete(this.awaitThumbnail(this.storedNameOf(attachedFile)));
+
+        Path thumbnail = this.awaitThumbnail(this.storedNameOf(attachedFile));
+
+        assertThat(thumbnail).isRegularFile();
+        assertThat(this.thumbnailService.getPendingThumbnailCount()).isZero();
+    }
+
+    @Test
+    void testRequestThumbnailWithFullQueueAppliesBackpressure() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            AttachedFile attachedFile = this.fileStorageService.store(this.imageFile("photo-" + i + ".png", 50 + i, 50));
+            this.thumbnailService.requestThumbnail(attachedFile);
+        }
+
+        for (int i = 0; i < 5; i++) {
+            AttachedFile attachedFile = this.fileStorageService.store(this.imageFile("photo-" + i + ".png", 50 + i, 50));
+            assertThat(this.awaitThumbnail(this.storedNameOf(attachedFile))).isRegularFile();
+        }
+    }
+
+    private Path awaitThumbnail(String storedName) throws InterruptedException {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            Optional<Path> thumbnail = this.thumbnailService.findThumbnail(storedName);
+
+            if (thumbnail.isPresent()) {
+                return thumbnail.get();
+            }
+
+            Thread.sleep(50);
+        }
+
+        throw new AssertionError("Thumbnail was not generated for " + storedName);
+    }
+
+    private String storedNameOf(AttachedFile attachedFile) {
+        return attachedFile.getFileUrl().substring(FILES_URL_PREFIX.length());
+    }
+
+    private MockMultipartFile imageFile(String fileName, int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        image.setRGB(0, 0, width);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", outputStream);
+
+        return new MockMultipartFile("file", fileName, "image/png", outputStream.toByteArray());
+    }
+}
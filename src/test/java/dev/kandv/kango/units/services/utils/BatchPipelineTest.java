@@ -0,0 +1,132 @@
+package dev.kandv.kango.units.services.utils;
+
+import dev.kandv.kango.services.utils.BatchPipeline;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static dev.kandv.kango.services.utils.BatchPipeline.INVALID_BATCH_SIZE_ERROR;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BatchPipelineTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void beforeEach() {
+        this.executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void afterEach() throws InterruptedException {
+        this.executor.shutdownNow();
+        assertThat(this.executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void testPipelineKeepsOrderAcrossBatches() {
+        int amount = 10_000;
+        BatchPipeline.Source<Integer> source = sink -> IntStream.range(0, amount).forEach(sink::accept);
+        BatchPipeline.Stage<Integer, String> stage = (element, sink) -> sink.accept("Element " + element);
+
+        List<String> result = new ArrayList<>();
+        try (BatchPipeline<Integer, String> pipeline = new BatchPipeline<>(this.executor, source, stage, 64, 2)) {
+            pipeline.forEachRemaining(result::add);
+
+            assertThat(pipeline.getParsedCount()).isEqualTo(amount);
+            assertThat(pipeline.getMappedCount()).isEqualTo(amount);
+            assertThat(pipeline.getConsumedCount()).isEqualTo(amount);
+        }
+
+        assertThat(result).hasSize(amount);
+        assertThat(result.getFirst()).isEqualTo("Element 0");
+        assertThat(result.getLast()).isEqualTo("Element " + (amount - 1));
+    }
+
+    @Test
+    void testStageCanDeferElementsUntilFinish() {
+        BatchPipeline.Source<Integer> source = sink -> List.of(1, 2, 3, 4).forEach(sink::accept);
+        BatchPipeline.Stage<Integer, Integer> stage = new BatchPipeline.Stage<>() {
+            private final List<Integer> deferred = new ArrayList<>();
+
+            @Override
+            public void accept(Integer element, Consumer<Integer> sink) {
+                if (element % 2 == 0) {
+                    this.deferred.add(element);
+                } else {
+                    sink.accept(element);
+                }
+            }
+
+            @Override
+            public void finish(Consumer<Integer> sink) {
+                this.deferred.forEach(sink);
+            }
+        };
+
+        List<Integer> result = new ArrayList<>();
+        try (BatchPipeline<Integer, Integer> pipeline = new BatchPipeline<>(this.executor, source, stage, 2, 1)) {
+            pipeline.forEachRemaining(result::add);
+        }
+
+        assertThat(result).containsExactly(1, 3, 2, 4);
+    }
+
+    @Test
+    void testSourceFailureIsRethrownToConsumer() {
+        BatchPipeline.Source<Integer> source = sink -> {
+            IntStream.range(0, 1000).forEach(sink::accept);
+            throw new IllegalArgumentException("Broken source");
+        };
+        BatchPipeline.Stage<Integer, Integer> stage = (element, sink) -> sink.accept(element);
+
+        try (BatchPipeline<Integer, Integer> pipeline = new BatchPipeline<>(this.executor, source, stage, 10, 1)) {
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+                while (pipeline.hasNext()) {
+                    pipeline.next();
+                }
+            });
+
+            assertThat(exception.getMessage()).isEqualTo("Broken source");
+        }
+    }
+
+    @Test
+    void testStageFailureStopsBlockedSource() {
+        BatchPipeline.Source<Integer> source = sink -> IntStream.iterate(0, i -> i + 1).forEach(sink::accept);
+        BatchPipeline.Stage<Integer, Integer> stage = (element, sink) -> {
+            if (element == 100) {
+                throw new IllegalStateException("Broken stage");
+            }
+
+            sink.accept(element);
+        };
+
+        try (BatchPipeline<Integer, Integer> pipeline = new BatchPipeline<>(this.executor, source, stage, 10, 1)) {
+            assertThrows(IllegalStateException.class, () -> pipeline.forEachRemaining(element -> {
+            }));
+        }
+    }
+
+    @Test
+    void testInvalidBatchSize() {
+        BatchPipeline.Source<Integer> source = sink -> {
+        };
+        BatchPipeline.Stage<Integer, Integer> stage = (element, sink) -> sink.accept(element);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                new BatchPipeline<>(this.executor, source, stage, 0, 1)
+        );
+
+        assertThat(exception.getMessage()).isEqualTo(INVALID_BATCH_SIZE_ERROR + 0);
+    }
+}
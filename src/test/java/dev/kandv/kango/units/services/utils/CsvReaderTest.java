@@ -0,0 +1,62 @@
+package dev.kandv.kango.units.services.utils;
+
+import dev.kandv.kango.services.utils.CsvReader;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static dev.kandv.kango.services.utils.CsvReader.UNTERMINATED_QUOTE_ERROR;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CsvReaderTest {
+
+    private static List<List<String>> readAll(String content) throws IOException {
+        CsvReader csvReader = new CsvReader(new StringReader(content), ',');
+        List<List<String>> rows = new ArrayList<>();
+        List<String> row;
+
+        while ((row = csvReader.readRow()) != null) {
+            rows.add(row);
+        }
+
+        return rows;
+    }
+
+    @Test
+    void testReadSimpleRows() throws IOException {
+        List<List<String>> rows = readAll("title,table\nFirst Card,To Do\r\nSecond Card,Done");
+
+        assertThat(rows).containsExactly(
+                List.of("title", "table"),
+                List.of("First Card", "To Do"),
+                List.of("Second Card", "Done")
+        );
+    }
+
+    @Test
+    void testReadQuotedValues() throws IOException {
+        List<List<String>> rows = readAll("\"Card, with comma\",\"Multi\nline \"\"quoted\"\"\",\n");
+
+        assertThat(rows).containsExactly(List.of("Card, with comma", "Multi\nline \"quoted\"", ""));
+    }
+
+    @Test
+    void testSkipByteOrderMark() throws IOException {
+        List<List<String>> rows = readAll("\uFEFFtitle\nCard");
+
+        assertThat(rows).containsExactly(List.of("title"), List.of("Card"));
+    }
+
+    @Test
+    void testUnterminatedQuote() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                readAll("title\n\"Broken card\n")
+        );
+
+        assertThat(exception.getMessage()).isEqualTo(UNTERMINATED_QUOTE_ERROR + 2);
+    }
+}
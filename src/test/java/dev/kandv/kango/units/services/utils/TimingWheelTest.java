@@ -0,0 +1,113 @@
+package dev.kandv.kango.units.services.utils;
+
+import dev.kandv.kango.services.utils.TimingWheel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static dev.kandv.kango.services.utils.TimingWheel.INVALID_TICK_ERROR;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TimingWheelTest {
+
+    private static final long TICK = 1000;
+    private static final long START = 1_000_000;
+
+    private TimingWheel<Long, String> timingWheel;
+
+    @BeforeEach
+    void beforeEach() {
+        this.timingWheel = new TimingWheel<>(TICK, START);
+    }
+
+    @Test
+    void testScheduleAndAdvance() {
+        this.timingWheel.schedule(1L, START + 5 * TICK, "Reminder");
+
+        List<String> beforeResult = this.timingWheel.advance(START + 4 * TICK);
+        List<String> result = this.timingWheel.advance(START + 5 * TICK);
+
+        assertThat(beforeResult).isEmpty();
+        assertThat(result).containsExactly("Reminder");
+        assertThat(this.timingWheel.size()).isZero();
+    }
+
+    @Test
+    void testScheduleInThePastFiresOnNextTick() {
+        this.timingWheel.advance(START + 10 * TICK);
+
+        this.timingWheel.schedule(1L, START, "Late Reminder");
+
+        List<String> result = this.timingWheel.advance(START + 11 * TICK);
+        assertThat(result).containsExactly("Late Reminder");
+    }
+
+    @Test
+    void testScheduleInUpperLevels() {
+        long[] delays = {63, 64, 65, 4095, 4096, 4097, 300_000};
+        List<String> expected = new ArrayList<>();
+
+        for (int i = 0; i < delays.length; i++) {
+            String value = "Reminder " + delays[i];
+            this.timingWheel.schedule((long) i, START + delays[i] * TICK, value);
+            expected.add(value);
+        }
+
+        List<String> result = new ArrayList<>();
+        for (long delay : delays) {
+            assertThat(this.timingWheel.advance(START + (delay - 1) * TICK)).doesNotContain("Reminder " + delay);
+            result.addAll(this.timingWheel.advance(START + delay * TICK));
+        }
+
+        assertThat(result).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void testCancel() {
+        this.timingWheel.schedule(1L, START + 100 * TICK, "Reminder");
+
+        boolean result = this.timingWheel.cancel(1L);
+
+        assertThat(result).isTrue();
+        assertThat(this.timingWheel.size()).isZero();
+        assertThat(this.timingWheel.advance(START + 200 * TICK)).isEmpty();
+    }
+
+    @Test
+    void testCancelWithUnknownKey() {
+        boolean result = this.timingWheel.cancel(1L);
+
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    void testRescheduleReplacesPreviousEntry() {
+        this.timingWheel.schedule(1L, START + 5 * TICK, "First");
+        this.timingWheel.schedule(1L, START + 10 * TICK, "Second");
+
+        assertThat(this.timingWheel.size()).isEqualTo(1);
+        assertThat(this.timingWheel.advance(START + 5 * TICK)).isEmpty();
+        assertThat(this.timingWheel.advance(START + 10 * TICK)).containsExactly("Second");
+    }
+
+    @Test
+    void testClear() {
+        this.timingWheel.schedule(1L, START + 5 * TICK, "First");
+        this.timingWheel.schedule(2L, START + 5000 * TICK, "Second");
+
+        this.timingWheel.clear();
+
+        assertThat(this.timingWheel.size()).isZero();
+        assertThat(this.timingWheel.advance(START + 6000 * TICK)).isEmpty();
+    }
+
+    @Test
+    void testInvalidTick() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> new TimingWheel<Long, String>(0, START));
+
+        assertThat(exception.getMessage()).isEqualTo(INVALID_TICK_ERROR + 0);
+    }
+}